@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.manipulation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
@@ -30,6 +39,7 @@ import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.core.manipulation.ASTCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
@@ -56,6 +66,14 @@ public final class CoreASTProvider {
 
 	public static final String DEBUG_PREFIX= "ASTProvider > "; //$NON-NLS-1$
 
+	/**
+	 * Default number of ASTs of inactive elements that are kept in addition to the
+	 * AST of the active element.
+	 */
+	private static final int DEFAULT_AST_CACHE_SIZE= Integer.getInteger("org.eclipse.jdt.core.manipulation.astCacheSize", 4).intValue(); //$NON-NLS-1$
+
+	private final ASTCache fASTCache= new ASTCache(DEFAULT_AST_CACHE_SIZE);
+
 	private volatile ITypeRoot fReconcilingJavaElement;
 	private ITypeRoot fActiveJavaElement;
 	private CompilationUnit fAST;
@@ -63,6 +81,44 @@ public final class CoreASTProvider {
 	private Object fWaitLock= new Object();
 	private volatile boolean fIsReconciling;
 	private volatile Runnable fFinishReconciling;
+	private final Map<ITypeRoot, List<ASTRequest>> fPendingRequests= new HashMap<>(); // guarded by this
+	/**
+	 * The active elements whose AST is being created for pending requests while no reconcile is
+	 * running, guarded by this.
+	 */
+	private final Set<ITypeRoot> fCreatingElements= new HashSet<>();
+
+	/**
+	 * An asynchronous request for an AST. The future is completed on the executor of the request.
+	 */
+	private static final class ASTRequest {
+
+		private final ITypeRoot fInput;
+		private final Executor fExecutor;
+		private final CompletableFuture<CompilationUnit> fFuture;
+		private final IProgressMonitor fMonitor;
+
+		ASTRequest(ITypeRoot input, Executor executor) {
+			fInput= input;
+			fExecutor= executor;
+			fFuture= new CompletableFuture<>();
+			fMonitor= new NullProgressMonitor();
+			fFuture.whenComplete((ast, exception) -> {
+				if (fFuture.isCancelled())
+					fMonitor.setCanceled(true);
+			});
+		}
+
+		void complete(final CompilationUnit ast) {
+			if (fFuture.isDone())
+				return;
+			try {
+				fExecutor.execute(() -> fFuture.complete(ast));
+			} catch (RejectedExecutionException e) {
+				fFuture.complete(ast);
+			}
+		}
+	}
 
 	/**
 	 * Wait flag class.
@@ -133,6 +189,8 @@ public final class CoreASTProvider {
 			return null;
 
 		boolean isActiveElement;
+		CompilationUnit reactivated= null;
+		List<ASTRequest> published= null;
 		synchronized (this) {
 			isActiveElement= input.equals(fActiveJavaElement);
 			if (isActiveElement) {
@@ -142,15 +200,38 @@ public final class CoreASTProvider {
 
 					return fAST;
 				}
-				if (waitFlag == CoreASTProvider.WAIT_NO) {
+				if (!isReconciling(input)) {
+					CompilationUnit cached= fASTCache.get(input);
+					if (cached != null) {
+						if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+							System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "reactivating cached AST:" + toString(cached) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+						fASTCache.remove(input);
+						reactivated= cached;
+						published= cacheAST(cached, input);
+					}
+				}
+				if (reactivated == null && waitFlag == CoreASTProvider.WAIT_NO) {
 					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning null (WAIT_NO) for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
 
 					return null;
 
 				}
+			} else {
+				CompilationUnit cached= fASTCache.get(input);
+				if (cached != null) {
+					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning cached AST of inactive element:" + toString(cached) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+					return cached;
+				}
 			}
 		}
+		if (reactivated != null) {
+			completeRequests(published, reactivated);
+			return reactivated;
+		}
 
 		final boolean canReturnNull= waitFlag == CoreASTProvider.WAIT_NO || (waitFlag == CoreASTProvider.WAIT_ACTIVE_ONLY && (!isActiveElement || fAST != null));
 		boolean isReconciling= false;
@@ -212,11 +293,250 @@ public final class CoreASTProvider {
 					return fAST;
 				} else
 					reconciled(ast, input, null);
+			} else if (ast != null) {
+				fASTCache.put(input, ast);
 			}
 		}
 		return ast;
 	}
 
+	/**
+	 * Returns a future for a shared compilation unit AST for the given Java element. The
+	 * future is completed on the given executor, such that dependent actions which are not
+	 * explicitly asynchronous also run on that executor.
+	 * <p>
+	 * No thread is blocked while waiting for the AST. If the element is the active one, the
+	 * future is completed when the reconciler publishes its AST; if no reconcile is running,
+	 * the AST is created on the executor and published as the AST of the active element, unless
+	 * a reconcile started in the meantime. The AST of an inactive element is taken from the
+	 * cache or created on the executor.
+	 * </p>
+	 * <p>
+	 * Cancelling the future cancels the creation of the AST. The future completes with
+	 * <code>null</code> if the element has no source.
+	 * </p>
+	 * <p>
+	 * Clients are not allowed to modify the AST and must synchronize all access to its nodes.
+	 * </p>
+	 *
+	 * @param input the Java element, must not be <code>null</code>
+	 * @param executor the executor used to create the AST and to complete the future, must
+	 *            not be <code>null</code>
+	 * @return the future AST
+	 * @since 1.17
+	 */
+	public CompletableFuture<CompilationUnit> getASTAsync(final ITypeRoot input, Executor executor) {
+		if (input == null || executor == null)
+			throw new IllegalArgumentException("input or executor are null"); //$NON-NLS-1$
+
+		final ASTRequest request= new ASTRequest(input, executor);
+		request.fFuture.whenComplete((ast, exception) -> removePendingRequest(request));
+		requestAST(request);
+		return request.fFuture;
+	}
+
+	/**
+	 * Completes the given request from the cached ASTs, or registers it to be completed when the
+	 * AST of the active element is published.
+	 *
+	 * @param request the request
+	 */
+	private void requestAST(final ASTRequest request) {
+		ITypeRoot input= request.fInput;
+		CompilationUnit result= null;
+		List<ASTRequest> published= null;
+		boolean isActiveElement;
+		boolean create= false;
+		synchronized (this) {
+			isActiveElement= input.equals(fActiveJavaElement);
+			if (isActiveElement) {
+				if (fAST != null) {
+					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "completing future with cached AST:" + toString(fAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+					result= fAST;
+				} else {
+					if (!isReconciling(input)) {
+						CompilationUnit cached= fASTCache.get(input);
+						if (cached != null) {
+							fASTCache.remove(input);
+							published= cacheAST(cached, input);
+							result= cached;
+						}
+					}
+					if (result == null) {
+						fPendingRequests.computeIfAbsent(input, k -> new ArrayList<>()).add(request);
+						// a single AST is created for all requests that arrive until it is published
+						create= !isReconciling(input) && fCreatingElements.add(input);
+					}
+				}
+			} else {
+				result= fASTCache.get(input);
+			}
+		}
+
+		if (result != null) {
+			completeRequests(published, result);
+			request.complete(result);
+		} else if (!isActiveElement) {
+			createAST(request);
+		} else if (create) {
+			createActiveAST(request);
+		} else if (isReconciling(input)) {
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "future waits for AST for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
+
+			notifyReconciler();
+		}
+	}
+
+	/**
+	 * Creates the AST of the given request for an inactive element on its executor.
+	 *
+	 * @param request the request
+	 */
+	private void createAST(final ASTRequest request) {
+		final ITypeRoot input= request.fInput;
+		try {
+			request.fExecutor.execute(() -> {
+				try {
+					CompilationUnit ast= null;
+					if (!request.fFuture.isDone())
+						ast= createAST(input, request.fMonitor);
+					if (request.fMonitor.isCanceled())
+						return;
+					if (ast != null)
+						fASTCache.put(input, ast);
+					request.fFuture.complete(ast); // null if there is no source
+				} catch (RuntimeException e) {
+					request.fFuture.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			request.fFuture.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Creates the AST of the active element on the executor of the given request, for all
+	 * requests that are pending for the element. The reconciler is not informed, the AST is
+	 * only published by {@link #activeASTCreated(ITypeRoot, CompilationUnit, boolean)} if no
+	 * reconcile started in the meantime.
+	 *
+	 * @param request the request
+	 */
+	private void createActiveAST(final ASTRequest request) {
+		final ITypeRoot input= request.fInput;
+		try {
+			request.fExecutor.execute(() -> {
+				CompilationUnit ast= null;
+				boolean created= false;
+				try {
+					if (!request.fFuture.isDone()) {
+						ast= createAST(input, request.fMonitor);
+						created= !request.fMonitor.isCanceled();
+						if (!created)
+							ast= null;
+					}
+				} catch (RuntimeException e) {
+					request.fFuture.completeExceptionally(e);
+				} finally {
+					activeASTCreated(input, ast, created);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			request.fFuture.completeExceptionally(e);
+			activeASTCreated(input, null, false);
+		}
+	}
+
+	/**
+	 * Publishes an AST of the active element created by {@link #createActiveAST(ASTRequest)} and
+	 * completes the requests that are pending for the element.
+	 *
+	 * @param input the element
+	 * @param ast the AST, or <code>null</code>
+	 * @param created <code>true</code> if the AST has been created, <code>false</code> if the
+	 *            creation has been canceled or failed
+	 */
+	private void activeASTCreated(ITypeRoot input, CompilationUnit ast, boolean created) {
+		List<ASTRequest> requests;
+		CompilationUnit result= ast;
+		boolean hasResult= created;
+		synchronized (this) {
+			fCreatingElements.remove(input);
+			if (isReconciling(input)) {
+				// the AST may be outdated, the reconciler completes the pending requests
+				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "Ignore created AST for " + input.getElementName() + " - element is being reconciled"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				return;
+			}
+			boolean isActiveElement= input.equals(fActiveJavaElement);
+			if (isActiveElement && fAST != null) {
+				// in the meantime, reconcile created a new AST
+				result= fAST;
+				hasResult= true;
+				requests= fPendingRequests.remove(input);
+			} else if (isActiveElement && ast != null) {
+				requests= cacheAST(ast, input);
+			} else {
+				if (ast != null)
+					fASTCache.put(input, ast);
+				requests= fPendingRequests.remove(input);
+			}
+		}
+		if (hasResult) {
+			completeRequests(requests, result);
+		} else if (requests != null) {
+			// the creation has been canceled with the future of its request, try again for the others
+			for (ASTRequest request : requests) {
+				if (!request.fFuture.isDone())
+					requestAST(request);
+			}
+		}
+	}
+
+	private static void completeRequests(List<ASTRequest> requests, CompilationUnit ast) {
+		if (requests != null) {
+			for (ASTRequest request : requests)
+				request.complete(ast);
+		}
+	}
+
+	private synchronized void removePendingRequest(ASTRequest request) {
+		List<ASTRequest> requests= fPendingRequests.get(request.fInput);
+		if (requests != null) {
+			requests.remove(request);
+			if (requests.isEmpty())
+				fPendingRequests.remove(request.fInput);
+		}
+	}
+
+	/**
+	 * Creates the ASTs of pending requests which will not be served by the reconciler.
+	 *
+	 * @param javaElement the Java element whose requests are recomputed, or <code>null</code>
+	 *            for all pending requests
+	 */
+	private void recomputePendingRequests(ITypeRoot javaElement) {
+		List<ASTRequest> requests= new ArrayList<>();
+		synchronized (this) {
+			if (javaElement == null) {
+				for (List<ASTRequest> pending : fPendingRequests.values())
+					requests.addAll(pending);
+				fPendingRequests.clear();
+			} else {
+				List<ASTRequest> pending= fPendingRequests.remove(javaElement);
+				if (pending != null)
+					requests.addAll(pending);
+			}
+		}
+		for (ASTRequest request : requests) {
+			if (!request.fFuture.isDone())
+				requestAST(request);
+		}
+	}
+
 	private void notifyReconciler() {
 		Runnable finishReconciling= fFinishReconciling;
 		if (finishReconciling!=null) {
@@ -256,6 +576,7 @@ public final class CoreASTProvider {
 			this.fFinishReconciling = finishReconciling;
 		}
 		cache(null, javaElement);
+		fASTCache.remove(javaElement);
 	}
 
 	/**
@@ -322,6 +643,8 @@ public final class CoreASTProvider {
 		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "reconciled: " + toString(javaElement) + ", AST: " + toString(ast)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
+		boolean outdated= false;
+		List<ASTRequest> requests= null;
 		synchronized (fReconcileLock) {
 			fIsReconciling= false;
 			fFinishReconciling= null;
@@ -335,10 +658,15 @@ public final class CoreASTProvider {
 					fWaitLock.notifyAll();
 				}
 
-				return;
+				outdated= true;
+			} else {
+				requests= cacheAST(ast, javaElement);
 			}
-			cache(ast, javaElement);
 		}
+		completeRequests(requests, ast);
+
+		// Futures which were not completed by the reconciler (e.g. it was cancelled) create the AST themselves
+		recomputePendingRequests(outdated ? null : javaElement);
 	}
 
 	/**
@@ -357,26 +685,102 @@ public final class CoreASTProvider {
 	 * @param ast the ast
 	 * @param javaElement the java element
 	 */
-	public synchronized void cache(CompilationUnit ast, ITypeRoot javaElement) {
+	public void cache(CompilationUnit ast, ITypeRoot javaElement) {
+		completeRequests(cacheAST(ast, javaElement), ast);
+	}
+
+	/**
+	 * Caches the given compilation unit AST for the given Java element. The requests that wait
+	 * for the AST must be completed by the caller after it released its locks.
+	 *
+	 * @param ast the ast
+	 * @param javaElement the java element
+	 * @return the requests that wait for the AST, or <code>null</code>
+	 */
+	private synchronized List<ASTRequest> cacheAST(CompilationUnit ast, ITypeRoot javaElement) {
 
 		if (fActiveJavaElement != null && !fActiveJavaElement.equals(javaElement)) {
 			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && javaElement != null) // don't report call from disposeAST()
 				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "don't cache AST for inactive: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$
-			return;
+			return null;
 		}
 
 		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && (javaElement != null || ast != null)) // don't report call from disposeAST()
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "caching AST: " + toString(ast) + " for: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-		if (fAST != null)
+		if (fAST != null) {
+			// Keep the AST of the previously active element, it is still valid
+			ITypeRoot previous= fAST.getTypeRoot();
+			if (previous != null && !previous.equals(javaElement) && !isReconciling(previous))
+				fASTCache.put(previous, fAST);
 			disposeAST();
+		}
 
 		fAST= ast;
 
+		List<ASTRequest> requests= null;
+		if (ast != null && javaElement != null)
+			requests= fPendingRequests.remove(javaElement);
+
 		// Signal AST change
 		synchronized (fWaitLock) {
 			fWaitLock.notifyAll();
 		}
+		return requests;
+	}
+
+	/**
+	 * Returns the number of AST requests answered from the cache of ASTs of previously
+	 * active or inactive elements.
+	 *
+	 * @return the number of cache hits
+	 * @since 1.17
+	 */
+	public long getCacheHits() {
+		return fASTCache.getHits();
+	}
+
+	/**
+	 * Returns the number of AST requests which could not be answered from the cache of
+	 * ASTs of previously active or inactive elements.
+	 *
+	 * @return the number of cache misses
+	 * @since 1.17
+	 */
+	public long getCacheMisses() {
+		return fASTCache.getMisses();
+	}
+
+	/**
+	 * Resets the cache hit and miss counters.
+	 *
+	 * @since 1.17
+	 */
+	public void resetCacheStatistics() {
+		fASTCache.resetStatistics();
+	}
+
+	/**
+	 * Sets the number of ASTs of previously active or inactive elements that are kept
+	 * in addition to the AST of the active element. The ASTs are only softly referenced
+	 * and dropped under memory pressure.
+	 *
+	 * @param size the maximal number of cached ASTs, <code>0</code> to disable the cache
+	 * @since 1.17
+	 */
+	public void setCacheSize(int size) {
+		fASTCache.setMaxSize(size);
+	}
+
+	/**
+	 * Returns the number of ASTs of previously active or inactive elements that can be
+	 * kept in addition to the AST of the active element.
+	 *
+	 * @return the maximal number of cached ASTs
+	 * @since 1.17
+	 */
+	public int getCacheSize() {
+		return fASTCache.getMaxSize();
 	}
 
 	/**
@@ -523,6 +927,7 @@ public final class CoreASTProvider {
 			fReconcilingJavaElement = null;
 			fFinishReconciling = null;
 		}
+		recomputePendingRequests(null);
 	}
 
 }
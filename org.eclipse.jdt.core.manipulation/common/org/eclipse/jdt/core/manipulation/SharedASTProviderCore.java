@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.manipulation;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.eclipse.core.runtime.IProgressMonitor;
 
 import org.eclipse.jdt.core.ITypeRoot;
@@ -138,6 +141,28 @@ public class SharedASTProviderCore {
 		return CoreASTProvider.getInstance().getAST(element, finalWaitFlag, progressMonitor);
 	}
 
+	/**
+	 * Returns a future for a compilation unit AST for the given Java element. If the element
+	 * is the input of the active Java editor, the AST is the shared AST.
+	 * <p>
+	 * Unlike {@link #getAST(ITypeRoot, WAIT_FLAG, IProgressMonitor)} with {@link #WAIT_YES}, no
+	 * thread is blocked while the reconciler of the active Java editor creates the AST. The
+	 * future is completed on the given executor; cancelling it cancels the creation of the AST.
+	 * </p>
+	 * <p>
+	 * Clients are not allowed to modify the AST and must not keep any references.
+	 * </p>
+	 *
+	 * @param element the {@link ITypeRoot}, must not be <code>null</code>
+	 * @param executor the executor used to create the AST and to complete the future, must
+	 *            not be <code>null</code>
+	 * @return the future AST, completed with <code>null</code> if the element has no source
+	 * @since 1.17
+	 */
+	public static CompletableFuture<CompilationUnit> getASTAsync(ITypeRoot element, Executor executor) {
+		return CoreASTProvider.getInstance().getASTAsync(element, executor);
+	}
+
 	protected SharedASTProviderCore() {
 		// Prevent instantiation.
 	}
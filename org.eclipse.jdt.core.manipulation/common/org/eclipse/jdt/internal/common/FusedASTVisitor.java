@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * Visitor which runs several visitors in a single traversal. Each visitor sees the same sequence
+ * of <code>preVisit2</code>, <code>visit</code>, <code>endVisit</code> and <code>postVisit</code>
+ * calls as if the AST was traversed with it alone: if it skips the children of a node, it does
+ * not see any node of that subtree, while the other visitors still do. A subtree is only left out
+ * of the traversal when none of the visitors wants to see it.
+ * <p>
+ * The visitors must not depend on each other, the order in which they are called for a node is
+ * the order in which they were added.
+ * </p>
+ */
+public class FusedASTVisitor extends ASTVisitor {
+
+	private static final int MAX_NODE_TYPE= 127;
+
+	/**
+	 * Handles of the <code>visit</code> methods by node type. Shared by all threads.
+	 */
+	private static final AtomicReferenceArray<MethodHandle> VISIT= new AtomicReferenceArray<>(MAX_NODE_TYPE + 1);
+
+	/**
+	 * Handles of the <code>endVisit</code> methods by node type. Shared by all threads.
+	 */
+	private static final AtomicReferenceArray<MethodHandle> END_VISIT= new AtomicReferenceArray<>(MAX_NODE_TYPE + 1);
+
+	private static final class Delegate {
+
+		private final ASTVisitor fVisitor;
+
+		/**
+		 * The node at which the visitor stopped to descend or <code>null</code>.
+		 */
+		private ASTNode fSuspendedAt;
+
+		/**
+		 * <code>true</code> if the visitor has visited {@link #fSuspendedAt} and still needs the
+		 * <code>endVisit</code>, <code>false</code> if it rejected the node in
+		 * <code>preVisit2</code> and only gets the <code>postVisit</code>.
+		 */
+		private boolean fNeedsEndVisit;
+
+		Delegate(ASTVisitor visitor) {
+			fVisitor= visitor;
+		}
+	}
+
+	private final List<Delegate> fDelegates= new ArrayList<>();
+
+	public FusedASTVisitor() {
+		// the delegates decide whether they visit doc tags
+		super(true);
+	}
+
+	/**
+	 * Adds a visitor to the traversal.
+	 *
+	 * @param visitor - the visitor
+	 * @return - this FusedASTVisitor
+	 */
+	public FusedASTVisitor add(ASTVisitor visitor) {
+		fDelegates.add(new Delegate(visitor));
+		return this;
+	}
+
+	/**
+	 * Adds the visitor of a HelperVisitor to the traversal. The visitor is called with the
+	 * callbacks registered at the HelperVisitor, as with {@link HelperVisitor#build(ASTNode)}.
+	 *
+	 * @param helperVisitor - HelperVisitor
+	 * @return - this FusedASTVisitor
+	 */
+	public FusedASTVisitor add(HelperVisitor<?, ?, ?> helperVisitor) {
+		return add(helperVisitor.createVisitor(false));
+	}
+
+	/**
+	 * @return - <code>true</code> if no visitor has been added
+	 */
+	public boolean isEmpty() {
+		return fDelegates.isEmpty();
+	}
+
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		boolean visitChildren= false;
+		for (Delegate delegate : fDelegates) {
+			if (delegate.fSuspendedAt != null) {
+				continue;
+			}
+			if (!delegate.fVisitor.preVisit2(node)) {
+				delegate.fSuspendedAt= node;
+				delegate.fNeedsEndVisit= false;
+			} else if (!visit(delegate.fVisitor, node)) {
+				delegate.fSuspendedAt= node;
+				delegate.fNeedsEndVisit= true;
+			} else {
+				visitChildren= true;
+			}
+		}
+		// postVisit is called in any case and ends the node for all visitors
+		return visitChildren;
+	}
+
+	@Override
+	public void postVisit(ASTNode node) {
+		for (Delegate delegate : fDelegates) {
+			if (delegate.fSuspendedAt == null) {
+				endVisit(delegate.fVisitor, node);
+				delegate.fVisitor.postVisit(node);
+			} else if (delegate.fSuspendedAt == node) {
+				if (delegate.fNeedsEndVisit) {
+					endVisit(delegate.fVisitor, node);
+				}
+				delegate.fVisitor.postVisit(node);
+				delegate.fSuspendedAt= null;
+			}
+		}
+	}
+
+	private static boolean visit(ASTVisitor visitor, ASTNode node) {
+		try {
+			return (boolean) getHandle(VISIT, "visit", boolean.class, node).invokeExact(visitor, node); //$NON-NLS-1$
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void endVisit(ASTVisitor visitor, ASTNode node) {
+		try {
+			getHandle(END_VISIT, "endVisit", void.class, node).invokeExact(visitor, node); //$NON-NLS-1$
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns a handle of the <code>visit</code> or <code>endVisit</code> method for the class of
+	 * the given node, adapted to the type <code>(ASTVisitor, ASTNode)</code>.
+	 */
+	private static MethodHandle getHandle(AtomicReferenceArray<MethodHandle> cache, String name, Class<?> returnType, ASTNode node) {
+		int nodeType= node.getNodeType();
+		MethodHandle handle= nodeType <= MAX_NODE_TYPE ? cache.get(nodeType) : null;
+		if (handle == null) {
+			try {
+				handle= MethodHandles.publicLookup()
+						.findVirtual(ASTVisitor.class, name, MethodType.methodType(returnType, node.getClass()))
+						.asType(MethodType.methodType(returnType, ASTVisitor.class, ASTNode.class));
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+			if (nodeType <= MAX_NODE_TYPE) {
+				// concurrent lookups find equivalent handles, the first one wins
+				if (!cache.compareAndSet(nodeType, null, handle))
+					handle= cache.get(nodeType);
+			}
+		}
+		return handle;
+	}
+}
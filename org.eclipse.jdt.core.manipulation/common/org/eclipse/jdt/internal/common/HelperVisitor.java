@@ -13,9 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -64,12 +65,27 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	Map<VisitorEnum, Object> consumerdata;
 
+	/**
+	 * Dense copies of {@link #predicatemap} and {@link #consumermap} indexed by
+	 * {@link VisitorEnum#ordinal()}, such that the dispatch in {@link LambdaASTVisitor} does not
+	 * need a map lookup per visited node.
+	 */
+	private final BiPredicate<? extends ASTNode, E>[] predicates;
+
+	private final BiConsumer<? extends ASTNode, E>[] consumers;
+
+	/**
+	 * Node types having a predicate or a consumer, as bit set indexed by
+	 * {@link ASTNode#getNodeType()}.
+	 */
+	private final long[] registeredNodeTypes= new long[SubtreeNodeTypes.WORDS];
+
 	/**
 	 *
 	 * @return - Map of visitor kinds -> BiPredicates
 	 */
 	public Map<VisitorEnum, BiPredicate<? extends ASTNode, E>> getSuppliermap() {
-		return predicatemap;
+		return Collections.unmodifiableMap(predicatemap);
 	}
 
 	/**
@@ -77,7 +93,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - Map of visitor kinds -> BiConsumers
 	 */
 	public Map<VisitorEnum, BiConsumer<? extends ASTNode, E>> getConsumermap() {
-		return consumermap;
+		return Collections.unmodifiableMap(consumermap);
 	}
 
 	/**
@@ -98,11 +114,14 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param dataholder - HelperVisitorProvider providing this HelperVisitor
 	 */
+	@SuppressWarnings("unchecked")
 	public HelperVisitor(Set<ASTNode> nodesprocessed, E dataholder) {
-		this.predicatemap= new LinkedHashMap<>();
-		this.consumermap= new LinkedHashMap<>();
-		this.predicatedata= new HashMap<>();
-		this.consumerdata= new HashMap<>();
+		this.predicatemap= new EnumMap<>(VisitorEnum.class);
+		this.consumermap= new EnumMap<>(VisitorEnum.class);
+		this.predicatedata= new EnumMap<>(VisitorEnum.class);
+		this.consumerdata= new EnumMap<>(VisitorEnum.class);
+		this.predicates= new BiPredicate[VisitorEnum.values().length];
+		this.consumers= new BiConsumer[VisitorEnum.values().length];
 
 		this.dataholder= dataholder;
 		dataholder.setHelperVisitor(this);
@@ -125,11 +144,22 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - HelperVisitor
 	 */
 	public HelperVisitor<E, V, T> build(ASTNode node, boolean visitjavadoc) {
-		astvisitor= new LambdaASTVisitor<>(this, visitjavadoc);
-		node.accept(astvisitor);
+		node.accept(createVisitor(visitjavadoc));
 		return this;
 	}
 
+	/**
+	 * Creates the visitor calling the registered predicates and consumers without running it, for
+	 * example to run it together with other visitors in a {@link FusedASTVisitor}.
+	 *
+	 * @param visitjavadoc - true if Javadoc comments should be visited
+	 * @return - ASTVisitor
+	 */
+	public ASTVisitor createVisitor(boolean visitjavadoc) {
+		astvisitor= new LambdaASTVisitor<>(this, visitjavadoc);
+		return astvisitor;
+	}
+
 	/**
 	 * Add BiPredicate for visitor kind
 	 *
@@ -138,7 +168,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate added or null
 	 */
 	public BiPredicate<? extends ASTNode, E> add(VisitorEnum key, BiPredicate<? extends ASTNode, E> bs) {
-		return predicatemap.put(key, bs);
+		return putPredicate(key, bs);
 	}
 
 	/**
@@ -151,7 +181,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> add(Object object, VisitorEnum key, BiPredicate<? extends ASTNode, E> bs) {
 		this.predicatedata.put(key, object);
-		return predicatemap.put(key, bs);
+		return putPredicate(key, bs);
 	}
 
 	/**
@@ -162,7 +192,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiConsumer for visitor kind or null
 	 */
 	public BiConsumer<? extends ASTNode, E> addEnd(VisitorEnum key, BiConsumer<? extends ASTNode, E> bc) {
-		return consumermap.put(key, bc);
+		return putConsumer(key, bc);
 	}
 
 	/**
@@ -173,8 +203,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc - BiConsumer
 	 */
 	public void add(VisitorEnum key, BiPredicate<ASTNode, E> bs, BiConsumer<? extends ASTNode, E> bc) {
-		predicatemap.put(key, bs);
-		consumermap.put(key, bc);
+		putPredicate(key, bs);
+		putConsumer(key, bc);
 	}
 
 	/**
@@ -185,6 +215,59 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	public void removeVisitor(VisitorEnum ve) {
 		this.predicatemap.remove(ve);
 		this.consumermap.remove(ve);
+		this.predicates[ve.ordinal()]= null;
+		this.consumers[ve.ordinal()]= null;
+		updateRegistration(ve);
+	}
+
+	private BiPredicate<? extends ASTNode, E> putPredicate(VisitorEnum key, BiPredicate<? extends ASTNode, E> bs) {
+		predicates[key.ordinal()]= bs;
+		BiPredicate<? extends ASTNode, E> previous= predicatemap.put(key, bs);
+		updateRegistration(key);
+		return previous;
+	}
+
+	private BiConsumer<? extends ASTNode, E> putConsumer(VisitorEnum key, BiConsumer<? extends ASTNode, E> bc) {
+		consumers[key.ordinal()]= bc;
+		BiConsumer<? extends ASTNode, E> previous= consumermap.put(key, bc);
+		updateRegistration(key);
+		return previous;
+	}
+
+	private void updateRegistration(VisitorEnum key) {
+		int nodeType= key.getValue();
+		if (predicates[key.ordinal()] != null || consumers[key.ordinal()] != null) {
+			SubtreeNodeTypes.set(registeredNodeTypes, nodeType);
+		} else {
+			SubtreeNodeTypes.clear(registeredNodeTypes, nodeType);
+		}
+	}
+
+	boolean hasPredicate(VisitorEnum key) {
+		return predicates[key.ordinal()] != null;
+	}
+
+	BiPredicate<? extends ASTNode, E> getPredicate(VisitorEnum key) {
+		return predicates[key.ordinal()];
+	}
+
+	boolean hasConsumer(VisitorEnum key) {
+		return consumers[key.ordinal()] != null;
+	}
+
+	BiConsumer<? extends ASTNode, E> getConsumer(VisitorEnum key) {
+		return consumers[key.ordinal()];
+	}
+
+	/**
+	 * Tells whether a node of the given type or any node in its subtree can have a registered
+	 * predicate or consumer. If not, the subtree does not need to be traversed.
+	 *
+	 * @param nodeType - node type as returned by {@link ASTNode#getNodeType()}
+	 * @return - <code>false</code> if the subtree can be skipped
+	 */
+	boolean mayMatch(int nodeType) {
+		return SubtreeNodeTypes.intersects(nodeType, registeredNodeTypes);
 	}
 
 	/**
@@ -213,7 +296,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addAnnotationTypeDeclaration(
 			BiPredicate<AnnotationTypeDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.AnnotationTypeDeclaration, bs);
+		return putPredicate(VisitorEnum.AnnotationTypeDeclaration, bs);
 	}
 
 	/**
@@ -224,7 +307,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addAnnotationTypeMemberDeclaration(
 			BiPredicate<AnnotationTypeMemberDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.AnnotationTypeMemberDeclaration, bs);
+		return putPredicate(VisitorEnum.AnnotationTypeMemberDeclaration, bs);
 	}
 
 	/**
@@ -235,7 +318,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addAnonymousClassDeclaration(
 			BiPredicate<AnonymousClassDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.AnonymousClassDeclaration, bs);
+		return putPredicate(VisitorEnum.AnonymousClassDeclaration, bs);
 	}
 
 	/**
@@ -245,7 +328,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addArrayAccess(BiPredicate<ArrayAccess, E> bs) {
-		return predicatemap.put(VisitorEnum.ArrayAccess, bs);
+		return putPredicate(VisitorEnum.ArrayAccess, bs);
 	}
 
 	/**
@@ -255,7 +338,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addArrayCreation(BiPredicate<ArrayCreation, E> bs) {
-		return predicatemap.put(VisitorEnum.ArrayCreation, bs);
+		return putPredicate(VisitorEnum.ArrayCreation, bs);
 	}
 
 	/**
@@ -265,7 +348,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addArrayInitializer(BiPredicate<ArrayInitializer, E> bs) {
-		return predicatemap.put(VisitorEnum.ArrayInitializer, bs);
+		return putPredicate(VisitorEnum.ArrayInitializer, bs);
 	}
 
 	/**
@@ -275,7 +358,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addArrayType(BiPredicate<ArrayType, E> bs) {
-		return predicatemap.put(VisitorEnum.ArrayType, bs);
+		return putPredicate(VisitorEnum.ArrayType, bs);
 	}
 
 	/**
@@ -285,7 +368,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addAssertStatement(BiPredicate<AssertStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.AssertStatement, bs);
+		return putPredicate(VisitorEnum.AssertStatement, bs);
 	}
 
 	/**
@@ -295,7 +378,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addAssignment(BiPredicate<Assignment, E> bs) {
-		return predicatemap.put(VisitorEnum.Assignment, bs);
+		return putPredicate(VisitorEnum.Assignment, bs);
 	}
 
 	/**
@@ -305,7 +388,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addBlock(BiPredicate<Block, E> bs) {
-		return predicatemap.put(VisitorEnum.Block, bs);
+		return putPredicate(VisitorEnum.Block, bs);
 	}
 
 	/**
@@ -314,7 +397,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addBlockComment(BiPredicate<BlockComment, E> bs) {
-		return predicatemap.put(VisitorEnum.BlockComment, bs);
+		return putPredicate(VisitorEnum.BlockComment, bs);
 	}
 
 	/**
@@ -324,7 +407,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addBooleanLiteral(BiPredicate<BooleanLiteral, E> bs) {
-		return predicatemap.put(VisitorEnum.BooleanLiteral, bs);
+		return putPredicate(VisitorEnum.BooleanLiteral, bs);
 	}
 
 	/**
@@ -334,7 +417,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addBreakStatement(BiPredicate<BreakStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.BreakStatement, bs);
+		return putPredicate(VisitorEnum.BreakStatement, bs);
 	}
 
 	/**
@@ -344,7 +427,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addCastExpression(BiPredicate<CastExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.CastExpression, bs);
+		return putPredicate(VisitorEnum.CastExpression, bs);
 	}
 
 	/**
@@ -354,7 +437,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addCatchClause(BiPredicate<CatchClause, E> bs) {
-		return predicatemap.put(VisitorEnum.CatchClause, bs);
+		return putPredicate(VisitorEnum.CatchClause, bs);
 	}
 
 	/**
@@ -364,7 +447,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addCharacterLiteral(BiPredicate<CharacterLiteral, E> bs) {
-		return predicatemap.put(VisitorEnum.CharacterLiteral, bs);
+		return putPredicate(VisitorEnum.CharacterLiteral, bs);
 	}
 
 	/**
@@ -373,7 +456,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addClassInstanceCreation(BiPredicate<ClassInstanceCreation, E> bs) {
-		return predicatemap.put(VisitorEnum.ClassInstanceCreation, bs);
+		return putPredicate(VisitorEnum.ClassInstanceCreation, bs);
 	}
 
 	/**
@@ -383,7 +466,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addCompilationUnit(BiPredicate<CompilationUnit, E> bs) {
-		return predicatemap.put(VisitorEnum.CompilationUnit, bs);
+		return putPredicate(VisitorEnum.CompilationUnit, bs);
 	}
 
 	/**
@@ -393,7 +476,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addConditionalExpression(BiPredicate<ConditionalExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.ConditionalExpression, bs);
+		return putPredicate(VisitorEnum.ConditionalExpression, bs);
 	}
 
 	/**
@@ -403,7 +486,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addConstructorInvocation(BiPredicate<ConstructorInvocation, E> bs) {
-		return predicatemap.put(VisitorEnum.ConstructorInvocation, bs);
+		return putPredicate(VisitorEnum.ConstructorInvocation, bs);
 	}
 
 	/**
@@ -413,7 +496,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addContinueStatement(BiPredicate<ContinueStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.ContinueStatement, bs);
+		return putPredicate(VisitorEnum.ContinueStatement, bs);
 	}
 
 	/**
@@ -423,7 +506,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addCreationReference(BiPredicate<CreationReference, E> bs) {
-		return predicatemap.put(VisitorEnum.CreationReference, bs);
+		return putPredicate(VisitorEnum.CreationReference, bs);
 	}
 
 	/**
@@ -433,7 +516,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addDimension(BiPredicate<Dimension, E> bs) {
-		return predicatemap.put(VisitorEnum.Dimension, bs);
+		return putPredicate(VisitorEnum.Dimension, bs);
 	}
 
 	/**
@@ -443,7 +526,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addDoStatement(BiPredicate<DoStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.DoStatement, bs);
+		return putPredicate(VisitorEnum.DoStatement, bs);
 	}
 
 	/**
@@ -453,7 +536,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addEmptyStatement(BiPredicate<EmptyStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.EmptyStatement, bs);
+		return putPredicate(VisitorEnum.EmptyStatement, bs);
 	}
 
 	/**
@@ -463,7 +546,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addEnhancedForStatement(BiPredicate<EnhancedForStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.EnhancedForStatement, bs);
+		return putPredicate(VisitorEnum.EnhancedForStatement, bs);
 	}
 
 	/**
@@ -473,7 +556,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addEnumConstantDeclaration(BiPredicate<EnumConstantDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.EnumConstantDeclaration, bs);
+		return putPredicate(VisitorEnum.EnumConstantDeclaration, bs);
 	}
 
 	/**
@@ -483,7 +566,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addEnumDeclaration(BiPredicate<EnumDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.EnumDeclaration, bs);
+		return putPredicate(VisitorEnum.EnumDeclaration, bs);
 	}
 
 	/**
@@ -493,7 +576,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addExportsDirective(BiPredicate<ExportsDirective, E> bs) {
-		return predicatemap.put(VisitorEnum.ExportsDirective, bs);
+		return putPredicate(VisitorEnum.ExportsDirective, bs);
 	}
 
 	/**
@@ -504,7 +587,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addExpressionMethodReference(
 			BiPredicate<ExpressionMethodReference, E> bs) {
-		return predicatemap.put(VisitorEnum.ExpressionMethodReference, bs);
+		return putPredicate(VisitorEnum.ExpressionMethodReference, bs);
 	}
 
 	/**
@@ -514,7 +597,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addExpressionStatement(BiPredicate<ExpressionStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.ExpressionStatement, bs);
+		return putPredicate(VisitorEnum.ExpressionStatement, bs);
 	}
 
 	/**
@@ -524,7 +607,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addFieldAccess(BiPredicate<FieldAccess, E> bs) {
-		return predicatemap.put(VisitorEnum.FieldAccess, bs);
+		return putPredicate(VisitorEnum.FieldAccess, bs);
 	}
 
 	/**
@@ -534,7 +617,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addFieldDeclaration(BiPredicate<FieldDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.FieldDeclaration, bs);
+		return putPredicate(VisitorEnum.FieldDeclaration, bs);
 	}
 
 	/**
@@ -544,7 +627,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addForStatement(BiPredicate<ForStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.ForStatement, bs);
+		return putPredicate(VisitorEnum.ForStatement, bs);
 	}
 
 	/**
@@ -554,7 +637,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addIfStatement(BiPredicate<IfStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.IfStatement, bs);
+		return putPredicate(VisitorEnum.IfStatement, bs);
 	}
 
 	/**
@@ -564,7 +647,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addImportDeclaration(BiPredicate<ImportDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.ImportDeclaration, bs);
+		return putPredicate(VisitorEnum.ImportDeclaration, bs);
 	}
 
 	/**
@@ -574,7 +657,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addInfixExpression(BiPredicate<InfixExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.InfixExpression, bs);
+		return putPredicate(VisitorEnum.InfixExpression, bs);
 	}
 
 	/**
@@ -584,7 +667,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addInitializer(BiPredicate<Initializer, E> bs) {
-		return predicatemap.put(VisitorEnum.Initializer, bs);
+		return putPredicate(VisitorEnum.Initializer, bs);
 	}
 
 	/**
@@ -594,7 +677,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addInstanceofExpression(BiPredicate<InstanceofExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.InstanceofExpression, bs);
+		return putPredicate(VisitorEnum.InstanceofExpression, bs);
 	}
 
 	/**
@@ -604,7 +687,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addIntersectionType(BiPredicate<IntersectionType, E> bs) {
-		return predicatemap.put(VisitorEnum.IntersectionType, bs);
+		return putPredicate(VisitorEnum.IntersectionType, bs);
 	}
 
 	/**
@@ -614,7 +697,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addJavadoc(BiPredicate<Javadoc, E> bs) {
-		return predicatemap.put(VisitorEnum.Javadoc, bs);
+		return putPredicate(VisitorEnum.Javadoc, bs);
 	}
 
 	/**
@@ -624,7 +707,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addLabeledStatement(BiPredicate<LabeledStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.LabeledStatement, bs);
+		return putPredicate(VisitorEnum.LabeledStatement, bs);
 	}
 
 	/**
@@ -634,7 +717,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addLambdaExpression(BiPredicate<LambdaExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.LambdaExpression, bs);
+		return putPredicate(VisitorEnum.LambdaExpression, bs);
 	}
 
 	/**
@@ -644,7 +727,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addLineComment(BiPredicate<LineComment, E> bs) {
-		return predicatemap.put(VisitorEnum.LineComment, bs);
+		return putPredicate(VisitorEnum.LineComment, bs);
 	}
 
 	/**
@@ -654,7 +737,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addMarkerAnnotation(BiPredicate<MarkerAnnotation, E> bs) {
-		return predicatemap.put(VisitorEnum.MarkerAnnotation, bs);
+		return putPredicate(VisitorEnum.MarkerAnnotation, bs);
 	}
 
 	/**
@@ -664,7 +747,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addMemberRef(BiPredicate<MemberRef, E> bs) {
-		return predicatemap.put(VisitorEnum.MemberRef, bs);
+		return putPredicate(VisitorEnum.MemberRef, bs);
 	}
 
 	/**
@@ -674,7 +757,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addMemberValuePair(BiPredicate<MemberValuePair, E> bs) {
-		return predicatemap.put(VisitorEnum.MemberValuePair, bs);
+		return putPredicate(VisitorEnum.MemberValuePair, bs);
 	}
 
 	/**
@@ -684,7 +767,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addMethodRef(BiPredicate<MethodRef, E> bs) {
-		return predicatemap.put(VisitorEnum.MethodRef, bs);
+		return putPredicate(VisitorEnum.MethodRef, bs);
 	}
 
 	/**
@@ -694,7 +777,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addMethodRefParameter(BiPredicate<MethodRefParameter, E> bs) {
-		return predicatemap.put(VisitorEnum.MethodRefParameter, bs);
+		return putPredicate(VisitorEnum.MethodRefParameter, bs);
 	}
 
 	/**
@@ -704,7 +787,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addMethodDeclaration(BiPredicate<MethodDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.MethodDeclaration, bs);
+		return putPredicate(VisitorEnum.MethodDeclaration, bs);
 	}
 
 	/**
@@ -714,7 +797,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addMethodInvocation(BiPredicate<MethodInvocation, E> bs) {
-		return predicatemap.put(VisitorEnum.MethodInvocation, bs);
+		return putPredicate(VisitorEnum.MethodInvocation, bs);
 	}
 
 	/**
@@ -727,7 +810,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	public BiPredicate<? extends ASTNode, E> addMethodInvocation(String methodname,
 			BiPredicate<MethodInvocation, E> bs) {
 		this.predicatedata.put(VisitorEnum.MethodInvocation, methodname);
-		return predicatemap.put(VisitorEnum.MethodInvocation, bs);
+		return putPredicate(VisitorEnum.MethodInvocation, bs);
 	}
 
 	/**
@@ -737,7 +820,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addModifier(BiPredicate<Modifier, E> bs) {
-		return predicatemap.put(VisitorEnum.Modifier, bs);
+		return putPredicate(VisitorEnum.Modifier, bs);
 	}
 
 	/**
@@ -747,7 +830,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addModuleDeclaration(BiPredicate<ModuleDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.ModuleDeclaration, bs);
+		return putPredicate(VisitorEnum.ModuleDeclaration, bs);
 	}
 
 	/**
@@ -757,7 +840,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addModuleModifier(BiPredicate<ModuleModifier, E> bs) {
-		return predicatemap.put(VisitorEnum.ModuleModifier, bs);
+		return putPredicate(VisitorEnum.ModuleModifier, bs);
 	}
 
 	/**
@@ -767,7 +850,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addNameQualifiedType(BiPredicate<NameQualifiedType, E> bs) {
-		return predicatemap.put(VisitorEnum.NameQualifiedType, bs);
+		return putPredicate(VisitorEnum.NameQualifiedType, bs);
 	}
 
 	/**
@@ -777,7 +860,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addNormalAnnotation(BiPredicate<NormalAnnotation, E> bs) {
-		return predicatemap.put(VisitorEnum.NormalAnnotation, bs);
+		return putPredicate(VisitorEnum.NormalAnnotation, bs);
 	}
 
 	/**
@@ -787,7 +870,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addNullLiteral(BiPredicate<NullLiteral, E> bs) {
-		return predicatemap.put(VisitorEnum.NullLiteral, bs);
+		return putPredicate(VisitorEnum.NullLiteral, bs);
 	}
 
 	/**
@@ -797,7 +880,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addNumberLiteral(BiPredicate<NumberLiteral, E> bs) {
-		return predicatemap.put(VisitorEnum.NumberLiteral, bs);
+		return putPredicate(VisitorEnum.NumberLiteral, bs);
 	}
 
 	/**
@@ -807,7 +890,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addOpensDirective(BiPredicate<OpensDirective, E> bs) {
-		return predicatemap.put(VisitorEnum.OpensDirective, bs);
+		return putPredicate(VisitorEnum.OpensDirective, bs);
 	}
 
 	/**
@@ -817,7 +900,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addPackageDeclaration(BiPredicate<PackageDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.PackageDeclaration, bs);
+		return putPredicate(VisitorEnum.PackageDeclaration, bs);
 	}
 
 	/**
@@ -827,7 +910,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addParameterizedType(BiPredicate<ParameterizedType, E> bs) {
-		return predicatemap.put(VisitorEnum.ParameterizedType, bs);
+		return putPredicate(VisitorEnum.ParameterizedType, bs);
 	}
 
 	/**
@@ -837,7 +920,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addParenthesizedExpression(BiPredicate<ParenthesizedExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.ParenthesizedExpression, bs);
+		return putPredicate(VisitorEnum.ParenthesizedExpression, bs);
 	}
 
 	/**
@@ -848,7 +931,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addPatternInstanceofExpression(
 			BiPredicate<PatternInstanceofExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.PatternInstanceofExpression, bs);
+		return putPredicate(VisitorEnum.PatternInstanceofExpression, bs);
 	}
 
 	/**
@@ -858,7 +941,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addPostfixExpression(BiPredicate<PostfixExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.PostfixExpression, bs);
+		return putPredicate(VisitorEnum.PostfixExpression, bs);
 	}
 
 	/**
@@ -868,7 +951,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addPrefixExpression(BiPredicate<PrefixExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.PrefixExpression, bs);
+		return putPredicate(VisitorEnum.PrefixExpression, bs);
 	}
 
 	/**
@@ -878,7 +961,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addProvidesDirective(BiPredicate<ProvidesDirective, E> bs) {
-		return predicatemap.put(VisitorEnum.ProvidesDirective, bs);
+		return putPredicate(VisitorEnum.ProvidesDirective, bs);
 	}
 
 	/**
@@ -888,7 +971,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addPrimitiveType(BiPredicate<PrimitiveType, E> bs) {
-		return predicatemap.put(VisitorEnum.PrimitiveType, bs);
+		return putPredicate(VisitorEnum.PrimitiveType, bs);
 	}
 
 	/**
@@ -898,7 +981,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addQualifiedName(BiPredicate<QualifiedName, E> bs) {
-		return predicatemap.put(VisitorEnum.QualifiedName, bs);
+		return putPredicate(VisitorEnum.QualifiedName, bs);
 	}
 
 	/**
@@ -908,12 +991,12 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addQualifiedType(BiPredicate<QualifiedType, E> bs) {
-		return predicatemap.put(VisitorEnum.QualifiedType, bs);
+		return putPredicate(VisitorEnum.QualifiedType, bs);
 	}
 
 //	public BiPredicate<? extends ASTNode, E> addModuleQualifiedName(
 //			BiPredicate<ModuleQualifiedName, E> bs) {
-//		return predicatemap.put(VisitorEnum.ModuleQualifiedName, bs);
+//		return putPredicate(VisitorEnum.ModuleQualifiedName, bs);
 //	}
 
 	/**
@@ -924,7 +1007,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 
 	public BiPredicate<? extends ASTNode, E> addRequiresDirective(BiPredicate<RequiresDirective, E> bs) {
-		return predicatemap.put(VisitorEnum.RequiresDirective, bs);
+		return putPredicate(VisitorEnum.RequiresDirective, bs);
 	}
 
 	/**
@@ -934,7 +1017,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addRecordDeclaration(BiPredicate<RecordDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.RecordDeclaration, bs);
+		return putPredicate(VisitorEnum.RecordDeclaration, bs);
 	}
 
 	/**
@@ -944,7 +1027,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addReturnStatement(BiPredicate<ReturnStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.ReturnStatement, bs);
+		return putPredicate(VisitorEnum.ReturnStatement, bs);
 	}
 
 	/**
@@ -954,7 +1037,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSimpleName(BiPredicate<SimpleName, E> bs) {
-		return predicatemap.put(VisitorEnum.SimpleName, bs);
+		return putPredicate(VisitorEnum.SimpleName, bs);
 	}
 
 	/**
@@ -964,7 +1047,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSimpleType(BiPredicate<SimpleType, E> bs) {
-		return predicatemap.put(VisitorEnum.SimpleType, bs);
+		return putPredicate(VisitorEnum.SimpleType, bs);
 	}
 
 	/**
@@ -974,7 +1057,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSingleMemberAnnotation(BiPredicate<SingleMemberAnnotation, E> bs) {
-		return predicatemap.put(VisitorEnum.SingleMemberAnnotation, bs);
+		return putPredicate(VisitorEnum.SingleMemberAnnotation, bs);
 	}
 
 	/**
@@ -985,7 +1068,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addSingleVariableDeclaration(
 			BiPredicate<SingleVariableDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.SingleVariableDeclaration, bs);
+		return putPredicate(VisitorEnum.SingleVariableDeclaration, bs);
 	}
 
 	/**
@@ -995,7 +1078,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addStringLiteral(BiPredicate<StringLiteral, E> bs) {
-		return predicatemap.put(VisitorEnum.StringLiteral, bs);
+		return putPredicate(VisitorEnum.StringLiteral, bs);
 	}
 
 	/**
@@ -1006,7 +1089,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addSuperConstructorInvocation(
 			BiPredicate<SuperConstructorInvocation, E> bs) {
-		return predicatemap.put(VisitorEnum.SuperConstructorInvocation, bs);
+		return putPredicate(VisitorEnum.SuperConstructorInvocation, bs);
 	}
 
 	/**
@@ -1016,7 +1099,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSuperFieldAccess(BiPredicate<SuperFieldAccess, E> bs) {
-		return predicatemap.put(VisitorEnum.SuperFieldAccess, bs);
+		return putPredicate(VisitorEnum.SuperFieldAccess, bs);
 	}
 
 	/**
@@ -1026,7 +1109,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSuperMethodInvocation(BiPredicate<SuperMethodInvocation, E> bs) {
-		return predicatemap.put(VisitorEnum.SuperMethodInvocation, bs);
+		return putPredicate(VisitorEnum.SuperMethodInvocation, bs);
 	}
 
 	/**
@@ -1036,7 +1119,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSuperMethodReference(BiPredicate<SuperMethodReference, E> bs) {
-		return predicatemap.put(VisitorEnum.SuperMethodReference, bs);
+		return putPredicate(VisitorEnum.SuperMethodReference, bs);
 	}
 
 	/**
@@ -1046,7 +1129,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSwitchCase(BiPredicate<SwitchCase, E> bs) {
-		return predicatemap.put(VisitorEnum.SwitchCase, bs);
+		return putPredicate(VisitorEnum.SwitchCase, bs);
 	}
 
 	/**
@@ -1056,7 +1139,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSwitchExpression(BiPredicate<SwitchExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.SwitchExpression, bs);
+		return putPredicate(VisitorEnum.SwitchExpression, bs);
 	}
 
 	/**
@@ -1066,7 +1149,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSwitchStatement(BiPredicate<SwitchStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.SwitchStatement, bs);
+		return putPredicate(VisitorEnum.SwitchStatement, bs);
 	}
 
 	/**
@@ -1076,7 +1159,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addSynchronizedStatement(BiPredicate<SynchronizedStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.SynchronizedStatement, bs);
+		return putPredicate(VisitorEnum.SynchronizedStatement, bs);
 	}
 
 	/**
@@ -1086,7 +1169,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTagElement(BiPredicate<TagElement, E> bs) {
-		return predicatemap.put(VisitorEnum.TagElement, bs);
+		return putPredicate(VisitorEnum.TagElement, bs);
 	}
 
 	/**
@@ -1096,7 +1179,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTextBlock(BiPredicate<TextBlock, E> bs) {
-		return predicatemap.put(VisitorEnum.TextBlock, bs);
+		return putPredicate(VisitorEnum.TextBlock, bs);
 	}
 
 	/**
@@ -1106,7 +1189,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTextElement(BiPredicate<TextElement, E> bs) {
-		return predicatemap.put(VisitorEnum.TextElement, bs);
+		return putPredicate(VisitorEnum.TextElement, bs);
 	}
 
 	/**
@@ -1116,7 +1199,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addThisExpression(BiPredicate<ThisExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.ThisExpression, bs);
+		return putPredicate(VisitorEnum.ThisExpression, bs);
 	}
 
 	/**
@@ -1126,7 +1209,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addThrowStatement(BiPredicate<ThrowStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.ThrowStatement, bs);
+		return putPredicate(VisitorEnum.ThrowStatement, bs);
 	}
 
 	/**
@@ -1136,7 +1219,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTryStatement(BiPredicate<TryStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.TryStatement, bs);
+		return putPredicate(VisitorEnum.TryStatement, bs);
 	}
 
 	/**
@@ -1146,7 +1229,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTypeDeclaration(BiPredicate<TypeDeclaration, E> bs) {
-		return predicatemap.put(VisitorEnum.TypeDeclaration, bs);
+		return putPredicate(VisitorEnum.TypeDeclaration, bs);
 	}
 
 	/**
@@ -1156,7 +1239,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTypeDeclarationStatement(BiPredicate<TypeDeclarationStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.TypeDeclarationStatement, bs);
+		return putPredicate(VisitorEnum.TypeDeclarationStatement, bs);
 	}
 
 	/**
@@ -1166,7 +1249,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTypeLiteral(BiPredicate<TypeLiteral, E> bs) {
-		return predicatemap.put(VisitorEnum.TypeLiteral, bs);
+		return putPredicate(VisitorEnum.TypeLiteral, bs);
 	}
 
 	/**
@@ -1176,7 +1259,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTypeMethodReference(BiPredicate<TypeMethodReference, E> bs) {
-		return predicatemap.put(VisitorEnum.TypeMethodReference, bs);
+		return putPredicate(VisitorEnum.TypeMethodReference, bs);
 	}
 
 	/**
@@ -1186,7 +1269,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addTypeParameter(BiPredicate<TypeParameter, E> bs) {
-		return predicatemap.put(VisitorEnum.TypeParameter, bs);
+		return putPredicate(VisitorEnum.TypeParameter, bs);
 	}
 
 	/**
@@ -1196,7 +1279,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addUnionType(BiPredicate<UnionType, E> bs) {
-		return predicatemap.put(VisitorEnum.UnionType, bs);
+		return putPredicate(VisitorEnum.UnionType, bs);
 	}
 
 	/**
@@ -1206,7 +1289,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addUsesDirective(BiPredicate<UsesDirective, E> bs) {
-		return predicatemap.put(VisitorEnum.UsesDirective, bs);
+		return putPredicate(VisitorEnum.UsesDirective, bs);
 	}
 
 	/**
@@ -1217,7 +1300,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addVariableDeclarationExpression(
 			BiPredicate<VariableDeclarationExpression, E> bs) {
-		return predicatemap.put(VisitorEnum.VariableDeclarationExpression, bs);
+		return putPredicate(VisitorEnum.VariableDeclarationExpression, bs);
 	}
 
 	/**
@@ -1228,7 +1311,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addVariableDeclarationStatement(
 			BiPredicate<VariableDeclarationStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.VariableDeclarationStatement, bs);
+		return putPredicate(VisitorEnum.VariableDeclarationStatement, bs);
 	}
 
 	/**
@@ -1241,7 +1324,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	public BiPredicate<? extends ASTNode, E> addVariableDeclarationStatement(Class<?> class1,
 			BiPredicate<VariableDeclarationStatement, E> bs) {
 		this.predicatedata.put(VisitorEnum.VariableDeclarationStatement, class1);
-		return predicatemap.put(VisitorEnum.VariableDeclarationStatement, bs);
+		return putPredicate(VisitorEnum.VariableDeclarationStatement, bs);
 	}
 
 	/**
@@ -1252,7 +1335,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiPredicate<? extends ASTNode, E> addVariableDeclarationFragment(
 			BiPredicate<VariableDeclarationFragment, E> bs) {
-		return predicatemap.put(VisitorEnum.VariableDeclarationFragment, bs);
+		return putPredicate(VisitorEnum.VariableDeclarationFragment, bs);
 	}
 
 	/**
@@ -1262,7 +1345,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addWhileStatement(BiPredicate<WhileStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.WhileStatement, bs);
+		return putPredicate(VisitorEnum.WhileStatement, bs);
 	}
 
 	/**
@@ -1272,7 +1355,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addWildcardType(BiPredicate<WildcardType, E> bs) {
-		return predicatemap.put(VisitorEnum.WildcardType, bs);
+		return putPredicate(VisitorEnum.WildcardType, bs);
 	}
 
 	/**
@@ -1282,7 +1365,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - previous BiPredicate registered
 	 */
 	public BiPredicate<? extends ASTNode, E> addYieldStatement(BiPredicate<YieldStatement, E> bs) {
-		return predicatemap.put(VisitorEnum.YieldStatement, bs);
+		return putPredicate(VisitorEnum.YieldStatement, bs);
 	}
 
 	/**
@@ -1291,7 +1374,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addAnnotationTypeDeclaration(BiConsumer<AnnotationTypeDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.AnnotationTypeDeclaration, bc);
+		return putConsumer(VisitorEnum.AnnotationTypeDeclaration, bc);
 	}
 
 	/**
@@ -1301,7 +1384,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiConsumer<? extends ASTNode, E> addAnnotationTypeMemberDeclaration(
 			BiConsumer<AnnotationTypeMemberDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.AnnotationTypeMemberDeclaration, bc);
+		return putConsumer(VisitorEnum.AnnotationTypeMemberDeclaration, bc);
 	}
 
 	/**
@@ -1310,7 +1393,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addAnonymousClassDeclaration(BiConsumer<AnonymousClassDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.AnonymousClassDeclaration, bc);
+		return putConsumer(VisitorEnum.AnonymousClassDeclaration, bc);
 	}
 
 	/**
@@ -1319,7 +1402,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addArrayAccess(BiConsumer<ArrayAccess, E> bc) {
-		return consumermap.put(VisitorEnum.ArrayAccess, bc);
+		return putConsumer(VisitorEnum.ArrayAccess, bc);
 	}
 
 	/**
@@ -1328,7 +1411,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addArrayCreation(BiConsumer<ArrayCreation, E> bc) {
-		return consumermap.put(VisitorEnum.ArrayCreation, bc);
+		return putConsumer(VisitorEnum.ArrayCreation, bc);
 	}
 
 	/**
@@ -1337,7 +1420,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addArrayInitializer(BiConsumer<ArrayInitializer, E> bc) {
-		return consumermap.put(VisitorEnum.ArrayInitializer, bc);
+		return putConsumer(VisitorEnum.ArrayInitializer, bc);
 	}
 
 	/**
@@ -1346,7 +1429,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addArrayType(BiConsumer<ArrayType, E> bc) {
-		return consumermap.put(VisitorEnum.ArrayType, bc);
+		return putConsumer(VisitorEnum.ArrayType, bc);
 	}
 
 	/**
@@ -1355,7 +1438,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addAssertStatement(BiConsumer<AssertStatement, E> bc) {
-		return consumermap.put(VisitorEnum.AssertStatement, bc);
+		return putConsumer(VisitorEnum.AssertStatement, bc);
 	}
 
 	/**
@@ -1364,7 +1447,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addAssignment(BiConsumer<Assignment, E> bc) {
-		return consumermap.put(VisitorEnum.Assignment, bc);
+		return putConsumer(VisitorEnum.Assignment, bc);
 	}
 
 	/**
@@ -1373,7 +1456,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addBlock(BiConsumer<Block, E> bc) {
-		return consumermap.put(VisitorEnum.Block, bc);
+		return putConsumer(VisitorEnum.Block, bc);
 	}
 
 	/**
@@ -1382,7 +1465,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addBlockComment(BiConsumer<BlockComment, E> bc) {
-		return consumermap.put(VisitorEnum.BlockComment, bc);
+		return putConsumer(VisitorEnum.BlockComment, bc);
 	}
 
 	/**
@@ -1391,7 +1474,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addBooleanLiteral(BiConsumer<BooleanLiteral, E> bc) {
-		return consumermap.put(VisitorEnum.BooleanLiteral, bc);
+		return putConsumer(VisitorEnum.BooleanLiteral, bc);
 	}
 
 	/**
@@ -1400,7 +1483,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addBreakStatement(BiConsumer<BreakStatement, E> bc) {
-		return consumermap.put(VisitorEnum.BreakStatement, bc);
+		return putConsumer(VisitorEnum.BreakStatement, bc);
 	}
 
 	/**
@@ -1409,7 +1492,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addCastExpression(BiConsumer<CastExpression, E> bc) {
-		return consumermap.put(VisitorEnum.CastExpression, bc);
+		return putConsumer(VisitorEnum.CastExpression, bc);
 	}
 
 	/**
@@ -1418,7 +1501,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addCatchClause(BiConsumer<CatchClause, E> bc) {
-		return consumermap.put(VisitorEnum.CatchClause, bc);
+		return putConsumer(VisitorEnum.CatchClause, bc);
 	}
 
 	/**
@@ -1427,7 +1510,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addCharacterLiteral(BiConsumer<CharacterLiteral, E> bc) {
-		return consumermap.put(VisitorEnum.CharacterLiteral, bc);
+		return putConsumer(VisitorEnum.CharacterLiteral, bc);
 	}
 
 	/**
@@ -1436,7 +1519,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addClassInstanceCreation(BiConsumer<ClassInstanceCreation, E> bc) {
-		return consumermap.put(VisitorEnum.ClassInstanceCreation, bc);
+		return putConsumer(VisitorEnum.ClassInstanceCreation, bc);
 	}
 
 	/**
@@ -1445,7 +1528,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addCompilationUnit(BiConsumer<CompilationUnit, E> bc) {
-		return consumermap.put(VisitorEnum.CompilationUnit, bc);
+		return putConsumer(VisitorEnum.CompilationUnit, bc);
 	}
 
 	/**
@@ -1454,7 +1537,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addConditionalExpression(BiConsumer<ConditionalExpression, E> bc) {
-		return consumermap.put(VisitorEnum.ConditionalExpression, bc);
+		return putConsumer(VisitorEnum.ConditionalExpression, bc);
 	}
 
 	/**
@@ -1463,7 +1546,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addConstructorInvocation(BiConsumer<ConstructorInvocation, E> bc) {
-		return consumermap.put(VisitorEnum.ConstructorInvocation, bc);
+		return putConsumer(VisitorEnum.ConstructorInvocation, bc);
 	}
 
 	/**
@@ -1472,7 +1555,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addContinueStatement(BiConsumer<ContinueStatement, E> bc) {
-		return consumermap.put(VisitorEnum.ContinueStatement, bc);
+		return putConsumer(VisitorEnum.ContinueStatement, bc);
 	}
 
 	/**
@@ -1481,7 +1564,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addCreationReference(BiConsumer<CreationReference, E> bc) {
-		return consumermap.put(VisitorEnum.CreationReference, bc);
+		return putConsumer(VisitorEnum.CreationReference, bc);
 	}
 
 	/**
@@ -1490,7 +1573,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addDimension(BiConsumer<Dimension, E> bc) {
-		return consumermap.put(VisitorEnum.Dimension, bc);
+		return putConsumer(VisitorEnum.Dimension, bc);
 	}
 
 	/**
@@ -1499,7 +1582,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addDoStatement(BiConsumer<DoStatement, E> bc) {
-		return consumermap.put(VisitorEnum.DoStatement, bc);
+		return putConsumer(VisitorEnum.DoStatement, bc);
 	}
 
 	/**
@@ -1508,7 +1591,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addEmptyStatement(BiConsumer<EmptyStatement, E> bc) {
-		return consumermap.put(VisitorEnum.EmptyStatement, bc);
+		return putConsumer(VisitorEnum.EmptyStatement, bc);
 	}
 
 	/**
@@ -1517,7 +1600,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addEnhancedForStatement(BiConsumer<EnhancedForStatement, E> bc) {
-		return consumermap.put(VisitorEnum.EnhancedForStatement, bc);
+		return putConsumer(VisitorEnum.EnhancedForStatement, bc);
 	}
 
 	/**
@@ -1526,7 +1609,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addEnumConstantDeclaration(BiConsumer<EnumConstantDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.EnumConstantDeclaration, bc);
+		return putConsumer(VisitorEnum.EnumConstantDeclaration, bc);
 	}
 
 	/**
@@ -1535,7 +1618,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addEnumDeclaration(BiConsumer<EnumDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.EnumDeclaration, bc);
+		return putConsumer(VisitorEnum.EnumDeclaration, bc);
 	}
 
 	/**
@@ -1544,7 +1627,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addExportsDirective(BiConsumer<ExportsDirective, E> bc) {
-		return consumermap.put(VisitorEnum.ExportsDirective, bc);
+		return putConsumer(VisitorEnum.ExportsDirective, bc);
 	}
 
 	/**
@@ -1553,7 +1636,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addExpressionMethodReference(BiConsumer<ExpressionMethodReference, E> bc) {
-		return consumermap.put(VisitorEnum.ExpressionMethodReference, bc);
+		return putConsumer(VisitorEnum.ExpressionMethodReference, bc);
 	}
 
 	/**
@@ -1562,7 +1645,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addExpressionStatement(BiConsumer<ExpressionStatement, E> bc) {
-		return consumermap.put(VisitorEnum.ExpressionStatement, bc);
+		return putConsumer(VisitorEnum.ExpressionStatement, bc);
 	}
 
 	/**
@@ -1571,7 +1654,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addFieldAccess(BiConsumer<FieldAccess, E> bc) {
-		return consumermap.put(VisitorEnum.FieldAccess, bc);
+		return putConsumer(VisitorEnum.FieldAccess, bc);
 	}
 
 	/**
@@ -1580,7 +1663,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addFieldDeclaration(BiConsumer<FieldDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.FieldDeclaration, bc);
+		return putConsumer(VisitorEnum.FieldDeclaration, bc);
 	}
 
 	/**
@@ -1589,7 +1672,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addForStatement(BiConsumer<ForStatement, E> bc) {
-		return consumermap.put(VisitorEnum.ForStatement, bc);
+		return putConsumer(VisitorEnum.ForStatement, bc);
 	}
 
 	/**
@@ -1598,7 +1681,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addIfStatement(BiConsumer<IfStatement, E> bc) {
-		return consumermap.put(VisitorEnum.IfStatement, bc);
+		return putConsumer(VisitorEnum.IfStatement, bc);
 	}
 
 	/**
@@ -1607,7 +1690,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addImportDeclaration(BiConsumer<ImportDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.ImportDeclaration, bc);
+		return putConsumer(VisitorEnum.ImportDeclaration, bc);
 	}
 
 	/**
@@ -1616,7 +1699,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addInfixExpression(BiConsumer<InfixExpression, E> bc) {
-		return consumermap.put(VisitorEnum.InfixExpression, bc);
+		return putConsumer(VisitorEnum.InfixExpression, bc);
 	}
 
 	/**
@@ -1625,7 +1708,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addInitializer(BiConsumer<Initializer, E> bc) {
-		return consumermap.put(VisitorEnum.Initializer, bc);
+		return putConsumer(VisitorEnum.Initializer, bc);
 	}
 
 	/**
@@ -1634,7 +1717,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addInstanceofExpression(BiConsumer<InstanceofExpression, E> bc) {
-		return consumermap.put(VisitorEnum.InstanceofExpression, bc);
+		return putConsumer(VisitorEnum.InstanceofExpression, bc);
 	}
 
 	/**
@@ -1643,7 +1726,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addIntersectionType(BiConsumer<IntersectionType, E> bc) {
-		return consumermap.put(VisitorEnum.IntersectionType, bc);
+		return putConsumer(VisitorEnum.IntersectionType, bc);
 	}
 
 	/**
@@ -1652,7 +1735,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addJavadoc(BiConsumer<Javadoc, E> bc) {
-		return consumermap.put(VisitorEnum.Javadoc, bc);
+		return putConsumer(VisitorEnum.Javadoc, bc);
 	}
 
 	/**
@@ -1661,7 +1744,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addLabeledStatement(BiConsumer<LabeledStatement, E> bc) {
-		return consumermap.put(VisitorEnum.LabeledStatement, bc);
+		return putConsumer(VisitorEnum.LabeledStatement, bc);
 	}
 
 	/**
@@ -1670,7 +1753,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addLambdaExpression(BiConsumer<LambdaExpression, E> bc) {
-		return consumermap.put(VisitorEnum.LambdaExpression, bc);
+		return putConsumer(VisitorEnum.LambdaExpression, bc);
 	}
 
 	/**
@@ -1679,7 +1762,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addLineComment(BiConsumer<LineComment, E> bc) {
-		return consumermap.put(VisitorEnum.LineComment, bc);
+		return putConsumer(VisitorEnum.LineComment, bc);
 	}
 
 	/**
@@ -1688,7 +1771,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addMarkerAnnotation(BiConsumer<MarkerAnnotation, E> bc) {
-		return consumermap.put(VisitorEnum.MarkerAnnotation, bc);
+		return putConsumer(VisitorEnum.MarkerAnnotation, bc);
 	}
 
 	/**
@@ -1697,7 +1780,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addMemberRef(BiConsumer<MemberRef, E> bc) {
-		return consumermap.put(VisitorEnum.MemberRef, bc);
+		return putConsumer(VisitorEnum.MemberRef, bc);
 	}
 
 	/**
@@ -1706,7 +1789,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addMemberValuePair(BiConsumer<MemberValuePair, E> bc) {
-		return consumermap.put(VisitorEnum.MemberValuePair, bc);
+		return putConsumer(VisitorEnum.MemberValuePair, bc);
 	}
 
 	/**
@@ -1715,7 +1798,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addMethodRef(BiConsumer<MethodRef, E> bc) {
-		return consumermap.put(VisitorEnum.MethodRef, bc);
+		return putConsumer(VisitorEnum.MethodRef, bc);
 	}
 
 	/**
@@ -1724,7 +1807,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addMethodRefParameter(BiConsumer<MethodRefParameter, E> bc) {
-		return consumermap.put(VisitorEnum.MethodRefParameter, bc);
+		return putConsumer(VisitorEnum.MethodRefParameter, bc);
 	}
 
 	/**
@@ -1733,7 +1816,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addMethodDeclaration(BiConsumer<MethodDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.MethodDeclaration, bc);
+		return putConsumer(VisitorEnum.MethodDeclaration, bc);
 	}
 
 	/**
@@ -1742,7 +1825,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addMethodInvocation(BiConsumer<MethodInvocation, E> bc) {
-		return consumermap.put(VisitorEnum.MethodInvocation, bc);
+		return putConsumer(VisitorEnum.MethodInvocation, bc);
 	}
 
 	/**
@@ -1753,7 +1836,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiConsumer<? extends ASTNode, E> addMethodInvocation(String methodname, BiConsumer<MethodInvocation, E> bc) {
 		this.consumerdata.put(VisitorEnum.MethodInvocation, methodname);
-		return consumermap.put(VisitorEnum.MethodInvocation, bc);
+		return putConsumer(VisitorEnum.MethodInvocation, bc);
 	}
 
 	/**
@@ -1762,7 +1845,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addModifier(BiConsumer<Modifier, E> bc) {
-		return consumermap.put(VisitorEnum.Modifier, bc);
+		return putConsumer(VisitorEnum.Modifier, bc);
 	}
 
 	/**
@@ -1771,7 +1854,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addModuleDeclaration(BiConsumer<ModuleDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.ModuleDeclaration, bc);
+		return putConsumer(VisitorEnum.ModuleDeclaration, bc);
 	}
 
 	/**
@@ -1780,7 +1863,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addModuleModifier(BiConsumer<ModuleModifier, E> bc) {
-		return consumermap.put(VisitorEnum.ModuleModifier, bc);
+		return putConsumer(VisitorEnum.ModuleModifier, bc);
 	}
 
 	/**
@@ -1789,7 +1872,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addNameQualifiedType(BiConsumer<NameQualifiedType, E> bc) {
-		return consumermap.put(VisitorEnum.NameQualifiedType, bc);
+		return putConsumer(VisitorEnum.NameQualifiedType, bc);
 	}
 
 	/**
@@ -1798,7 +1881,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addNormalAnnotation(BiConsumer<NormalAnnotation, E> bc) {
-		return consumermap.put(VisitorEnum.NormalAnnotation, bc);
+		return putConsumer(VisitorEnum.NormalAnnotation, bc);
 	}
 
 	/**
@@ -1807,7 +1890,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addNullLiteral(BiConsumer<NullLiteral, E> bc) {
-		return consumermap.put(VisitorEnum.NullLiteral, bc);
+		return putConsumer(VisitorEnum.NullLiteral, bc);
 	}
 
 	/**
@@ -1816,7 +1899,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addNumberLiteral(BiConsumer<NumberLiteral, E> bc) {
-		return consumermap.put(VisitorEnum.NumberLiteral, bc);
+		return putConsumer(VisitorEnum.NumberLiteral, bc);
 	}
 
 	/**
@@ -1825,7 +1908,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addOpensDirective(BiConsumer<OpensDirective, E> bc) {
-		return consumermap.put(VisitorEnum.OpensDirective, bc);
+		return putConsumer(VisitorEnum.OpensDirective, bc);
 	}
 
 	/**
@@ -1834,7 +1917,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addPackageDeclaration(BiConsumer<PackageDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.PackageDeclaration, bc);
+		return putConsumer(VisitorEnum.PackageDeclaration, bc);
 	}
 
 	/**
@@ -1843,7 +1926,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addParameterizedType(BiConsumer<ParameterizedType, E> bc) {
-		return consumermap.put(VisitorEnum.ParameterizedType, bc);
+		return putConsumer(VisitorEnum.ParameterizedType, bc);
 	}
 
 	/**
@@ -1852,7 +1935,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addParenthesizedExpression(BiConsumer<ParenthesizedExpression, E> bc) {
-		return consumermap.put(VisitorEnum.ParenthesizedExpression, bc);
+		return putConsumer(VisitorEnum.ParenthesizedExpression, bc);
 	}
 
 	/**
@@ -1862,7 +1945,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiConsumer<? extends ASTNode, E> addPatternInstanceofExpression(
 			BiConsumer<PatternInstanceofExpression, E> bc) {
-		return consumermap.put(VisitorEnum.PatternInstanceofExpression, bc);
+		return putConsumer(VisitorEnum.PatternInstanceofExpression, bc);
 	}
 
 	/**
@@ -1871,7 +1954,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addPostfixExpression(BiConsumer<PostfixExpression, E> bc) {
-		return consumermap.put(VisitorEnum.PostfixExpression, bc);
+		return putConsumer(VisitorEnum.PostfixExpression, bc);
 	}
 
 	/**
@@ -1880,7 +1963,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addPrefixExpression(BiConsumer<PrefixExpression, E> bc) {
-		return consumermap.put(VisitorEnum.PrefixExpression, bc);
+		return putConsumer(VisitorEnum.PrefixExpression, bc);
 	}
 
 	/**
@@ -1889,7 +1972,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addProvidesDirective(BiConsumer<ProvidesDirective, E> bc) {
-		return consumermap.put(VisitorEnum.ProvidesDirective, bc);
+		return putConsumer(VisitorEnum.ProvidesDirective, bc);
 	}
 
 	/**
@@ -1898,7 +1981,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addPrimitiveType(BiConsumer<PrimitiveType, E> bc) {
-		return consumermap.put(VisitorEnum.PrimitiveType, bc);
+		return putConsumer(VisitorEnum.PrimitiveType, bc);
 	}
 
 	/**
@@ -1907,7 +1990,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addQualifiedName(BiConsumer<QualifiedName, E> bc) {
-		return consumermap.put(VisitorEnum.QualifiedName, bc);
+		return putConsumer(VisitorEnum.QualifiedName, bc);
 	}
 
 	/**
@@ -1916,11 +1999,11 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addQualifiedType(BiConsumer<QualifiedType, E> bc) {
-		return consumermap.put(VisitorEnum.QualifiedType, bc);
+		return putConsumer(VisitorEnum.QualifiedType, bc);
 	}
 
 //	public BiConsumer<? extends ASTNode, E> addModuleQualifiedName(BiConsumer<ModuleQualifiedName, E> bc) {
-//		return consumermap.put(VisitorEnum.ModuleQualifiedName, bc);
+//		return putConsumer(VisitorEnum.ModuleQualifiedName, bc);
 //	}
 
 	/**
@@ -1930,7 +2013,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 
 	public BiConsumer<? extends ASTNode, E> addRequiresDirective(BiConsumer<RequiresDirective, E> bc) {
-		return consumermap.put(VisitorEnum.RequiresDirective, bc);
+		return putConsumer(VisitorEnum.RequiresDirective, bc);
 	}
 
 	/**
@@ -1939,7 +2022,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addRecordDeclaration(BiConsumer<RecordDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.RecordDeclaration, bc);
+		return putConsumer(VisitorEnum.RecordDeclaration, bc);
 	}
 
 	/**
@@ -1948,7 +2031,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addReturnStatement(BiConsumer<ReturnStatement, E> bc) {
-		return consumermap.put(VisitorEnum.ReturnStatement, bc);
+		return putConsumer(VisitorEnum.ReturnStatement, bc);
 	}
 
 	/**
@@ -1957,7 +2040,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSimpleName(BiConsumer<SimpleName, E> bc) {
-		return consumermap.put(VisitorEnum.SimpleName, bc);
+		return putConsumer(VisitorEnum.SimpleName, bc);
 	}
 
 	/**
@@ -1966,7 +2049,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSimpleType(BiConsumer<SimpleType, E> bc) {
-		return consumermap.put(VisitorEnum.SimpleType, bc);
+		return putConsumer(VisitorEnum.SimpleType, bc);
 	}
 
 	/**
@@ -1975,7 +2058,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSingleMemberAnnotation(BiConsumer<SingleMemberAnnotation, E> bc) {
-		return consumermap.put(VisitorEnum.SingleMemberAnnotation, bc);
+		return putConsumer(VisitorEnum.SingleMemberAnnotation, bc);
 	}
 
 	/**
@@ -1984,7 +2067,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSingleVariableDeclaration(BiConsumer<SingleVariableDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.SingleVariableDeclaration, bc);
+		return putConsumer(VisitorEnum.SingleVariableDeclaration, bc);
 	}
 
 	/**
@@ -1993,7 +2076,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addStringLiteral(BiConsumer<StringLiteral, E> bc) {
-		return consumermap.put(VisitorEnum.StringLiteral, bc);
+		return putConsumer(VisitorEnum.StringLiteral, bc);
 	}
 
 	/**
@@ -2003,7 +2086,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiConsumer<? extends ASTNode, E> addSuperConstructorInvocation(
 			BiConsumer<SuperConstructorInvocation, E> bc) {
-		return consumermap.put(VisitorEnum.SuperConstructorInvocation, bc);
+		return putConsumer(VisitorEnum.SuperConstructorInvocation, bc);
 	}
 
 	/**
@@ -2012,7 +2095,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSuperFieldAccess(BiConsumer<SuperFieldAccess, E> bc) {
-		return consumermap.put(VisitorEnum.SuperFieldAccess, bc);
+		return putConsumer(VisitorEnum.SuperFieldAccess, bc);
 	}
 
 	/**
@@ -2021,7 +2104,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSuperMethodInvocation(BiConsumer<SuperMethodInvocation, E> bc) {
-		return consumermap.put(VisitorEnum.SuperMethodInvocation, bc);
+		return putConsumer(VisitorEnum.SuperMethodInvocation, bc);
 	}
 
 	/**
@@ -2030,7 +2113,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSuperMethodReference(BiConsumer<SuperMethodReference, E> bc) {
-		return consumermap.put(VisitorEnum.SuperMethodReference, bc);
+		return putConsumer(VisitorEnum.SuperMethodReference, bc);
 	}
 
 	/**
@@ -2039,7 +2122,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSwitchCase(BiConsumer<SwitchCase, E> bc) {
-		return consumermap.put(VisitorEnum.SwitchCase, bc);
+		return putConsumer(VisitorEnum.SwitchCase, bc);
 	}
 
 	/**
@@ -2048,7 +2131,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSwitchExpression(BiConsumer<SwitchExpression, E> bc) {
-		return consumermap.put(VisitorEnum.SwitchExpression, bc);
+		return putConsumer(VisitorEnum.SwitchExpression, bc);
 	}
 
 	/**
@@ -2057,7 +2140,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSwitchStatement(BiConsumer<SwitchStatement, E> bc) {
-		return consumermap.put(VisitorEnum.SwitchStatement, bc);
+		return putConsumer(VisitorEnum.SwitchStatement, bc);
 	}
 
 	/**
@@ -2066,7 +2149,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addSynchronizedStatement(BiConsumer<SynchronizedStatement, E> bc) {
-		return consumermap.put(VisitorEnum.SynchronizedStatement, bc);
+		return putConsumer(VisitorEnum.SynchronizedStatement, bc);
 	}
 
 	/**
@@ -2075,7 +2158,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTagElement(BiConsumer<TagElement, E> bc) {
-		return consumermap.put(VisitorEnum.TagElement, bc);
+		return putConsumer(VisitorEnum.TagElement, bc);
 	}
 
 	/**
@@ -2084,7 +2167,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTextBlock(BiConsumer<TextBlock, E> bc) {
-		return consumermap.put(VisitorEnum.TextBlock, bc);
+		return putConsumer(VisitorEnum.TextBlock, bc);
 	}
 
 	/**
@@ -2093,7 +2176,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTextElement(BiConsumer<TextElement, E> bc) {
-		return consumermap.put(VisitorEnum.TextElement, bc);
+		return putConsumer(VisitorEnum.TextElement, bc);
 	}
 
 	/**
@@ -2102,7 +2185,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addThisExpression(BiConsumer<ThisExpression, E> bc) {
-		return consumermap.put(VisitorEnum.ThisExpression, bc);
+		return putConsumer(VisitorEnum.ThisExpression, bc);
 	}
 
 	/**
@@ -2111,7 +2194,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addThrowStatement(BiConsumer<ThrowStatement, E> bc) {
-		return consumermap.put(VisitorEnum.ThrowStatement, bc);
+		return putConsumer(VisitorEnum.ThrowStatement, bc);
 	}
 
 	/**
@@ -2120,7 +2203,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTryStatement(BiConsumer<TryStatement, E> bc) {
-		return consumermap.put(VisitorEnum.TryStatement, bc);
+		return putConsumer(VisitorEnum.TryStatement, bc);
 	}
 
 	/**
@@ -2129,7 +2212,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTypeDeclaration(BiConsumer<TypeDeclaration, E> bc) {
-		return consumermap.put(VisitorEnum.TypeDeclaration, bc);
+		return putConsumer(VisitorEnum.TypeDeclaration, bc);
 	}
 
 	/**
@@ -2138,7 +2221,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTypeDeclarationStatement(BiConsumer<TypeDeclarationStatement, E> bc) {
-		return consumermap.put(VisitorEnum.TypeDeclarationStatement, bc);
+		return putConsumer(VisitorEnum.TypeDeclarationStatement, bc);
 	}
 
 	/**
@@ -2147,7 +2230,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTypeLiteral(BiConsumer<TypeLiteral, E> bc) {
-		return consumermap.put(VisitorEnum.TypeLiteral, bc);
+		return putConsumer(VisitorEnum.TypeLiteral, bc);
 	}
 
 	/**
@@ -2156,7 +2239,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTypeMethodReference(BiConsumer<TypeMethodReference, E> bc) {
-		return consumermap.put(VisitorEnum.TypeMethodReference, bc);
+		return putConsumer(VisitorEnum.TypeMethodReference, bc);
 	}
 
 	/**
@@ -2165,7 +2248,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addTypeParameter(BiConsumer<TypeParameter, E> bc) {
-		return consumermap.put(VisitorEnum.TypeParameter, bc);
+		return putConsumer(VisitorEnum.TypeParameter, bc);
 	}
 
 	/**
@@ -2174,7 +2257,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addUnionType(BiConsumer<UnionType, E> bc) {
-		return consumermap.put(VisitorEnum.UnionType, bc);
+		return putConsumer(VisitorEnum.UnionType, bc);
 	}
 
 	/**
@@ -2183,7 +2266,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addUsesDirective(BiConsumer<UsesDirective, E> bc) {
-		return consumermap.put(VisitorEnum.UsesDirective, bc);
+		return putConsumer(VisitorEnum.UsesDirective, bc);
 	}
 
 	/**
@@ -2193,7 +2276,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiConsumer<? extends ASTNode, E> addVariableDeclarationExpression(
 			BiConsumer<VariableDeclarationExpression, E> bc) {
-		return consumermap.put(VisitorEnum.VariableDeclarationExpression, bc);
+		return putConsumer(VisitorEnum.VariableDeclarationExpression, bc);
 	}
 
 	/**
@@ -2203,7 +2286,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiConsumer<? extends ASTNode, E> addVariableDeclarationStatement(
 			BiConsumer<VariableDeclarationStatement, E> bc) {
-		return consumermap.put(VisitorEnum.VariableDeclarationStatement, bc);
+		return putConsumer(VisitorEnum.VariableDeclarationStatement, bc);
 	}
 
 	/**
@@ -2215,7 +2298,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	public BiConsumer<? extends ASTNode, E> addVariableDeclarationStatement(Class<?> class1,
 			BiConsumer<VariableDeclarationStatement, E> bc) {
 		this.consumerdata.put(VisitorEnum.VariableDeclarationStatement, class1);
-		return consumermap.put(VisitorEnum.VariableDeclarationStatement, bc);
+		return putConsumer(VisitorEnum.VariableDeclarationStatement, bc);
 	}
 
 	/**
@@ -2225,7 +2308,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public BiConsumer<? extends ASTNode, E> addVariableDeclarationFragment(
 			BiConsumer<VariableDeclarationFragment, E> bc) {
-		return consumermap.put(VisitorEnum.VariableDeclarationFragment, bc);
+		return putConsumer(VisitorEnum.VariableDeclarationFragment, bc);
 	}
 
 	/**
@@ -2234,7 +2317,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addWhileStatement(BiConsumer<WhileStatement, E> bc) {
-		return consumermap.put(VisitorEnum.WhileStatement, bc);
+		return putConsumer(VisitorEnum.WhileStatement, bc);
 	}
 
 	/**
@@ -2243,7 +2326,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addWildcardType(BiConsumer<WildcardType, E> bc) {
-		return consumermap.put(VisitorEnum.WildcardType, bc);
+		return putConsumer(VisitorEnum.WildcardType, bc);
 	}
 
 	/**
@@ -2252,7 +2335,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return
 	 */
 	public BiConsumer<? extends ASTNode, E> addYieldStatement(BiConsumer<YieldStatement, E> bc) {
-		return consumermap.put(VisitorEnum.YieldStatement, bc);
+		return putConsumer(VisitorEnum.YieldStatement, bc);
 	}
 
 
@@ -2264,8 +2347,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addAnnotationTypeDeclaration(BiPredicate<AnnotationTypeDeclaration, E> bs,
 			BiConsumer<AnnotationTypeDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.AnnotationTypeDeclaration, bs);
-		consumermap.put(VisitorEnum.AnnotationTypeDeclaration, bc);
+		putPredicate(VisitorEnum.AnnotationTypeDeclaration, bs);
+		putConsumer(VisitorEnum.AnnotationTypeDeclaration, bc);
 	}
 
 	/**
@@ -2275,8 +2358,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addAnnotationTypeMemberDeclaration(BiPredicate<AnnotationTypeMemberDeclaration, E> bs,
 			BiConsumer<AnnotationTypeMemberDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.AnnotationTypeMemberDeclaration, bs);
-		consumermap.put(VisitorEnum.AnnotationTypeMemberDeclaration, bc);
+		putPredicate(VisitorEnum.AnnotationTypeMemberDeclaration, bs);
+		putConsumer(VisitorEnum.AnnotationTypeMemberDeclaration, bc);
 	}
 
 	/**
@@ -2286,8 +2369,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addAnonymousClassDeclaration(BiPredicate<AnonymousClassDeclaration, E> bs,
 			BiConsumer<AnonymousClassDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.AnonymousClassDeclaration, bs);
-		consumermap.put(VisitorEnum.AnonymousClassDeclaration, bc);
+		putPredicate(VisitorEnum.AnonymousClassDeclaration, bs);
+		putConsumer(VisitorEnum.AnonymousClassDeclaration, bc);
 	}
 
 	/**
@@ -2296,8 +2379,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addArrayAccess(BiPredicate<ArrayAccess, E> bs, BiConsumer<ArrayAccess, E> bc) {
-		predicatemap.put(VisitorEnum.ArrayAccess, bs);
-		consumermap.put(VisitorEnum.ArrayAccess, bc);
+		putPredicate(VisitorEnum.ArrayAccess, bs);
+		putConsumer(VisitorEnum.ArrayAccess, bc);
 	}
 
 	/**
@@ -2306,8 +2389,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addArrayCreation(BiPredicate<ArrayCreation, E> bs, BiConsumer<ArrayCreation, E> bc) {
-		predicatemap.put(VisitorEnum.ArrayCreation, bs);
-		consumermap.put(VisitorEnum.ArrayCreation, bc);
+		putPredicate(VisitorEnum.ArrayCreation, bs);
+		putConsumer(VisitorEnum.ArrayCreation, bc);
 	}
 
 	/**
@@ -2316,8 +2399,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addArrayInitializer(BiPredicate<ArrayInitializer, E> bs, BiConsumer<ArrayInitializer, E> bc) {
-		predicatemap.put(VisitorEnum.ArrayInitializer, bs);
-		consumermap.put(VisitorEnum.ArrayInitializer, bc);
+		putPredicate(VisitorEnum.ArrayInitializer, bs);
+		putConsumer(VisitorEnum.ArrayInitializer, bc);
 	}
 
 	/**
@@ -2326,8 +2409,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addArrayType(BiPredicate<ArrayType, E> bs, BiConsumer<ArrayType, E> bc) {
-		predicatemap.put(VisitorEnum.ArrayType, bs);
-		consumermap.put(VisitorEnum.ArrayType, bc);
+		putPredicate(VisitorEnum.ArrayType, bs);
+		putConsumer(VisitorEnum.ArrayType, bc);
 	}
 
 	/**
@@ -2336,8 +2419,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addAssertStatement(BiPredicate<AssertStatement, E> bs, BiConsumer<AssertStatement, E> bc) {
-		predicatemap.put(VisitorEnum.AssertStatement, bs);
-		consumermap.put(VisitorEnum.AssertStatement, bc);
+		putPredicate(VisitorEnum.AssertStatement, bs);
+		putConsumer(VisitorEnum.AssertStatement, bc);
 	}
 
 	/**
@@ -2346,8 +2429,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addAssignment(BiPredicate<Assignment, E> bs, BiConsumer<Assignment, E> bc) {
-		predicatemap.put(VisitorEnum.Assignment, bs);
-		consumermap.put(VisitorEnum.Assignment, bc);
+		putPredicate(VisitorEnum.Assignment, bs);
+		putConsumer(VisitorEnum.Assignment, bc);
 	}
 
 	/**
@@ -2356,8 +2439,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addBlock(BiPredicate<Block, E> bs, BiConsumer<Block, E> bc) {
-		predicatemap.put(VisitorEnum.Block, bs);
-		consumermap.put(VisitorEnum.Block, bc);
+		putPredicate(VisitorEnum.Block, bs);
+		putConsumer(VisitorEnum.Block, bc);
 	}
 
 	/**
@@ -2366,8 +2449,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addBlockComment(BiPredicate<BlockComment, E> bs, BiConsumer<BlockComment, E> bc) {
-		predicatemap.put(VisitorEnum.BlockComment, bs);
-		consumermap.put(VisitorEnum.BlockComment, bc);
+		putPredicate(VisitorEnum.BlockComment, bs);
+		putConsumer(VisitorEnum.BlockComment, bc);
 	}
 
 	/**
@@ -2376,8 +2459,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addBooleanLiteral(BiPredicate<BooleanLiteral, E> bs, BiConsumer<BooleanLiteral, E> bc) {
-		predicatemap.put(VisitorEnum.BooleanLiteral, bs);
-		consumermap.put(VisitorEnum.BooleanLiteral, bc);
+		putPredicate(VisitorEnum.BooleanLiteral, bs);
+		putConsumer(VisitorEnum.BooleanLiteral, bc);
 	}
 
 	/**
@@ -2386,8 +2469,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addBreakStatement(BiPredicate<BreakStatement, E> bs, BiConsumer<BreakStatement, E> bc) {
-		predicatemap.put(VisitorEnum.BreakStatement, bs);
-		consumermap.put(VisitorEnum.BreakStatement, bc);
+		putPredicate(VisitorEnum.BreakStatement, bs);
+		putConsumer(VisitorEnum.BreakStatement, bc);
 	}
 
 	/**
@@ -2396,8 +2479,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addCastExpression(BiPredicate<CastExpression, E> bs, BiConsumer<CastExpression, E> bc) {
-		predicatemap.put(VisitorEnum.CastExpression, bs);
-		consumermap.put(VisitorEnum.CastExpression, bc);
+		putPredicate(VisitorEnum.CastExpression, bs);
+		putConsumer(VisitorEnum.CastExpression, bc);
 	}
 
 	/**
@@ -2406,8 +2489,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addCatchClause(BiPredicate<CatchClause, E> bs, BiConsumer<CatchClause, E> bc) {
-		predicatemap.put(VisitorEnum.CatchClause, bs);
-		consumermap.put(VisitorEnum.CatchClause, bc);
+		putPredicate(VisitorEnum.CatchClause, bs);
+		putConsumer(VisitorEnum.CatchClause, bc);
 	}
 
 	/**
@@ -2416,8 +2499,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addCharacterLiteral(BiPredicate<CharacterLiteral, E> bs, BiConsumer<CharacterLiteral, E> bc) {
-		predicatemap.put(VisitorEnum.CharacterLiteral, bs);
-		consumermap.put(VisitorEnum.CharacterLiteral, bc);
+		putPredicate(VisitorEnum.CharacterLiteral, bs);
+		putConsumer(VisitorEnum.CharacterLiteral, bc);
 	}
 
 	/**
@@ -2427,8 +2510,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addClassInstanceCreation(BiPredicate<ClassInstanceCreation, E> bs,
 			BiConsumer<ClassInstanceCreation, E> bc) {
-		predicatemap.put(VisitorEnum.ClassInstanceCreation, bs);
-		consumermap.put(VisitorEnum.ClassInstanceCreation, bc);
+		putPredicate(VisitorEnum.ClassInstanceCreation, bs);
+		putConsumer(VisitorEnum.ClassInstanceCreation, bc);
 	}
 
 	/**
@@ -2437,8 +2520,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addCompilationUnit(BiPredicate<CompilationUnit, E> bs, BiConsumer<CompilationUnit, E> bc) {
-		predicatemap.put(VisitorEnum.CompilationUnit, bs);
-		consumermap.put(VisitorEnum.CompilationUnit, bc);
+		putPredicate(VisitorEnum.CompilationUnit, bs);
+		putConsumer(VisitorEnum.CompilationUnit, bc);
 	}
 
 	/**
@@ -2448,8 +2531,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addConditionalExpression(BiPredicate<ConditionalExpression, E> bs,
 			BiConsumer<ConditionalExpression, E> bc) {
-		predicatemap.put(VisitorEnum.ConditionalExpression, bs);
-		consumermap.put(VisitorEnum.ConditionalExpression, bc);
+		putPredicate(VisitorEnum.ConditionalExpression, bs);
+		putConsumer(VisitorEnum.ConditionalExpression, bc);
 	}
 
 	/**
@@ -2459,8 +2542,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addConstructorInvocation(BiPredicate<ConstructorInvocation, E> bs,
 			BiConsumer<ConstructorInvocation, E> bc) {
-		predicatemap.put(VisitorEnum.ConstructorInvocation, bs);
-		consumermap.put(VisitorEnum.ConstructorInvocation, bc);
+		putPredicate(VisitorEnum.ConstructorInvocation, bs);
+		putConsumer(VisitorEnum.ConstructorInvocation, bc);
 	}
 
 	/**
@@ -2469,8 +2552,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addContinueStatement(BiPredicate<ContinueStatement, E> bs, BiConsumer<ContinueStatement, E> bc) {
-		predicatemap.put(VisitorEnum.ContinueStatement, bs);
-		consumermap.put(VisitorEnum.ContinueStatement, bc);
+		putPredicate(VisitorEnum.ContinueStatement, bs);
+		putConsumer(VisitorEnum.ContinueStatement, bc);
 	}
 
 	/**
@@ -2479,8 +2562,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addCreationReference(BiPredicate<CreationReference, E> bs, BiConsumer<CreationReference, E> bc) {
-		predicatemap.put(VisitorEnum.CreationReference, bs);
-		consumermap.put(VisitorEnum.CreationReference, bc);
+		putPredicate(VisitorEnum.CreationReference, bs);
+		putConsumer(VisitorEnum.CreationReference, bc);
 	}
 
 	/**
@@ -2489,8 +2572,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addDimension(BiPredicate<Dimension, E> bs, BiConsumer<Dimension, E> bc) {
-		predicatemap.put(VisitorEnum.Dimension, bs);
-		consumermap.put(VisitorEnum.Dimension, bc);
+		putPredicate(VisitorEnum.Dimension, bs);
+		putConsumer(VisitorEnum.Dimension, bc);
 	}
 
 	/**
@@ -2499,8 +2582,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addDoStatement(BiPredicate<DoStatement, E> bs, BiConsumer<DoStatement, E> bc) {
-		predicatemap.put(VisitorEnum.DoStatement, bs);
-		consumermap.put(VisitorEnum.DoStatement, bc);
+		putPredicate(VisitorEnum.DoStatement, bs);
+		putConsumer(VisitorEnum.DoStatement, bc);
 	}
 
 	/**
@@ -2509,8 +2592,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addEmptyStatement(BiPredicate<EmptyStatement, E> bs, BiConsumer<EmptyStatement, E> bc) {
-		predicatemap.put(VisitorEnum.EmptyStatement, bs);
-		consumermap.put(VisitorEnum.EmptyStatement, bc);
+		putPredicate(VisitorEnum.EmptyStatement, bs);
+		putConsumer(VisitorEnum.EmptyStatement, bc);
 	}
 
 	/**
@@ -2520,8 +2603,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addEnhancedForStatement(BiPredicate<EnhancedForStatement, E> bs,
 			BiConsumer<EnhancedForStatement, E> bc) {
-		predicatemap.put(VisitorEnum.EnhancedForStatement, bs);
-		consumermap.put(VisitorEnum.EnhancedForStatement, bc);
+		putPredicate(VisitorEnum.EnhancedForStatement, bs);
+		putConsumer(VisitorEnum.EnhancedForStatement, bc);
 	}
 
 	/**
@@ -2531,8 +2614,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addEnumConstantDeclaration(BiPredicate<EnumConstantDeclaration, E> bs,
 			BiConsumer<EnumConstantDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.EnumConstantDeclaration, bs);
-		consumermap.put(VisitorEnum.EnumConstantDeclaration, bc);
+		putPredicate(VisitorEnum.EnumConstantDeclaration, bs);
+		putConsumer(VisitorEnum.EnumConstantDeclaration, bc);
 	}
 
 	/**
@@ -2541,8 +2624,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addEnumDeclaration(BiPredicate<EnumDeclaration, E> bs, BiConsumer<EnumDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.EnumDeclaration, bs);
-		consumermap.put(VisitorEnum.EnumDeclaration, bc);
+		putPredicate(VisitorEnum.EnumDeclaration, bs);
+		putConsumer(VisitorEnum.EnumDeclaration, bc);
 	}
 
 	/**
@@ -2551,8 +2634,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addExportsDirective(BiPredicate<ExportsDirective, E> bs, BiConsumer<ExportsDirective, E> bc) {
-		predicatemap.put(VisitorEnum.ExportsDirective, bs);
-		consumermap.put(VisitorEnum.ExportsDirective, bc);
+		putPredicate(VisitorEnum.ExportsDirective, bs);
+		putConsumer(VisitorEnum.ExportsDirective, bc);
 	}
 
 	/**
@@ -2562,8 +2645,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addExpressionMethodReference(BiPredicate<ExpressionMethodReference, E> bs,
 			BiConsumer<ExpressionMethodReference, E> bc) {
-		predicatemap.put(VisitorEnum.ExpressionMethodReference, bs);
-		consumermap.put(VisitorEnum.ExpressionMethodReference, bc);
+		putPredicate(VisitorEnum.ExpressionMethodReference, bs);
+		putConsumer(VisitorEnum.ExpressionMethodReference, bc);
 	}
 
 	/**
@@ -2572,8 +2655,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addExpressionStatement(BiPredicate<ExpressionStatement, E> bs, BiConsumer<ExpressionStatement, E> bc) {
-		predicatemap.put(VisitorEnum.ExpressionStatement, bs);
-		consumermap.put(VisitorEnum.ExpressionStatement, bc);
+		putPredicate(VisitorEnum.ExpressionStatement, bs);
+		putConsumer(VisitorEnum.ExpressionStatement, bc);
 	}
 
 	/**
@@ -2582,8 +2665,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addFieldAccess(BiPredicate<FieldAccess, E> bs, BiConsumer<FieldAccess, E> bc) {
-		predicatemap.put(VisitorEnum.FieldAccess, bs);
-		consumermap.put(VisitorEnum.FieldAccess, bc);
+		putPredicate(VisitorEnum.FieldAccess, bs);
+		putConsumer(VisitorEnum.FieldAccess, bc);
 	}
 
 	/**
@@ -2592,8 +2675,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addFieldDeclaration(BiPredicate<FieldDeclaration, E> bs, BiConsumer<FieldDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.FieldDeclaration, bs);
-		consumermap.put(VisitorEnum.FieldDeclaration, bc);
+		putPredicate(VisitorEnum.FieldDeclaration, bs);
+		putConsumer(VisitorEnum.FieldDeclaration, bc);
 	}
 
 	/**
@@ -2602,8 +2685,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addForStatement(BiPredicate<ForStatement, E> bs, BiConsumer<ForStatement, E> bc) {
-		predicatemap.put(VisitorEnum.ForStatement, bs);
-		consumermap.put(VisitorEnum.ForStatement, bc);
+		putPredicate(VisitorEnum.ForStatement, bs);
+		putConsumer(VisitorEnum.ForStatement, bc);
 	}
 
 	/**
@@ -2612,8 +2695,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addIfStatement(BiPredicate<IfStatement, E> bs, BiConsumer<IfStatement, E> bc) {
-		predicatemap.put(VisitorEnum.IfStatement, bs);
-		consumermap.put(VisitorEnum.IfStatement, bc);
+		putPredicate(VisitorEnum.IfStatement, bs);
+		putConsumer(VisitorEnum.IfStatement, bc);
 	}
 
 	/**
@@ -2622,8 +2705,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addImportDeclaration(BiPredicate<ImportDeclaration, E> bs, BiConsumer<ImportDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.ImportDeclaration, bs);
-		consumermap.put(VisitorEnum.ImportDeclaration, bc);
+		putPredicate(VisitorEnum.ImportDeclaration, bs);
+		putConsumer(VisitorEnum.ImportDeclaration, bc);
 	}
 
 	/**
@@ -2632,8 +2715,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addInfixExpression(BiPredicate<InfixExpression, E> bs, BiConsumer<InfixExpression, E> bc) {
-		predicatemap.put(VisitorEnum.InfixExpression, bs);
-		consumermap.put(VisitorEnum.InfixExpression, bc);
+		putPredicate(VisitorEnum.InfixExpression, bs);
+		putConsumer(VisitorEnum.InfixExpression, bc);
 	}
 
 	/**
@@ -2642,8 +2725,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addInitializer(BiPredicate<Initializer, E> bs, BiConsumer<Initializer, E> bc) {
-		predicatemap.put(VisitorEnum.Initializer, bs);
-		consumermap.put(VisitorEnum.Initializer, bc);
+		putPredicate(VisitorEnum.Initializer, bs);
+		putConsumer(VisitorEnum.Initializer, bc);
 	}
 
 	/**
@@ -2653,8 +2736,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addInstanceofExpression(BiPredicate<InstanceofExpression, E> bs,
 			BiConsumer<InstanceofExpression, E> bc) {
-		predicatemap.put(VisitorEnum.InstanceofExpression, bs);
-		consumermap.put(VisitorEnum.InstanceofExpression, bc);
+		putPredicate(VisitorEnum.InstanceofExpression, bs);
+		putConsumer(VisitorEnum.InstanceofExpression, bc);
 	}
 
 	/**
@@ -2663,8 +2746,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addIntersectionType(BiPredicate<IntersectionType, E> bs, BiConsumer<IntersectionType, E> bc) {
-		predicatemap.put(VisitorEnum.IntersectionType, bs);
-		consumermap.put(VisitorEnum.IntersectionType, bc);
+		putPredicate(VisitorEnum.IntersectionType, bs);
+		putConsumer(VisitorEnum.IntersectionType, bc);
 	}
 
 	/**
@@ -2673,8 +2756,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addJavadoc(BiPredicate<Javadoc, E> bs, BiConsumer<Javadoc, E> bc) {
-		predicatemap.put(VisitorEnum.Javadoc, bs);
-		consumermap.put(VisitorEnum.Javadoc, bc);
+		putPredicate(VisitorEnum.Javadoc, bs);
+		putConsumer(VisitorEnum.Javadoc, bc);
 	}
 
 	/**
@@ -2683,8 +2766,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addLabeledStatement(BiPredicate<LabeledStatement, E> bs, BiConsumer<LabeledStatement, E> bc) {
-		predicatemap.put(VisitorEnum.LabeledStatement, bs);
-		consumermap.put(VisitorEnum.LabeledStatement, bc);
+		putPredicate(VisitorEnum.LabeledStatement, bs);
+		putConsumer(VisitorEnum.LabeledStatement, bc);
 	}
 
 	/**
@@ -2693,8 +2776,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addLambdaExpression(BiPredicate<LambdaExpression, E> bs, BiConsumer<LambdaExpression, E> bc) {
-		predicatemap.put(VisitorEnum.LambdaExpression, bs);
-		consumermap.put(VisitorEnum.LambdaExpression, bc);
+		putPredicate(VisitorEnum.LambdaExpression, bs);
+		putConsumer(VisitorEnum.LambdaExpression, bc);
 	}
 
 	/**
@@ -2703,8 +2786,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addLineComment(BiPredicate<LineComment, E> bs, BiConsumer<LineComment, E> bc) {
-		predicatemap.put(VisitorEnum.LineComment, bs);
-		consumermap.put(VisitorEnum.LineComment, bc);
+		putPredicate(VisitorEnum.LineComment, bs);
+		putConsumer(VisitorEnum.LineComment, bc);
 	}
 
 	/**
@@ -2713,8 +2796,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addMarkerAnnotation(BiPredicate<MarkerAnnotation, E> bs, BiConsumer<MarkerAnnotation, E> bc) {
-		predicatemap.put(VisitorEnum.MarkerAnnotation, bs);
-		consumermap.put(VisitorEnum.MarkerAnnotation, bc);
+		putPredicate(VisitorEnum.MarkerAnnotation, bs);
+		putConsumer(VisitorEnum.MarkerAnnotation, bc);
 	}
 
 	/**
@@ -2723,8 +2806,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addMemberRef(BiPredicate<MemberRef, E> bs, BiConsumer<MemberRef, E> bc) {
-		predicatemap.put(VisitorEnum.MemberRef, bs);
-		consumermap.put(VisitorEnum.MemberRef, bc);
+		putPredicate(VisitorEnum.MemberRef, bs);
+		putConsumer(VisitorEnum.MemberRef, bc);
 	}
 
 	/**
@@ -2733,8 +2816,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addMemberValuePair(BiPredicate<MemberValuePair, E> bs, BiConsumer<MemberValuePair, E> bc) {
-		predicatemap.put(VisitorEnum.MemberValuePair, bs);
-		consumermap.put(VisitorEnum.MemberValuePair, bc);
+		putPredicate(VisitorEnum.MemberValuePair, bs);
+		putConsumer(VisitorEnum.MemberValuePair, bc);
 	}
 
 	/**
@@ -2743,8 +2826,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addMethodRef(BiPredicate<MethodRef, E> bs, BiConsumer<MethodRef, E> bc) {
-		predicatemap.put(VisitorEnum.MethodRef, bs);
-		consumermap.put(VisitorEnum.MethodRef, bc);
+		putPredicate(VisitorEnum.MethodRef, bs);
+		putConsumer(VisitorEnum.MethodRef, bc);
 	}
 
 	/**
@@ -2753,8 +2836,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addMethodRefParameter(BiPredicate<MethodRefParameter, E> bs, BiConsumer<MethodRefParameter, E> bc) {
-		predicatemap.put(VisitorEnum.MethodRefParameter, bs);
-		consumermap.put(VisitorEnum.MethodRefParameter, bc);
+		putPredicate(VisitorEnum.MethodRefParameter, bs);
+		putConsumer(VisitorEnum.MethodRefParameter, bc);
 	}
 
 	/**
@@ -2763,8 +2846,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addMethodDeclaration(BiPredicate<MethodDeclaration, E> bs, BiConsumer<MethodDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.MethodDeclaration, bs);
-		consumermap.put(VisitorEnum.MethodDeclaration, bc);
+		putPredicate(VisitorEnum.MethodDeclaration, bs);
+		putConsumer(VisitorEnum.MethodDeclaration, bc);
 	}
 
 	/**
@@ -2776,8 +2859,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	public void addMethodInvocation(String methodname, BiPredicate<MethodInvocation, E> bs,
 			BiConsumer<MethodInvocation, E> bc) {
 		this.predicatedata.put(VisitorEnum.MethodInvocation, methodname);
-		predicatemap.put(VisitorEnum.MethodInvocation, bs);
-		consumermap.put(VisitorEnum.MethodInvocation, bc);
+		putPredicate(VisitorEnum.MethodInvocation, bs);
+		putConsumer(VisitorEnum.MethodInvocation, bc);
 	}
 
 	/**
@@ -2786,8 +2869,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addMethodInvocation(BiPredicate<MethodInvocation, E> bs, BiConsumer<MethodInvocation, E> bc) {
-		predicatemap.put(VisitorEnum.MethodInvocation, bs);
-		consumermap.put(VisitorEnum.MethodInvocation, bc);
+		putPredicate(VisitorEnum.MethodInvocation, bs);
+		putConsumer(VisitorEnum.MethodInvocation, bc);
 	}
 
 	/**
@@ -2796,8 +2879,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addModifier(BiPredicate<Modifier, E> bs, BiConsumer<Modifier, E> bc) {
-		predicatemap.put(VisitorEnum.Modifier, bs);
-		consumermap.put(VisitorEnum.Modifier, bc);
+		putPredicate(VisitorEnum.Modifier, bs);
+		putConsumer(VisitorEnum.Modifier, bc);
 	}
 
 	/**
@@ -2806,8 +2889,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addModuleDeclaration(BiPredicate<ModuleDeclaration, E> bs, BiConsumer<ModuleDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.ModuleDeclaration, bs);
-		consumermap.put(VisitorEnum.ModuleDeclaration, bc);
+		putPredicate(VisitorEnum.ModuleDeclaration, bs);
+		putConsumer(VisitorEnum.ModuleDeclaration, bc);
 	}
 
 	/**
@@ -2816,8 +2899,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addModuleModifier(BiPredicate<ModuleModifier, E> bs, BiConsumer<ModuleModifier, E> bc) {
-		predicatemap.put(VisitorEnum.ModuleModifier, bs);
-		consumermap.put(VisitorEnum.ModuleModifier, bc);
+		putPredicate(VisitorEnum.ModuleModifier, bs);
+		putConsumer(VisitorEnum.ModuleModifier, bc);
 	}
 
 	/**
@@ -2826,8 +2909,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addNameQualifiedType(BiPredicate<NameQualifiedType, E> bs, BiConsumer<NameQualifiedType, E> bc) {
-		predicatemap.put(VisitorEnum.NameQualifiedType, bs);
-		consumermap.put(VisitorEnum.NameQualifiedType, bc);
+		putPredicate(VisitorEnum.NameQualifiedType, bs);
+		putConsumer(VisitorEnum.NameQualifiedType, bc);
 	}
 
 	/**
@@ -2836,8 +2919,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addNormalAnnotation(BiPredicate<NormalAnnotation, E> bs, BiConsumer<NormalAnnotation, E> bc) {
-		predicatemap.put(VisitorEnum.NormalAnnotation, bs);
-		consumermap.put(VisitorEnum.NormalAnnotation, bc);
+		putPredicate(VisitorEnum.NormalAnnotation, bs);
+		putConsumer(VisitorEnum.NormalAnnotation, bc);
 	}
 
 	/**
@@ -2846,8 +2929,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addNullLiteral(BiPredicate<NullLiteral, E> bs, BiConsumer<NullLiteral, E> bc) {
-		predicatemap.put(VisitorEnum.NullLiteral, bs);
-		consumermap.put(VisitorEnum.NullLiteral, bc);
+		putPredicate(VisitorEnum.NullLiteral, bs);
+		putConsumer(VisitorEnum.NullLiteral, bc);
 	}
 
 	/**
@@ -2856,8 +2939,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addNumberLiteral(BiPredicate<NumberLiteral, E> bs, BiConsumer<NumberLiteral, E> bc) {
-		predicatemap.put(VisitorEnum.NumberLiteral, bs);
-		consumermap.put(VisitorEnum.NumberLiteral, bc);
+		putPredicate(VisitorEnum.NumberLiteral, bs);
+		putConsumer(VisitorEnum.NumberLiteral, bc);
 	}
 
 	/**
@@ -2866,8 +2949,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addOpensDirective(BiPredicate<OpensDirective, E> bs, BiConsumer<OpensDirective, E> bc) {
-		predicatemap.put(VisitorEnum.OpensDirective, bs);
-		consumermap.put(VisitorEnum.OpensDirective, bc);
+		putPredicate(VisitorEnum.OpensDirective, bs);
+		putConsumer(VisitorEnum.OpensDirective, bc);
 	}
 
 	/**
@@ -2876,8 +2959,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addPackageDeclaration(BiPredicate<PackageDeclaration, E> bs, BiConsumer<PackageDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.PackageDeclaration, bs);
-		consumermap.put(VisitorEnum.PackageDeclaration, bc);
+		putPredicate(VisitorEnum.PackageDeclaration, bs);
+		putConsumer(VisitorEnum.PackageDeclaration, bc);
 	}
 
 	/**
@@ -2886,8 +2969,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addParameterizedType(BiPredicate<ParameterizedType, E> bs, BiConsumer<ParameterizedType, E> bc) {
-		predicatemap.put(VisitorEnum.ParameterizedType, bs);
-		consumermap.put(VisitorEnum.ParameterizedType, bc);
+		putPredicate(VisitorEnum.ParameterizedType, bs);
+		putConsumer(VisitorEnum.ParameterizedType, bc);
 	}
 
 	/**
@@ -2897,8 +2980,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addParenthesizedExpression(BiPredicate<ParenthesizedExpression, E> bs,
 			BiConsumer<ParenthesizedExpression, E> bc) {
-		predicatemap.put(VisitorEnum.ParenthesizedExpression, bs);
-		consumermap.put(VisitorEnum.ParenthesizedExpression, bc);
+		putPredicate(VisitorEnum.ParenthesizedExpression, bs);
+		putConsumer(VisitorEnum.ParenthesizedExpression, bc);
 	}
 
 	/**
@@ -2908,8 +2991,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addPatternInstanceofExpression(BiPredicate<PatternInstanceofExpression, E> bs,
 			BiConsumer<PatternInstanceofExpression, E> bc) {
-		predicatemap.put(VisitorEnum.PatternInstanceofExpression, bs);
-		consumermap.put(VisitorEnum.PatternInstanceofExpression, bc);
+		putPredicate(VisitorEnum.PatternInstanceofExpression, bs);
+		putConsumer(VisitorEnum.PatternInstanceofExpression, bc);
 	}
 
 	/**
@@ -2918,8 +3001,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addPostfixExpression(BiPredicate<PostfixExpression, E> bs, BiConsumer<PostfixExpression, E> bc) {
-		predicatemap.put(VisitorEnum.PostfixExpression, bs);
-		consumermap.put(VisitorEnum.PostfixExpression, bc);
+		putPredicate(VisitorEnum.PostfixExpression, bs);
+		putConsumer(VisitorEnum.PostfixExpression, bc);
 	}
 
 	/**
@@ -2928,8 +3011,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addPrefixExpression(BiPredicate<PrefixExpression, E> bs, BiConsumer<PrefixExpression, E> bc) {
-		predicatemap.put(VisitorEnum.PrefixExpression, bs);
-		consumermap.put(VisitorEnum.PrefixExpression, bc);
+		putPredicate(VisitorEnum.PrefixExpression, bs);
+		putConsumer(VisitorEnum.PrefixExpression, bc);
 	}
 
 	/**
@@ -2938,8 +3021,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addProvidesDirective(BiPredicate<ProvidesDirective, E> bs, BiConsumer<ProvidesDirective, E> bc) {
-		predicatemap.put(VisitorEnum.ProvidesDirective, bs);
-		consumermap.put(VisitorEnum.ProvidesDirective, bc);
+		putPredicate(VisitorEnum.ProvidesDirective, bs);
+		putConsumer(VisitorEnum.ProvidesDirective, bc);
 	}
 
 	/**
@@ -2948,8 +3031,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addPrimitiveType(BiPredicate<PrimitiveType, E> bs, BiConsumer<PrimitiveType, E> bc) {
-		predicatemap.put(VisitorEnum.PrimitiveType, bs);
-		consumermap.put(VisitorEnum.PrimitiveType, bc);
+		putPredicate(VisitorEnum.PrimitiveType, bs);
+		putConsumer(VisitorEnum.PrimitiveType, bc);
 	}
 
 	/**
@@ -2958,8 +3041,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addQualifiedName(BiPredicate<QualifiedName, E> bs, BiConsumer<QualifiedName, E> bc) {
-		predicatemap.put(VisitorEnum.QualifiedName, bs);
-		consumermap.put(VisitorEnum.QualifiedName, bc);
+		putPredicate(VisitorEnum.QualifiedName, bs);
+		putConsumer(VisitorEnum.QualifiedName, bc);
 	}
 
 	/**
@@ -2968,14 +3051,14 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addQualifiedType(BiPredicate<QualifiedType, E> bs, BiConsumer<QualifiedType, E> bc) {
-		predicatemap.put(VisitorEnum.QualifiedType, bs);
-		consumermap.put(VisitorEnum.QualifiedType, bc);
+		putPredicate(VisitorEnum.QualifiedType, bs);
+		putConsumer(VisitorEnum.QualifiedType, bc);
 	}
 
 //	public void addModuleQualifiedName(BiPredicate<ModuleQualifiedName, E> bs,
 //			BiConsumer<ModuleQualifiedName, E> bc) {
-//		predicatemap.put(VisitorEnum.ModuleQualifiedName, bs);
-//		consumermap.put(VisitorEnum.ModuleQualifiedName, bc);
+//		putPredicate(VisitorEnum.ModuleQualifiedName, bs);
+//		putConsumer(VisitorEnum.ModuleQualifiedName, bc);
 //	}
 
 	/**
@@ -2985,8 +3068,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 
 	public void addRequiresDirective(BiPredicate<RequiresDirective, E> bs, BiConsumer<RequiresDirective, E> bc) {
-		predicatemap.put(VisitorEnum.RequiresDirective, bs);
-		consumermap.put(VisitorEnum.RequiresDirective, bc);
+		putPredicate(VisitorEnum.RequiresDirective, bs);
+		putConsumer(VisitorEnum.RequiresDirective, bc);
 	}
 
 	/**
@@ -2995,8 +3078,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addRecordDeclaration(BiPredicate<RecordDeclaration, E> bs, BiConsumer<RecordDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.RecordDeclaration, bs);
-		consumermap.put(VisitorEnum.RecordDeclaration, bc);
+		putPredicate(VisitorEnum.RecordDeclaration, bs);
+		putConsumer(VisitorEnum.RecordDeclaration, bc);
 	}
 
 	/**
@@ -3005,8 +3088,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addReturnStatement(BiPredicate<ReturnStatement, E> bs, BiConsumer<ReturnStatement, E> bc) {
-		predicatemap.put(VisitorEnum.ReturnStatement, bs);
-		consumermap.put(VisitorEnum.ReturnStatement, bc);
+		putPredicate(VisitorEnum.ReturnStatement, bs);
+		putConsumer(VisitorEnum.ReturnStatement, bc);
 	}
 
 	/**
@@ -3015,8 +3098,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addSimpleName(BiPredicate<SimpleName, E> bs, BiConsumer<SimpleName, E> bc) {
-		predicatemap.put(VisitorEnum.SimpleName, bs);
-		consumermap.put(VisitorEnum.SimpleName, bc);
+		putPredicate(VisitorEnum.SimpleName, bs);
+		putConsumer(VisitorEnum.SimpleName, bc);
 	}
 
 	/**
@@ -3025,8 +3108,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addSimpleType(BiPredicate<SimpleType, E> bs, BiConsumer<SimpleType, E> bc) {
-		predicatemap.put(VisitorEnum.SimpleType, bs);
-		consumermap.put(VisitorEnum.SimpleType, bc);
+		putPredicate(VisitorEnum.SimpleType, bs);
+		putConsumer(VisitorEnum.SimpleType, bc);
 	}
 
 	/**
@@ -3036,8 +3119,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addSingleMemberAnnotation(BiPredicate<SingleMemberAnnotation, E> bs,
 			BiConsumer<SingleMemberAnnotation, E> bc) {
-		predicatemap.put(VisitorEnum.SingleMemberAnnotation, bs);
-		consumermap.put(VisitorEnum.SingleMemberAnnotation, bc);
+		putPredicate(VisitorEnum.SingleMemberAnnotation, bs);
+		putConsumer(VisitorEnum.SingleMemberAnnotation, bc);
 	}
 
 	/**
@@ -3047,8 +3130,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addSingleVariableDeclaration(BiPredicate<SingleVariableDeclaration, E> bs,
 			BiConsumer<SingleVariableDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.SingleVariableDeclaration, bs);
-		consumermap.put(VisitorEnum.SingleVariableDeclaration, bc);
+		putPredicate(VisitorEnum.SingleVariableDeclaration, bs);
+		putConsumer(VisitorEnum.SingleVariableDeclaration, bc);
 	}
 
 	/**
@@ -3057,8 +3140,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addStringLiteral(BiPredicate<StringLiteral, E> bs, BiConsumer<StringLiteral, E> bc) {
-		predicatemap.put(VisitorEnum.StringLiteral, bs);
-		consumermap.put(VisitorEnum.StringLiteral, bc);
+		putPredicate(VisitorEnum.StringLiteral, bs);
+		putConsumer(VisitorEnum.StringLiteral, bc);
 	}
 
 	/**
@@ -3068,8 +3151,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addSuperConstructorInvocation(BiPredicate<SuperConstructorInvocation, E> bs,
 			BiConsumer<SuperConstructorInvocation, E> bc) {
-		predicatemap.put(VisitorEnum.SuperConstructorInvocation, bs);
-		consumermap.put(VisitorEnum.SuperConstructorInvocation, bc);
+		putPredicate(VisitorEnum.SuperConstructorInvocation, bs);
+		putConsumer(VisitorEnum.SuperConstructorInvocation, bc);
 	}
 
 	/**
@@ -3078,8 +3161,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addSuperFieldAccess(BiPredicate<SuperFieldAccess, E> bs, BiConsumer<SuperFieldAccess, E> bc) {
-		predicatemap.put(VisitorEnum.SuperFieldAccess, bs);
-		consumermap.put(VisitorEnum.SuperFieldAccess, bc);
+		putPredicate(VisitorEnum.SuperFieldAccess, bs);
+		putConsumer(VisitorEnum.SuperFieldAccess, bc);
 	}
 
 	/**
@@ -3089,8 +3172,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addSuperMethodInvocation(BiPredicate<SuperMethodInvocation, E> bs,
 			BiConsumer<SuperMethodInvocation, E> bc) {
-		predicatemap.put(VisitorEnum.SuperMethodInvocation, bs);
-		consumermap.put(VisitorEnum.SuperMethodInvocation, bc);
+		putPredicate(VisitorEnum.SuperMethodInvocation, bs);
+		putConsumer(VisitorEnum.SuperMethodInvocation, bc);
 	}
 
 	/**
@@ -3100,8 +3183,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addSuperMethodReference(BiPredicate<SuperMethodReference, E> bs,
 			BiConsumer<SuperMethodReference, E> bc) {
-		predicatemap.put(VisitorEnum.SuperMethodReference, bs);
-		consumermap.put(VisitorEnum.SuperMethodReference, bc);
+		putPredicate(VisitorEnum.SuperMethodReference, bs);
+		putConsumer(VisitorEnum.SuperMethodReference, bc);
 	}
 
 	/**
@@ -3110,8 +3193,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addSwitchCase(BiPredicate<SwitchCase, E> bs, BiConsumer<SwitchCase, E> bc) {
-		predicatemap.put(VisitorEnum.SwitchCase, bs);
-		consumermap.put(VisitorEnum.SwitchCase, bc);
+		putPredicate(VisitorEnum.SwitchCase, bs);
+		putConsumer(VisitorEnum.SwitchCase, bc);
 	}
 
 	/**
@@ -3120,8 +3203,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addSwitchExpression(BiPredicate<SwitchExpression, E> bs, BiConsumer<SwitchExpression, E> bc) {
-		predicatemap.put(VisitorEnum.SwitchExpression, bs);
-		consumermap.put(VisitorEnum.SwitchExpression, bc);
+		putPredicate(VisitorEnum.SwitchExpression, bs);
+		putConsumer(VisitorEnum.SwitchExpression, bc);
 	}
 
 	/**
@@ -3130,8 +3213,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addSwitchStatement(BiPredicate<SwitchStatement, E> bs, BiConsumer<SwitchStatement, E> bc) {
-		predicatemap.put(VisitorEnum.SwitchStatement, bs);
-		consumermap.put(VisitorEnum.SwitchStatement, bc);
+		putPredicate(VisitorEnum.SwitchStatement, bs);
+		putConsumer(VisitorEnum.SwitchStatement, bc);
 	}
 
 	/**
@@ -3141,8 +3224,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addSynchronizedStatement(BiPredicate<SynchronizedStatement, E> bs,
 			BiConsumer<SynchronizedStatement, E> bc) {
-		predicatemap.put(VisitorEnum.SynchronizedStatement, bs);
-		consumermap.put(VisitorEnum.SynchronizedStatement, bc);
+		putPredicate(VisitorEnum.SynchronizedStatement, bs);
+		putConsumer(VisitorEnum.SynchronizedStatement, bc);
 	}
 
 	/**
@@ -3151,8 +3234,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTagElement(BiPredicate<TagElement, E> bs, BiConsumer<TagElement, E> bc) {
-		predicatemap.put(VisitorEnum.TagElement, bs);
-		consumermap.put(VisitorEnum.TagElement, bc);
+		putPredicate(VisitorEnum.TagElement, bs);
+		putConsumer(VisitorEnum.TagElement, bc);
 	}
 
 	/**
@@ -3161,8 +3244,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTextBlock(BiPredicate<TextBlock, E> bs, BiConsumer<TextBlock, E> bc) {
-		predicatemap.put(VisitorEnum.TextBlock, bs);
-		consumermap.put(VisitorEnum.TextBlock, bc);
+		putPredicate(VisitorEnum.TextBlock, bs);
+		putConsumer(VisitorEnum.TextBlock, bc);
 	}
 
 	/**
@@ -3171,8 +3254,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTextElement(BiPredicate<TextElement, E> bs, BiConsumer<TextElement, E> bc) {
-		predicatemap.put(VisitorEnum.TextElement, bs);
-		consumermap.put(VisitorEnum.TextElement, bc);
+		putPredicate(VisitorEnum.TextElement, bs);
+		putConsumer(VisitorEnum.TextElement, bc);
 	}
 
 	/**
@@ -3181,8 +3264,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addThisExpression(BiPredicate<ThisExpression, E> bs, BiConsumer<ThisExpression, E> bc) {
-		predicatemap.put(VisitorEnum.ThisExpression, bs);
-		consumermap.put(VisitorEnum.ThisExpression, bc);
+		putPredicate(VisitorEnum.ThisExpression, bs);
+		putConsumer(VisitorEnum.ThisExpression, bc);
 	}
 
 	/**
@@ -3191,8 +3274,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addThrowStatement(BiPredicate<ThrowStatement, E> bs, BiConsumer<ThrowStatement, E> bc) {
-		predicatemap.put(VisitorEnum.ThrowStatement, bs);
-		consumermap.put(VisitorEnum.ThrowStatement, bc);
+		putPredicate(VisitorEnum.ThrowStatement, bs);
+		putConsumer(VisitorEnum.ThrowStatement, bc);
 	}
 
 	/**
@@ -3201,8 +3284,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTryStatement(BiPredicate<TryStatement, E> bs, BiConsumer<TryStatement, E> bc) {
-		predicatemap.put(VisitorEnum.TryStatement, bs);
-		consumermap.put(VisitorEnum.TryStatement, bc);
+		putPredicate(VisitorEnum.TryStatement, bs);
+		putConsumer(VisitorEnum.TryStatement, bc);
 	}
 
 	/**
@@ -3211,8 +3294,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTypeDeclaration(BiPredicate<TypeDeclaration, E> bs, BiConsumer<TypeDeclaration, E> bc) {
-		predicatemap.put(VisitorEnum.TypeDeclaration, bs);
-		consumermap.put(VisitorEnum.TypeDeclaration, bc);
+		putPredicate(VisitorEnum.TypeDeclaration, bs);
+		putConsumer(VisitorEnum.TypeDeclaration, bc);
 	}
 
 	/**
@@ -3222,8 +3305,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addTypeDeclarationStatement(BiPredicate<TypeDeclarationStatement, E> bs,
 			BiConsumer<TypeDeclarationStatement, E> bc) {
-		predicatemap.put(VisitorEnum.TypeDeclarationStatement, bs);
-		consumermap.put(VisitorEnum.TypeDeclarationStatement, bc);
+		putPredicate(VisitorEnum.TypeDeclarationStatement, bs);
+		putConsumer(VisitorEnum.TypeDeclarationStatement, bc);
 	}
 
 	/**
@@ -3232,8 +3315,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTypeLiteral(BiPredicate<TypeLiteral, E> bs, BiConsumer<TypeLiteral, E> bc) {
-		predicatemap.put(VisitorEnum.TypeLiteral, bs);
-		consumermap.put(VisitorEnum.TypeLiteral, bc);
+		putPredicate(VisitorEnum.TypeLiteral, bs);
+		putConsumer(VisitorEnum.TypeLiteral, bc);
 	}
 
 	/**
@@ -3242,8 +3325,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTypeMethodReference(BiPredicate<TypeMethodReference, E> bs, BiConsumer<TypeMethodReference, E> bc) {
-		predicatemap.put(VisitorEnum.TypeMethodReference, bs);
-		consumermap.put(VisitorEnum.TypeMethodReference, bc);
+		putPredicate(VisitorEnum.TypeMethodReference, bs);
+		putConsumer(VisitorEnum.TypeMethodReference, bc);
 	}
 
 	/**
@@ -3252,8 +3335,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addTypeParameter(BiPredicate<TypeParameter, E> bs, BiConsumer<TypeParameter, E> bc) {
-		predicatemap.put(VisitorEnum.TypeParameter, bs);
-		consumermap.put(VisitorEnum.TypeParameter, bc);
+		putPredicate(VisitorEnum.TypeParameter, bs);
+		putConsumer(VisitorEnum.TypeParameter, bc);
 	}
 
 	/**
@@ -3262,8 +3345,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addUnionType(BiPredicate<UnionType, E> bs, BiConsumer<UnionType, E> bc) {
-		predicatemap.put(VisitorEnum.UnionType, bs);
-		consumermap.put(VisitorEnum.UnionType, bc);
+		putPredicate(VisitorEnum.UnionType, bs);
+		putConsumer(VisitorEnum.UnionType, bc);
 	}
 
 	/**
@@ -3272,8 +3355,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addUsesDirective(BiPredicate<UsesDirective, E> bs, BiConsumer<UsesDirective, E> bc) {
-		predicatemap.put(VisitorEnum.UsesDirective, bs);
-		consumermap.put(VisitorEnum.UsesDirective, bc);
+		putPredicate(VisitorEnum.UsesDirective, bs);
+		putConsumer(VisitorEnum.UsesDirective, bc);
 	}
 
 	/**
@@ -3283,8 +3366,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addVariableDeclarationExpression(BiPredicate<VariableDeclarationExpression, E> bs,
 			BiConsumer<VariableDeclarationExpression, E> bc) {
-		predicatemap.put(VisitorEnum.VariableDeclarationExpression, bs);
-		consumermap.put(VisitorEnum.VariableDeclarationExpression, bc);
+		putPredicate(VisitorEnum.VariableDeclarationExpression, bs);
+		putConsumer(VisitorEnum.VariableDeclarationExpression, bc);
 	}
 
 	/**
@@ -3294,8 +3377,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addVariableDeclarationStatement(BiPredicate<VariableDeclarationStatement, E> bs,
 			BiConsumer<VariableDeclarationStatement, E> bc) {
-		predicatemap.put(VisitorEnum.VariableDeclarationStatement, bs);
-		consumermap.put(VisitorEnum.VariableDeclarationStatement, bc);
+		putPredicate(VisitorEnum.VariableDeclarationStatement, bs);
+		putConsumer(VisitorEnum.VariableDeclarationStatement, bc);
 	}
 
 	/**
@@ -3308,8 +3391,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 			BiConsumer<VariableDeclarationStatement, E> bc) {
 		predicatedata.put(VisitorEnum.VariableDeclarationStatement, class1);
 		consumerdata.put(VisitorEnum.VariableDeclarationStatement, class1);
-		predicatemap.put(VisitorEnum.VariableDeclarationStatement, bs);
-		consumermap.put(VisitorEnum.VariableDeclarationStatement, bc);
+		putPredicate(VisitorEnum.VariableDeclarationStatement, bs);
+		putConsumer(VisitorEnum.VariableDeclarationStatement, bc);
 	}
 
 	/**
@@ -3319,8 +3402,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 */
 	public void addVariableDeclarationFragment(BiPredicate<VariableDeclarationFragment, E> bs,
 			BiConsumer<VariableDeclarationFragment, E> bc) {
-		predicatemap.put(VisitorEnum.VariableDeclarationFragment, bs);
-		consumermap.put(VisitorEnum.VariableDeclarationFragment, bc);
+		putPredicate(VisitorEnum.VariableDeclarationFragment, bs);
+		putConsumer(VisitorEnum.VariableDeclarationFragment, bc);
 	}
 
 	/**
@@ -3329,8 +3412,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addWhileStatement(BiPredicate<WhileStatement, E> bs, BiConsumer<WhileStatement, E> bc) {
-		predicatemap.put(VisitorEnum.WhileStatement, bs);
-		consumermap.put(VisitorEnum.WhileStatement, bc);
+		putPredicate(VisitorEnum.WhileStatement, bs);
+		putConsumer(VisitorEnum.WhileStatement, bc);
 	}
 
 	/**
@@ -3339,8 +3422,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addWildcardType(BiPredicate<WildcardType, E> bs, BiConsumer<WildcardType, E> bc) {
-		predicatemap.put(VisitorEnum.WildcardType, bs);
-		consumermap.put(VisitorEnum.WildcardType, bc);
+		putPredicate(VisitorEnum.WildcardType, bs);
+		putConsumer(VisitorEnum.WildcardType, bc);
 	}
 
 	/**
@@ -3349,8 +3432,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 	public void addYieldStatement(BiPredicate<YieldStatement, E> bs, BiConsumer<YieldStatement, E> bc) {
-		predicatemap.put(VisitorEnum.YieldStatement, bs);
-		consumermap.put(VisitorEnum.YieldStatement, bc);
+		putPredicate(VisitorEnum.YieldStatement, bs);
+		putConsumer(VisitorEnum.YieldStatement, bc);
 	}
 
 
@@ -8983,6 +9066,9 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		this.consumerdata.clear();
 		this.predicatemap.clear();
 		this.predicatedata.clear();
+		Arrays.fill(this.predicates, null);
+		Arrays.fill(this.consumers, null);
+		Arrays.fill(this.registeredNodeTypes, 0L);
 	}
 
 }
@@ -46,37 +46,39 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 		this.helperVisitor = helperVisitor;
 	}
 
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		return this.helperVisitor.mayMatch(node.getNodeType());
+	}
+
 	@Override
 	public boolean visit(AnnotationTypeDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.AnnotationTypeDeclaration)) {
-			return ((BiPredicate<AnnotationTypeDeclaration, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.AnnotationTypeDeclaration))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.AnnotationTypeDeclaration)) {
+			return ((BiPredicate<AnnotationTypeDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.AnnotationTypeDeclaration))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(AnnotationTypeMemberDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.AnnotationTypeMemberDeclaration)) {
-			return ((BiPredicate<AnnotationTypeMemberDeclaration, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.AnnotationTypeMemberDeclaration))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.AnnotationTypeMemberDeclaration)) {
+			return ((BiPredicate<AnnotationTypeMemberDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.AnnotationTypeMemberDeclaration))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(AnonymousClassDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.AnonymousClassDeclaration)) {
-			return ((BiPredicate<AnonymousClassDeclaration, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.AnonymousClassDeclaration))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.AnonymousClassDeclaration)) {
+			return ((BiPredicate<AnonymousClassDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.AnonymousClassDeclaration))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(ArrayAccess node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ArrayAccess)) {
-			return ((BiPredicate<ArrayAccess, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ArrayAccess)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ArrayAccess)) {
+			return ((BiPredicate<ArrayAccess, E>) (this.helperVisitor.getPredicate(VisitorEnum.ArrayAccess)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -84,8 +86,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ArrayCreation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ArrayCreation)) {
-			return ((BiPredicate<ArrayCreation, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ArrayCreation)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ArrayCreation)) {
+			return ((BiPredicate<ArrayCreation, E>) (this.helperVisitor.getPredicate(VisitorEnum.ArrayCreation)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -93,8 +95,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ArrayInitializer node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ArrayInitializer)) {
-			return ((BiPredicate<ArrayInitializer, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ArrayInitializer)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ArrayInitializer)) {
+			return ((BiPredicate<ArrayInitializer, E>) (this.helperVisitor.getPredicate(VisitorEnum.ArrayInitializer)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -102,8 +104,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ArrayType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ArrayType)) {
-			return ((BiPredicate<ArrayType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ArrayType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ArrayType)) {
+			return ((BiPredicate<ArrayType, E>) (this.helperVisitor.getPredicate(VisitorEnum.ArrayType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -111,8 +113,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(AssertStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.AssertStatement)) {
-			return ((BiPredicate<AssertStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.AssertStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.AssertStatement)) {
+			return ((BiPredicate<AssertStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.AssertStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -120,8 +122,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(Assignment node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.Assignment)) {
-			return ((BiPredicate<Assignment, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.Assignment)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.Assignment)) {
+			return ((BiPredicate<Assignment, E>) (this.helperVisitor.getPredicate(VisitorEnum.Assignment)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -129,8 +131,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(Block node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.Block)) {
-			return ((BiPredicate<Block, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.Block))).test(node, this.helperVisitor.dataholder)
+		if (this.helperVisitor.hasPredicate(VisitorEnum.Block)) {
+			return ((BiPredicate<Block, E>) (this.helperVisitor.getPredicate(VisitorEnum.Block))).test(node, this.helperVisitor.dataholder)
 					;
 		}
 		return true;
@@ -138,8 +140,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(BlockComment node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.BlockComment)) {
-			return ((BiPredicate<BlockComment, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.BlockComment)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.BlockComment)) {
+			return ((BiPredicate<BlockComment, E>) (this.helperVisitor.getPredicate(VisitorEnum.BlockComment)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -147,8 +149,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(BooleanLiteral node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.BooleanLiteral)) {
-			return ((BiPredicate<BooleanLiteral, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.BooleanLiteral)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.BooleanLiteral)) {
+			return ((BiPredicate<BooleanLiteral, E>) (this.helperVisitor.getPredicate(VisitorEnum.BooleanLiteral)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -156,8 +158,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(BreakStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.BreakStatement)) {
-			return ((BiPredicate<BreakStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.BreakStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.BreakStatement)) {
+			return ((BiPredicate<BreakStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.BreakStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -165,8 +167,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(CastExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.CastExpression)) {
-			return ((BiPredicate<CastExpression, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.CastExpression)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.CastExpression)) {
+			return ((BiPredicate<CastExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.CastExpression)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -174,8 +176,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(CatchClause node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.CatchClause)) {
-			return ((BiPredicate<CatchClause, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.CatchClause)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.CatchClause)) {
+			return ((BiPredicate<CatchClause, E>) (this.helperVisitor.getPredicate(VisitorEnum.CatchClause)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -183,8 +185,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(CharacterLiteral node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.CharacterLiteral)) {
-			return ((BiPredicate<CharacterLiteral, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.CharacterLiteral)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.CharacterLiteral)) {
+			return ((BiPredicate<CharacterLiteral, E>) (this.helperVisitor.getPredicate(VisitorEnum.CharacterLiteral)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -192,17 +194,16 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ClassInstanceCreation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ClassInstanceCreation)) {
-			return ((BiPredicate<ClassInstanceCreation, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.ClassInstanceCreation))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ClassInstanceCreation)) {
+			return ((BiPredicate<ClassInstanceCreation, E>) (this.helperVisitor.getPredicate(VisitorEnum.ClassInstanceCreation))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(CompilationUnit node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.CompilationUnit)) {
-			return ((BiPredicate<CompilationUnit, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.CompilationUnit)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.CompilationUnit)) {
+			return ((BiPredicate<CompilationUnit, E>) (this.helperVisitor.getPredicate(VisitorEnum.CompilationUnit)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -210,26 +211,24 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ConditionalExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ConditionalExpression)) {
-			return ((BiPredicate<ConditionalExpression, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.ConditionalExpression))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ConditionalExpression)) {
+			return ((BiPredicate<ConditionalExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.ConditionalExpression))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(ConstructorInvocation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ConstructorInvocation)) {
-			return ((BiPredicate<ConstructorInvocation, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.ConstructorInvocation))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ConstructorInvocation)) {
+			return ((BiPredicate<ConstructorInvocation, E>) (this.helperVisitor.getPredicate(VisitorEnum.ConstructorInvocation))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(ContinueStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ContinueStatement)) {
-			return ((BiPredicate<ContinueStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ContinueStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ContinueStatement)) {
+			return ((BiPredicate<ContinueStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.ContinueStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -237,8 +236,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(CreationReference node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.CreationReference)) {
-			return ((BiPredicate<CreationReference, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.CreationReference)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.CreationReference)) {
+			return ((BiPredicate<CreationReference, E>) (this.helperVisitor.getPredicate(VisitorEnum.CreationReference)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -246,8 +245,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(Dimension node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.Dimension)) {
-			return ((BiPredicate<Dimension, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.Dimension)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.Dimension)) {
+			return ((BiPredicate<Dimension, E>) (this.helperVisitor.getPredicate(VisitorEnum.Dimension)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -255,8 +254,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(DoStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.DoStatement)) {
-			return ((BiPredicate<DoStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.DoStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.DoStatement)) {
+			return ((BiPredicate<DoStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.DoStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -264,8 +263,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(EmptyStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.EmptyStatement)) {
-			return ((BiPredicate<EmptyStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.EmptyStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.EmptyStatement)) {
+			return ((BiPredicate<EmptyStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.EmptyStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -273,26 +272,24 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(EnhancedForStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.EnhancedForStatement)) {
-			return ((BiPredicate<EnhancedForStatement, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.EnhancedForStatement))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.EnhancedForStatement)) {
+			return ((BiPredicate<EnhancedForStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.EnhancedForStatement))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(EnumConstantDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.EnumConstantDeclaration)) {
-			return ((BiPredicate<EnumConstantDeclaration, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.EnumConstantDeclaration))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.EnumConstantDeclaration)) {
+			return ((BiPredicate<EnumConstantDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.EnumConstantDeclaration))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(EnumDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.EnumDeclaration)) {
-			return ((BiPredicate<EnumDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.EnumDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.EnumDeclaration)) {
+			return ((BiPredicate<EnumDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.EnumDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -300,8 +297,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ExportsDirective node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ExportsDirective)) {
-			return ((BiPredicate<ExportsDirective, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ExportsDirective)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ExportsDirective)) {
+			return ((BiPredicate<ExportsDirective, E>) (this.helperVisitor.getPredicate(VisitorEnum.ExportsDirective)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -309,26 +306,24 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ExpressionMethodReference node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.BreakStatement)) {
-			return ((BiPredicate<ExpressionMethodReference, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.ExpressionMethodReference))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.BreakStatement)) {
+			return ((BiPredicate<ExpressionMethodReference, E>) (this.helperVisitor.getPredicate(VisitorEnum.ExpressionMethodReference))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(ExpressionStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ExpressionStatement)) {
-			return ((BiPredicate<ExpressionStatement, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.ExpressionStatement))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ExpressionStatement)) {
+			return ((BiPredicate<ExpressionStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.ExpressionStatement))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(FieldAccess node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.FieldAccess)) {
-			return ((BiPredicate<FieldAccess, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.FieldAccess)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.FieldAccess)) {
+			return ((BiPredicate<FieldAccess, E>) (this.helperVisitor.getPredicate(VisitorEnum.FieldAccess)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -336,8 +331,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(FieldDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.FieldDeclaration)) {
-			return ((BiPredicate<FieldDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.FieldDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.FieldDeclaration)) {
+			return ((BiPredicate<FieldDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.FieldDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -345,8 +340,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ForStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ForStatement)) {
-			return ((BiPredicate<ForStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ForStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ForStatement)) {
+			return ((BiPredicate<ForStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.ForStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -354,8 +349,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(IfStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.IfStatement)) {
-			return ((BiPredicate<IfStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.IfStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.IfStatement)) {
+			return ((BiPredicate<IfStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.IfStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -363,8 +358,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ImportDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ImportDeclaration)) {
-			return ((BiPredicate<ImportDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ImportDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ImportDeclaration)) {
+			return ((BiPredicate<ImportDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.ImportDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -372,8 +367,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(InfixExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.InfixExpression)) {
-			return ((BiPredicate<InfixExpression, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.InfixExpression)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.InfixExpression)) {
+			return ((BiPredicate<InfixExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.InfixExpression)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -381,8 +376,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(Initializer node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.Initializer)) {
-			return ((BiPredicate<Initializer, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.Initializer)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.Initializer)) {
+			return ((BiPredicate<Initializer, E>) (this.helperVisitor.getPredicate(VisitorEnum.Initializer)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -390,17 +385,16 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(InstanceofExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.InstanceofExpression)) {
-			return ((BiPredicate<InstanceofExpression, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.InstanceofExpression))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.InstanceofExpression)) {
+			return ((BiPredicate<InstanceofExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.InstanceofExpression))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(IntersectionType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.IntersectionType)) {
-			return ((BiPredicate<IntersectionType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.IntersectionType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.IntersectionType)) {
+			return ((BiPredicate<IntersectionType, E>) (this.helperVisitor.getPredicate(VisitorEnum.IntersectionType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -408,8 +402,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(Javadoc node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.Javadoc)) {
-			return ((BiPredicate<Javadoc, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.Javadoc)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.Javadoc)) {
+			return ((BiPredicate<Javadoc, E>) (this.helperVisitor.getPredicate(VisitorEnum.Javadoc)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -417,8 +411,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(LabeledStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.LabeledStatement)) {
-			return ((BiPredicate<LabeledStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.LabeledStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.LabeledStatement)) {
+			return ((BiPredicate<LabeledStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.LabeledStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -426,8 +420,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(LambdaExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.LambdaExpression)) {
-			return ((BiPredicate<LambdaExpression, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.LambdaExpression)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.LambdaExpression)) {
+			return ((BiPredicate<LambdaExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.LambdaExpression)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -435,8 +429,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(LineComment node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.LineComment)) {
-			return ((BiPredicate<LineComment, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.LineComment)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.LineComment)) {
+			return ((BiPredicate<LineComment, E>) (this.helperVisitor.getPredicate(VisitorEnum.LineComment)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -444,8 +438,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(MarkerAnnotation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.MarkerAnnotation)) {
-			return ((BiPredicate<MarkerAnnotation, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.MarkerAnnotation)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.MarkerAnnotation)) {
+			return ((BiPredicate<MarkerAnnotation, E>) (this.helperVisitor.getPredicate(VisitorEnum.MarkerAnnotation)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -453,8 +447,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(MemberRef node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.MemberRef)) {
-			return ((BiPredicate<MemberRef, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.MemberRef)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.MemberRef)) {
+			return ((BiPredicate<MemberRef, E>) (this.helperVisitor.getPredicate(VisitorEnum.MemberRef)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -462,8 +456,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(MemberValuePair node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.MemberValuePair)) {
-			return ((BiPredicate<MemberValuePair, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.MemberValuePair)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.MemberValuePair)) {
+			return ((BiPredicate<MemberValuePair, E>) (this.helperVisitor.getPredicate(VisitorEnum.MemberValuePair)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -471,8 +465,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(MethodRef node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.MethodRef)) {
-			return ((BiPredicate<MethodRef, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.MethodRef)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.MethodRef)) {
+			return ((BiPredicate<MethodRef, E>) (this.helperVisitor.getPredicate(VisitorEnum.MethodRef)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -480,8 +474,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(MethodRefParameter node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.MethodRefParameter)) {
-			return ((BiPredicate<MethodRefParameter, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.MethodRefParameter)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.MethodRefParameter)) {
+			return ((BiPredicate<MethodRefParameter, E>) (this.helperVisitor.getPredicate(VisitorEnum.MethodRefParameter)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -489,8 +483,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(MethodDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.MethodDeclaration)) {
-			return ((BiPredicate<MethodDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.MethodDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.MethodDeclaration)) {
+			return ((BiPredicate<MethodDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.MethodDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -498,20 +492,20 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(MethodInvocation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.MethodInvocation)) {
+		if (this.helperVisitor.hasPredicate(VisitorEnum.MethodInvocation)) {
 			String data=(String) this.helperVisitor.getSupplierData().get(VisitorEnum.MethodInvocation);
 			if (data!= null && !node.getName().getIdentifier().equals(data)) {
 				return true;
 			}
-			return ((BiPredicate<MethodInvocation, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.MethodInvocation))).test(node, this.helperVisitor.dataholder);
+			return ((BiPredicate<MethodInvocation, E>) (this.helperVisitor.getPredicate(VisitorEnum.MethodInvocation))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(Modifier node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.Modifier)) {
-			return ((BiPredicate<Modifier, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.Modifier)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.Modifier)) {
+			return ((BiPredicate<Modifier, E>) (this.helperVisitor.getPredicate(VisitorEnum.Modifier)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -519,8 +513,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ModuleDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ModuleDeclaration)) {
-			return ((BiPredicate<ModuleDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ModuleDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ModuleDeclaration)) {
+			return ((BiPredicate<ModuleDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.ModuleDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -528,8 +522,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ModuleModifier node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ModuleModifier)) {
-			return ((BiPredicate<ModuleModifier, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ModuleModifier)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ModuleModifier)) {
+			return ((BiPredicate<ModuleModifier, E>) (this.helperVisitor.getPredicate(VisitorEnum.ModuleModifier)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -537,8 +531,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(NameQualifiedType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.NameQualifiedType)) {
-			return ((BiPredicate<NameQualifiedType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.NameQualifiedType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.NameQualifiedType)) {
+			return ((BiPredicate<NameQualifiedType, E>) (this.helperVisitor.getPredicate(VisitorEnum.NameQualifiedType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -546,8 +540,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(NormalAnnotation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.NormalAnnotation)) {
-			return ((BiPredicate<NormalAnnotation, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.NormalAnnotation)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.NormalAnnotation)) {
+			return ((BiPredicate<NormalAnnotation, E>) (this.helperVisitor.getPredicate(VisitorEnum.NormalAnnotation)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -555,8 +549,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(NullLiteral node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.NullLiteral)) {
-			return ((BiPredicate<NullLiteral, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.NullLiteral)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.NullLiteral)) {
+			return ((BiPredicate<NullLiteral, E>) (this.helperVisitor.getPredicate(VisitorEnum.NullLiteral)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -564,8 +558,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(NumberLiteral node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.NumberLiteral)) {
-			return ((BiPredicate<NumberLiteral, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.NumberLiteral)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.NumberLiteral)) {
+			return ((BiPredicate<NumberLiteral, E>) (this.helperVisitor.getPredicate(VisitorEnum.NumberLiteral)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -573,8 +567,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(OpensDirective node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.OpensDirective)) {
-			return ((BiPredicate<OpensDirective, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.OpensDirective)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.OpensDirective)) {
+			return ((BiPredicate<OpensDirective, E>) (this.helperVisitor.getPredicate(VisitorEnum.OpensDirective)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -582,8 +576,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(PackageDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.PackageDeclaration)) {
-			return ((BiPredicate<PackageDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.PackageDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.PackageDeclaration)) {
+			return ((BiPredicate<PackageDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.PackageDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -591,8 +585,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ParameterizedType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ParameterizedType)) {
-			return ((BiPredicate<ParameterizedType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ParameterizedType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ParameterizedType)) {
+			return ((BiPredicate<ParameterizedType, E>) (this.helperVisitor.getPredicate(VisitorEnum.ParameterizedType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -600,26 +594,24 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ParenthesizedExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ParenthesizedExpression)) {
-			return ((BiPredicate<ParenthesizedExpression, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.ParenthesizedExpression))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ParenthesizedExpression)) {
+			return ((BiPredicate<ParenthesizedExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.ParenthesizedExpression))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(PatternInstanceofExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.PatternInstanceofExpression)) {
-			return ((BiPredicate<PatternInstanceofExpression, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.PatternInstanceofExpression))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.PatternInstanceofExpression)) {
+			return ((BiPredicate<PatternInstanceofExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.PatternInstanceofExpression))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(PostfixExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.PostfixExpression)) {
-			return ((BiPredicate<PostfixExpression, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.PostfixExpression)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.PostfixExpression)) {
+			return ((BiPredicate<PostfixExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.PostfixExpression)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -627,8 +619,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(PrefixExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.PrefixExpression)) {
-			return ((BiPredicate<PrefixExpression, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.PrefixExpression)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.PrefixExpression)) {
+			return ((BiPredicate<PrefixExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.PrefixExpression)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -636,8 +628,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ProvidesDirective node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ProvidesDirective)) {
-			return ((BiPredicate<ProvidesDirective, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ProvidesDirective)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ProvidesDirective)) {
+			return ((BiPredicate<ProvidesDirective, E>) (this.helperVisitor.getPredicate(VisitorEnum.ProvidesDirective)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -645,8 +637,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(PrimitiveType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.PrimitiveType)) {
-			return ((BiPredicate<PrimitiveType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.PrimitiveType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.PrimitiveType)) {
+			return ((BiPredicate<PrimitiveType, E>) (this.helperVisitor.getPredicate(VisitorEnum.PrimitiveType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -654,8 +646,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(QualifiedName node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.QualifiedName)) {
-			return ((BiPredicate<QualifiedName, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.QualifiedName)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.QualifiedName)) {
+			return ((BiPredicate<QualifiedName, E>) (this.helperVisitor.getPredicate(VisitorEnum.QualifiedName)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -663,8 +655,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(QualifiedType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.QualifiedType)) {
-			return ((BiPredicate<QualifiedType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.QualifiedType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.QualifiedType)) {
+			return ((BiPredicate<QualifiedType, E>) (this.helperVisitor.getPredicate(VisitorEnum.QualifiedType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -672,8 +664,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 //	@Override
 //	public boolean visit(ModuleQualifiedName node) {
-//		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ModuleQualifiedName)) {
-//			return ((BiPredicate<ModuleQualifiedName, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ModuleQualifiedName)))
+//		if (this.helperVisitor.hasPredicate(VisitorEnum.ModuleQualifiedName)) {
+//			return ((BiPredicate<ModuleQualifiedName, E>) (this.helperVisitor.getPredicate(VisitorEnum.ModuleQualifiedName)))
 //					.test(node, this.helperVisitor.dataholder);
 //		}
 //		return true;
@@ -681,8 +673,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(RequiresDirective node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.RequiresDirective)) {
-			return ((BiPredicate<RequiresDirective, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.RequiresDirective)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.RequiresDirective)) {
+			return ((BiPredicate<RequiresDirective, E>) (this.helperVisitor.getPredicate(VisitorEnum.RequiresDirective)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -690,8 +682,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(RecordDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.RecordDeclaration)) {
-			return ((BiPredicate<RecordDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.RecordDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.RecordDeclaration)) {
+			return ((BiPredicate<RecordDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.RecordDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -699,8 +691,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ReturnStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ReturnStatement)) {
-			return ((BiPredicate<ReturnStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ReturnStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ReturnStatement)) {
+			return ((BiPredicate<ReturnStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.ReturnStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -708,8 +700,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SimpleName node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SimpleName)) {
-			return ((BiPredicate<SimpleName, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.SimpleName)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SimpleName)) {
+			return ((BiPredicate<SimpleName, E>) (this.helperVisitor.getPredicate(VisitorEnum.SimpleName)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -717,8 +709,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SimpleType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SimpleType)) {
-			return ((BiPredicate<SimpleType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.SimpleType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SimpleType)) {
+			return ((BiPredicate<SimpleType, E>) (this.helperVisitor.getPredicate(VisitorEnum.SimpleType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -726,26 +718,24 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SingleMemberAnnotation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SingleMemberAnnotation)) {
-			return ((BiPredicate<SingleMemberAnnotation, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.SingleMemberAnnotation))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SingleMemberAnnotation)) {
+			return ((BiPredicate<SingleMemberAnnotation, E>) (this.helperVisitor.getPredicate(VisitorEnum.SingleMemberAnnotation))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(SingleVariableDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SingleVariableDeclaration)) {
-			return ((BiPredicate<SingleVariableDeclaration, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.SingleVariableDeclaration))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SingleVariableDeclaration)) {
+			return ((BiPredicate<SingleVariableDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.SingleVariableDeclaration))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(StringLiteral node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.StringLiteral)) {
-			return ((BiPredicate<StringLiteral, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.StringLiteral)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.StringLiteral)) {
+			return ((BiPredicate<StringLiteral, E>) (this.helperVisitor.getPredicate(VisitorEnum.StringLiteral)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -753,17 +743,16 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SuperConstructorInvocation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SuperConstructorInvocation)) {
-			return ((BiPredicate<SuperConstructorInvocation, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.SuperConstructorInvocation))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SuperConstructorInvocation)) {
+			return ((BiPredicate<SuperConstructorInvocation, E>) (this.helperVisitor.getPredicate(VisitorEnum.SuperConstructorInvocation))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(SuperFieldAccess node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SuperFieldAccess)) {
-			return ((BiPredicate<SuperFieldAccess, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.SuperFieldAccess)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SuperFieldAccess)) {
+			return ((BiPredicate<SuperFieldAccess, E>) (this.helperVisitor.getPredicate(VisitorEnum.SuperFieldAccess)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -771,26 +760,24 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SuperMethodInvocation node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SuperMethodInvocation)) {
-			return ((BiPredicate<SuperMethodInvocation, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.SuperMethodInvocation))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SuperMethodInvocation)) {
+			return ((BiPredicate<SuperMethodInvocation, E>) (this.helperVisitor.getPredicate(VisitorEnum.SuperMethodInvocation))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(SuperMethodReference node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SuperMethodReference)) {
-			return ((BiPredicate<SuperMethodReference, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.SuperMethodReference))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SuperMethodReference)) {
+			return ((BiPredicate<SuperMethodReference, E>) (this.helperVisitor.getPredicate(VisitorEnum.SuperMethodReference))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(SwitchCase node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SwitchCase)) {
-			return ((BiPredicate<SwitchCase, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.SwitchCase)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SwitchCase)) {
+			return ((BiPredicate<SwitchCase, E>) (this.helperVisitor.getPredicate(VisitorEnum.SwitchCase)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -798,8 +785,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SwitchExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SwitchExpression)) {
-			return ((BiPredicate<SwitchExpression, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.SwitchExpression)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SwitchExpression)) {
+			return ((BiPredicate<SwitchExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.SwitchExpression)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -807,8 +794,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SwitchStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SwitchStatement)) {
-			return ((BiPredicate<SwitchStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.SwitchStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SwitchStatement)) {
+			return ((BiPredicate<SwitchStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.SwitchStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -816,17 +803,16 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(SynchronizedStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.SynchronizedStatement)) {
-			return ((BiPredicate<SynchronizedStatement, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.SynchronizedStatement))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.SynchronizedStatement)) {
+			return ((BiPredicate<SynchronizedStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.SynchronizedStatement))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(TagElement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TagElement)) {
-			return ((BiPredicate<TagElement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.TagElement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TagElement)) {
+			return ((BiPredicate<TagElement, E>) (this.helperVisitor.getPredicate(VisitorEnum.TagElement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -834,8 +820,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(TextBlock node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TextBlock)) {
-			return ((BiPredicate<TextBlock, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.TextBlock)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TextBlock)) {
+			return ((BiPredicate<TextBlock, E>) (this.helperVisitor.getPredicate(VisitorEnum.TextBlock)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -843,8 +829,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(TextElement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TextElement)) {
-			return ((BiPredicate<TextElement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.TextElement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TextElement)) {
+			return ((BiPredicate<TextElement, E>) (this.helperVisitor.getPredicate(VisitorEnum.TextElement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -852,8 +838,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ThisExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ThisExpression)) {
-			return ((BiPredicate<ThisExpression, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ThisExpression)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ThisExpression)) {
+			return ((BiPredicate<ThisExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.ThisExpression)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -861,8 +847,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(ThrowStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.ThrowStatement)) {
-			return ((BiPredicate<ThrowStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.ThrowStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.ThrowStatement)) {
+			return ((BiPredicate<ThrowStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.ThrowStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -870,8 +856,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(TryStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TryStatement)) {
-			return ((BiPredicate<TryStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.TryStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TryStatement)) {
+			return ((BiPredicate<TryStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.TryStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -879,8 +865,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(TypeDeclaration node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TypeDeclaration)) {
-			return ((BiPredicate<TypeDeclaration, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.TypeDeclaration)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TypeDeclaration)) {
+			return ((BiPredicate<TypeDeclaration, E>) (this.helperVisitor.getPredicate(VisitorEnum.TypeDeclaration)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -888,17 +874,16 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(TypeDeclarationStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TypeDeclarationStatement)) {
-			return ((BiPredicate<TypeDeclarationStatement, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.TypeDeclarationStatement))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TypeDeclarationStatement)) {
+			return ((BiPredicate<TypeDeclarationStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.TypeDeclarationStatement))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(TypeLiteral node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TypeLiteral)) {
-			return ((BiPredicate<TypeLiteral, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.TypeLiteral)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TypeLiteral)) {
+			return ((BiPredicate<TypeLiteral, E>) (this.helperVisitor.getPredicate(VisitorEnum.TypeLiteral)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -906,17 +891,16 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(TypeMethodReference node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TypeMethodReference)) {
-			return ((BiPredicate<TypeMethodReference, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.TypeMethodReference))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TypeMethodReference)) {
+			return ((BiPredicate<TypeMethodReference, E>) (this.helperVisitor.getPredicate(VisitorEnum.TypeMethodReference))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(TypeParameter node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.TypeParameter)) {
-			return ((BiPredicate<TypeParameter, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.TypeParameter)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.TypeParameter)) {
+			return ((BiPredicate<TypeParameter, E>) (this.helperVisitor.getPredicate(VisitorEnum.TypeParameter)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -924,8 +908,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(UnionType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.UnionType)) {
-			return ((BiPredicate<UnionType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.UnionType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.UnionType)) {
+			return ((BiPredicate<UnionType, E>) (this.helperVisitor.getPredicate(VisitorEnum.UnionType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -933,8 +917,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(UsesDirective node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.UsesDirective)) {
-			return ((BiPredicate<UsesDirective, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.UsesDirective)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.UsesDirective)) {
+			return ((BiPredicate<UsesDirective, E>) (this.helperVisitor.getPredicate(VisitorEnum.UsesDirective)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -942,16 +926,15 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(VariableDeclarationExpression node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.VariableDeclarationExpression)) {
-			return ((BiPredicate<VariableDeclarationExpression, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.VariableDeclarationExpression))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.VariableDeclarationExpression)) {
+			return ((BiPredicate<VariableDeclarationExpression, E>) (this.helperVisitor.getPredicate(VisitorEnum.VariableDeclarationExpression))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(VariableDeclarationStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.VariableDeclarationStatement)) {
+		if (this.helperVisitor.hasPredicate(VisitorEnum.VariableDeclarationStatement)) {
 			Class<?> data=(Class<?>) this.helperVisitor.getSupplierData().get(VisitorEnum.VariableDeclarationStatement);
 			if (data!= null) {
 				VariableDeclarationFragment bli = (VariableDeclarationFragment) node.fragments().get(0);
@@ -963,25 +946,23 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 					}
 				}
 			}
-			return ((BiPredicate<VariableDeclarationStatement, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.VariableDeclarationStatement))).test(node, this.helperVisitor.dataholder);
+			return ((BiPredicate<VariableDeclarationStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.VariableDeclarationStatement))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(VariableDeclarationFragment node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.VariableDeclarationFragment)) {
-			return ((BiPredicate<VariableDeclarationFragment, E>) (this.helperVisitor.predicatemap
-					.get(VisitorEnum.VariableDeclarationFragment))).test(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasPredicate(VisitorEnum.VariableDeclarationFragment)) {
+			return ((BiPredicate<VariableDeclarationFragment, E>) (this.helperVisitor.getPredicate(VisitorEnum.VariableDeclarationFragment))).test(node, this.helperVisitor.dataholder);
 		}
 		return true;
 	}
 
 	@Override
 	public boolean visit(WhileStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.WhileStatement)) {
-			return ((BiPredicate<WhileStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.WhileStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.WhileStatement)) {
+			return ((BiPredicate<WhileStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.WhileStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -989,8 +970,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(WildcardType node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.WildcardType)) {
-			return ((BiPredicate<WildcardType, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.WildcardType)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.WildcardType)) {
+			return ((BiPredicate<WildcardType, E>) (this.helperVisitor.getPredicate(VisitorEnum.WildcardType)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -998,8 +979,8 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public boolean visit(YieldStatement node) {
-		if (this.helperVisitor.predicatemap.containsKey(VisitorEnum.YieldStatement)) {
-			return ((BiPredicate<YieldStatement, E>) (this.helperVisitor.predicatemap.get(VisitorEnum.YieldStatement)))
+		if (this.helperVisitor.hasPredicate(VisitorEnum.YieldStatement)) {
+			return ((BiPredicate<YieldStatement, E>) (this.helperVisitor.getPredicate(VisitorEnum.YieldStatement)))
 					.test(node, this.helperVisitor.dataholder);
 		}
 		return true;
@@ -1007,776 +988,773 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 
 	@Override
 	public void endVisit(AnnotationTypeDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.AnnotationTypeDeclaration)) {
-			((BiConsumer<AnnotationTypeDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.AnnotationTypeDeclaration)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.AnnotationTypeDeclaration)) {
+			((BiConsumer<AnnotationTypeDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.AnnotationTypeDeclaration)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(AnnotationTypeMemberDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.AnnotationTypeMemberDeclaration)) {
-			((BiConsumer<AnnotationTypeMemberDeclaration, E>) (this.helperVisitor.consumermap
-					.get(VisitorEnum.AnnotationTypeMemberDeclaration))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.AnnotationTypeMemberDeclaration)) {
+			((BiConsumer<AnnotationTypeMemberDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.AnnotationTypeMemberDeclaration))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(AnonymousClassDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.AnonymousClassDeclaration)) {
-			((BiConsumer<AnonymousClassDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.AnonymousClassDeclaration)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.AnonymousClassDeclaration)) {
+			((BiConsumer<AnonymousClassDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.AnonymousClassDeclaration)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ArrayAccess node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ArrayAccess)) {
-			((BiConsumer<ArrayAccess, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ArrayAccess))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ArrayAccess)) {
+			((BiConsumer<ArrayAccess, E>) (this.helperVisitor.getConsumer(VisitorEnum.ArrayAccess))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ArrayCreation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ArrayCreation)) {
-			((BiConsumer<ArrayCreation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ArrayCreation))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ArrayCreation)) {
+			((BiConsumer<ArrayCreation, E>) (this.helperVisitor.getConsumer(VisitorEnum.ArrayCreation))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ArrayInitializer node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ArrayInitializer)) {
-			((BiConsumer<ArrayInitializer, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ArrayInitializer))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ArrayInitializer)) {
+			((BiConsumer<ArrayInitializer, E>) (this.helperVisitor.getConsumer(VisitorEnum.ArrayInitializer))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ArrayType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ArrayType)) {
-			((BiConsumer<ArrayType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ArrayType))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ArrayType)) {
+			((BiConsumer<ArrayType, E>) (this.helperVisitor.getConsumer(VisitorEnum.ArrayType))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(AssertStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.AssertStatement)) {
-			((BiConsumer<AssertStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.AssertStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.AssertStatement)) {
+			((BiConsumer<AssertStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.AssertStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(Assignment node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.Assignment)) {
-			((BiConsumer<Assignment, E>) (this.helperVisitor.consumermap.get(VisitorEnum.Assignment))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.Assignment)) {
+			((BiConsumer<Assignment, E>) (this.helperVisitor.getConsumer(VisitorEnum.Assignment))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(Block node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.Block)) {
-			((BiConsumer<Block, E>) (this.helperVisitor.consumermap.get(VisitorEnum.Block))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.Block)) {
+			((BiConsumer<Block, E>) (this.helperVisitor.getConsumer(VisitorEnum.Block))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(BlockComment node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.BlockComment)) {
-			((BiConsumer<BlockComment, E>) (this.helperVisitor.consumermap.get(VisitorEnum.BlockComment))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.BlockComment)) {
+			((BiConsumer<BlockComment, E>) (this.helperVisitor.getConsumer(VisitorEnum.BlockComment))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(BooleanLiteral node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.BooleanLiteral)) {
-			((BiConsumer<BooleanLiteral, E>) (this.helperVisitor.consumermap.get(VisitorEnum.BooleanLiteral))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.BooleanLiteral)) {
+			((BiConsumer<BooleanLiteral, E>) (this.helperVisitor.getConsumer(VisitorEnum.BooleanLiteral))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(BreakStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.BreakStatement)) {
-			((BiConsumer<BreakStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.BreakStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.BreakStatement)) {
+			((BiConsumer<BreakStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.BreakStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(CastExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.CastExpression)) {
-			((BiConsumer<CastExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.CastExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.CastExpression)) {
+			((BiConsumer<CastExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.CastExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(CatchClause node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.CatchClause)) {
-			((BiConsumer<CatchClause, E>) (this.helperVisitor.consumermap.get(VisitorEnum.CatchClause))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.CatchClause)) {
+			((BiConsumer<CatchClause, E>) (this.helperVisitor.getConsumer(VisitorEnum.CatchClause))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(CharacterLiteral node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.CharacterLiteral)) {
-			((BiConsumer<CharacterLiteral, E>) (this.helperVisitor.consumermap.get(VisitorEnum.CharacterLiteral))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.CharacterLiteral)) {
+			((BiConsumer<CharacterLiteral, E>) (this.helperVisitor.getConsumer(VisitorEnum.CharacterLiteral))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ClassInstanceCreation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ClassInstanceCreation)) {
-			((BiConsumer<ClassInstanceCreation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ClassInstanceCreation)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ClassInstanceCreation)) {
+			((BiConsumer<ClassInstanceCreation, E>) (this.helperVisitor.getConsumer(VisitorEnum.ClassInstanceCreation)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(CompilationUnit node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.CompilationUnit)) {
-			((BiConsumer<CompilationUnit, E>) (this.helperVisitor.consumermap.get(VisitorEnum.CompilationUnit))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.CompilationUnit)) {
+			((BiConsumer<CompilationUnit, E>) (this.helperVisitor.getConsumer(VisitorEnum.CompilationUnit))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ConditionalExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ConditionalExpression)) {
-			((BiConsumer<ConditionalExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ConditionalExpression)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ConditionalExpression)) {
+			((BiConsumer<ConditionalExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.ConditionalExpression)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ConstructorInvocation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ConstructorInvocation)) {
-			((BiConsumer<ConstructorInvocation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ConstructorInvocation)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ConstructorInvocation)) {
+			((BiConsumer<ConstructorInvocation, E>) (this.helperVisitor.getConsumer(VisitorEnum.ConstructorInvocation)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ContinueStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ContinueStatement)) {
-			((BiConsumer<ContinueStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ContinueStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ContinueStatement)) {
+			((BiConsumer<ContinueStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.ContinueStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(CreationReference node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.CreationReference)) {
-			((BiConsumer<CreationReference, E>) (this.helperVisitor.consumermap.get(VisitorEnum.CreationReference))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.CreationReference)) {
+			((BiConsumer<CreationReference, E>) (this.helperVisitor.getConsumer(VisitorEnum.CreationReference))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(Dimension node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.Dimension)) {
-			((BiConsumer<Dimension, E>) (this.helperVisitor.consumermap.get(VisitorEnum.Dimension))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.Dimension)) {
+			((BiConsumer<Dimension, E>) (this.helperVisitor.getConsumer(VisitorEnum.Dimension))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(DoStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.DoStatement)) {
-			((BiConsumer<DoStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.DoStatement))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.DoStatement)) {
+			((BiConsumer<DoStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.DoStatement))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(EmptyStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.EmptyStatement)) {
-			((BiConsumer<EmptyStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.EmptyStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.EmptyStatement)) {
+			((BiConsumer<EmptyStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.EmptyStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(EnhancedForStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.EnhancedForStatement)) {
-			((BiConsumer<EnhancedForStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.EnhancedForStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.EnhancedForStatement)) {
+			((BiConsumer<EnhancedForStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.EnhancedForStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(EnumConstantDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.EnumConstantDeclaration)) {
-			((BiConsumer<EnumConstantDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.EnumConstantDeclaration)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.EnumConstantDeclaration)) {
+			((BiConsumer<EnumConstantDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.EnumConstantDeclaration)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(EnumDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.EnumDeclaration)) {
-			((BiConsumer<EnumDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.EnumDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.EnumDeclaration)) {
+			((BiConsumer<EnumDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.EnumDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ExportsDirective node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ExportsDirective)) {
-			((BiConsumer<ExportsDirective, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ExportsDirective))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ExportsDirective)) {
+			((BiConsumer<ExportsDirective, E>) (this.helperVisitor.getConsumer(VisitorEnum.ExportsDirective))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ExpressionMethodReference node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ExpressionMethodReference)) {
-			((BiConsumer<ExpressionMethodReference, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ExpressionMethodReference)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ExpressionMethodReference)) {
+			((BiConsumer<ExpressionMethodReference, E>) (this.helperVisitor.getConsumer(VisitorEnum.ExpressionMethodReference)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ExpressionStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ExpressionStatement)) {
-			((BiConsumer<ExpressionStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ExpressionStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ExpressionStatement)) {
+			((BiConsumer<ExpressionStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.ExpressionStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(FieldAccess node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.FieldAccess)) {
-			((BiConsumer<FieldAccess, E>) (this.helperVisitor.consumermap.get(VisitorEnum.FieldAccess))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.FieldAccess)) {
+			((BiConsumer<FieldAccess, E>) (this.helperVisitor.getConsumer(VisitorEnum.FieldAccess))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(FieldDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.FieldDeclaration)) {
-			((BiConsumer<FieldDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.FieldDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.FieldDeclaration)) {
+			((BiConsumer<FieldDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.FieldDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ForStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ForStatement)) {
-			((BiConsumer<ForStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ForStatement))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ForStatement)) {
+			((BiConsumer<ForStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.ForStatement))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(IfStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.IfStatement)) {
-			((BiConsumer<IfStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.IfStatement))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.IfStatement)) {
+			((BiConsumer<IfStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.IfStatement))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ImportDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ImportDeclaration)) {
-			((BiConsumer<ImportDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ImportDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ImportDeclaration)) {
+			((BiConsumer<ImportDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.ImportDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(InfixExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.InfixExpression)) {
-			((BiConsumer<InfixExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.InfixExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.InfixExpression)) {
+			((BiConsumer<InfixExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.InfixExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(Initializer node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.Initializer)) {
-			((BiConsumer<Initializer, E>) (this.helperVisitor.consumermap.get(VisitorEnum.Initializer))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.Initializer)) {
+			((BiConsumer<Initializer, E>) (this.helperVisitor.getConsumer(VisitorEnum.Initializer))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(InstanceofExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.InstanceofExpression)) {
-			((BiConsumer<InstanceofExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.InstanceofExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.InstanceofExpression)) {
+			((BiConsumer<InstanceofExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.InstanceofExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(IntersectionType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.IntersectionType)) {
-			((BiConsumer<IntersectionType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.IntersectionType))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.IntersectionType)) {
+			((BiConsumer<IntersectionType, E>) (this.helperVisitor.getConsumer(VisitorEnum.IntersectionType))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(Javadoc node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.Javadoc)) {
-			((BiConsumer<Javadoc, E>) (this.helperVisitor.consumermap.get(VisitorEnum.Javadoc))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.Javadoc)) {
+			((BiConsumer<Javadoc, E>) (this.helperVisitor.getConsumer(VisitorEnum.Javadoc))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(LabeledStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.LabeledStatement)) {
-			((BiConsumer<LabeledStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.LabeledStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.LabeledStatement)) {
+			((BiConsumer<LabeledStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.LabeledStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(LambdaExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.LambdaExpression)) {
-			((BiConsumer<LambdaExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.LambdaExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.LambdaExpression)) {
+			((BiConsumer<LambdaExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.LambdaExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(LineComment node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.LineComment)) {
-			((BiConsumer<LineComment, E>) (this.helperVisitor.consumermap.get(VisitorEnum.LineComment))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.LineComment)) {
+			((BiConsumer<LineComment, E>) (this.helperVisitor.getConsumer(VisitorEnum.LineComment))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(MarkerAnnotation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.MarkerAnnotation)) {
-			((BiConsumer<MarkerAnnotation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.MarkerAnnotation))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.MarkerAnnotation)) {
+			((BiConsumer<MarkerAnnotation, E>) (this.helperVisitor.getConsumer(VisitorEnum.MarkerAnnotation))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(MemberRef node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.MemberRef)) {
-			((BiConsumer<MemberRef, E>) (this.helperVisitor.consumermap.get(VisitorEnum.MemberRef))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.MemberRef)) {
+			((BiConsumer<MemberRef, E>) (this.helperVisitor.getConsumer(VisitorEnum.MemberRef))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(MemberValuePair node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.MemberValuePair)) {
-			((BiConsumer<MemberValuePair, E>) (this.helperVisitor.consumermap.get(VisitorEnum.MemberValuePair))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.MemberValuePair)) {
+			((BiConsumer<MemberValuePair, E>) (this.helperVisitor.getConsumer(VisitorEnum.MemberValuePair))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(MethodRef node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.MethodRef)) {
-			((BiConsumer<MethodRef, E>) (this.helperVisitor.consumermap.get(VisitorEnum.MethodRef))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.MethodRef)) {
+			((BiConsumer<MethodRef, E>) (this.helperVisitor.getConsumer(VisitorEnum.MethodRef))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(MethodRefParameter node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.MethodRefParameter)) {
-			((BiConsumer<MethodRefParameter, E>) (this.helperVisitor.consumermap.get(VisitorEnum.MethodRefParameter))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.MethodRefParameter)) {
+			((BiConsumer<MethodRefParameter, E>) (this.helperVisitor.getConsumer(VisitorEnum.MethodRefParameter))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(MethodDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.MethodDeclaration)) {
-			((BiConsumer<MethodDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.MethodDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.MethodDeclaration)) {
+			((BiConsumer<MethodDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.MethodDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(MethodInvocation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.MethodInvocation)) {
+		if (this.helperVisitor.hasConsumer(VisitorEnum.MethodInvocation)) {
 			String data=(String) this.helperVisitor.getConsumerData().get(VisitorEnum.MethodInvocation);
 			if (data!= null && !node.getName().getIdentifier().equals(data)) {
 				return;
 			}
-			((BiConsumer<MethodInvocation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.MethodInvocation))).accept(node,
+			((BiConsumer<MethodInvocation, E>) (this.helperVisitor.getConsumer(VisitorEnum.MethodInvocation))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(Modifier node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.Modifier)) {
-			((BiConsumer<Modifier, E>) (this.helperVisitor.consumermap.get(VisitorEnum.Modifier))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.Modifier)) {
+			((BiConsumer<Modifier, E>) (this.helperVisitor.getConsumer(VisitorEnum.Modifier))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ModuleDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ModuleDeclaration)) {
-			((BiConsumer<ModuleDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ModuleDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ModuleDeclaration)) {
+			((BiConsumer<ModuleDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.ModuleDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ModuleModifier node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ModuleModifier)) {
-			((BiConsumer<ModuleModifier, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ModuleModifier))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ModuleModifier)) {
+			((BiConsumer<ModuleModifier, E>) (this.helperVisitor.getConsumer(VisitorEnum.ModuleModifier))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(NameQualifiedType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.NameQualifiedType)) {
-			((BiConsumer<NameQualifiedType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.NameQualifiedType))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.NameQualifiedType)) {
+			((BiConsumer<NameQualifiedType, E>) (this.helperVisitor.getConsumer(VisitorEnum.NameQualifiedType))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(NormalAnnotation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.NormalAnnotation)) {
-			((BiConsumer<NormalAnnotation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.NormalAnnotation))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.NormalAnnotation)) {
+			((BiConsumer<NormalAnnotation, E>) (this.helperVisitor.getConsumer(VisitorEnum.NormalAnnotation))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(NullLiteral node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.NullLiteral)) {
-			((BiConsumer<NullLiteral, E>) (this.helperVisitor.consumermap.get(VisitorEnum.NullLiteral))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.NullLiteral)) {
+			((BiConsumer<NullLiteral, E>) (this.helperVisitor.getConsumer(VisitorEnum.NullLiteral))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(NumberLiteral node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.NumberLiteral)) {
-			((BiConsumer<NumberLiteral, E>) (this.helperVisitor.consumermap.get(VisitorEnum.NumberLiteral))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.NumberLiteral)) {
+			((BiConsumer<NumberLiteral, E>) (this.helperVisitor.getConsumer(VisitorEnum.NumberLiteral))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(OpensDirective node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.OpensDirective)) {
-			((BiConsumer<OpensDirective, E>) (this.helperVisitor.consumermap.get(VisitorEnum.OpensDirective))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.OpensDirective)) {
+			((BiConsumer<OpensDirective, E>) (this.helperVisitor.getConsumer(VisitorEnum.OpensDirective))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(PackageDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.PackageDeclaration)) {
-			((BiConsumer<PackageDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.PackageDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.PackageDeclaration)) {
+			((BiConsumer<PackageDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.PackageDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ParameterizedType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ParameterizedType)) {
-			((BiConsumer<ParameterizedType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ParameterizedType))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ParameterizedType)) {
+			((BiConsumer<ParameterizedType, E>) (this.helperVisitor.getConsumer(VisitorEnum.ParameterizedType))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ParenthesizedExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ParenthesizedExpression)) {
-			((BiConsumer<ParenthesizedExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ParenthesizedExpression)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ParenthesizedExpression)) {
+			((BiConsumer<ParenthesizedExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.ParenthesizedExpression)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(PatternInstanceofExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.PatternInstanceofExpression)) {
-			((BiConsumer<PatternInstanceofExpression, E>) (this.helperVisitor.consumermap
-					.get(VisitorEnum.PatternInstanceofExpression))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.PatternInstanceofExpression)) {
+			((BiConsumer<PatternInstanceofExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.PatternInstanceofExpression))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(PostfixExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.PostfixExpression)) {
-			((BiConsumer<PostfixExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.PostfixExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.PostfixExpression)) {
+			((BiConsumer<PostfixExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.PostfixExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(PrefixExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.PrefixExpression)) {
-			((BiConsumer<PrefixExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.PrefixExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.PrefixExpression)) {
+			((BiConsumer<PrefixExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.PrefixExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ProvidesDirective node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ProvidesDirective)) {
-			((BiConsumer<ProvidesDirective, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ProvidesDirective))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ProvidesDirective)) {
+			((BiConsumer<ProvidesDirective, E>) (this.helperVisitor.getConsumer(VisitorEnum.ProvidesDirective))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(PrimitiveType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.PrimitiveType)) {
-			((BiConsumer<PrimitiveType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.PrimitiveType))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.PrimitiveType)) {
+			((BiConsumer<PrimitiveType, E>) (this.helperVisitor.getConsumer(VisitorEnum.PrimitiveType))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(QualifiedName node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.QualifiedName)) {
-			((BiConsumer<QualifiedName, E>) (this.helperVisitor.consumermap.get(VisitorEnum.QualifiedName))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.QualifiedName)) {
+			((BiConsumer<QualifiedName, E>) (this.helperVisitor.getConsumer(VisitorEnum.QualifiedName))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(QualifiedType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.QualifiedType)) {
-			((BiConsumer<QualifiedType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.QualifiedType))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.QualifiedType)) {
+			((BiConsumer<QualifiedType, E>) (this.helperVisitor.getConsumer(VisitorEnum.QualifiedType))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 //	@Override
 //	public void endVisit(ModuleQualifiedName node) {
-//		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ModuleQualifiedName)) {
-//			((BiConsumer<ModuleQualifiedName, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ModuleQualifiedName))).accept(node,
+//		if (this.helperVisitor.hasConsumer(VisitorEnum.ModuleQualifiedName)) {
+//			((BiConsumer<ModuleQualifiedName, E>) (this.helperVisitor.getConsumer(VisitorEnum.ModuleQualifiedName))).accept(node,
 //					this.helperVisitor.dataholder);
 //		}
 //	}
 
 	@Override
 	public void endVisit(RequiresDirective node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.RequiresDirective)) {
-			((BiConsumer<RequiresDirective, E>) (this.helperVisitor.consumermap.get(VisitorEnum.RequiresDirective))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.RequiresDirective)) {
+			((BiConsumer<RequiresDirective, E>) (this.helperVisitor.getConsumer(VisitorEnum.RequiresDirective))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(RecordDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.RecordDeclaration)) {
-			((BiConsumer<RecordDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.RecordDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.RecordDeclaration)) {
+			((BiConsumer<RecordDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.RecordDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ReturnStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ReturnStatement)) {
-			((BiConsumer<ReturnStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ReturnStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ReturnStatement)) {
+			((BiConsumer<ReturnStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.ReturnStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SimpleName node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SimpleName)) {
-			((BiConsumer<SimpleName, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SimpleName))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SimpleName)) {
+			((BiConsumer<SimpleName, E>) (this.helperVisitor.getConsumer(VisitorEnum.SimpleName))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SimpleType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SimpleType)) {
-			((BiConsumer<SimpleType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SimpleType))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SimpleType)) {
+			((BiConsumer<SimpleType, E>) (this.helperVisitor.getConsumer(VisitorEnum.SimpleType))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SingleMemberAnnotation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SingleMemberAnnotation)) {
-			((BiConsumer<SingleMemberAnnotation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SingleMemberAnnotation)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SingleMemberAnnotation)) {
+			((BiConsumer<SingleMemberAnnotation, E>) (this.helperVisitor.getConsumer(VisitorEnum.SingleMemberAnnotation)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SingleVariableDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SingleVariableDeclaration)) {
-			((BiConsumer<SingleVariableDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SingleVariableDeclaration)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SingleVariableDeclaration)) {
+			((BiConsumer<SingleVariableDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.SingleVariableDeclaration)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(StringLiteral node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.StringLiteral)) {
-			((BiConsumer<StringLiteral, E>) (this.helperVisitor.consumermap.get(VisitorEnum.StringLiteral))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.StringLiteral)) {
+			((BiConsumer<StringLiteral, E>) (this.helperVisitor.getConsumer(VisitorEnum.StringLiteral))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SuperConstructorInvocation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SuperConstructorInvocation)) {
-			((BiConsumer<SuperConstructorInvocation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SuperConstructorInvocation)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SuperConstructorInvocation)) {
+			((BiConsumer<SuperConstructorInvocation, E>) (this.helperVisitor.getConsumer(VisitorEnum.SuperConstructorInvocation)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SuperFieldAccess node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SuperFieldAccess)) {
-			((BiConsumer<SuperFieldAccess, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SuperFieldAccess))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SuperFieldAccess)) {
+			((BiConsumer<SuperFieldAccess, E>) (this.helperVisitor.getConsumer(VisitorEnum.SuperFieldAccess))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SuperMethodInvocation node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SuperMethodInvocation)) {
-			((BiConsumer<SuperMethodInvocation, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SuperMethodInvocation)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SuperMethodInvocation)) {
+			((BiConsumer<SuperMethodInvocation, E>) (this.helperVisitor.getConsumer(VisitorEnum.SuperMethodInvocation)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SuperMethodReference node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SuperMethodReference)) {
-			((BiConsumer<SuperMethodReference, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SuperMethodReference))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SuperMethodReference)) {
+			((BiConsumer<SuperMethodReference, E>) (this.helperVisitor.getConsumer(VisitorEnum.SuperMethodReference))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SwitchCase node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SwitchCase)) {
-			((BiConsumer<SwitchCase, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SwitchCase))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SwitchCase)) {
+			((BiConsumer<SwitchCase, E>) (this.helperVisitor.getConsumer(VisitorEnum.SwitchCase))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SwitchExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SwitchExpression)) {
-			((BiConsumer<SwitchExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SwitchExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SwitchExpression)) {
+			((BiConsumer<SwitchExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.SwitchExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SwitchStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SwitchStatement)) {
-			((BiConsumer<SwitchStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SwitchStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SwitchStatement)) {
+			((BiConsumer<SwitchStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.SwitchStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(SynchronizedStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.SynchronizedStatement)) {
-			((BiConsumer<SynchronizedStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.SynchronizedStatement)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.SynchronizedStatement)) {
+			((BiConsumer<SynchronizedStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.SynchronizedStatement)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TagElement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TagElement)) {
-			((BiConsumer<TagElement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TagElement))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TagElement)) {
+			((BiConsumer<TagElement, E>) (this.helperVisitor.getConsumer(VisitorEnum.TagElement))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TextBlock node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TextBlock)) {
-			((BiConsumer<TextBlock, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TextBlock))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TextBlock)) {
+			((BiConsumer<TextBlock, E>) (this.helperVisitor.getConsumer(VisitorEnum.TextBlock))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TextElement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TextElement)) {
-			((BiConsumer<TextElement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TextElement))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TextElement)) {
+			((BiConsumer<TextElement, E>) (this.helperVisitor.getConsumer(VisitorEnum.TextElement))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ThisExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ThisExpression)) {
-			((BiConsumer<ThisExpression, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ThisExpression))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ThisExpression)) {
+			((BiConsumer<ThisExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.ThisExpression))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(ThrowStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.ThrowStatement)) {
-			((BiConsumer<ThrowStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.ThrowStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.ThrowStatement)) {
+			((BiConsumer<ThrowStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.ThrowStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TryStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TryStatement)) {
-			((BiConsumer<TryStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TryStatement))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TryStatement)) {
+			((BiConsumer<TryStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.TryStatement))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TypeDeclaration node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TypeDeclaration)) {
-			((BiConsumer<TypeDeclaration, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TypeDeclaration))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TypeDeclaration)) {
+			((BiConsumer<TypeDeclaration, E>) (this.helperVisitor.getConsumer(VisitorEnum.TypeDeclaration))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TypeDeclarationStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TypeDeclarationStatement)) {
-			((BiConsumer<TypeDeclarationStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TypeDeclarationStatement)))
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TypeDeclarationStatement)) {
+			((BiConsumer<TypeDeclarationStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.TypeDeclarationStatement)))
 					.accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TypeLiteral node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TypeLiteral)) {
-			((BiConsumer<TypeLiteral, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TypeLiteral))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TypeLiteral)) {
+			((BiConsumer<TypeLiteral, E>) (this.helperVisitor.getConsumer(VisitorEnum.TypeLiteral))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TypeMethodReference node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TypeMethodReference)) {
-			((BiConsumer<TypeMethodReference, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TypeMethodReference))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TypeMethodReference)) {
+			((BiConsumer<TypeMethodReference, E>) (this.helperVisitor.getConsumer(VisitorEnum.TypeMethodReference))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(TypeParameter node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.TypeParameter)) {
-			((BiConsumer<TypeParameter, E>) (this.helperVisitor.consumermap.get(VisitorEnum.TypeParameter))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.TypeParameter)) {
+			((BiConsumer<TypeParameter, E>) (this.helperVisitor.getConsumer(VisitorEnum.TypeParameter))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(UnionType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.UnionType)) {
-			((BiConsumer<UnionType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.UnionType))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.UnionType)) {
+			((BiConsumer<UnionType, E>) (this.helperVisitor.getConsumer(VisitorEnum.UnionType))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(UsesDirective node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.UsesDirective)) {
-			((BiConsumer<UsesDirective, E>) (this.helperVisitor.consumermap.get(VisitorEnum.UsesDirective))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.UsesDirective)) {
+			((BiConsumer<UsesDirective, E>) (this.helperVisitor.getConsumer(VisitorEnum.UsesDirective))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(VariableDeclarationExpression node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.VariableDeclarationExpression)) {
-			((BiConsumer<VariableDeclarationExpression, E>) (this.helperVisitor.consumermap
-					.get(VisitorEnum.VariableDeclarationExpression))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.VariableDeclarationExpression)) {
+			((BiConsumer<VariableDeclarationExpression, E>) (this.helperVisitor.getConsumer(VisitorEnum.VariableDeclarationExpression))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(VariableDeclarationStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.VariableDeclarationStatement)) {
+		if (this.helperVisitor.hasConsumer(VisitorEnum.VariableDeclarationStatement)) {
 			Class<?> data=(Class<?>) this.helperVisitor.getConsumerData().get(VisitorEnum.VariableDeclarationStatement);
 			if (data!= null) {
 				VariableDeclarationFragment bli = (VariableDeclarationFragment) node.fragments().get(0);
@@ -1788,38 +1766,36 @@ public class LambdaASTVisitor<E extends HelperVisitorProvider<V,T,E>, V, T> exte
 					}
 				}
 			}
-			((BiConsumer<VariableDeclarationStatement, E>) (this.helperVisitor.consumermap
-					.get(VisitorEnum.VariableDeclarationStatement))).accept(node, this.helperVisitor.dataholder);
+			((BiConsumer<VariableDeclarationStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.VariableDeclarationStatement))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(VariableDeclarationFragment node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.VariableDeclarationFragment)) {
-			((BiConsumer<VariableDeclarationFragment, E>) (this.helperVisitor.consumermap
-					.get(VisitorEnum.VariableDeclarationFragment))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.VariableDeclarationFragment)) {
+			((BiConsumer<VariableDeclarationFragment, E>) (this.helperVisitor.getConsumer(VisitorEnum.VariableDeclarationFragment))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(WhileStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.WhileStatement)) {
-			((BiConsumer<WhileStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.WhileStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.WhileStatement)) {
+			((BiConsumer<WhileStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.WhileStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(WildcardType node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.WildcardType)) {
-			((BiConsumer<WildcardType, E>) (this.helperVisitor.consumermap.get(VisitorEnum.WildcardType))).accept(node, this.helperVisitor.dataholder);
+		if (this.helperVisitor.hasConsumer(VisitorEnum.WildcardType)) {
+			((BiConsumer<WildcardType, E>) (this.helperVisitor.getConsumer(VisitorEnum.WildcardType))).accept(node, this.helperVisitor.dataholder);
 		}
 	}
 
 	@Override
 	public void endVisit(YieldStatement node) {
-		if (this.helperVisitor.consumermap.containsKey(VisitorEnum.YieldStatement)) {
-			((BiConsumer<YieldStatement, E>) (this.helperVisitor.consumermap.get(VisitorEnum.YieldStatement))).accept(node,
+		if (this.helperVisitor.hasConsumer(VisitorEnum.YieldStatement)) {
+			((BiConsumer<YieldStatement, E>) (this.helperVisitor.getConsumer(VisitorEnum.YieldStatement))).accept(node,
 					this.helperVisitor.dataholder);
 		}
 	}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ChildListPropertyDescriptor;
+import org.eclipse.jdt.core.dom.ChildPropertyDescriptor;
+
+/**
+ * Static table of the node types which can occur in the subtree of a node of a given type,
+ * computed once from the structural property descriptors of all node classes. Node type sets are
+ * bit sets of {@link #WORDS} longs indexed by {@link ASTNode#getNodeType()}.
+ */
+final class SubtreeNodeTypes {
+
+	static final int WORDS= 2;
+
+	private static final int MAX_NODE_TYPE= WORDS * Long.SIZE - 1;
+
+	/**
+	 * Node types of the subtree including the node itself, or <code>null</code> if the node type is
+	 * unknown and a subtree may contain any node type.
+	 */
+	private static final long[][] SUBTREE= computeSubtreeNodeTypes();
+
+	private SubtreeNodeTypes() {
+	}
+
+	static void set(long[] bits, int nodeType) {
+		if (nodeType >= 0 && nodeType <= MAX_NODE_TYPE) {
+			bits[nodeType >>> 6]|= 1L << nodeType;
+		}
+	}
+
+	static void clear(long[] bits, int nodeType) {
+		if (nodeType >= 0 && nodeType <= MAX_NODE_TYPE) {
+			bits[nodeType >>> 6]&= ~(1L << nodeType);
+		}
+	}
+
+	/**
+	 * @param nodeType - type of the subtree root
+	 * @param bits - node type set
+	 * @return - <code>true</code> if the subtree of a node of the given type can contain a node
+	 *         with a type in <code>bits</code>
+	 */
+	static boolean intersects(int nodeType, long[] bits) {
+		if (nodeType < 0 || nodeType > MAX_NODE_TYPE) {
+			return true;
+		}
+		long[] subtree= SUBTREE[nodeType];
+		if (subtree == null) {
+			return true;
+		}
+		for (int i= 0; i < WORDS; i++) {
+			if ((subtree[i] & bits[i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long[][] computeSubtreeNodeTypes() {
+		Class<?>[] nodeClasses= new Class<?>[MAX_NODE_TYPE + 1];
+		for (int nodeType= 0; nodeType <= MAX_NODE_TYPE; nodeType++) {
+			try {
+				nodeClasses[nodeType]= ASTNode.nodeClassForType(nodeType);
+			} catch (IllegalArgumentException e) {
+				// not a node type
+			}
+		}
+
+		long[][] subtree= new long[MAX_NODE_TYPE + 1][];
+		for (int nodeType= 0; nodeType <= MAX_NODE_TYPE; nodeType++) {
+			if (nodeClasses[nodeType] == null) {
+				continue;
+			}
+			long[] children= getChildNodeTypes(nodeClasses[nodeType], nodeClasses);
+			if (children != null) {
+				set(children, nodeType);
+			}
+			subtree[nodeType]= children;
+		}
+
+		// transitive closure, a node type with unknown children makes all its ancestors unknown
+		boolean changed= true;
+		while (changed) {
+			changed= false;
+			for (int nodeType= 0; nodeType <= MAX_NODE_TYPE; nodeType++) {
+				long[] bits= subtree[nodeType];
+				if (bits == null) {
+					continue;
+				}
+				for (int child= 0; child <= MAX_NODE_TYPE; child++) {
+					if (child == nodeType || (bits[child >>> 6] & (1L << child)) == 0) {
+						continue;
+					}
+					long[] childBits= subtree[child];
+					if (childBits == null) {
+						subtree[nodeType]= null;
+						changed= true;
+						break;
+					}
+					for (int i= 0; i < WORDS; i++) {
+						long merged= bits[i] | childBits[i];
+						if (merged != bits[i]) {
+							bits[i]= merged;
+							changed= true;
+						}
+					}
+				}
+			}
+		}
+		return subtree;
+	}
+
+	/**
+	 * Collects the node types which can be direct children of the given node class in any
+	 * supported API level.
+	 *
+	 * @return - the child node types or <code>null</code> if they cannot be determined
+	 */
+	@SuppressWarnings("deprecation")
+	private static long[] getChildNodeTypes(Class<?> nodeClass, Class<?>[] nodeClasses) {
+		Method method= null;
+		for (Method m : nodeClass.getMethods()) {
+			if ("propertyDescriptors".equals(m.getName()) && Modifier.isStatic(m.getModifiers()) //$NON-NLS-1$
+					&& m.getParameterCount() > 0 && m.getParameterTypes()[0] == int.class
+					&& (method == null || m.getParameterCount() < method.getParameterCount())) {
+				method= m;
+			}
+		}
+		if (method == null) {
+			return null;
+		}
+		long[] children= new long[WORDS];
+		boolean found= false;
+		for (int apiLevel= AST.JLS2; apiLevel <= AST.getJLSLatest(); apiLevel++) {
+			List<?> descriptors;
+			try {
+				descriptors= (List<?>) (method.getParameterCount() == 1
+						? method.invoke(null, Integer.valueOf(apiLevel))
+						: method.invoke(null, Integer.valueOf(apiLevel), Boolean.TRUE));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// API level not supported by this node type
+				continue;
+			}
+			if (descriptors == null) {
+				continue;
+			}
+			found= true;
+			for (Object descriptor : descriptors) {
+				Class<?> childType;
+				if (descriptor instanceof ChildPropertyDescriptor) {
+					childType= ((ChildPropertyDescriptor) descriptor).getChildType();
+				} else if (descriptor instanceof ChildListPropertyDescriptor) {
+					childType= ((ChildListPropertyDescriptor) descriptor).getElementType();
+				} else {
+					continue;
+				}
+				for (int nodeType= 0; nodeType <= MAX_NODE_TYPE; nodeType++) {
+					if (nodeClasses[nodeType] != null && childType.isAssignableFrom(nodeClasses[nodeType])) {
+						set(children, nodeType);
+					}
+				}
+			}
+		}
+		return found ? children : null;
+	}
+}
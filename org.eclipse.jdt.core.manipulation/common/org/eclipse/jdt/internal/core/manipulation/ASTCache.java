@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.lang.ref.SoftReference;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringFileBuffers;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+/**
+ * Bounded least-recently-used cache of resolved compilation unit ASTs which are not
+ * the AST of the active editor. The ASTs are only softly referenced, such that the
+ * cache does not keep them alive under memory pressure.
+ * <p>
+ * An entry is only returned as long as the modification stamp of the underlying
+ * resource did not change and the working copy is consistent. For working copies, the
+ * content must not have changed either, as the working copy may have been modified and
+ * reconciled by another client without saving it. The content is validated with the
+ * modification stamp of the document of the connected text file buffer, and only hashed
+ * if there is no such document. The content is hashed outside of the lock of the cache.
+ * Clients must {@link #remove(ITypeRoot) remove} the entry of an element which is about
+ * to be reconciled.
+ * </p>
+ *
+ * @since 1.17
+ */
+public final class ASTCache {
+
+	private static final class Entry {
+
+		private final SoftReference<CompilationUnit> fAST;
+		private final long fStamp;
+		private final long fDocumentStamp;
+		private final int fContentLength;
+		private final int fContentHash;
+
+		Entry(CompilationUnit ast, ITypeRoot element) {
+			fAST= new SoftReference<>(ast);
+			fStamp= getModificationStamp(element);
+			fDocumentStamp= getDocumentStamp(element);
+			String content= fDocumentStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP ? getWorkingCopyContent(element) : null;
+			fContentLength= content != null ? content.length() : -1;
+			fContentHash= content != null ? content.hashCode() : 0;
+		}
+
+		boolean isValid(ITypeRoot element) {
+			if (fStamp != getModificationStamp(element) || !isConsistent(element))
+				return false;
+			if (fDocumentStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP)
+				return fDocumentStamp == getDocumentStamp(element);
+			String content= getWorkingCopyContent(element);
+			if (content == null)
+				return fContentLength == -1;
+			return fContentLength == content.length() && fContentHash == content.hashCode();
+		}
+	}
+
+	private LRUMap<ITypeRoot, Entry> fEntries;
+	private int fMaxSize;
+	private long fHits;
+	private long fMisses;
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maxSize the maximal number of cached ASTs, <code>0</code> to disable the cache
+	 */
+	public ASTCache(int maxSize) {
+		fMaxSize= Math.max(0, maxSize);
+		fEntries= new LRUMap<>(Math.max(1, fMaxSize));
+	}
+
+	/**
+	 * Returns the cached AST for the given element, if it is still valid.
+	 *
+	 * @param element the type root
+	 * @return the cached AST or <code>null</code>
+	 */
+	public CompilationUnit get(ITypeRoot element) {
+		Entry entry;
+		synchronized (this) {
+			entry= fEntries.get(element);
+		}
+		if (entry != null) {
+			CompilationUnit ast= entry.fAST.get();
+			if (ast != null && entry.isValid(element)) {
+				synchronized (this) {
+					fHits++;
+				}
+				return ast;
+			}
+		}
+		synchronized (this) {
+			if (entry != null)
+				fEntries.remove(element, entry);
+			fMisses++;
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the given AST. The AST must have been created from the current content of
+	 * the element.
+	 *
+	 * @param element the type root the AST was created for
+	 * @param ast the AST
+	 */
+	public void put(ITypeRoot element, CompilationUnit ast) {
+		if (getMaxSize() == 0 || element == null || ast == null)
+			return;
+		Entry entry= new Entry(ast, element);
+		synchronized (this) {
+			if (fMaxSize > 0)
+				fEntries.put(element, entry);
+		}
+	}
+
+	/**
+	 * Removes the cached AST of the given element.
+	 *
+	 * @param element the type root
+	 */
+	public synchronized void remove(ITypeRoot element) {
+		fEntries.remove(element);
+	}
+
+	/**
+	 * Removes all cached ASTs.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+	}
+
+	/**
+	 * Changes the maximal number of cached ASTs. The least recently used entries are
+	 * dropped if the cache contains more entries.
+	 *
+	 * @param maxSize the maximal number of cached ASTs, <code>0</code> to disable the cache
+	 */
+	public synchronized void setMaxSize(int maxSize) {
+		LRUMap<ITypeRoot, Entry> entries= new LRUMap<>(Math.max(1, maxSize));
+		if (maxSize > 0)
+			entries.putAll(fEntries);
+		fEntries= entries;
+		fMaxSize= Math.max(0, maxSize);
+	}
+
+	public synchronized int getMaxSize() {
+		return fMaxSize;
+	}
+
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	public synchronized long getHits() {
+		return fHits;
+	}
+
+	public synchronized long getMisses() {
+		return fMisses;
+	}
+
+	public synchronized void resetStatistics() {
+		fHits= 0;
+		fMisses= 0;
+	}
+
+	private static long getModificationStamp(ITypeRoot element) {
+		IResource resource= element.getResource();
+		if (resource == null)
+			return IResource.NULL_STAMP;
+		return resource.getModificationStamp();
+	}
+
+	/**
+	 * Returns the modification stamp of the document of a working copy whose buffer is the
+	 * document of the connected text file buffer.
+	 *
+	 * @param element the type root
+	 * @return the modification stamp, or {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP}
+	 *         if the element is not such a working copy
+	 */
+	private static long getDocumentStamp(ITypeRoot element) {
+		if (!(element instanceof ICompilationUnit) || !((ICompilationUnit) element).isWorkingCopy())
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		ICompilationUnit unit= (ICompilationUnit) element;
+		// only the primary working copy of an editor is backed by the document of the file buffer
+		if (unit.getOwner() != null)
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		ITextFileBuffer fileBuffer= RefactoringFileBuffers.getTextFileBuffer(unit);
+		if (fileBuffer == null)
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		IDocument document= fileBuffer.getDocument();
+		if (!(document instanceof IDocumentExtension4))
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		try {
+			IBuffer buffer= unit.getBuffer();
+			if (buffer == null || buffer.getLength() != document.getLength())
+				return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		} catch (JavaModelException e) {
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		}
+		return ((IDocumentExtension4) document).getModificationStamp();
+	}
+
+	/**
+	 * Returns the buffer content of a working copy, which may differ from the content of the
+	 * underlying resource.
+	 *
+	 * @param element the type root
+	 * @return the content, or <code>null</code> if the element is not a working copy
+	 */
+	private static String getWorkingCopyContent(ITypeRoot element) {
+		if (!(element instanceof ICompilationUnit) || !((ICompilationUnit) element).isWorkingCopy())
+			return null;
+		try {
+			IBuffer buffer= element.getBuffer();
+			return buffer != null ? buffer.getContents() : null;
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private static boolean isConsistent(ITypeRoot element) {
+		if (!(element instanceof ICompilationUnit))
+			return element.exists();
+		try {
+			return ((ICompilationUnit) element).isConsistent();
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,10 @@ public class JarPackagerUtilCore {
 	/**
 	 * Write the given entry describing the given content to the current archive. Extracted from
 	 * org.eclipse.jdt.ui.jarpackager.JarWriter3
+	 * <p>
+	 * If the stream is a {@link ParallelJarOutputStream}, the entry is deflated in parallel and
+	 * may be written later.
+	 * </p>
 	 *
 	 * @param entry the entry to write
 	 * @param content the content to write
@@ -64,6 +68,10 @@ public class JarPackagerUtilCore {
 	 *
 	 */
 	public static void addEntry(JarEntry entry, InputStream content, JarOutputStream jarOutputStream) throws IOException {
+		if (jarOutputStream instanceof ParallelJarOutputStream) {
+			((ParallelJarOutputStream) jarOutputStream).putEntry(entry, content);
+			return;
+		}
 		byte[] readBuffer= new byte[4096];
 		try {
 			jarOutputStream.putNextEntry(entry);
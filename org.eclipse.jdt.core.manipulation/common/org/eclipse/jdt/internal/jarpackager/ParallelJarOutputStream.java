@@ -0,0 +1,577 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarpackager;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * A {@link JarOutputStream} that deflates entries in parallel.
+ * <p>
+ * The content of entries added with {@link #putEntry(JarEntry, InputStream)} is read on the
+ * calling thread and deflated by a pool of threads. The entries are written in the order in which
+ * they were added, with the same compression as the sequential JarOutputStream, so the archive is
+ * the same as without parallel compression. Directory entries that are added with
+ * {@link #putNextEntry(ZipEntry)} keep their position as well, other entries added with it are
+ * written after all pending entries.
+ * </p>
+ * <p>
+ * If the archive is created with {@link #create(File, Manifest)} and the file already exists, the
+ * deflated data of the previous archive is reused for entries with the same name, size and
+ * CRC-32, instead of deflating them again.
+ * </p>
+ *
+ * @since 1.17
+ */
+public class ParallelJarOutputStream extends JarOutputStream {
+
+	/**
+	 * Entries with more content are not buffered but written directly.
+	 */
+	private static final int MAX_BUFFERED_ENTRY_SIZE= 4 * 1024 * 1024;
+
+	/**
+	 * Maximum size of the content of all pending entries.
+	 */
+	private static final long MAX_PENDING_SIZE= 32 * 1024 * 1024;
+
+	private static class PendingEntry {
+		final ZipEntry fEntry;
+		final byte[] fContent;
+		final int fLength;
+		Future<DeflatedData> fDeflated; // null if the entry is not deflated in parallel
+
+		PendingEntry(ZipEntry entry, byte[] content, int length) {
+			fEntry= entry;
+			fContent= content;
+			fLength= length;
+		}
+	}
+
+	private static class DeflatedData {
+		final byte[] fData;
+		final int fLength;
+
+		DeflatedData(byte[] data, int length) {
+			fData= data;
+			fLength= length;
+		}
+	}
+
+	/**
+	 * Deflater that does not compress but returns data that has already been deflated. The input
+	 * is only counted, the CRC-32 is computed by the {@link java.util.zip.ZipOutputStream}.
+	 */
+	private static class PassThroughDeflater extends Deflater {
+		private byte[] fOutput;
+		private int fOutputLength;
+		private int fPosition;
+		private long fBytesRead;
+		private boolean fFinish;
+
+		PassThroughDeflater() {
+			super(DEFAULT_COMPRESSION, true);
+		}
+
+		void setOutput(DeflatedData deflated) {
+			fOutput= deflated.fData;
+			fOutputLength= deflated.fLength;
+			fPosition= 0;
+			fBytesRead= 0;
+			fFinish= false;
+		}
+
+		@Override
+		public void setInput(byte[] input, int off, int len) {
+			fBytesRead+= len;
+		}
+
+		@Override
+		public boolean needsInput() {
+			return true;
+		}
+
+		@Override
+		public void finish() {
+			fFinish= true;
+		}
+
+		@Override
+		public boolean finished() {
+			return fFinish && fPosition == fOutputLength;
+		}
+
+		@Override
+		public int deflate(byte[] output, int off, int len) {
+			return deflate(output, off, len, NO_FLUSH);
+		}
+
+		@Override
+		public int deflate(byte[] output, int off, int len, int flush) {
+			int count= Math.min(len, fOutputLength - fPosition);
+			System.arraycopy(fOutput, fPosition, output, off, count);
+			fPosition+= count;
+			return count;
+		}
+
+		@Override
+		public long getBytesRead() {
+			return fBytesRead;
+		}
+
+		@Override
+		public long getBytesWritten() {
+			return fPosition;
+		}
+
+		@Override
+		public int getTotalIn() {
+			return (int) fBytesRead;
+		}
+
+		@Override
+		public int getTotalOut() {
+			return fPosition;
+		}
+
+		@Override
+		public void reset() {
+			fOutput= null;
+			fOutputLength= 0;
+			fPosition= 0;
+			fBytesRead= 0;
+			fFinish= false;
+		}
+	}
+
+	private final ThreadPoolExecutor fExecutor;
+	private final int fMaxPendingCount;
+	private final ArrayDeque<PendingEntry> fPending= new ArrayDeque<>();
+	private long fPendingSize;
+	private final Set<String> fNames= new HashSet<>();
+	private final PassThroughDeflater fPassThroughDeflater= new PassThroughDeflater();
+	private final List<Deflater> fDeflaters= Collections.synchronizedList(new ArrayList<>());
+	private final ThreadLocal<Deflater> fDeflater= ThreadLocal.withInitial(() -> {
+		Deflater deflater= new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		fDeflaters.add(deflater);
+		return deflater;
+	});
+	private final AtomicInteger fReusedCount= new AtomicInteger();
+	private PreviousArchive fPreviousArchive;
+
+	/**
+	 * Creates an archive with parallel compression.
+	 *
+	 * @param out the output stream
+	 * @param manifest the manifest, or <code>null</code>
+	 * @param parallelism the number of threads that deflate entries
+	 * @throws IOException if the manifest could not be written
+	 */
+	public ParallelJarOutputStream(OutputStream out, Manifest manifest, int parallelism) throws IOException {
+		super(out);
+		AtomicInteger threadCount= new AtomicInteger();
+		fExecutor= new ThreadPoolExecutor(parallelism, parallelism, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread= new Thread(r, "Jar Export Deflater " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		fExecutor.allowCoreThreadTimeOut(true);
+		fMaxPendingCount= 4 * parallelism;
+		if (manifest != null) {
+			// as in JarOutputStream(OutputStream, Manifest)
+			putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			manifest.write(new BufferedOutputStream(this));
+			closeEntry();
+		}
+	}
+
+	/**
+	 * Creates an archive with parallel compression that reuses the deflated data of the existing
+	 * archive at the same location.
+	 *
+	 * @param file the archive file
+	 * @param manifest the manifest, or <code>null</code>
+	 * @return the output stream for the archive
+	 * @throws IOException if the archive could not be created
+	 */
+	public static ParallelJarOutputStream create(File file, Manifest manifest) throws IOException {
+		PreviousArchive previous= null;
+		if (file.isFile()) {
+			// the archive is overwritten in place, read the previous version from a copy
+			File copy= File.createTempFile("previous", ".jar"); //$NON-NLS-1$ //$NON-NLS-2$
+			try {
+				Files.copy(file.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				previous= PreviousArchive.open(copy);
+			} catch (IOException e) {
+				// export without reusing entries
+			}
+			if (previous == null)
+				copy.delete();
+		}
+		ParallelJarOutputStream result= null;
+		try {
+			result= new ParallelJarOutputStream(new BufferedOutputStream(new FileOutputStream(file)), manifest, Runtime.getRuntime().availableProcessors());
+			result.fPreviousArchive= previous;
+			return result;
+		} finally {
+			if (result == null && previous != null)
+				previous.close();
+		}
+	}
+
+	/**
+	 * Adds an entry with the given content and closes the content stream. Deflated entries are
+	 * compressed in parallel. All entries are written in the order in which they were added.
+	 *
+	 * @param entry the entry
+	 * @param content the content of the entry
+	 * @throws IOException if the content could not be read or if the entry is a duplicate
+	 */
+	public void putEntry(JarEntry entry, InputStream content) throws IOException {
+		try {
+			addName(entry);
+			byte[] buffer= new byte[8192];
+			int length= 0;
+			int count;
+			while ((count= content.read(buffer, length, buffer.length - length)) != -1) {
+				length+= count;
+				if (length == buffer.length) {
+					if (length >= MAX_BUFFERED_ENTRY_SIZE) {
+						// too large to be kept in memory
+						writeAllPending();
+						super.putNextEntry(entry);
+						write(buffer, 0, length);
+						content.transferTo(this);
+						return;
+					}
+					buffer= Arrays.copyOf(buffer, 2 * buffer.length);
+				}
+			}
+			PendingEntry pending= new PendingEntry(entry, buffer, length);
+			if (entry.getMethod() != ZipEntry.STORED)
+				pending.fDeflated= fExecutor.submit(() -> deflate(pending));
+			addPending(pending);
+		} finally {
+			content.close();
+		}
+	}
+
+	/**
+	 * @return the number of entries whose deflated data was taken from the previous archive
+	 */
+	public int getReusedEntryCount() {
+		return fReusedCount.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Directory entries are written after the pending entries, other entries are written
+	 * immediately.
+	 * </p>
+	 */
+	@Override
+	public void putNextEntry(ZipEntry entry) throws IOException {
+		addName(entry);
+		if (entry.isDirectory()) {
+			addPending(new PendingEntry(entry, null, 0));
+		} else {
+			writeAllPending();
+			super.putNextEntry(entry);
+		}
+	}
+
+	@Override
+	public void finish() throws IOException {
+		writeAllPending();
+		super.finish();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			super.close();
+		} finally {
+			fExecutor.shutdownNow();
+			fPending.clear();
+			synchronized (fDeflaters) {
+				for (Deflater deflater : fDeflaters) {
+					deflater.end();
+				}
+				fDeflaters.clear();
+			}
+			fPassThroughDeflater.end();
+			if (fPreviousArchive != null) {
+				fPreviousArchive.close();
+				fPreviousArchive= null;
+			}
+		}
+	}
+
+	private void addName(ZipEntry entry) throws ZipException {
+		if (!fNames.add(entry.getName()))
+			throw new ZipException("duplicate entry: " + entry.getName()); //$NON-NLS-1$ same message as ZipOutputStream
+	}
+
+	private void addPending(PendingEntry pending) throws IOException {
+		fPending.add(pending);
+		fPendingSize+= pending.fLength;
+		while (fPending.size() > fMaxPendingCount || fPendingSize > MAX_PENDING_SIZE) {
+			writePending(fPending.remove());
+		}
+	}
+
+	private void writeAllPending() throws IOException {
+		while (!fPending.isEmpty()) {
+			writePending(fPending.remove());
+		}
+	}
+
+	private void writePending(PendingEntry pending) throws IOException {
+		fPendingSize-= pending.fLength;
+		// close a directly written entry with its own deflater
+		closeEntry();
+		if (pending.fDeflated == null) {
+			super.putNextEntry(pending.fEntry);
+			if (pending.fContent != null)
+				write(pending.fContent, 0, pending.fLength);
+			closeEntry();
+			return;
+		}
+		DeflatedData deflated;
+		try {
+			deflated= pending.fDeflated.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			throw new IOException(pending.fEntry.getName(), e.getCause());
+		}
+		Deflater deflater= def;
+		fPassThroughDeflater.setOutput(deflated);
+		def= fPassThroughDeflater;
+		try {
+			super.putNextEntry(pending.fEntry);
+			write(pending.fContent, 0, pending.fLength);
+			closeEntry();
+		} finally {
+			def= deflater;
+		}
+	}
+
+	private DeflatedData deflate(PendingEntry pending) {
+		if (fPreviousArchive != null) {
+			CRC32 crc= new CRC32();
+			crc.update(pending.fContent, 0, pending.fLength);
+			DeflatedData previous= fPreviousArchive.getDeflatedData(pending.fEntry.getName(), pending.fLength, crc.getValue());
+			if (previous != null) {
+				fReusedCount.incrementAndGet();
+				return previous;
+			}
+		}
+		Deflater deflater= fDeflater.get();
+		deflater.reset();
+		deflater.setInput(pending.fContent, 0, pending.fLength);
+		deflater.finish();
+		byte[] output= new byte[Math.max(64, pending.fLength / 2)];
+		int length= 0;
+		while (!deflater.finished()) {
+			if (length == output.length)
+				output= Arrays.copyOf(output, 2 * output.length);
+			length+= deflater.deflate(output, length, output.length - length);
+		}
+		return new DeflatedData(output, length);
+	}
+
+	/**
+	 * Deflated entries of a previous version of the archive, read from the central directory.
+	 */
+	private static class PreviousArchive {
+		private static final int LOCAL_HEADER_SIGNATURE= 0x04034b50;
+		private static final int CENTRAL_HEADER_SIGNATURE= 0x02014b50;
+		private static final int END_SIGNATURE= 0x06054b50;
+		private static final int ZIP64_LOCATOR_SIGNATURE= 0x07064b50;
+		private static final int ZIP64_END_SIGNATURE= 0x06064b50;
+		private static final int LOCAL_HEADER_LENGTH= 30;
+		private static final int CENTRAL_HEADER_LENGTH= 46;
+		private static final int END_LENGTH= 22;
+		private static final int ZIP64_LOCATOR_LENGTH= 20;
+		private static final int ZIP64_END_LENGTH= 56;
+		private static final int MAX_COMMENT_LENGTH= 0xFFFF;
+
+		private final File fFile;
+		private final FileChannel fChannel;
+
+		/**
+		 * Entry name to CRC-32, size, compressed size and local header offset.
+		 */
+		private final Map<String, long[]> fEntries;
+
+		private PreviousArchive(File file, FileChannel channel, Map<String, long[]> entries) {
+			fFile= file;
+			fChannel= channel;
+			fEntries= entries;
+		}
+
+		/**
+		 * @param file the archive
+		 * @return the archive, or <code>null</code> if it has no deflated entries
+		 * @throws IOException if the archive could not be read
+		 */
+		static PreviousArchive open(File file) throws IOException {
+			FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			try {
+				Map<String, long[]> entries= readCentralDirectory(channel);
+				if (entries.isEmpty()) {
+					channel.close();
+					return null;
+				}
+				return new PreviousArchive(file, channel, entries);
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		private static Map<String, long[]> readCentralDirectory(FileChannel channel) throws IOException {
+			long fileLength= channel.size();
+			int tailLength= (int) Math.min(fileLength, END_LENGTH + MAX_COMMENT_LENGTH);
+			long tailOffset= fileLength - tailLength;
+			ByteBuffer tail= read(channel, tailOffset, tailLength);
+			int end= tailLength - END_LENGTH;
+			while (end >= 0 && tail.getInt(end) != END_SIGNATURE) {
+				end--;
+			}
+			if (end < 0)
+				throw new ZipException("No end of central directory"); //$NON-NLS-1$
+			long count= tail.getShort(end + 10) & 0xFFFF;
+			long size= tail.getInt(end + 12) & 0xFFFFFFFFL;
+			long offset= tail.getInt(end + 16) & 0xFFFFFFFFL;
+			if ((count == 0xFFFF || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) && end >= ZIP64_LOCATOR_LENGTH
+					&& tail.getInt(end - ZIP64_LOCATOR_LENGTH) == ZIP64_LOCATOR_SIGNATURE) {
+				ByteBuffer zip64End= read(channel, tail.getLong(end - ZIP64_LOCATOR_LENGTH + 8), ZIP64_END_LENGTH);
+				if (zip64End.getInt(0) != ZIP64_END_SIGNATURE)
+					throw new ZipException("Invalid ZIP64 end of central directory"); //$NON-NLS-1$
+				count= zip64End.getLong(32);
+				size= zip64End.getLong(40);
+				offset= zip64End.getLong(48);
+			}
+			if (size > Integer.MAX_VALUE || offset + size > fileLength)
+				throw new ZipException("Invalid central directory"); //$NON-NLS-1$
+
+			ByteBuffer directory= read(channel, offset, (int) size);
+			Map<String, long[]> entries= new HashMap<>();
+			int pos= 0;
+			for (long i= 0; i < count; i++) {
+				if (pos + CENTRAL_HEADER_LENGTH > size || directory.getInt(pos) != CENTRAL_HEADER_SIGNATURE)
+					throw new ZipException("Invalid central directory entry"); //$NON-NLS-1$
+				int method= directory.getShort(pos + 10) & 0xFFFF;
+				long crc= directory.getInt(pos + 16) & 0xFFFFFFFFL;
+				long compressedSize= directory.getInt(pos + 20) & 0xFFFFFFFFL;
+				long entrySize= directory.getInt(pos + 24) & 0xFFFFFFFFL;
+				int nameLength= directory.getShort(pos + 28) & 0xFFFF;
+				int extraLength= directory.getShort(pos + 30) & 0xFFFF;
+				int commentLength= directory.getShort(pos + 32) & 0xFFFF;
+				long headerOffset= directory.getInt(pos + 42) & 0xFFFFFFFFL;
+				if (method == ZipEntry.DEFLATED && compressedSize != 0xFFFFFFFFL && entrySize != 0xFFFFFFFFL && headerOffset != 0xFFFFFFFFL) {
+					String name= new String(directory.array(), pos + CENTRAL_HEADER_LENGTH, nameLength, StandardCharsets.UTF_8);
+					entries.put(name, new long[] { crc, entrySize, compressedSize, headerOffset });
+				}
+				pos+= CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+			}
+			return entries;
+		}
+
+		private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+			ByteBuffer buffer= ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, offset + buffer.position()) == -1)
+					throw new ZipException("Unexpected end of archive"); //$NON-NLS-1$
+			}
+			buffer.flip();
+			return buffer;
+		}
+
+		/**
+		 * Returns the deflated data of an entry with the given content. Can be called from several
+		 * threads.
+		 *
+		 * @param name the entry name
+		 * @param size the size of the content
+		 * @param crc the CRC-32 of the content
+		 * @return the deflated data, or <code>null</code> if the previous archive has no entry
+		 *         with this content
+		 */
+		DeflatedData getDeflatedData(String name, int size, long crc) {
+			long[] entry= fEntries.get(name);
+			if (entry == null || entry[0] != crc || entry[1] != size || entry[2] > Integer.MAX_VALUE)
+				return null;
+			try {
+				ByteBuffer header= read(fChannel, entry[3], LOCAL_HEADER_LENGTH);
+				if (header.getInt(0) != LOCAL_HEADER_SIGNATURE)
+					return null;
+				long dataOffset= entry[3] + LOCAL_HEADER_LENGTH + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF);
+				ByteBuffer data= read(fChannel, dataOffset, (int) entry[2]);
+				return new DeflatedData(data.array(), data.limit());
+			} catch (IOException e) {
+				// deflate the content again
+				return null;
+			}
+		}
+
+		void close() {
+			try {
+				fChannel.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fFile.delete();
+		}
+	}
+}
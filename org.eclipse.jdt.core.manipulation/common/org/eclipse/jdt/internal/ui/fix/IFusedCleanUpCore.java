@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
+import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
+
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+
+/**
+ * A clean up which can search the AST of the context in a traversal shared with other clean ups.
+ */
+public interface IFusedCleanUpCore {
+
+	/**
+	 * Creates the fix from the data collected during the traversal.
+	 */
+	interface FixCollectorCore {
+
+		/**
+		 * Must only be called after the fused visitor has traversed the AST of the context.
+		 *
+		 * @return the fix or <code>null</code> if nothing to fix
+		 * @throws CoreException if something went wrong
+		 */
+		ICleanUpFixCore createFix() throws CoreException;
+	}
+
+	/**
+	 * Adds the visitors of this clean up to <code>fused</code>.
+	 *
+	 * @param context the context, its AST is traversed by <code>fused</code>
+	 * @param fused the visitor which traverses the AST of the context
+	 * @return the collector creating the fix or <code>null</code> if the clean up does not take
+	 *         part in the traversal, in which case it must be run on its own
+	 * @throws CoreException if something went wrong
+	 */
+	FixCollectorCore createFixCollector(CleanUpContextCore context, FusedASTVisitor fused) throws CoreException;
+}
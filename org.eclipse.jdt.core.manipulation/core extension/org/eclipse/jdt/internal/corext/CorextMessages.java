@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,8 @@ public final class CorextMessages extends NLS {
 
 	public static String History_error_serialize;
 	public static String History_error_read;
+	public static String History_error_journal_write;
+	public static String History_error_journal_read;
 	public static String TypeInfoHistory_consistency_check;
 
 	static {
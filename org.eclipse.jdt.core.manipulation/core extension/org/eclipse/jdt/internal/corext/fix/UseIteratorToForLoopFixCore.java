@@ -23,6 +23,7 @@ import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation;
 import org.eclipse.jdt.internal.corext.fix.helper.AbstractTool;
 import org.eclipse.jdt.internal.corext.fix.helper.WhileLoopToChangeHit;
@@ -60,6 +61,21 @@ public enum UseIteratorToForLoopFixCore {
 		iteratortofor.find(this, compilationUnit, operations, nodesprocessed, createForOnlyIfVarUsed);
 	}
 
+	/**
+	 * Adds the visitors computing the set of CompilationUnitRewriteOperation to <code>fused</code>
+	 *
+	 * @param compilationUnit unit to search in
+	 * @param operations set of all CompilationUnitRewriteOperations created already
+	 * @param nodesprocessed list to remember nodes already processed
+	 * @param createForOnlyIfVarUsed true if for loop should be created only only if loop var used within
+	 * @param fused visitor traversing <code>compilationUnit</code>
+	 * @return runnable adding the operations, to be run after <code>fused</code> has traversed <code>compilationUnit</code>
+	 */
+	public Runnable findOperations(final CompilationUnit compilationUnit, final Set<CompilationUnitRewriteOperation> operations,
+			final Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed, FusedASTVisitor fused) {
+		return iteratortofor.find(this, compilationUnit, operations, nodesprocessed, createForOnlyIfVarUsed, fused);
+	}
+
 	public CompilationUnitRewriteOperation rewrite(final WhileLoopToChangeHit hit) {
 		return new CompilationUnitRewriteOperation() {
 			@Override
@@ -24,6 +24,7 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.Name;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.dom.AbortSearchException;
 import org.eclipse.jdt.internal.corext.dom.ScopeAnalyzer;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation;
@@ -45,8 +46,23 @@ public abstract class AbstractTool<T> {
 		return typeBinding.getQualifiedName().equals(typename);
 	}
 
-	public abstract void find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit, Set<CompilationUnitRewriteOperation> operations,
-			Set<ASTNode> nodesprocessed, boolean createForIfVarNotUsed);
+	public void find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit, Set<CompilationUnitRewriteOperation> operations,
+			Set<ASTNode> nodesprocessed, boolean createForIfVarNotUsed) {
+		FusedASTVisitor fused= new FusedASTVisitor();
+		Runnable completion= find(fixcore, compilationUnit, operations, nodesprocessed, createForIfVarNotUsed, fused);
+		compilationUnit.accept(fused);
+		completion.run();
+	}
+
+	/**
+	 * Adds the visitors searching <code>compilationUnit</code> to <code>fused</code>, such that
+	 * the search can share a single traversal with other visitors.
+	 *
+	 * @return runnable adding the operations to <code>operations</code>, to be run after
+	 *         <code>fused</code> has traversed <code>compilationUnit</code>
+	 */
+	public abstract Runnable find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit, Set<CompilationUnitRewriteOperation> operations,
+			Set<ASTNode> nodesprocessed, boolean createForIfVarNotUsed, FusedASTVisitor fused);
 
 	public abstract void rewrite(UseIteratorToForLoopFixCore useExplicitEncodingFixCore, T holder, CompilationUnitRewrite cuRewrite,
 			TextEditGroup group);
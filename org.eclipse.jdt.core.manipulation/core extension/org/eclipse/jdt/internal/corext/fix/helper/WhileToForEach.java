@@ -54,6 +54,7 @@ import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.TypeLocation;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.common.HelperVisitor;
 import org.eclipse.jdt.internal.common.ReferenceHolder;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
@@ -75,12 +76,13 @@ import org.eclipse.jdt.internal.corext.refactoring.structure.ImportRemover;
 public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 
 	@Override
-	public void find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit,
-			Set<CompilationUnitRewriteOperation> operations, Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed) {
+	public Runnable find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit,
+			Set<CompilationUnitRewriteOperation> operations, Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed, FusedASTVisitor fused) {
 		ReferenceHolder<ASTNode, WhileLoopToChangeHit> dataholder= new ReferenceHolder<>();
 		Map<ASTNode, WhileLoopToChangeHit> operationsMap= new LinkedHashMap<>();
 		WhileLoopToChangeHit invalidHit= new WhileLoopToChangeHit(true);
-		HelperVisitor.callVariableDeclarationStatementVisitor(Iterator.class, compilationUnit, dataholder, nodesprocessed, (init_iterator, holder_a) -> {
+		HelperVisitor<ReferenceHolder<ASTNode, WhileLoopToChangeHit>, ASTNode, WhileLoopToChangeHit> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		hv.addVariableDeclarationStatement(Iterator.class, (init_iterator, holder_a) -> {
 			List<Object> computeVarName= computeVarName(init_iterator);
 			MethodInvocation iteratorCall= computeIteratorCall(init_iterator);
 			if (computeVarName != null && iteratorCall != null) {
@@ -188,11 +190,14 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 			}
 			return true;
 		});
-		for (WhileLoopToChangeHit hit : operationsMap.values()) {
-			if (!hit.isInvalid && validate(hit)) {
-				operations.add(fixcore.rewrite(hit));
+		fused.add(hv);
+		return () -> {
+			for (WhileLoopToChangeHit hit : operationsMap.values()) {
+				if (!hit.isInvalid && validate(hit)) {
+					operations.add(fixcore.rewrite(hit));
+				}
 			}
-		}
+		};
 	}
 
 	private static boolean validate(final WhileLoopToChangeHit hit) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -119,8 +119,11 @@ public class RefactoringAnalyzeUtil {
 	}
 
 	public static IProblem[] getIntroducedCompileProblems(CompilationUnit newCUNode, CompilationUnit oldCuNode) {
+		return getIntroducedCompileProblems(newCUNode, getOldProblems(oldCuNode));
+	}
+
+	static IProblem[] getIntroducedCompileProblems(CompilationUnit newCUNode, Set<IProblem> oldProblems) {
 		Set<IProblem> subResult= new HashSet<>();
-		Set<IProblem> oldProblems= getOldProblems(oldCuNode);
 		IProblem[] newProblems= ASTNodes.getProblems(newCUNode, ASTNodes.INCLUDE_ALL_PARENTS, ASTNodes.PROBLEMS);
 		for (IProblem newProblem : newProblems) {
 			IProblem correspondingOld= findCorrespondingProblem(oldProblems, newProblem);
@@ -175,7 +178,7 @@ public class RefactoringAnalyzeUtil {
 		return getSimpleName(node);
 	}
 
-	private static Set<IProblem> getOldProblems(CompilationUnit oldCuNode) {
+	static Set<IProblem> getOldProblems(CompilationUnit oldCuNode) {
 		return new HashSet<>(Arrays.asList(ASTNodes.getProblems(oldCuNode, ASTNodes.INCLUDE_ALL_PARENTS, ASTNodes.PROBLEMS)));
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -413,42 +414,100 @@ public class RenameAnalyzeUtil {
 	}
 
 	private static RefactoringStatus analyzeLocalRenames(LocalAnalyzePackage[] analyzePackages, TextChange cuChange, CompilationUnit oldCUNode, boolean isCompactConstructor, boolean recovery) throws CoreException {
+		LocalRenameAnalysis analysis= new LocalRenameAnalysis(analyzePackages, cuChange, oldCUNode, isCompactConstructor);
+		CompilationUnit newCUNode= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(analysis.getNewSource(), analysis.getCompilationUnit(), true, recovery, null);
+		return analysis.analyze(newCUNode);
+	}
 
-		RefactoringStatus result= new RefactoringStatus();
-		ICompilationUnit compilationUnit= (ICompilationUnit) oldCUNode.getJavaElement();
+	/**
+	 * The analysis of a set of local variable renames inside one cu, split into the parts before
+	 * and after the changed cu has been parsed. Allows clients to parse the changed cus of many
+	 * analyses together. The analysis only keeps the problems of the original AST, not the AST
+	 * itself.
+	 *
+	 * @see RenameAnalyzeUtil#analyzeLocalRenames(LocalAnalyzePackage[], TextChange, CompilationUnit, boolean)
+	 */
+	public static final class LocalRenameAnalysis {
+
+		private final LocalAnalyzePackage[] fAnalyzePackages;
+		private final TextChange fCuChange;
+		private final ICompilationUnit fCompilationUnit;
+		private final boolean fIsCompactConstructor;
+		private final Set<IProblem> fOldProblems;
+		private final String fNewSource;
+
+		/**
+		 * Creates the analysis and computes the preview content of the change.
+		 *
+		 * @param analyzePackages the LocalAnalyzePackages containing the information about the local renames
+		 * @param cuChange the TextChange containing all local variable changes to be applied.
+		 * @param oldCUNode the fully (incl. bindings) resolved AST node of the original compilation unit
+		 * @throws CoreException thrown if there was an error greating the preview content of the change
+		 */
+		public LocalRenameAnalysis(LocalAnalyzePackage[] analyzePackages, TextChange cuChange, CompilationUnit oldCUNode) throws CoreException {
+			this(analyzePackages, cuChange, oldCUNode, false);
+		}
 
-		String newCuSource= cuChange.getPreviewContent(new NullProgressMonitor());
-		CompilationUnit newCUNode= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(newCuSource, compilationUnit, true, recovery, null);
+		LocalRenameAnalysis(LocalAnalyzePackage[] analyzePackages, TextChange cuChange, CompilationUnit oldCUNode, boolean isCompactConstructor) throws CoreException {
+			fAnalyzePackages= analyzePackages;
+			fCuChange= cuChange;
+			fCompilationUnit= (ICompilationUnit) oldCUNode.getJavaElement();
+			fIsCompactConstructor= isCompactConstructor;
+			fOldProblems= RefactoringAnalyzeUtil.getOldProblems(oldCUNode);
+			fNewSource= cuChange.getPreviewContent(new NullProgressMonitor());
+		}
 
-		result.merge(analyzeCompileErrors(newCuSource, newCUNode, oldCUNode));
-		if (result.hasError())
-			return result;
+		/**
+		 * @return the original compilation unit
+		 */
+		public ICompilationUnit getCompilationUnit() {
+			return fCompilationUnit;
+		}
 
-		for (LocalAnalyzePackage analyzePackage : analyzePackages) {
-			ASTNode enclosing;
-			IRegion newRegion;
-			if (!isCompactConstructor) {
-				enclosing= getEnclosingBlockOrMethodOrLambda(analyzePackage.fDeclarationEdit, cuChange, newCUNode);
-				newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit, cuChange);
-			} else {
-				enclosing= RefactoringAnalyzeUtil.getRecordDeclarationCompactConstructor(analyzePackage.fDeclarationEdit.getParent(), cuChange, newCUNode);
-				newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit.getParent(), cuChange);
-			}
+		/**
+		 * @return the source of the compilation unit after the change has been applied
+		 */
+		public String getNewSource() {
+			return fNewSource;
+		}
+
+		/**
+		 * Analyzes the changed compilation unit. May be called from any thread.
+		 *
+		 * @param newCUNode the fully (incl. bindings) resolved AST node of {@link #getNewSource()}
+		 * @return a RefactoringStatus containing errors if compile errors or wrongly renamed nodes are found
+		 */
+		public RefactoringStatus analyze(CompilationUnit newCUNode) {
+			RefactoringStatus result= new RefactoringStatus();
+			result.merge(analyzeCompileErrors(fNewSource, newCUNode, fOldProblems));
+			if (result.hasError())
+				return result;
+
+			for (LocalAnalyzePackage analyzePackage : fAnalyzePackages) {
+				ASTNode enclosing;
+				IRegion newRegion;
+				if (!fIsCompactConstructor) {
+					enclosing= getEnclosingBlockOrMethodOrLambda(analyzePackage.fDeclarationEdit, fCuChange, newCUNode);
+					newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit, fCuChange);
+				} else {
+					enclosing= RefactoringAnalyzeUtil.getRecordDeclarationCompactConstructor(analyzePackage.fDeclarationEdit.getParent(), fCuChange, newCUNode);
+					newRegion= RefactoringAnalyzeUtil.getNewTextRange(analyzePackage.fDeclarationEdit.getParent(), fCuChange);
+				}
 
-			// get new declaration
-			ASTNode newDeclaration= NodeFinder.perform(newCUNode, newRegion.getOffset(), newRegion.getLength());
-			Assert.isTrue(newDeclaration instanceof Name);
+				// get new declaration
+				ASTNode newDeclaration= NodeFinder.perform(newCUNode, newRegion.getOffset(), newRegion.getLength());
+				Assert.isTrue(newDeclaration instanceof Name);
 
-			VariableDeclaration declaration= getVariableDeclaration((Name) newDeclaration);
-			Assert.isNotNull(declaration);
+				VariableDeclaration declaration= getVariableDeclaration((Name) newDeclaration);
+				Assert.isNotNull(declaration);
 
-			SimpleName[] problemNodes= ProblemNodeFinder.getProblemNodes(enclosing, declaration, analyzePackage.fOccurenceEdits, cuChange);
-			result.merge(RefactoringAnalyzeUtil.reportProblemNodes(newCuSource, problemNodes));
+				SimpleName[] problemNodes= ProblemNodeFinder.getProblemNodes(enclosing, declaration, analyzePackage.fOccurenceEdits, fCuChange);
+				result.merge(RefactoringAnalyzeUtil.reportProblemNodes(fNewSource, problemNodes));
+			}
+			return result;
 		}
-		return result;
 	}
 
-
 	private static VariableDeclaration getVariableDeclaration(Name node) {
 		IBinding binding= node.resolveBinding();
 		if (binding == null && node.getParent() instanceof VariableDeclaration)
@@ -470,9 +529,9 @@ public class RenameAnalyzeUtil {
 		return enclosing;
 	}
 
-	private static RefactoringStatus analyzeCompileErrors(String newCuSource, CompilationUnit newCUNode, CompilationUnit oldCUNode) {
+	private static RefactoringStatus analyzeCompileErrors(String newCuSource, CompilationUnit newCUNode, Set<IProblem> oldProblems) {
 		RefactoringStatus result= new RefactoringStatus();
-		for (IProblem problem : RefactoringAnalyzeUtil.getIntroducedCompileProblems(newCUNode, oldCUNode)) {
+		for (IProblem problem : RefactoringAnalyzeUtil.getIntroducedCompileProblems(newCUNode, oldProblems)) {
 			if (problem.isError())
 				result.addEntry(new RefactoringStatusEntry(RefactoringStatus.ERROR, problem.getMessage(), new JavaStringStatusContext(newCuSource,
 						SourceRangeFactory.create(problem))));
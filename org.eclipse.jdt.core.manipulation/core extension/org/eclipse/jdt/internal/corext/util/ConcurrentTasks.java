@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Helpers for operations which split their work into independent tasks and run them on
+ * several threads. The calling thread waits for the results and gets the exceptions of the
+ * tasks as if it had run them itself.
+ */
+public final class ConcurrentTasks {
+
+	private ConcurrentTasks() {
+	}
+
+	/**
+	 * Creates an executor with daemon threads, so that an operation which fails to shut down
+	 * its executor does not keep the VM alive. The caller has to shut down the executor when
+	 * the operation is done.
+	 *
+	 * @param threadName the name of the threads
+	 * @param parallelism the number of threads
+	 * @return the executor
+	 */
+	public static ExecutorService newExecutor(String threadName, int parallelism) {
+		return Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread= new Thread(runnable, threadName);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Waits for the result of a task.
+	 *
+	 * @param future the task
+	 * @return the result of the task
+	 * @throws JavaModelException if the task failed with a {@link CoreException}
+	 * @throws OperationCanceledException if the calling thread was interrupted
+	 */
+	public static <T> T getResult(Future<T> future) throws JavaModelException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof JavaModelException)
+				throw (JavaModelException) cause;
+			if (cause instanceof CoreException)
+				throw new JavaModelException((CoreException) cause);
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Waits for a task which does not throw checked exceptions.
+	 *
+	 * @param future the task
+	 * @throws OperationCanceledException if the calling thread was interrupted
+	 */
+	public static void join(Future<?> future) {
+		try {
+			getResult(future);
+		} catch (JavaModelException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
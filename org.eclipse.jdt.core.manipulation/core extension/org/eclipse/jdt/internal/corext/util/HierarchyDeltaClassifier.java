@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+
+/**
+ * Tells which type hierarchies are invalidated by a Java element delta: a hierarchy is
+ * invalidated when the super types of one of its types, the imports of the compilation unit of
+ * one of its types or the class path change.
+ *
+ * @see SuperTypeHierarchyCache
+ */
+public final class HierarchyDeltaClassifier {
+
+	private static final int STRUCTURE_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER;
+
+	private static final int UNIT_FLAGS= IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_PRIMARY_RESOURCE;
+
+	private static final int TYPE_FLAGS= IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS;
+
+	/**
+	 * Collects the compilation units whose changes invalidate the hierarchies that contain
+	 * one of their types.
+	 *
+	 * @param delta the delta
+	 * @param units the collected primary compilation units
+	 * @return <code>true</code> if all hierarchies are invalidated, e.g. because a type was
+	 *         added or removed and super type references may now resolve differently
+	 */
+	public static boolean collectAffectedUnits(IJavaElementDelta delta, Set<ICompilationUnit> units) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & STRUCTURE_FLAGS) != 0)
+					return true;
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+			case IJavaElement.CLASS_FILE:
+				if (kind != IJavaElementDelta.CHANGED)
+					return true;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (kind != IJavaElementDelta.CHANGED)
+					return true;
+				if ((flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+					if ((flags & UNIT_FLAGS) != 0)
+						units.add(((ICompilationUnit) element).getPrimary());
+					return false;
+				}
+				break;
+			case IJavaElement.TYPE:
+				if (kind != IJavaElementDelta.CHANGED) {
+					if (element.getParent().getElementType() == IJavaElement.COMPILATION_UNIT)
+						return true;
+					addCompilationUnit(element, units);
+					return false;
+				}
+				if ((flags & TYPE_FLAGS) != 0)
+					addCompilationUnit(element, units);
+				break;
+			case IJavaElement.IMPORT_CONTAINER:
+			case IJavaElement.IMPORT_DECLARATION:
+				addCompilationUnit(element, units);
+				return false;
+			case IJavaElement.METHOD:
+			case IJavaElement.FIELD:
+			case IJavaElement.INITIALIZER:
+				// may contain local and anonymous types
+				break;
+			default:
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (collectAffectedUnits(child, units))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether a delta invalidates any type hierarchy.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if a hierarchy that contains a type of the workspace may be
+	 *         invalidated by the delta
+	 */
+	public static boolean affectsHierarchies(IJavaElementDelta delta) {
+		Set<ICompilationUnit> units= new HashSet<>();
+		return collectAffectedUnits(delta, units) || !units.isEmpty();
+	}
+
+	/**
+	 * Tells whether a delta may invalidate a hierarchy that contains subtypes. Such hierarchies
+	 * can contain local and anonymous types of any compilation unit, whose changes are not
+	 * always reported as type deltas, so any change of the content of a compilation unit
+	 * invalidates them.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if a hierarchy that contains subtypes may be invalidated by the
+	 *         delta
+	 */
+	public static boolean affectsSubtypeHierarchies(IJavaElementDelta delta) {
+		return affectsHierarchies(delta) || changesUnitContent(delta);
+	}
+
+	private static boolean changesUnitContent(IJavaElementDelta delta) {
+		switch (delta.getElement().getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (changesUnitContent(child))
+						return true;
+				}
+				return false;
+			case IJavaElement.COMPILATION_UNIT:
+				return delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (UNIT_FLAGS | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_CHILDREN)) != 0;
+			default:
+				return false;
+		}
+	}
+
+	private static void addCompilationUnit(IJavaElement element, Set<ICompilationUnit> units) {
+		ICompilationUnit unit= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (unit != null)
+			units.add(unit.getPrimary());
+	}
+
+	private HierarchyDeltaClassifier() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,58 +13,85 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
-import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * A hierarchy is computed at most once at a time for the same type: threads asking for a type
+ * whose hierarchy is being computed wait for that computation. The cache is bounded by the
+ * number of types in the cached hierarchies, which is derived from the maximal heap size. Cached
+ * hierarchies are invalidated by a single Java element delta listener when the super types of one
+ * of their types, the imports of its compilation unit or the class path change.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
-	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
-
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+	private static class HierarchyCacheEntry {
+
+		private final ITypeHierarchy fTypeHierarchy;
+		/**
+		 * All types of the hierarchy, used to maintain the type index of the cache.
+		 */
+		private final IType[] fTypes;
+		/**
+		 * The primary compilation units that declare the source types of the hierarchy.
+		 */
+		private final Set<ICompilationUnit> fCompilationUnits;
+		private final int fWeight;
+		private final ConcurrentHashMap<IType, MethodOverrideTester> fMethodOverrideTesters= new ConcurrentHashMap<>(4);
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
-			fTypeHierarchy.addTypeHierarchyChangedListener(this);
+			fTypes= hierarchy.getAllTypes();
+			fCompilationUnits= new HashSet<>();
+			for (IType type : fTypes) {
+				ICompilationUnit unit= type.getCompilationUnit();
+				if (unit != null)
+					fCompilationUnits.add(unit.getPrimary());
+			}
+			fWeight= Math.max(1, fTypes.length);
 			markAsAccessed();
 		}
 
-		@Override
-		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
-			removeHierarchyEntryFromCache(this);
-		}
-
 		public ITypeHierarchy getTypeHierarchy() {
 			return fTypeHierarchy;
 		}
 
+		public MethodOverrideTester getMethodOverrideTester(IType type) {
+			return fMethodOverrideTesters.computeIfAbsent(type, t -> new MethodOverrideTester(t, fTypeHierarchy));
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= System.nanoTime();
 		}
 
 		public long getLastAccess() {
 			return fLastAccess;
 		}
 
-		public void dispose() {
-			if (fTypeHierarchy != null) {
-				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
-				fTypeHierarchy= null;
-			}
-		}
-
 		@Override
 		public String toString() {
 			return "Super hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
@@ -72,14 +99,60 @@ public class SuperTypeHierarchyCache {
 
 	}
 
+	/**
+	 * Removes the hierarchies affected by a Java element delta from the cache.
+	 */
+	private static class HierarchyInvalidator implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<ICompilationUnit> units= new HashSet<>();
+			if (HierarchyDeltaClassifier.collectAffectedUnits(event.getDelta(), units)) {
+				flushCache();
+			} else if (!units.isEmpty()) {
+				removeHierarchies(units);
+			}
+		}
+	}
+
+	/**
+	 * Estimated retained heap in bytes per type of a cached hierarchy, including the
+	 * hierarchy's maps and the type handles.
+	 */
+	private static final long BYTES_PER_TYPE= 2048;
+
+	/**
+	 * Part of the maximal heap which may be used by the cache.
+	 */
+	private static final double HEAP_FRACTION= 0.01;
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * Minimal number of types the cache may hold, independent of the heap size.
+	 */
+	private static final long MIN_CACHED_TYPES= 256;
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static final long MAX_CACHED_TYPES= Math.max(MIN_CACHED_TYPES, (long) (Runtime.getRuntime().maxMemory() * HEAP_FRACTION) / BYTES_PER_TYPE);
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	private static final ConcurrentHashMap<IType, HierarchyCacheEntry> fgHierarchyCache= new ConcurrentHashMap<>();
+	/**
+	 * Maps the types of the cached hierarchies to a cached hierarchy that contains them, so that
+	 * a hierarchy can be found for a type other than its focus type without scanning the cache.
+	 * When a type is contained in several hierarchies, the one added last is indexed.
+	 */
+	private static final ConcurrentHashMap<IType, HierarchyCacheEntry> fgTypeIndex= new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<IType, FutureTask<HierarchyCacheEntry>> fgPendingHierarchies= new ConcurrentHashMap<>();
+
+	private static final AtomicLong fgCachedTypes= new AtomicLong();
+	/**
+	 * Incremented whenever cached hierarchies are invalidated. Hierarchies whose computation
+	 * overlapped an invalidation are returned to the caller, but not cached.
+	 */
+	private static final AtomicLong fgGeneration= new AtomicLong();
+	private static final AtomicReference<HierarchyInvalidator> fgInvalidator= new AtomicReference<>();
+
+	private static final LongAdder fgCacheHits= new LongAdder();
+	private static final LongAdder fgCacheMisses= new LongAdder();
+	private static final LongAdder fgComputeTime= new LongAdder();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +170,7 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
-		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
-			}
-		}
-		return test;
-	}
-
-	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		return getEntry(type, null).getMethodOverrideTester(type);
 	}
 
 	/**
@@ -138,44 +186,104 @@ public class SuperTypeHierarchyCache {
 	 * @throws JavaModelException if a problem occurs
 	 */
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
-		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
-		if (hierarchy == null) {
-			fgCacheMisses++;
-			hierarchy= type.newSupertypeHierarchy(progressMonitor);
-			addTypeHierarchyToCache(hierarchy);
-		} else {
-			fgCacheHits++;
+		return getEntry(type, progressMonitor).getTypeHierarchy();
+	}
+
+	private static HierarchyCacheEntry getEntry(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		while (true) {
+			HierarchyCacheEntry entry= findEntryInCache(type);
+			if (entry != null) {
+				fgCacheHits.increment();
+				return entry;
+			}
+			FutureTask<HierarchyCacheEntry> task= new FutureTask<>(() -> computeEntry(type, progressMonitor));
+			FutureTask<HierarchyCacheEntry> pending= fgPendingHierarchies.putIfAbsent(type, task);
+			if (pending == null) {
+				try {
+					task.run();
+				} finally {
+					fgPendingHierarchies.remove(type, task);
+				}
+				return ConcurrentTasks.getResult(task);
+			}
+			try {
+				entry= ConcurrentTasks.getResult(pending);
+				fgCacheHits.increment();
+				return entry;
+			} catch (OperationCanceledException e) {
+				// the computing thread has been canceled, compute the hierarchy with our own monitor
+				if (progressMonitor != null && progressMonitor.isCanceled())
+					throw e;
+				// don't wait for the computing thread to remove its canceled task
+				fgPendingHierarchies.remove(type, pending);
+			}
 		}
-		return hierarchy;
 	}
 
-	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
+	private static HierarchyCacheEntry computeEntry(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		HierarchyCacheEntry entry= findEntryInCache(type); // another thread may have just finished
+		if (entry != null)
+			return entry;
+
+		if (fgInvalidator.get() == null) {
+			HierarchyInvalidator invalidator= new HierarchyInvalidator();
+			if (fgInvalidator.compareAndSet(null, invalidator))
+				JavaCore.addElementChangedListener(invalidator, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+
+		long generation= fgGeneration.get();
+		long start= System.nanoTime();
+		ITypeHierarchy hierarchy= type.newSupertypeHierarchy(progressMonitor);
+		long elapsed= System.nanoTime() - start;
+		fgCacheMisses.increment();
+		fgComputeTime.add(elapsed);
+
+		entry= new HierarchyCacheEntry(hierarchy);
+		if (generation == fgGeneration.get())
+			addEntryToCache(type, entry);
+
+		if (JavaManipulationPlugin.DEBUG_TYPE_HIERARCHY_CACHE) {
+			System.out.println("SuperTypeHierarchyCache > computed hierarchy of " + type.getFullyQualifiedName() + " with " + entry.fWeight //$NON-NLS-1$ //$NON-NLS-2$
+					+ " types in " + elapsed / 1000000 + " ms (hits: " + getCacheHits() + ", misses: " + getCacheMisses() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ ", compute time: " + getComputeTime() + " ms, cached types: " + getCachedTypes() + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return entry;
+	}
+
+	private static void addEntryToCache(IType type, HierarchyCacheEntry newEntry) {
+		HierarchyCacheEntry previous= fgHierarchyCache.put(type, newEntry);
+		fgCachedTypes.addAndGet(newEntry.fWeight - (previous != null ? previous.fWeight : 0));
+		if (previous != null)
+			removeFromIndex(previous);
+		for (IType curr : newEntry.fTypes) {
+			fgTypeIndex.put(curr, newEntry);
+		}
+		if (fgHierarchyCache.get(type) != newEntry) {
+			// removed concurrently, possibly before it was indexed
+			removeFromIndex(newEntry);
+			return;
+		}
+		if (fgCachedTypes.get() <= MAX_CACHED_TYPES)
+			return;
+
 		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
+			// first remove obsolete entries, i.e. hierarchies which are contained in the new one
+			ITypeHierarchy hierarchy= newEntry.getTypeHierarchy();
+			for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+				if (entry != newEntry && hierarchy.contains(entry.getTypeHierarchy().getType()))
+					removeEntryFromCache(entry);
+			}
+			// then remove the entries that were least recently accessed
+			while (fgCachedTypes.get() > MAX_CACHED_TYPES) {
 				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
-				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+				for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+					if (entry != newEntry && (oldest == null || entry.getLastAccess() < oldest.getLastAccess()))
+						oldest= entry;
 				}
+				if (oldest == null)
+					break;
+				removeEntryFromCache(oldest);
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
-			fgHierarchyCache.add(newEntry);
 		}
 	}
 
@@ -186,51 +294,109 @@ public class SuperTypeHierarchyCache {
 	 * @return <code>true</code> if a hierarchy for the given type is cached
 	 */
 	public static boolean hasInCache(IType type) {
-		return findTypeHierarchyInCache(type) != null;
+		return findEntryInCache(type) != null;
 	}
 
 
-	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+	private static HierarchyCacheEntry findEntryInCache(IType type) {
+		HierarchyCacheEntry entry= fgHierarchyCache.get(type);
+		if (entry == null) {
+			entry= fgTypeIndex.get(type);
+			if (entry != null && fgHierarchyCache.get(entry.getTypeHierarchy().getType()) != entry)
+				entry= null; // being removed
+		}
+		if (entry != null) {
+			if (!entry.getTypeHierarchy().exists()) {
+				removeEntryFromCache(entry);
+				return null;
 			}
+			entry.markAsAccessed();
 		}
-		return null;
+		return entry;
 	}
 
-	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
-			entry.dispose();
-			fgHierarchyCache.remove(entry);
+	private static void removeEntryFromCache(HierarchyCacheEntry entry) {
+		if (fgHierarchyCache.remove(entry.getTypeHierarchy().getType(), entry)) {
+			fgCachedTypes.addAndGet(-entry.fWeight);
+			removeFromIndex(entry);
+		}
+	}
+
+	private static void removeFromIndex(HierarchyCacheEntry entry) {
+		for (IType type : entry.fTypes) {
+			fgTypeIndex.remove(type, entry);
+		}
+	}
+
+	private static void removeHierarchies(Set<ICompilationUnit> units) {
+		fgGeneration.incrementAndGet();
+		for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+			if (!Collections.disjoint(entry.fCompilationUnits, units))
+				removeEntryFromCache(entry);
+		}
+	}
+
+	/**
+	 * Removes all hierarchies from the cache and stops listening to Java element changes. Called
+	 * when the plug-in is stopped.
+	 */
+	public static void dispose() {
+		HierarchyInvalidator invalidator= fgInvalidator.getAndSet(null);
+		if (invalidator != null)
+			JavaCore.removeElementChangedListener(invalidator);
+		flushCache();
+	}
+
+	/**
+	 * Removes all hierarchies from the cache.
+	 */
+	public static void flushCache() {
+		fgGeneration.incrementAndGet();
+		for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+			removeEntryFromCache(entry);
 		}
 	}
 
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
-	 * @return Returns a int
+	 * @return Returns a long
 	 */
-	public static int getCacheHits() {
-		return fgCacheHits;
+	public static long getCacheHits() {
+		return fgCacheHits.sum();
 	}
 
 	/**
 	 * Gets the number of times the hierarchy was build. Used for testing.
-	 * @return Returns a int
+	 * @return Returns a long
+	 */
+	public static long getCacheMisses() {
+		return fgCacheMisses.sum();
+	}
+
+	/**
+	 * Gets the total time spent building hierarchies.
+	 * @return the time in milliseconds
+	 */
+	public static long getComputeTime() {
+		return fgComputeTime.sum() / 1000000;
+	}
+
+	/**
+	 * Gets the number of types in all cached hierarchies, which is used to bound the cache.
+	 * @return the number of cached types
+	 */
+	public static long getCachedTypes() {
+		return fgCachedTypes.get();
+	}
+
+	/**
+	 * Resets the hit, miss and compute time statistics.
 	 */
-	public static int getCacheMisses() {
-		return fgCacheMisses;
+	public static void resetStatistics() {
+		fgCacheHits.reset();
+		fgCacheMisses.reset();
+		fgComputeTime.reset();
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -33,12 +33,13 @@ import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
 import org.eclipse.jdt.core.manipulation.CleanUpRequirementsCore;
 import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation;
 import org.eclipse.jdt.internal.corext.fix.UseIteratorToForLoopFixCore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
-public class UseIteratorToForLoopCleanUpCore extends AbstractCleanUpCore {
+public class UseIteratorToForLoopCleanUpCore extends AbstractCleanUpCore implements IFusedCleanUpCore {
 	public UseIteratorToForLoopCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -57,6 +58,17 @@ public class UseIteratorToForLoopCleanUpCore extends AbstractCleanUpCore {
 
 	@Override
 	public ICleanUpFixCore createFixCore(final CleanUpContextCore context) throws CoreException {
+		FusedASTVisitor fused= new FusedASTVisitor();
+		FixCollectorCore collector= createFixCollector(context, fused);
+		if (collector == null) {
+			return null;
+		}
+		context.getAST().accept(fused);
+		return collector.createFix();
+	}
+
+	@Override
+	public FixCollectorCore createFixCollector(final CleanUpContextCore context, final FusedASTVisitor fused) throws CoreException {
 		CompilationUnit compilationUnit= context.getAST();
 		if (compilationUnit == null) {
 			return null;
@@ -70,12 +82,16 @@ public class UseIteratorToForLoopCleanUpCore extends AbstractCleanUpCore {
 		}
 		Set<CompilationUnitRewriteOperation> operations= new LinkedHashSet<>();
 		Set<ASTNode> nodesprocessed= new HashSet<>();
-		computeFixSet.forEach(i -> i.findOperations(compilationUnit, operations, nodesprocessed, isEnabled(CONTROL_STATEMENTS_CONVERT_FOR_LOOP_ONLY_IF_LOOP_VAR_USED)));
-		if (operations.isEmpty()) {
-			return null;
-		}
-		return new CompilationUnitRewriteOperationsFixCore(Java50CleanUp_ConvertToEnhancedForLoop_description, compilationUnit,
-				operations.toArray(new CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation[0]));
+		List<Runnable> completions= new ArrayList<>();
+		computeFixSet.forEach(i -> completions.add(i.findOperations(compilationUnit, operations, nodesprocessed, isEnabled(CONTROL_STATEMENTS_CONVERT_FOR_LOOP_ONLY_IF_LOOP_VAR_USED), fused)));
+		return () -> {
+			completions.forEach(Runnable::run);
+			if (operations.isEmpty()) {
+				return null;
+			}
+			return new CompilationUnitRewriteOperationsFixCore(Java50CleanUp_ConvertToEnhancedForLoop_description, compilationUnit,
+					operations.toArray(new CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation[0]));
+		};
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jdt.internal.junit.launcher.TestSearchIndex;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 
 /**
@@ -86,6 +87,7 @@ public class JUnitCorePlugin extends Plugin {
 
 	private final JUnitModel fJUnitModel= new JUnitModel();
 
+	private TestSearchIndex fTestSearchIndex;
 
 	/**
 	 * List storing the registered test run listeners
@@ -144,6 +146,12 @@ public class JUnitCorePlugin extends Plugin {
 		try {
 			InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).flush();
 			fJUnitModel.stop();
+			synchronized (this) {
+				if (fTestSearchIndex != null) {
+					fTestSearchIndex.stop();
+					fTestSearchIndex= null;
+				}
+			}
 		} finally {
 			super.stop(context);
 		}
@@ -168,6 +176,20 @@ public class JUnitCorePlugin extends Plugin {
 		return getDefault().fJUnitModel;
 	}
 
+	/**
+	 * @return the index used by the test finders, started on first access
+	 */
+	public static TestSearchIndex getTestSearchIndex() {
+		JUnitCorePlugin plugin= getDefault();
+		synchronized (plugin) {
+			if (plugin.fTestSearchIndex == null) {
+				plugin.fTestSearchIndex= new TestSearchIndex();
+				plugin.fTestSearchIndex.start();
+			}
+			return plugin.fTestSearchIndex;
+		}
+	}
+
 	/**
 	 * Initializes TestRun Listener extensions
 	 * @deprecated to avoid deprecation warning
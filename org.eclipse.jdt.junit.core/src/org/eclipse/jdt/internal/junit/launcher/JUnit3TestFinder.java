@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,15 +60,25 @@ public class JUnit3TestFinder implements ITestFinder {
 					}
 				}
 			} else {
-				findTestCases(element, result, new SubProgressMonitor(pm, 7));
-				if (pm.isCanceled()) {
-					return;
-				}
-				CoreTestSearchEngine.findSuiteMethods(element, result, new SubProgressMonitor(pm, 3));
+				JUnitCorePlugin.getTestSearchIndex().findTestsInContainer(TestKindRegistry.JUNIT3_TEST_KIND_ID, element, result, new SubProgressMonitor(pm, 10),
+						JUnit3TestFinder::searchTestsInContainer);
+			}
+			if (pm.isCanceled()) {
+				return;
 			}
+		} finally {
+			pm.done();
+		}
+	}
+
+	private static void searchTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
+		pm.beginTask(JUnitMessages.TestSearchEngine_message_searching, 10);
+		try {
+			findTestCases(element, result, new SubProgressMonitor(pm, 7));
 			if (pm.isCanceled()) {
 				return;
 			}
+			CoreTestSearchEngine.findSuiteMethods(element, result, new SubProgressMonitor(pm, 3));
 		} finally {
 			pm.done();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -122,6 +122,10 @@ public class JUnit4TestFinder implements ITestFinder {
 			}
 		}
 
+		JUnitCorePlugin.getTestSearchIndex().findTestsInContainer(TestKindRegistry.JUNIT4_TEST_KIND_ID, element, result, pm, this::searchTestsInContainer);
+	}
+
+	private void searchTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		if (pm == null)
 			pm= new NullProgressMonitor();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2021 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -211,6 +211,10 @@ public class JUnit5TestFinder implements ITestFinder {
 			}
 		}
 
+		JUnitCorePlugin.getTestSearchIndex().findTestsInContainer(TestKindRegistry.JUNIT5_TEST_KIND_ID, element, result, pm, this::searchTestsInContainer);
+	}
+
+	private void searchTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		if (pm == null)
 			pm= new NullProgressMonitor();
 
@@ -0,0 +1,710 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.ISaveParticipant;
+import org.eclipse.core.resources.ISavedState;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IRegion;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
+
+/**
+ * Index of the tests found by the {@link ITestFinder}s, per test kind and Java project.
+ * <p>
+ * A search in a container (project, source folder, package or compilation unit) searches the
+ * whole project once and stores the handles of the found types by compilation unit. Later
+ * searches in the same project filter the stored types by the container.
+ * </p>
+ * <p>
+ * A Java element delta which changes the members of a compilation unit marks the unit, and the
+ * next search in the project searches only the marked units again. Changes of method bodies and
+ * field initializers are ignored. The entries of a project and of all projects that require it
+ * are removed, and are rebuilt by the next search, when a change can affect the tests of other
+ * compilation units: the super types or imports of a type change, a type is removed, the
+ * methods or annotations of a type that can have subtypes in other units change (the finders
+ * consider inherited test methods), an annotation type changes, the class path or the package
+ * structure changes, or the content of a compilation unit changes outside of a working copy,
+ * which does not tell which members changed.
+ * </p>
+ * <p>
+ * The index is saved with the workspace. On startup, the resource changes since the last save
+ * remove the entries of the changed projects. If there is no saved state, the saved entries are
+ * discarded.
+ * </p>
+ */
+public class TestSearchIndex {
+
+	/**
+	 * Searches the tests in a container without using the index.
+	 */
+	public interface ContainerSearch {
+		void search(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException;
+	}
+
+	private static final String INDEX_FILE_NAME= "testSearchIndex.bin"; //$NON-NLS-1$
+
+	private static final int MAGIC= 0x4A545349; // "JTSI"
+
+	private static final int VERSION= 2;
+
+	/**
+	 * Delta flags that do not change the tests of a project.
+	 */
+	private static final int IGNORED_DELTA_FLAGS= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY;
+
+	/**
+	 * Kinds of changes of a compilation unit, in increasing order of their effect.
+	 */
+	private static final int NO_CHANGE= 0;
+	private static final int UNIT_CHANGE= 1;
+	private static final int PROJECT_CHANGE= 2;
+
+	/**
+	 * Key of the tests that are not declared in a compilation unit.
+	 */
+	private static final String NO_UNIT= ""; //$NON-NLS-1$
+
+	/**
+	 * The tests of a project, by compilation unit. Instances are not modified, the entry of a
+	 * project is replaced instead.
+	 */
+	private static final class ProjectEntry {
+
+		/**
+		 * Handle identifier of a compilation unit -> handle identifiers of its tests.
+		 */
+		final Map<String, String[]> fUnits;
+
+		/**
+		 * Handle identifiers of the compilation units that have to be searched again.
+		 */
+		final Set<String> fChangedUnits;
+
+		ProjectEntry(Map<String, String[]> units, Set<String> changedUnits) {
+			fUnits= units;
+			fChangedUnits= changedUnits;
+		}
+
+		ProjectEntry withChangedUnits(Set<String> changedUnits) {
+			Set<String> allChanged= new HashSet<>(fChangedUnits);
+			allChanged.addAll(changedUnits);
+			return new ProjectEntry(fUnits, allChanged);
+		}
+	}
+
+	/**
+	 * Test kind id -> project name -> tests in the project.
+	 */
+	private final Map<String, Map<String, ProjectEntry>> fEntries= new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented whenever entries are removed. A search only stores its result if no entries
+	 * have been removed while it was running.
+	 */
+	private final AtomicInteger fGeneration= new AtomicInteger();
+
+	private final AtomicInteger fHitCount= new AtomicInteger();
+
+	private final AtomicInteger fMissCount= new AtomicInteger();
+
+	private final AtomicLong fSearchTime= new AtomicLong();
+
+	private final IElementChangedListener fElementChangedListener= this::elementChanged;
+
+	private final ISaveParticipant fSaveParticipant= new ISaveParticipant() {
+		@Override
+		public void saving(ISaveContext context) throws CoreException {
+			if (context.getKind() == ISaveContext.FULL_SAVE) {
+				save();
+				context.needDelta();
+			}
+		}
+
+		@Override
+		public void prepareToSave(ISaveContext context) {
+			// nothing to do
+		}
+
+		@Override
+		public void doneSaving(ISaveContext context) {
+			// nothing to do
+		}
+
+		@Override
+		public void rollback(ISaveContext context) {
+			// nothing to do
+		}
+	};
+
+	/**
+	 * Loads the saved index and starts listening to changes.
+	 */
+	public void start() {
+		JavaCore.addElementChangedListener(fElementChangedListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		load();
+		try {
+			ISavedState savedState= ResourcesPlugin.getWorkspace().addSaveParticipant(JUnitCorePlugin.CORE_PLUGIN_ID, fSaveParticipant);
+			if (savedState == null) {
+				clear();
+			} else {
+				savedState.processResourceChangeEvents(this::resourcesChangedSinceSave);
+			}
+		} catch (CoreException e) {
+			JUnitCorePlugin.log(e);
+			clear();
+		}
+	}
+
+	public void stop() {
+		JavaCore.removeElementChangedListener(fElementChangedListener);
+		IWorkspace workspace= ResourcesPlugin.getWorkspace();
+		workspace.removeSaveParticipant(JUnitCorePlugin.CORE_PLUGIN_ID);
+	}
+
+	/**
+	 * Finds the tests in the given container, using the index if possible.
+	 *
+	 * @param testKindId the id of the test kind of the finder
+	 * @param element the container to search
+	 * @param result the set to add the found types to
+	 * @param pm the progress monitor, can be <code>null</code>
+	 * @param search the search of the finder
+	 * @throws CoreException if the search fails
+	 */
+	public void findTestsInContainer(String testKindId, IJavaElement element, Set<IType> result, IProgressMonitor pm, ContainerSearch search) throws CoreException {
+		IJavaProject project= element.getJavaProject();
+		if (project == null || !isIndexable(element)) {
+			search.search(element, result, pm);
+			return;
+		}
+		Map<String, ProjectEntry> projectEntries= fEntries.computeIfAbsent(testKindId, id -> new ConcurrentHashMap<>());
+		String projectName= project.getElementName();
+		if (pm == null)
+			pm= new NullProgressMonitor();
+		ProjectEntry entry= projectEntries.get(projectName);
+		if (entry != null) {
+			fHitCount.incrementAndGet();
+			if (!entry.fChangedUnits.isEmpty()) {
+				entry= searchChangedUnits(projectEntries, projectName, entry, pm, search);
+			}
+		} else {
+			fMissCount.incrementAndGet();
+			int generation= fGeneration.get();
+			long start= System.currentTimeMillis();
+			Set<IType> projectTests= new LinkedHashSet<>();
+			search.search(project, projectTests, pm);
+			fSearchTime.addAndGet(System.currentTimeMillis() - start);
+			if (pm.isCanceled()) {
+				addContained(element, projectTests, result);
+				return;
+			}
+			Map<String, String[]> units= new LinkedHashMap<>();
+			Map<String, List<String>> unitTests= new LinkedHashMap<>();
+			for (IType type : projectTests) {
+				ICompilationUnit unit= type.getCompilationUnit();
+				String unitHandle= unit != null ? unit.getPrimary().getHandleIdentifier() : NO_UNIT;
+				unitTests.computeIfAbsent(unitHandle, h -> new ArrayList<>()).add(type.getHandleIdentifier());
+			}
+			for (Map.Entry<String, List<String>> unitEntry : unitTests.entrySet()) {
+				units.put(unitEntry.getKey(), unitEntry.getValue().toArray(new String[unitEntry.getValue().size()]));
+			}
+			entry= new ProjectEntry(units, Collections.emptySet());
+			synchronized (this) {
+				if (generation == fGeneration.get()) {
+					projectEntries.put(projectName, entry);
+				}
+			}
+		}
+		Set<IType> tests= new LinkedHashSet<>();
+		for (String[] handles : entry.fUnits.values()) {
+			for (String handle : handles) {
+				IJavaElement type= JavaCore.create(handle);
+				if (type instanceof IType) {
+					tests.add((IType) type);
+				}
+			}
+		}
+		addContained(element, tests, result);
+	}
+
+	/**
+	 * Searches the changed compilation units of a project again.
+	 *
+	 * @return the updated entry, which is only stored if the search has not been canceled and
+	 *         the entry has not been changed in the meantime
+	 */
+	private static ProjectEntry searchChangedUnits(Map<String, ProjectEntry> projectEntries, String projectName, ProjectEntry entry, IProgressMonitor pm, ContainerSearch search) throws CoreException {
+		Map<String, String[]> units= new LinkedHashMap<>(entry.fUnits);
+		for (String unitHandle : entry.fChangedUnits) {
+			IJavaElement unit= JavaCore.create(unitHandle);
+			if (unit == null || !unit.exists()) {
+				units.remove(unitHandle);
+				continue;
+			}
+			Set<IType> unitTests= new LinkedHashSet<>();
+			search.search(unit, unitTests, pm);
+			if (pm.isCanceled())
+				return new ProjectEntry(units, Collections.emptySet());
+			if (unitTests.isEmpty()) {
+				units.remove(unitHandle);
+			} else {
+				String[] handles= new String[unitTests.size()];
+				int i= 0;
+				for (IType type : unitTests) {
+					handles[i++]= type.getHandleIdentifier();
+				}
+				units.put(unitHandle, handles);
+			}
+		}
+		ProjectEntry updated= new ProjectEntry(units, Collections.emptySet());
+		projectEntries.replace(projectName, entry, updated);
+		return updated;
+	}
+
+	private static boolean isIndexable(IJavaElement element) throws JavaModelException {
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				return true;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+			case IJavaElement.COMPILATION_UNIT:
+				IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+				return root != null && root.getKind() == IPackageFragmentRoot.K_SOURCE;
+			default:
+				return false;
+		}
+	}
+
+	private static void addContained(IJavaElement element, Set<IType> tests, Set<IType> result) throws JavaModelException {
+		if (element.getElementType() == IJavaElement.JAVA_PROJECT) {
+			result.addAll(tests);
+			return;
+		}
+		IRegion region= CoreTestSearchEngine.getRegion(element);
+		for (IType type : tests) {
+			if (region.contains(type)) {
+				result.add(type);
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries. They are rebuilt by the next searches.
+	 */
+	public synchronized void clear() {
+		fGeneration.incrementAndGet();
+		fEntries.clear();
+	}
+
+	/**
+	 * @return the number of searches that have been answered from the index
+	 */
+	public int getHitCount() {
+		return fHitCount.get();
+	}
+
+	/**
+	 * @return the number of searches that had to search a project
+	 */
+	public int getMissCount() {
+		return fMissCount.get();
+	}
+
+	/**
+	 * @return the total time in ms spent searching projects
+	 */
+	public long getSearchTime() {
+		return fSearchTime.get();
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		Set<String> changedProjects= new HashSet<>();
+		Map<String, Set<String>> changedUnits= new HashMap<>();
+		collectChanges(event.getDelta(), changedProjects, changedUnits);
+		changedUnits.keySet().removeAll(changedProjects);
+		if (!changedProjects.isEmpty()) {
+			removeProjects(changedProjects);
+		}
+		if (!changedUnits.isEmpty()) {
+			markChangedUnits(changedUnits);
+		}
+	}
+
+	/**
+	 * Collects the projects whose entries have to be removed and the compilation units that have
+	 * to be searched again.
+	 *
+	 * @param delta the delta
+	 * @param changedProjects the names of the projects whose entries and dependent projects are
+	 *            removed
+	 * @param changedUnits project name -> handle identifiers of the changed primary compilation
+	 *            units
+	 */
+	private static void collectChanges(IJavaElementDelta delta, Set<String> changedProjects, Map<String, Set<String>> changedUnits) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// content changes of projects, roots and packages are changes of non-Java resources
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~(IGNORED_DELTA_FLAGS | IJavaElementDelta.F_CONTENT)) != 0) {
+					changedProjects.add(element.getJavaProject().getElementName());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				if (!unit.isPrimary())
+					return; // working copy of another owner, the index is based on the primary working copies
+				String projectName= element.getJavaProject().getElementName();
+				switch (getUnitChange(delta)) {
+					case PROJECT_CHANGE:
+						changedProjects.add(projectName);
+						break;
+					case UNIT_CHANGE:
+						changedUnits.computeIfAbsent(projectName, name -> new HashSet<>()).add(unit.getPrimary().getHandleIdentifier());
+						break;
+					default:
+						break;
+				}
+				return;
+			default:
+				if (affectsTests(delta)) {
+					changedProjects.add(element.getJavaProject().getElementName());
+				}
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChanges(child, changedProjects, changedUnits);
+		}
+	}
+
+	private static int getUnitChange(IJavaElementDelta delta) {
+		if (delta.getKind() == IJavaElementDelta.REMOVED)
+			return PROJECT_CHANGE; // the removed types may be super types of tests in other units
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return UNIT_CHANGE;
+		int flags= delta.getFlags();
+		if ((flags & IJavaElementDelta.F_FINE_GRAINED) != 0)
+			return getMemberChange(delta.getAffectedChildren());
+		if ((flags & IJavaElementDelta.F_CONTENT) != 0)
+			return PROJECT_CHANGE; // the changed members are not known
+		if ((flags & (IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0) {
+			// a working copy was discarded or saved, the changed members are not known
+			return affectsOtherUnits((ICompilationUnit) delta.getElement()) ? PROJECT_CHANGE : UNIT_CHANGE;
+		}
+		return NO_CHANGE;
+	}
+
+	private static int getMemberChange(IJavaElementDelta[] deltas) {
+		int result= NO_CHANGE;
+		for (IJavaElementDelta delta : deltas) {
+			result= Math.max(result, getMemberChange(delta));
+			if (result == PROJECT_CHANGE)
+				break;
+		}
+		return result;
+	}
+
+	private static int getMemberChange(IJavaElementDelta delta) {
+		int kind= delta.getKind();
+		int flags= delta.getFlags() & ~IJavaElementDelta.F_CHILDREN;
+		switch (delta.getElement().getElementType()) {
+			case IJavaElement.IMPORT_CONTAINER:
+			case IJavaElement.IMPORT_DECLARATION:
+				return PROJECT_CHANGE; // super types may resolve to other types
+			case IJavaElement.TYPE:
+				if (kind == IJavaElementDelta.REMOVED || (flags & IJavaElementDelta.F_SUPER_TYPES) != 0)
+					return PROJECT_CHANGE;
+				if (kind == IJavaElementDelta.ADDED || flags != 0) {
+					if (affectsOtherUnits((IType) delta.getElement()))
+						return PROJECT_CHANGE; // the annotations of super types are inherited
+					return Math.max(UNIT_CHANGE, getMemberChange(delta.getAffectedChildren()));
+				}
+				return getMemberChange(delta.getAffectedChildren());
+			case IJavaElement.METHOD:
+				if (kind == IJavaElementDelta.CHANGED && (flags & ~IJavaElementDelta.F_CONTENT) == 0)
+					return NO_CHANGE; // method bodies do not change which types are tests
+				IJavaElement parent= delta.getElement().getParent();
+				if (parent instanceof IType && affectsOtherUnits((IType) parent))
+					return PROJECT_CHANGE; // the test methods of super types are inherited
+				return UNIT_CHANGE;
+			default:
+				// field initializers do not change which types are tests
+				if (kind == IJavaElementDelta.CHANGED && (flags & ~IJavaElementDelta.F_CONTENT) == 0)
+					return NO_CHANGE;
+				return UNIT_CHANGE;
+		}
+	}
+
+	/**
+	 * Returns whether a change of the members or annotations of the types of the given
+	 * compilation unit can change the tests of other compilation units.
+	 *
+	 * @param unit the compilation unit
+	 * @return <code>true</code> if the unit declares a type that can have subtypes or is an
+	 *         annotation type, or if the types are not known
+	 */
+	private static boolean affectsOtherUnits(ICompilationUnit unit) {
+		try {
+			for (IType type : unit.getAllTypes()) {
+				if (affectsOtherUnits(type))
+					return true;
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Returns whether a change of the members or annotations of the given type can change the
+	 * tests of other compilation units: the subtypes inherit its test methods and annotations, and
+	 * an annotation type can be a meta-annotation of tests.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if the type can have subtypes or is an annotation type, or if
+	 *         this is not known
+	 */
+	private static boolean affectsOtherUnits(IType type) {
+		try {
+			if (type.isAnnotation())
+				return true;
+			if (type.isEnum() || type.isRecord() || type.isAnonymous() || type.isLocal())
+				return false;
+			return !Flags.isFinal(type.getFlags());
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	private static boolean affectsTests(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		if ((delta.getFlags() & ~IGNORED_DELTA_FLAGS) != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsTests(child))
+				return true;
+		}
+		return false;
+	}
+
+	private void resourcesChangedSinceSave(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+		Set<String> changedProjects= new HashSet<>();
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			if (projectDelta.getKind() != IResourceDelta.CHANGED || (projectDelta.getFlags() & IResourceDelta.OPEN) != 0
+					|| hasJavaChanges(projectDelta)) {
+				changedProjects.add(projectDelta.getResource().getName());
+			}
+		}
+		if (!changedProjects.isEmpty()) {
+			removeProjects(changedProjects);
+		}
+	}
+
+	private static boolean hasJavaChanges(IResourceDelta delta) {
+		IResource resource= delta.getResource();
+		if (resource.getType() == IResource.FILE) {
+			String extension= resource.getFileExtension();
+			return ".classpath".equals(resource.getName()) //$NON-NLS-1$
+					|| "java".equals(extension) || "class".equals(extension) || "jar".equals(extension) || "zip".equals(extension); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			if (hasJavaChanges(child))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes the entries of the given projects and of all projects that require them.
+	 */
+	private synchronized void removeProjects(Set<String> changedProjects) {
+		fGeneration.incrementAndGet();
+		Map<String, Boolean> affected= new HashMap<>();
+		for (Map<String, ProjectEntry> projectEntries : fEntries.values()) {
+			projectEntries.keySet().removeIf(projectName -> isAffected(projectName, changedProjects, affected, new HashSet<>()));
+		}
+	}
+
+	/**
+	 * Marks compilation units to be searched again by the next search in their project.
+	 */
+	private synchronized void markChangedUnits(Map<String, Set<String>> changedUnits) {
+		// a search of a whole project which is running now must not store its result
+		fGeneration.incrementAndGet();
+		for (Map<String, ProjectEntry> projectEntries : fEntries.values()) {
+			for (Map.Entry<String, Set<String>> projectUnits : changedUnits.entrySet()) {
+				projectEntries.computeIfPresent(projectUnits.getKey(), (name, entry) -> entry.withChangedUnits(projectUnits.getValue()));
+			}
+		}
+	}
+
+	private static boolean isAffected(String projectName, Set<String> changedProjects, Map<String, Boolean> affected, Set<String> visited) {
+		if (changedProjects.contains(projectName))
+			return true;
+		Boolean known= affected.get(projectName);
+		if (known != null)
+			return known.booleanValue();
+		if (!visited.add(projectName))
+			return false; // cycle in the build path
+		boolean result= false;
+		IProject project= ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		if (!project.isAccessible()) {
+			result= true;
+		} else {
+			try {
+				for (String requiredName : JavaCore.create(project).getRequiredProjectNames()) {
+					if (isAffected(requiredName, changedProjects, affected, visited)) {
+						result= true;
+						break;
+					}
+				}
+			} catch (JavaModelException e) {
+				result= true;
+			}
+		}
+		affected.put(projectName, Boolean.valueOf(result));
+		return result;
+	}
+
+	private File getIndexFile() {
+		return JUnitCorePlugin.getDefault().getStateLocation().append(INDEX_FILE_NAME).toFile();
+	}
+
+	private void load() {
+		File file= getIndexFile();
+		if (!file.isFile())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return;
+			int kindCount= in.readInt();
+			for (int i= 0; i < kindCount; i++) {
+				String testKindId= in.readUTF();
+				Map<String, ProjectEntry> projectEntries= fEntries.computeIfAbsent(testKindId, id -> new ConcurrentHashMap<>());
+				int projectCount= in.readInt();
+				for (int j= 0; j < projectCount; j++) {
+					String projectName= in.readUTF();
+					int unitCount= in.readInt();
+					Map<String, String[]> units= new LinkedHashMap<>();
+					for (int k= 0; k < unitCount; k++) {
+						String unitHandle= in.readUTF();
+						String[] handles= new String[in.readInt()];
+						for (int l= 0; l < handles.length; l++) {
+							handles[l]= in.readUTF();
+						}
+						units.put(unitHandle, handles);
+					}
+					Set<String> changedUnits= new HashSet<>();
+					int changedCount= in.readInt();
+					for (int k= 0; k < changedCount; k++) {
+						changedUnits.add(in.readUTF());
+					}
+					projectEntries.put(projectName, new ProjectEntry(units, changedUnits));
+				}
+			}
+		} catch (IOException e) {
+			// full rebuild
+			JUnitCorePlugin.log(e);
+			clear();
+		}
+	}
+
+	private synchronized void save() {
+		File file= getIndexFile();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			Map<String, Map<String, ProjectEntry>> entries= new HashMap<>(fEntries);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Map<String, ProjectEntry>> kindEntry : entries.entrySet()) {
+				out.writeUTF(kindEntry.getKey());
+				Map<String, ProjectEntry> projectEntries= new HashMap<>(kindEntry.getValue());
+				out.writeInt(projectEntries.size());
+				for (Map.Entry<String, ProjectEntry> projectEntry : projectEntries.entrySet()) {
+					out.writeUTF(projectEntry.getKey());
+					ProjectEntry entry= projectEntry.getValue();
+					out.writeInt(entry.fUnits.size());
+					for (Map.Entry<String, String[]> unitEntry : entry.fUnits.entrySet()) {
+						out.writeUTF(unitEntry.getKey());
+						out.writeInt(unitEntry.getValue().length);
+						for (String handle : unitEntry.getValue()) {
+							out.writeUTF(handle);
+						}
+					}
+					out.writeInt(entry.fChangedUnits.size());
+					for (String unitHandle : entry.fChangedUnits) {
+						out.writeUTF(unitHandle);
+					}
+				}
+			}
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			file.delete();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,6 +97,24 @@ public interface ITestRunListener2 {
 	 */
 	void testTreeEntry(String description);
 
+	/**
+	 * Information about a member of the test suite that is about to be run, with the fields of
+	 * the description of {@link #testTreeEntry(String)}. The fields are not escaped.
+	 *
+	 * @param testId a unique id for the test
+	 * @param testName the name of the test
+	 * @param isSuite whether the test is a suite
+	 * @param testCount the number of tests
+	 * @param isDynamicTest whether the test is a dynamic test
+	 * @param parentId the test id of the parent of a dynamic test, otherwise "-1"
+	 * @param displayName the display name of the test, may be <code>null</code>
+	 * @param parameterTypes comma-separated list of method parameter types, may be
+	 *            <code>null</code> or empty
+	 * @param uniqueId the unique ID of the test provided by JUnit launcher, may be
+	 *            <code>null</code> or empty
+	 */
+	void testTreeEntry(String testId, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String parentId, String displayName, String parameterTypes, String uniqueId);
+
 	/**
 	 * An individual test has failed with a stack trace.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,12 +15,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.PushbackReader;
+import java.net.ProtocolException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
@@ -248,6 +252,191 @@ public class RemoteTestRunnerClient {
 
 	private boolean fDebug= false;
 
+	/**
+	 * Reads a message stream in the binary protocol, see
+	 * {@link org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter}. A frame is read into a
+	 * buffer that is reused for all frames, and the messages are decoded from that buffer. A
+	 * malformed frame is reported as a {@link ProtocolException}.
+	 */
+	private class BinaryMessageReader {
+		private final InputStream fInput;
+		private byte[] fBuffer= new byte[64 * 1024];
+		private int fPosition;
+		/** The end of the current frame in the buffer */
+		private int fLimit;
+		private char[] fChars= new char[1024];
+
+		BinaryMessageReader(InputStream input) {
+			fInput= input;
+		}
+
+		void readMessages() throws IOException {
+			if (!readFully(8) || getInt(0) != MessageIds.BINARY_PROTOCOL_MAGIC)
+				throw new ProtocolException("Invalid binary protocol header"); //$NON-NLS-1$
+			int version= getInt(4);
+			if (version != MessageIds.BINARY_PROTOCOL_VERSION)
+				throw new ProtocolException("Unsupported binary protocol version " + version); //$NON-NLS-1$
+			fVersion= "v2"; //$NON-NLS-1$
+			while (fSocket != null && readFully(4)) {
+				int length= getInt(0);
+				if (length < 0)
+					throw new ProtocolException("Invalid binary frame length " + length); //$NON-NLS-1$
+				if (length > fBuffer.length)
+					fBuffer= new byte[Math.max(length, 2 * fBuffer.length)];
+				if (!readFully(length))
+					throw new EOFException();
+				fPosition= 0;
+				fLimit= length;
+				while (fPosition < fLimit) {
+					readMessage();
+				}
+			}
+		}
+
+		/**
+		 * Reads the given number of bytes to the start of the buffer.
+		 *
+		 * @return <code>false</code> if the stream ended before the first byte
+		 */
+		private boolean readFully(int length) throws IOException {
+			int read= 0;
+			while (read < length) {
+				int count= fInput.read(fBuffer, read, length - read);
+				if (count == -1) {
+					if (read == 0)
+						return false;
+					throw new EOFException();
+				}
+				read+= count;
+			}
+			return true;
+		}
+
+		private void readMessage() throws IOException {
+			byte type= readByte();
+			switch (type) {
+				case MessageIds.BINARY_TEST_RUN_START:
+					notifyTestRunStarted(readInt());
+					break;
+				case MessageIds.BINARY_TEST_TREE: {
+					String testId= readString();
+					String testName= readString();
+					boolean isSuite= readByte() != 0;
+					int testCount= readInt();
+					boolean isDynamicTest= readByte() != 0;
+					String parentId= readString();
+					String displayName= readString();
+					String parameterTypes= readString();
+					notifyTestTreeEntry(testId, testName, isSuite, testCount, isDynamicTest, parentId, displayName, parameterTypes, readString());
+					break;
+				}
+				case MessageIds.BINARY_TEST_START:
+					notifyTestStarted(readString(), readString());
+					break;
+				case MessageIds.BINARY_TEST_END:
+					notifyTestEnded(readString(), readString());
+					break;
+				case MessageIds.BINARY_TEST_FAILED: {
+					int status= readByte();
+					String testId= readString();
+					String testName= readString();
+					String trace= readString();
+					notifyTestFailed(status, testId, testName, trace != null ? trace : "", readString(), readString()); //$NON-NLS-1$
+					break;
+				}
+				case MessageIds.BINARY_TEST_RERAN: {
+					String testId= readString();
+					String className= readString();
+					String testName= readString();
+					int status= readByte();
+					String trace= readString();
+					notifyTestReran(testId, className, testName, status, trace != null ? trace : "", readString(), readString()); //$NON-NLS-1$
+					break;
+				}
+				case MessageIds.BINARY_TEST_RUN_END:
+					testRunEnded(readLong());
+					break;
+				case MessageIds.BINARY_TEST_STOPPED:
+					notifyTestRunStopped(readLong());
+					shutDown();
+					break;
+				default:
+					throw new ProtocolException("Unknown message type " + type); //$NON-NLS-1$
+			}
+		}
+
+		private int getInt(int offset) {
+			return (fBuffer[offset] & 0xFF) << 24 | (fBuffer[offset + 1] & 0xFF) << 16 | (fBuffer[offset + 2] & 0xFF) << 8 | (fBuffer[offset + 3] & 0xFF);
+		}
+
+		/**
+		 * Checks that the current frame contains the given number of bytes after the current
+		 * position.
+		 */
+		private void require(int count) throws ProtocolException {
+			if (count < 0 || count > fLimit - fPosition)
+				throw new ProtocolException("Truncated binary frame"); //$NON-NLS-1$
+		}
+
+		private byte readByte() throws ProtocolException {
+			require(1);
+			return fBuffer[fPosition++];
+		}
+
+		private int readInt() throws ProtocolException {
+			require(4);
+			int value= getInt(fPosition);
+			fPosition+= 4;
+			return value;
+		}
+
+		private long readLong() throws ProtocolException {
+			long high= readInt();
+			return high << 32 | (readInt() & 0xFFFFFFFFL);
+		}
+
+		/**
+		 * Reads a string in the encoding of the BinaryMessageWriter: UTF-8, except that unpaired
+		 * surrogates are encoded like other chars in three bytes. The UTF-8 decoder of the JDK
+		 * would replace them.
+		 */
+		private String readString() throws ProtocolException {
+			int length= readInt();
+			if (length < 0)
+				return null;
+			require(length);
+			if (length > fChars.length)
+				fChars= new char[Math.max(length, 2 * fChars.length)];
+			char[] chars= fChars;
+			byte[] buffer= fBuffer;
+			int end= fPosition + length;
+			int count= 0;
+			while (fPosition < end) {
+				int b= buffer[fPosition++];
+				if (b >= 0) {
+					chars[count++]= (char) b;
+				} else if ((b & 0xE0) == 0xC0) {
+					requireContinuation(1, end);
+					chars[count++]= (char) (((b & 0x1F) << 6) | (buffer[fPosition++] & 0x3F));
+				} else if ((b & 0xF0) == 0xE0) {
+					requireContinuation(2, end);
+					chars[count++]= (char) (((b & 0x0F) << 12) | ((buffer[fPosition++] & 0x3F) << 6) | (buffer[fPosition++] & 0x3F));
+				} else {
+					requireContinuation(3, end);
+					int codePoint= ((b & 0x07) << 18) | ((buffer[fPosition++] & 0x3F) << 12) | ((buffer[fPosition++] & 0x3F) << 6) | (buffer[fPosition++] & 0x3F);
+					chars[count++]= Character.highSurrogate(codePoint);
+					chars[count++]= Character.lowSurrogate(codePoint);
+				}
+			}
+			return new String(chars, 0, count);
+		}
+
+		private void requireContinuation(int count, int end) throws ProtocolException {
+			if (count > end - fPosition)
+				throw new ProtocolException("Truncated binary string"); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Reads the message stream from the RemoteTestRunner
 	 */
@@ -266,13 +455,26 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				InputStream input= new BufferedInputStream(fSocket.getInputStream());
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				// the binary protocol starts with 0, the text protocol with a message id
+				input.mark(1);
+				int first= input.read();
+				input.reset();
+				if (first == 0) {
+					new BinaryMessageReader(input).readMessages();
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+					String message;
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
+			} catch (ProtocolException e) {
+				// the rest of the stream cannot be decoded
+				JUnitCorePlugin.log(e);
+				notifyTestRunTerminated();
 			} catch (IOException e) {
 				JUnitCorePlugin.log(e);
 				// fall through
@@ -424,7 +626,7 @@ public class RemoteTestRunnerClient {
 		if (statusCode != ITestRunListener2.STATUS_OK)
 			trace = fFailedRerunTrace.toString();
 		// assumption a rerun trace was sent before
-		notifyTestReran(testId, className, testName, statusCode, trace);
+		notifyTestReran(testId, className, testName, statusCode, trace, nullifyEmpty(fExpectedResult), nullifyEmpty(fActualResult));
 	}
 
 	private void extractFailure(String arg, int status) {
@@ -457,14 +659,14 @@ public class RemoteTestRunnerClient {
 		return "v2".equals(fVersion); //$NON-NLS-1$
 	}
 
-	private void notifyTestReran(final String testId, final String className, final String testName, final int statusCode, final String trace) {
+	private void notifyTestReran(final String testId, final String className, final String testName, final int statusCode, final String trace, final String expected, final String actual) {
 		for (ITestRunListener2 listener : fListeners) {
 			SafeRunner.run(new ListenerSafeRunnable() {
 				@Override
 				public void run() {
 					listener.testReran(testId,
 						className, testName, statusCode, trace,
-						nullifyEmpty(fExpectedResult), nullifyEmpty(fActualResult));
+						expected, actual);
 				}
 			});
 		}
@@ -479,6 +681,12 @@ public class RemoteTestRunnerClient {
 		}
 	}
 
+	private void notifyTestTreeEntry(String testId, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String parentId, String displayName, String parameterTypes, String uniqueId) {
+		for (ITestRunListener2 listener : fListeners) {
+			listener.testTreeEntry(testId, testName, isSuite, testCount, isDynamicTest, parentId, displayName, parameterTypes, uniqueId);
+		}
+	}
+
 	private String fakeTestId(String treeEntry) {
 		// extract the test name and add it as the testId
 		int index0= treeEntry.indexOf(',');
@@ -513,28 +721,36 @@ public class RemoteTestRunnerClient {
 	}
 
 	private void notifyTestEnded(final String test) {
+		String s[]= extractTestId(test);
+		notifyTestEnded(s[0], s[1]);
+	}
+
+	private void notifyTestEnded(final String testId, final String testName) {
 		if (JUnitCorePlugin.isStopped())
 			return;
 		for (ITestRunListener2 listener : fListeners) {
 			SafeRunner.run(new ListenerSafeRunnable() {
 				@Override
 				public void run() {
-					String s[]= extractTestId(test);
-					listener.testEnded(s[0], s[1]);
+					listener.testEnded(testId, testName);
 				}
 			});
 		}
 	}
 
 	private void notifyTestStarted(final String test) {
+		String s[]= extractTestId(test);
+		notifyTestStarted(s[0], s[1]);
+	}
+
+	private void notifyTestStarted(final String testId, final String testName) {
 		if (JUnitCorePlugin.isStopped())
 			return;
 		for (ITestRunListener2 listener : fListeners) {
 			SafeRunner.run(new ListenerSafeRunnable() {
 				@Override
 				public void run() {
-					String s[]= extractTestId(test);
-					listener.testStarted(s[0], s[1]);
+					listener.testStarted(testId, testName);
 				}
 			});
 		}
@@ -554,14 +770,17 @@ public class RemoteTestRunnerClient {
 	}
 
 	private void notifyTestFailed() {
+		notifyTestFailed(fFailureKind, fFailedTestId, fFailedTest, fFailedTrace.toString(), nullifyEmpty(fExpectedResult), nullifyEmpty(fActualResult));
+	}
+
+	private void notifyTestFailed(final int failureKind, final String testId, final String testName, final String trace, final String expected, final String actual) {
 		if (JUnitCorePlugin.isStopped())
 			return;
 		for (ITestRunListener2 listener : fListeners) {
 			SafeRunner.run(new ListenerSafeRunnable() {
 				@Override
 				public void run() {
-					listener.testFailed(fFailureKind, fFailedTestId,
-						fFailedTest, fFailedTrace.toString(), nullifyEmpty(fExpectedResult), nullifyEmpty(fActualResult));
+					listener.testFailed(failureKind, testId, testName, trace, expected, actual);
 				}
 			});
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -319,6 +319,27 @@ public abstract class TestElement implements ITestElement {
 		return fStatus;
 	}
 
+	/**
+	 * Restores the state of an element that has been read from a swap file. Unlike
+	 * {@link #setStatus(Status, String, String, String)}, this neither touches the time nor
+	 * notifies the parent.
+	 *
+	 * @param status the status
+	 * @param trace the failure trace, or <code>null</code>
+	 * @param expected the expected value, or <code>null</code>
+	 * @param actual the actual value, or <code>null</code>
+	 * @param assumptionFailed whether an assumption failed
+	 * @param time the raw time
+	 */
+	void restoreState(Status status, String trace, String expected, String actual, boolean assumptionFailed, double time) {
+		fStatus= status;
+		fTrace= trace;
+		fExpected= expected;
+		fActual= actual;
+		fAssumptionFailed= assumptionFailed;
+		fTime= time;
+	}
+
 	public String getTrace() {
 		return fTrace;
 	}
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Durations and failure counts of the tests in a set of finished {@link TestRunSession}s.
+ * <p>
+ * The history is used to order tests for the shortest time to the first failure and to balance
+ * the test classes of a launch over several VMs. A test is prioritized by its estimated failure
+ * probability per second of run time, <code>(failures + 1) / (runs + 2) / averageTime</code>.
+ * Tests are identified by their test name, i.e. <code>method(class)</code>.
+ * </p>
+ */
+public class TestRunHistory {
+
+	/**
+	 * Lower bound for the average time of a test in seconds, so that tests that ran in no
+	 * measurable time do not get an infinite priority.
+	 */
+	private static final double MIN_TIME= 0.001;
+
+	/**
+	 * A finished run of a test, as recorded by a {@link TestRunSession}.
+	 */
+	public static final class TestRun {
+		final String fTestName;
+		final double fTime;
+		final boolean fFailed;
+
+		TestRun(String testName, double time, boolean failed) {
+			fTestName= testName;
+			fTime= time;
+			fFailed= failed;
+		}
+	}
+
+	private static class TestStatistics {
+		int fRuns;
+		int fFailures;
+		double fTotalTime;
+
+		double getAverageTime() {
+			return fTotalTime / fRuns;
+		}
+
+		double getPriority() {
+			return (fFailures + 1.0) / (fRuns + 2.0) / Math.max(getAverageTime(), MIN_TIME);
+		}
+	}
+
+	private final Map<String, TestStatistics> fTests= new HashMap<>();
+
+	/**
+	 * Raw class name to the sum of the average times of its tests.
+	 */
+	private Map<String, Double> fClassTimes;
+
+	/**
+	 * Raw class name to the highest priority of its tests.
+	 */
+	private Map<String, Double> fClassPriorities;
+
+	/**
+	 * Creates an empty history.
+	 */
+	public TestRunHistory() {
+	}
+
+	/**
+	 * Creates the history of the given sessions. Sessions that have not finished are skipped.
+	 *
+	 * @param sessions the test run sessions
+	 */
+	public TestRunHistory(List<TestRunSession> sessions) {
+		for (TestRunSession session : sessions) {
+			if (!session.isStarting() && !session.isRunning()) {
+				addSession(session);
+			}
+		}
+	}
+
+	/**
+	 * Adds the tests of the given session to the history. The session records its test runs when
+	 * it finishes, so it is not swapped in.
+	 *
+	 * @param session the test run session
+	 */
+	public void addSession(TestRunSession session) {
+		for (TestRun run : session.getTestRuns()) {
+			addRun(run);
+		}
+	}
+
+	/**
+	 * Collects the runs of the test cases in the given suite. Tests that were not run, are ignored
+	 * or have a failed assumption are skipped.
+	 *
+	 * @param suite the test suite
+	 * @return the test runs
+	 */
+	static List<TestRun> collectTestRuns(TestSuiteElement suite) {
+		List<TestRun> runs= new ArrayList<>();
+		collectTestRuns(suite, runs);
+		return runs;
+	}
+
+	private static void collectTestRuns(TestSuiteElement suite, List<TestRun> runs) {
+		for (ITestElement child : suite.getChildren()) {
+			if (child instanceof TestSuiteElement) {
+				collectTestRuns((TestSuiteElement) child, runs);
+			} else {
+				TestRun run= createTestRun((TestCaseElement) child);
+				if (run != null) {
+					runs.add(run);
+				}
+			}
+		}
+	}
+
+	private static TestRun createTestRun(TestCaseElement testCase) {
+		double time= testCase.getElapsedTimeInSeconds();
+		Status status= testCase.getStatus();
+		if (Double.isNaN(time) || testCase.isIgnored() || testCase.isAssumptionFailure() || status.isNotRun() || status.isRunning())
+			return null;
+		return new TestRun(testCase.getTestName(), time, status.isErrorOrFailure());
+	}
+
+	/**
+	 * Adds a run of the given test case. Tests that were not run, are ignored or have a failed
+	 * assumption are skipped.
+	 *
+	 * @param testCase the test case
+	 */
+	public void addTest(TestCaseElement testCase) {
+		TestRun run= createTestRun(testCase);
+		if (run != null) {
+			addRun(run);
+		}
+	}
+
+	private void addRun(TestRun run) {
+		TestStatistics statistics= fTests.computeIfAbsent(run.fTestName, name -> new TestStatistics());
+		statistics.fRuns++;
+		statistics.fTotalTime+= run.fTime;
+		if (run.fFailed) {
+			statistics.fFailures++;
+		}
+		fClassTimes= null;
+		fClassPriorities= null;
+	}
+
+	public boolean isEmpty() {
+		return fTests.isEmpty();
+	}
+
+	/**
+	 * @param testName the test name
+	 * @return the number of recorded runs of the test
+	 */
+	public int getRunCount(String testName) {
+		TestStatistics statistics= fTests.get(testName);
+		return statistics != null ? statistics.fRuns : 0;
+	}
+
+	/**
+	 * @param testName the test name
+	 * @return the number of recorded runs in which the test failed
+	 */
+	public int getFailureCount(String testName) {
+		TestStatistics statistics= fTests.get(testName);
+		return statistics != null ? statistics.fFailures : 0;
+	}
+
+	/**
+	 * @param testName the test name
+	 * @return the average time of the test in seconds, or {@link Double#NaN} if it has no runs
+	 */
+	public double getAverageTime(String testName) {
+		TestStatistics statistics= fTests.get(testName);
+		return statistics != null ? statistics.getAverageTime() : Double.NaN;
+	}
+
+	/**
+	 * Returns the names of the tests of the given classes, the test that should run first comes
+	 * first. Only the <code>maxCount</code> tests with the highest priority are returned, the
+	 * runtime keeps the order of the tests that are not listed.
+	 *
+	 * @param classFilter accepts the raw class names of the tests to return, see
+	 *            {@link TestElement#extractRawClassName(String)}
+	 * @param maxCount the maximal number of test names to return
+	 * @return the prioritized test names
+	 */
+	public List<String> getPrioritizedTestNames(Predicate<String> classFilter, int maxCount) {
+		List<Map.Entry<String, TestStatistics>> entries= new ArrayList<>();
+		for (Map.Entry<String, TestStatistics> entry : fTests.entrySet()) {
+			if (classFilter.test(TestElement.extractRawClassName(entry.getKey()))) {
+				entries.add(entry);
+			}
+		}
+		entries.sort((e1, e2) -> {
+			int result= Double.compare(e2.getValue().getPriority(), e1.getValue().getPriority());
+			return result != 0 ? result : e1.getKey().compareTo(e2.getKey());
+		});
+		int count= Math.min(entries.size(), maxCount);
+		List<String> testNames= new ArrayList<>(count);
+		for (int i= 0; i < count; i++) {
+			testNames.add(entries.get(i).getKey());
+		}
+		return testNames;
+	}
+
+	/**
+	 * @param className the raw class name, see {@link TestElement#extractRawClassName(String)}
+	 * @return the sum of the average times of the tests of the class in seconds, or
+	 *         {@link Double#NaN} if the class has no recorded tests
+	 */
+	public double getClassTime(String className) {
+		computeClassStatistics();
+		Double time= fClassTimes.get(className);
+		return time != null ? time.doubleValue() : Double.NaN;
+	}
+
+	/**
+	 * Sorts the given classes so that the class with the test that should run first comes first.
+	 * Classes without history are new or have been renamed, they come before all others. The sort
+	 * is stable.
+	 *
+	 * @param classNames the raw class names, see {@link TestElement#extractRawClassName(String)}
+	 */
+	public void sortClasses(List<String> classNames) {
+		computeClassStatistics();
+		Collections.sort(classNames, (c1, c2) -> Double.compare(getClassPriority(c2), getClassPriority(c1)));
+	}
+
+	private double getClassPriority(String className) {
+		Double priority= fClassPriorities.get(className);
+		return priority != null ? priority.doubleValue() : Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Distributes the given classes over <code>shardCount</code> shards with about the same run
+	 * time: the classes are assigned in the order of decreasing time, each to the shard with the
+	 * smallest total time so far. A class without history gets the average time of the classes
+	 * with history.
+	 *
+	 * @param classNames the raw class names, see {@link TestElement#extractRawClassName(String)}
+	 * @param shardCount the number of shards, at least 1
+	 * @return the shard index of each class
+	 */
+	public int[] assignShards(String[] classNames, int shardCount) {
+		int count= classNames.length;
+		double[] times= new double[count];
+		double knownTime= 0;
+		int knownCount= 0;
+		for (int i= 0; i < count; i++) {
+			times[i]= getClassTime(classNames[i]);
+			if (!Double.isNaN(times[i])) {
+				knownTime+= times[i];
+				knownCount++;
+			}
+		}
+		double defaultTime= knownCount > 0 ? knownTime / knownCount : 1;
+		Integer[] order= new Integer[count];
+		for (int i= 0; i < count; i++) {
+			if (Double.isNaN(times[i])) {
+				times[i]= defaultTime;
+			}
+			order[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(order, (i1, i2) -> Double.compare(times[i2.intValue()], times[i1.intValue()]));
+
+		int[] shards= new int[count];
+		double[] loads= new double[shardCount];
+		for (Integer index : order) {
+			int shard= 0;
+			for (int s= 1; s < shardCount; s++) {
+				if (loads[s] < loads[shard]) {
+					shard= s;
+				}
+			}
+			shards[index.intValue()]= shard;
+			loads[shard]+= times[index.intValue()];
+		}
+		return shards;
+	}
+
+	private void computeClassStatistics() {
+		if (fClassTimes != null)
+			return;
+		fClassTimes= new HashMap<>();
+		fClassPriorities= new HashMap<>();
+		for (Map.Entry<String, TestStatistics> entry : fTests.entrySet()) {
+			String className= TestElement.extractRawClassName(entry.getKey());
+			TestStatistics statistics= entry.getValue();
+			fClassTimes.merge(className, Double.valueOf(statistics.getAverageTime()), (t1, t2) -> Double.valueOf(t1.doubleValue() + t2.doubleValue()));
+			fClassPriorities.merge(className, Double.valueOf(statistics.getPriority()), (p1, p2) -> Double.valueOf(Math.max(p1.doubleValue(), p2.doubleValue())));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,13 +16,16 @@
 package org.eclipse.jdt.internal.junit.model;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
@@ -67,10 +70,28 @@ public class TestRunSession implements ITestRunSession {
 	private final ITestKind fTestRunnerKind;
 
 	/**
-	 * Test runner client or <code>null</code>.
+	 * Test runner client or <code>null</code>. If the tests run in several VMs, this is the client
+	 * of the first VM.
 	 */
 	private RemoteTestRunnerClient fTestRunnerClient;
 
+	/**
+	 * Test runner clients of all VMs or <code>null</code>.
+	 */
+	private RemoteTestRunnerClient[] fTestRunnerClients;
+
+	/**
+	 * Guards the events of the test runner clients if the tests run in several VMs.
+	 */
+	private final Object fShardLock= new Object();
+
+	/**
+	 * Number of test runner VMs that have started / finished their test run.
+	 */
+	private int fStartedShards, fFinishedShards;
+
+	private boolean fShardStopped, fShardTerminated;
+
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
 	/**
@@ -84,9 +105,10 @@ public class TestRunSession implements ITestRunSession {
 	private Result fTestResult;
 
 	/**
-	 * Map from testId to testElement.
+	 * Map from testId to testElement. Concurrent, since elements are registered by whichever
+	 * thread first accesses the children of a suite that have not been read from the swap file.
 	 */
-	private HashMap<String, TestElement> fIdToTest;
+	private Map<String, TestElement> fIdToTest;
 
 	/**
 	 * The TestSuites for which additional children are expected.
@@ -100,6 +122,18 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private TestSuiteElement fUnrootedSuite;
 
+	/**
+	 * <code>true</code> iff the swap file contains the current test tree. The tree may then be
+	 * only partially read from the swap file.
+	 */
+	private volatile boolean fSwapFileValid;
+
+	/**
+	 * The runs of the finished tests for the {@link TestRunHistory}, or <code>null</code> if the
+	 * session has not finished yet.
+	 */
+	private volatile List<TestRunHistory.TestRun> fTestRuns;
+
 	private static final String EMPTY_STRING= ""; //$NON-NLS-1$
 
 	/**
@@ -167,7 +201,7 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerKind= ITestKind.NULL; //TODO
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
 
 		fTestRunnerClient= null;
 
@@ -176,7 +210,20 @@ public class TestRunSession implements ITestRunSession {
 
 
 	public TestRunSession(ILaunch launch, IJavaProject project, int port) {
+		this(launch, project, new int[] { port });
+	}
+
+	/**
+	 * Creates a test run session for a launch that runs its tests in one VM per port. The test
+	 * trees and results of all VMs are merged into this session.
+	 *
+	 * @param launch the launch
+	 * @param project may be <code>null</code>
+	 * @param ports the ports of the test runner VMs
+	 */
+	public TestRunSession(ILaunch launch, IJavaProject project, int[] ports) {
 		Assert.isNotNull(launch);
+		Assert.isLegal(ports.length > 0);
 
 		fLaunch= launch;
 		fProject= project;
@@ -191,28 +238,30 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
-
-		fTestRunnerClient= new RemoteTestRunnerClient();
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		fIdToTest= new ConcurrentHashMap<>();
+
+		fTestRunnerClients= new RemoteTestRunnerClient[ports.length];
+		TestSessionNotifier notifier= new TestSessionNotifier();
+		for (int i= 0; i < ports.length; i++) {
+			ITestRunListener2 listener= ports.length == 1 ? notifier : new ShardNotifier(notifier, i + ":", ports.length); //$NON-NLS-1$
+			fTestRunnerClients[i]= new RemoteTestRunnerClient();
+			fTestRunnerClients[i].startListening(new ITestRunListener2[] { listener }, ports[i]);
+		}
+		fTestRunnerClient= fTestRunnerClients[0];
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -228,6 +277,15 @@ public class TestRunSession implements ITestRunSession {
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	private void stopWaiting() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopWaiting();
+			}
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -238,7 +296,8 @@ public class TestRunSession implements ITestRunSession {
 
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
+		fSwapFileValid= false;
 	}
 
 	@Override
@@ -287,6 +346,29 @@ public class TestRunSession implements ITestRunSession {
 		return fTestRoot;
 	}
 
+	/**
+	 * Returns the runs of the finished tests of this session for the {@link TestRunHistory}. The
+	 * runs are recorded when the session finishes and when it is swapped out, so that the test
+	 * tree is not read back from the swap file.
+	 *
+	 * @return the test runs
+	 */
+	public List<TestRunHistory.TestRun> getTestRuns() {
+		List<TestRunHistory.TestRun> testRuns= fTestRuns;
+		if (testRuns != null)
+			return testRuns;
+		synchronized (this) {
+			if (fTestRoot == null)
+				return Collections.emptyList();
+			return TestRunHistory.collectTestRuns(fTestRoot);
+		}
+	}
+
+	private synchronized void recordTestRuns() {
+		if (fTestRoot != null)
+			fTestRuns= TestRunHistory.collectTestRuns(fTestRoot);
+	}
+
 	/*
 	 * @see org.eclipse.jdt.junit.model.ITestRunSession#getJavaProject()
 	 */
@@ -368,22 +450,32 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		try {
-			File swapFile= getSwapFile();
-
-			JUnitModel.exportTestRunSession(this, swapFile);
+			recordTestRuns();
+			if (!fSwapFileValid) {
+				new TestRunSessionSwapFile(getSwapFile()).write(fTestRoot);
+				fSwapFileValid= true;
+			}
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
 			fTestRunnerClient= null;
-			fIdToTest= new HashMap<>();
+			fTestRunnerClients= null;
+			fIdToTest= new ConcurrentHashMap<>();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
 
-		} catch (IllegalStateException | CoreException e) {
+		} catch (IllegalStateException | IOException e) {
 			JUnitCorePlugin.log(e);
 		}
 	}
 
+	/**
+	 * @return <code>true</code> iff the test tree has been swapped to disk
+	 */
+	public synchronized boolean isSwappedOut() {
+		return fTestRoot == null;
+	}
+
 	public boolean isStarting() {
 		return getStartTime() == 0 && fLaunch != null && ! fLaunch.isTerminated();
 	}
@@ -391,6 +483,7 @@ public class TestRunSession implements ITestRunSession {
 
 	public void removeSwapFile() {
 		File swapFile= getSwapFile();
+		fSwapFileValid= false;
 		if (swapFile.exists())
 			swapFile.delete();
 	}
@@ -398,7 +491,7 @@ public class TestRunSession implements ITestRunSession {
 	private File getSwapFile() throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + ".bin"; //$NON-NLS-1$
 		return new File(historyDir, swapFileName);
 	}
 
@@ -408,19 +501,26 @@ public class TestRunSession implements ITestRunSession {
 			return;
 
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
-		} catch (IllegalStateException | CoreException e) {
+			fIdToTest= new ConcurrentHashMap<>();
+			fTestRoot= new TestRunSessionSwapFile(getSwapFile()).read(this);
+			fTestResult= null;
+		} catch (IllegalStateException | IOException e) {
 			JUnitCorePlugin.log(e);
 			fTestRoot= new TestRoot(this);
 			fTestResult= null;
+			fSwapFileValid= false;
 		}
 	}
 
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
-			fTestRunnerClient.stopTest();
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopTest();
+			}
+		}
 	}
 
 	/**
@@ -474,70 +574,98 @@ public class TestRunSession implements ITestRunSession {
 	}
 
 	public TestElement getTestElement(String id) {
-		return fIdToTest.get(id);
+		if (id == null)
+			return null;
+		TestElement testElement= fIdToTest.get(id);
+		if (testElement == null && fSwapFileValid) {
+			// the element may not have been read from the swap file yet
+			TestRoot testRoot= fTestRoot;
+			if (testRoot != null) {
+				readAllTestElements(testRoot);
+				testElement= fIdToTest.get(id);
+			}
+		}
+		return testElement;
 	}
 
-	private TestElement addTreeEntry(String treeEntry) {
+	private void readAllTestElements(TestSuiteElement suite) {
+		for (ITestElement child : suite.getChildren()) {
+			if (child instanceof TestSuiteElement) {
+				readAllTestElements((TestSuiteElement) child);
+			}
+		}
+	}
+
+	void registerTestElement(TestElement testElement) {
+		fIdToTest.put(testElement.getId(), testElement);
+	}
+
+	private TestElement addTreeEntry(String treeEntry, String idPrefix) {
 		// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
 		int index0= treeEntry.indexOf(',');
 		String id= treeEntry.substring(0, index0);
 
 		StringBuffer testNameBuffer= new StringBuffer(100);
 		int index1= scanTestName(treeEntry, index0 + 1, testNameBuffer);
-		String testName= testNameBuffer.toString().trim();
+		String testName= testNameBuffer.toString();
 
 		int index2= treeEntry.indexOf(',', index1 + 1);
 		boolean isSuite= "true".equals(treeEntry.substring(index1 + 1, index2)); //$NON-NLS-1$
 
-		int testCount;
-		boolean isDynamicTest;
-		String parentId;
-		String displayName;
+		int index3= treeEntry.indexOf(',', index2 + 1);
+		if (index3 == -1) {
+			int testCount= Integer.parseInt(treeEntry.substring(index2 + 1));
+			return addTreeEntry(id, testName, isSuite, testCount, false, null, null, null, null, idPrefix);
+		}
+		int testCount= Integer.parseInt(treeEntry.substring(index2 + 1, index3));
+
+		int index4= treeEntry.indexOf(',', index3 + 1);
+		boolean isDynamicTest= "true".equals(treeEntry.substring(index3 + 1, index4)); //$NON-NLS-1$
+
+		int index5= treeEntry.indexOf(',', index4 + 1);
+		String parentId= treeEntry.substring(index4 + 1, index5);
+
 		StringBuffer displayNameBuffer= new StringBuffer(100);
-		String[] parameterTypes;
+		int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
+
 		StringBuffer parameterTypesBuffer= new StringBuffer(200);
-		String uniqueId;
+		int index7= scanTestName(treeEntry, index6 + 1, parameterTypesBuffer);
+
 		StringBuffer uniqueIdBuffer= new StringBuffer(200);
-		int index3= treeEntry.indexOf(',', index2 + 1);
-		if (index3 == -1) {
-			testCount= Integer.parseInt(treeEntry.substring(index2 + 1));
-			isDynamicTest= false;
-			parentId= null;
-			displayName= null;
-			parameterTypes= null;
-			uniqueId= null;
-		} else {
-			testCount= Integer.parseInt(treeEntry.substring(index2 + 1, index3));
+		scanTestName(treeEntry, index7 + 1, uniqueIdBuffer);
 
-			int index4= treeEntry.indexOf(',', index3 + 1);
-			isDynamicTest= "true".equals(treeEntry.substring(index3 + 1, index4)); //$NON-NLS-1$
+		return addTreeEntry(id, testName, isSuite, testCount, isDynamicTest, parentId, displayNameBuffer.toString(), parameterTypesBuffer.toString(), uniqueIdBuffer.toString(), idPrefix);
+	}
 
-			int index5= treeEntry.indexOf(',', index4 + 1);
-			parentId= treeEntry.substring(index4 + 1, index5);
-			if ("-1".equals(parentId)) { //$NON-NLS-1$
-				parentId= null;
-			}
+	/**
+	 * Adds a test tree entry with the fields of the description of
+	 * {@link ITestRunListener2#testTreeEntry(String)}, after unescaping.
+	 */
+	private TestElement addTreeEntry(String testId, String testNameString, boolean isSuite, int testCount, boolean isDynamicTest,
+			String parentIdString, String displayNameString, String parameterTypesString, String uniqueIdString, String idPrefix) {
+		String id= idPrefix + testId;
+		String testName= testNameString.trim();
+
+		String parentId= null;
+		if (parentIdString != null && !"-1".equals(parentIdString)) { //$NON-NLS-1$
+			parentId= idPrefix + parentIdString;
+		}
 
-			int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
-			displayName= displayNameBuffer.toString().trim();
-			if (displayName.equals(testName)) {
-				displayName= null;
-			}
+		String displayName= displayNameString != null ? displayNameString.trim() : null;
+		if (displayName != null && displayName.equals(testName)) {
+			displayName= null;
+		}
 
-			int index7= scanTestName(treeEntry, index6 + 1, parameterTypesBuffer);
-			String parameterTypesString= parameterTypesBuffer.toString().trim();
-			if (parameterTypesString.isEmpty()) {
-				parameterTypes= null;
-			} else {
-				parameterTypes= parameterTypesString.split(","); //$NON-NLS-1$
-				Arrays.parallelSetAll(parameterTypes, i -> parameterTypes[i].trim());
-			}
+		String[] parameterTypes= null;
+		if (parameterTypesString != null && !parameterTypesString.trim().isEmpty()) {
+			String[] types= parameterTypesString.trim().split(","); //$NON-NLS-1$
+			Arrays.parallelSetAll(types, i -> types[i].trim());
+			parameterTypes= types;
+		}
 
-			scanTestName(treeEntry, index7 + 1, uniqueIdBuffer);
-			uniqueId= uniqueIdBuffer.toString().trim();
-			if (uniqueId.isEmpty()) {
-				uniqueId= null;
-			}
+		String uniqueId= uniqueIdString != null ? uniqueIdString.trim() : null;
+		if (uniqueId != null && uniqueId.isEmpty()) {
+			uniqueId= null;
 		}
 
 		if (isDynamicTest) {
@@ -580,6 +708,7 @@ public class TestRunSession implements ITestRunSession {
 			testElement= new TestCaseElement(parent, id, testName, displayName, isDynamicTest, parameterTypes, uniqueId);
 		}
 		fIdToTest.put(id, testElement);
+		fSwapFileValid= false;
 		return testElement;
 	}
 
@@ -648,6 +777,7 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunEnded(long elapsedTime) {
 			fIsRunning= false;
+			recordTestRuns();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionEnded(elapsedTime);
@@ -657,6 +787,7 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunStopped(long elapsedTime) {
 			fIsRunning= false;
+			recordTestRuns();
 			fIsStopped= true;
 
 			for (ITestSessionListener listener : fSessionListeners) {
@@ -667,6 +798,7 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunTerminated() {
 			fIsRunning= false;
+			recordTestRuns();
 			fIsStopped= true;
 
 			for (ITestSessionListener listener : fSessionListeners) {
@@ -676,8 +808,23 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testTreeEntry(String description) {
-			TestElement testElement= addTreeEntry(description);
+			testTreeEntry(description, EMPTY_STRING);
+		}
 
+		void testTreeEntry(String description, String idPrefix) {
+			testAdded(addTreeEntry(description, idPrefix));
+		}
+
+		@Override
+		public void testTreeEntry(String testId, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String parentId, String displayName, String parameterTypes, String uniqueId) {
+			testTreeEntry(testId, testName, isSuite, testCount, isDynamicTest, parentId, displayName, parameterTypes, uniqueId, EMPTY_STRING);
+		}
+
+		void testTreeEntry(String testId, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String parentId, String displayName, String parameterTypes, String uniqueId, String idPrefix) {
+			testAdded(addTreeEntry(testId, testName, isSuite, testCount, isDynamicTest, parentId, displayName, parameterTypes, uniqueId, idPrefix));
+		}
+
+		private void testAdded(TestElement testElement) {
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.testAdded(testElement);
 			}
@@ -802,6 +949,125 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	/**
+	 * Forwards the events of one of several test runner VMs to the {@link TestSessionNotifier}.
+	 * The test ids of the VM get a prefix to keep them unique in the session. The session starts
+	 * with the first VM and ends after the last.
+	 */
+	private class ShardNotifier implements ITestRunListener2 {
+
+		private final TestSessionNotifier fNotifier;
+		private final String fIdPrefix;
+		private final int fShardCount;
+
+		/**
+		 * The TestSuites for which additional children are expected from this VM.
+		 */
+		private final List<IncompleteTestSuite> fShardIncompleteTestSuites= new ArrayList<>();
+		private final List<IncompleteTestSuite> fShardFactoryTestSuites= new ArrayList<>();
+
+		private boolean fFinished;
+
+		ShardNotifier(TestSessionNotifier notifier, String idPrefix, int shardCount) {
+			fNotifier= notifier;
+			fIdPrefix= idPrefix;
+			fShardCount= shardCount;
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			synchronized (fShardLock) {
+				if (fStartedShards++ == 0) {
+					fNotifier.testRunStarted(testCount);
+				} else {
+					fTotalCount+= testCount;
+				}
+			}
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			shardFinished(false, false);
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			shardFinished(true, false);
+		}
+
+		@Override
+		public void testRunTerminated() {
+			shardFinished(true, true);
+		}
+
+		private void shardFinished(boolean stopped, boolean terminated) {
+			synchronized (fShardLock) {
+				if (fFinished)
+					return;
+				fFinished= true;
+				fShardStopped|= stopped;
+				fShardTerminated|= terminated;
+				if (++fFinishedShards < fShardCount)
+					return;
+
+				long elapsedTime= fStartTime > 0 ? System.currentTimeMillis() - fStartTime : 0;
+				if (fShardTerminated) {
+					fNotifier.testRunTerminated();
+				} else if (fShardStopped) {
+					fNotifier.testRunStopped(elapsedTime);
+				} else {
+					fNotifier.testRunEnded(elapsedTime);
+				}
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			synchronized (fShardLock) {
+				fIncompleteTestSuites= fShardIncompleteTestSuites;
+				fFactoryTestSuites= fShardFactoryTestSuites;
+				fNotifier.testTreeEntry(description, fIdPrefix);
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String testId, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String parentId, String displayName, String parameterTypes, String uniqueId) {
+			synchronized (fShardLock) {
+				fIncompleteTestSuites= fShardIncompleteTestSuites;
+				fFactoryTestSuites= fShardFactoryTestSuites;
+				fNotifier.testTreeEntry(testId, testName, isSuite, testCount, isDynamicTest, parentId, displayName, parameterTypes, uniqueId, fIdPrefix);
+			}
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			synchronized (fShardLock) {
+				fNotifier.testStarted(fIdPrefix + testId, testName);
+			}
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			synchronized (fShardLock) {
+				fNotifier.testEnded(fIdPrefix + testId, testName);
+			}
+		}
+
+		@Override
+		public void testFailed(int statusCode, String testId, String testName, String trace, String expected, String actual) {
+			synchronized (fShardLock) {
+				fNotifier.testFailed(statusCode, fIdPrefix + testId, testName, trace, expected, actual);
+			}
+		}
+
+		@Override
+		public void testReran(String testId, String className, String testName, int statusCode, String trace, String expectedResult, String actualResult) {
+			synchronized (fShardLock) {
+				fNotifier.testReran(fIdPrefix + testId, className, testName, statusCode, trace, expectedResult, actualResult);
+			}
+		}
+	}
+
 	private static class IncompleteTestSuite {
 		public TestSuiteElement fTestSuiteElement;
 		public int fOutstandingChildren;
@@ -814,6 +1080,7 @@ public class TestRunSession implements ITestRunSession {
 
 	public void registerTestFailureStatus(TestElement testElement, Status status, String trace, String expected, String actual) {
 		testElement.setStatus(status, trace, expected, actual);
+		fSwapFileValid= false;
 		if (!testElement.isAssumptionFailure()) {
 			if (status.isError()) {
 				fErrorCount++;
@@ -844,6 +1111,7 @@ public class TestRunSession implements ITestRunSession {
 
 	private void setStatus(TestElement testElement, Status status) {
 		testElement.setStatus(status);
+		fSwapFileValid= false;
 	}
 
 	public TestElement[] getAllFailedTestElements() {
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Binary swap file of a {@link TestRunSession}.
+ * <p>
+ * The children of a suite are stored in one block, and the record of the suite holds the offset
+ * of that block. Children blocks are written before the record of their suite, and the file ends
+ * with the record of the test root followed by its offset. A swapped-in session only reads the
+ * root record; the children of a suite are read when they are first accessed, see
+ * {@link TestSuiteElement#getChildren()}.
+ * </p>
+ * <p>
+ * The swap file is only used while the workbench is running. It is not an exchange format, use
+ * {@link JUnitModel#exportTestRunSession(TestRunSession, File)} for that.
+ * </p>
+ */
+public class TestRunSessionSwapFile {
+
+	private static final int MAGIC= 0x4A545253; // "JTRS"
+
+	private static final int VERSION= 1;
+
+	private static final Status[] STATUS= {
+			Status.OK, Status.ERROR, Status.FAILURE, Status.NOT_RUN, Status.RUNNING, Status.RUNNING_ERROR, Status.RUNNING_FAILURE
+	};
+
+	private final File fFile;
+
+	private TestRunSession fTestRunSession;
+
+	/**
+	 * @param file the swap file
+	 */
+	public TestRunSessionSwapFile(File file) {
+		fFile= file;
+	}
+
+	public File getFile() {
+		return fFile;
+	}
+
+	/**
+	 * Writes the given test tree to the swap file.
+	 * <p>
+	 * The tree may have been read lazily from this swap file. It is therefore written to a
+	 * temporary file first, which reads all remaining children from the old file, and the
+	 * temporary file then replaces the swap file.
+	 * </p>
+	 *
+	 * @param testRoot the root of the test tree
+	 * @throws IOException if the file could not be written
+	 */
+	public void write(TestRoot testRoot) throws IOException {
+		File tempFile= new File(fFile.getParentFile(), fFile.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile), 64 * 1024))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				long childrenOffset= writeChildren(out, testRoot);
+				long rootOffset= out.size();
+				writeElement(out, testRoot, childrenOffset);
+				out.writeLong(rootOffset);
+			}
+			try {
+				Files.move(tempFile.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile.toPath());
+		}
+	}
+
+	private long writeChildren(DataOutputStream out, TestSuiteElement suite) throws IOException {
+		ITestElement[] children= suite.getChildren();
+		long[] childrenOffsets= new long[children.length];
+		for (int i= 0; i < children.length; i++) {
+			if (children[i] instanceof TestSuiteElement) {
+				childrenOffsets[i]= writeChildren(out, (TestSuiteElement) children[i]);
+			}
+		}
+		long offset= out.size();
+		out.writeInt(children.length);
+		for (int i= 0; i < children.length; i++) {
+			writeElement(out, (TestElement) children[i], childrenOffsets[i]);
+		}
+		return offset;
+	}
+
+	private static void writeElement(DataOutputStream out, TestElement element, long childrenOffset) throws IOException {
+		boolean isSuite= element instanceof TestSuiteElement;
+		out.writeBoolean(isSuite);
+		writeString(out, element.getId());
+		writeString(out, element.getTestName());
+		writeString(out, element.getDisplayName());
+		String[] parameterTypes= element.getParameterTypes();
+		if (parameterTypes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(parameterTypes.length);
+			for (String parameterType : parameterTypes) {
+				writeString(out, parameterType);
+			}
+		}
+		writeString(out, element.getUniqueId());
+		writeString(out, element.getTrace());
+		writeString(out, element.getExpected());
+		writeString(out, element.getActual());
+		out.writeBoolean(element.isAssumptionFailure());
+		out.writeDouble(element.fTime);
+		if (isSuite) {
+			TestSuiteElement suite= (TestSuiteElement) element;
+			out.writeByte(getStatusCode(suite.getSuiteStatus()));
+			Status childrenStatus= suite.getChildrenStatus();
+			out.writeByte(childrenStatus == null ? -1 : getStatusCode(childrenStatus));
+			out.writeInt(suite.getChildren().length);
+			out.writeLong(childrenOffset);
+		} else {
+			TestCaseElement testCase= (TestCaseElement) element;
+			out.writeByte(getStatusCode(testCase.getStatus()));
+			out.writeBoolean(testCase.isIgnored());
+			out.writeBoolean(testCase.isDynamicTest());
+		}
+	}
+
+	/**
+	 * Reads the test root from the swap file. The children of the root are read lazily.
+	 *
+	 * @param testRunSession the session to which the test tree belongs
+	 * @return the test root
+	 * @throws IOException if the file could not be read or has an unknown format
+	 */
+	public TestRoot read(TestRunSession testRunSession) throws IOException {
+		fTestRunSession= testRunSession;
+		try (RandomAccessFile file= new RandomAccessFile(fFile, "r")) { //$NON-NLS-1$
+			if (file.length() < 16 || file.readInt() != MAGIC || file.readInt() != VERSION)
+				throw new IOException("Unknown swap file format: " + fFile); //$NON-NLS-1$
+			file.seek(file.length() - 8);
+			long rootOffset= file.readLong();
+			TestRoot testRoot= new TestRoot(testRunSession);
+			readElement(openAt(file, rootOffset), testRoot);
+			return testRoot;
+		}
+	}
+
+	/**
+	 * Reads the children of the given suite and adds them to the suite.
+	 *
+	 * @param suite the suite
+	 * @param childrenOffset the offset of the children block
+	 */
+	void readChildren(TestSuiteElement suite, long childrenOffset) {
+		try (RandomAccessFile file= new RandomAccessFile(fFile, "r")) { //$NON-NLS-1$
+			DataInputStream in= openAt(file, childrenOffset);
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				readElement(in, suite);
+			}
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+		}
+	}
+
+	private static DataInputStream openAt(RandomAccessFile file, long offset) throws IOException {
+		file.seek(offset);
+		return new DataInputStream(new BufferedInputStream(Channels.newInputStream(file.getChannel()), 16 * 1024));
+	}
+
+	/**
+	 * Reads an element record. If <code>target</code> is a {@link TestRoot}, the record is read
+	 * into the root, otherwise a new child of <code>target</code> is created.
+	 */
+	private void readElement(DataInputStream in, TestSuiteElement target) throws IOException {
+		boolean isSuite= in.readBoolean();
+		String id= readString(in);
+		String testName= readString(in);
+		String displayName= readString(in);
+		int parameterTypesCount= in.readInt();
+		String[] parameterTypes= null;
+		if (parameterTypesCount >= 0) {
+			parameterTypes= new String[parameterTypesCount];
+			for (int i= 0; i < parameterTypesCount; i++) {
+				parameterTypes[i]= readString(in);
+			}
+		}
+		String uniqueId= readString(in);
+		String trace= readString(in);
+		String expected= readString(in);
+		String actual= readString(in);
+		boolean assumptionFailed= in.readBoolean();
+		double time= in.readDouble();
+
+		TestElement element;
+		if (isSuite) {
+			Status status= getStatus(in.readByte());
+			byte childrenStatus= in.readByte();
+			int childrenCount= in.readInt();
+			long childrenOffset= in.readLong();
+			TestSuiteElement suite;
+			if (target instanceof TestRoot) {
+				suite= target;
+			} else {
+				suite= new TestSuiteElement(target, id, testName, 0, displayName, parameterTypes, uniqueId);
+			}
+			suite.setSwappedChildren(this, childrenOffset, childrenCount, childrenStatus == -1 ? null : getStatus(childrenStatus));
+			suite.restoreState(status, trace, expected, actual, assumptionFailed, time);
+			element= suite;
+		} else {
+			Status status= getStatus(in.readByte());
+			boolean ignored= in.readBoolean();
+			boolean dynamicTest= in.readBoolean();
+			TestCaseElement testCase= new TestCaseElement(target, id, testName, displayName, dynamicTest, parameterTypes, uniqueId);
+			testCase.setIgnored(ignored);
+			testCase.restoreState(status, trace, expected, actual, assumptionFailed, time);
+			element= testCase;
+		}
+		if (!(element instanceof TestRoot)) {
+			fTestRunSession.registerTestElement(element);
+		}
+	}
+
+	private static int getStatusCode(Status status) {
+		for (int i= 0; i < STATUS.length; i++) {
+			if (STATUS[i] == status)
+				return i;
+		}
+		throw new IllegalArgumentException(String.valueOf(status));
+	}
+
+	private static Status getStatus(int code) throws IOException {
+		if (code < 0 || code >= STATUS.length)
+			throw new IOException("Invalid status: " + code); //$NON-NLS-1$
+		return STATUS[code];
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		if (string == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length= in.readInt();
+		if (length < 0)
+			return null;
+		byte[] bytes= new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,14 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	private List<TestElement> fChildren;
 	private Status fChildrenStatus;
 
+	/**
+	 * The swap file from which the children still have to be read, or <code>null</code> if the
+	 * children are in memory.
+	 */
+	private volatile TestRunSessionSwapFile fSwapFile;
+	private long fChildrenOffset;
+	private int fSwappedChildrenCount;
+
 	public TestSuiteElement(TestSuiteElement parent, String id, String testName, int childrenCount, String displayName, String[] parameterTypes, String uniqueId) {
 		super(parent, id, testName, displayName, parameterTypes, uniqueId);
 		fChildren= new ArrayList<>(childrenCount);
@@ -47,15 +55,60 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	@Override
 	public ITestElement[] getChildren() {
-		return fChildren.toArray(new ITestElement[fChildren.size()]);
+		List<TestElement> children= getChildList();
+		return children.toArray(new ITestElement[children.size()]);
+	}
+
+	/**
+	 * Tells whether this suite has children, without reading them from the swap file.
+	 *
+	 * @return <code>true</code> iff this suite has children
+	 */
+	public boolean hasChildren() {
+		if (fSwapFile != null)
+			return fSwappedChildrenCount != 0;
+		return !fChildren.isEmpty();
 	}
 
 	public void addChild(TestElement child) {
-		fChildren.add(child);
+		getChildList().add(child);
 	}
 
 	public void removeChild(TestElement child) {
-		fChildren.remove(child);
+		getChildList().remove(child);
+	}
+
+	/**
+	 * Defers reading the children of this suite until they are accessed.
+	 *
+	 * @param swapFile the swap file that contains the children
+	 * @param childrenOffset the offset of the children in the swap file
+	 * @param childrenCount the number of children
+	 * @param childrenStatus the cumulated status of the children, or <code>null</code>
+	 */
+	void setSwappedChildren(TestRunSessionSwapFile swapFile, long childrenOffset, int childrenCount, Status childrenStatus) {
+		fChildrenOffset= childrenOffset;
+		fSwappedChildrenCount= childrenCount;
+		fChildrenStatus= childrenStatus;
+		fSwapFile= swapFile;
+	}
+
+	Status getChildrenStatus() {
+		return fChildrenStatus;
+	}
+
+	private List<TestElement> getChildList() {
+		if (fSwapFile != null) {
+			synchronized (this) {
+				TestRunSessionSwapFile swapFile= fSwapFile;
+				if (swapFile != null) {
+					fSwapFile= null;
+					fChildren= new ArrayList<>(fSwappedChildrenCount);
+					swapFile.readChildren(this, fChildrenOffset);
+				}
+			}
+		}
+		return fChildren;
 	}
 
 	@Override
@@ -70,7 +123,8 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	private Status getCumulatedStatus() {
-		TestElement[] children= fChildren.toArray(new TestElement[fChildren.size()]); // copy list to avoid concurreny problems
+		List<TestElement> childList= getChildList();
+		TestElement[] children= childList.toArray(new TestElement[childList.size()]); // copy list to avoid concurreny problems
 		if (children.length == 0)
 			return getSuiteStatus();
 
@@ -91,13 +145,14 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	public void childChangedStatus(TestElement child, Status childStatus) {
-		int childCount= fChildren.size();
-		if (child == fChildren.get(0) && childStatus.isRunning()) {
+		List<TestElement> children= getChildList();
+		int childCount= children.size();
+		if (child == children.get(0) && childStatus.isRunning()) {
 			// is first child, and is running -> copy status
 			internalSetChildrenStatus(childStatus);
 			return;
 		}
-		TestElement lastChild= fChildren.get(childCount - 1);
+		TestElement lastChild= children.get(childCount - 1);
 		if (child == lastChild) {
 			if (childStatus.isDone()) {
 				// all children done, collect cumulative status
@@ -151,7 +206,7 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	@Override
 	public String toString() {
-		return "TestSuite: " + getTestName() + " : " + super.toString() + " (" + fChildren.size() + ")";   //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		return "TestSuite: " + getTestName() + " : " + super.toString() + " (" + (fSwapFile != null ? fSwappedChildrenCount : fChildren.size()) + ")";   //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 	}
 
 }
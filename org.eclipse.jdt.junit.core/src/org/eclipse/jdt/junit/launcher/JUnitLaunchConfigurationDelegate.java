@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,10 +28,12 @@ import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.osgi.framework.Bundle;
 import org.osgi.framework.Constants;
@@ -71,6 +73,8 @@ import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.model.TestRunHistory;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
@@ -97,8 +101,22 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	private int fPort;
 	private IJavaElement[] fTestElements;
 
+	/**
+	 * The test elements of each test runner VM, or <code>null</code> if the tests run in one VM.
+	 */
+	private IJavaElement[][] fShards;
+	private int[] fShardPorts;
+
+	private TestRunHistory fTestRunHistory;
+
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
+	/**
+	 * Maximal number of test names that are passed to the runtime in the priority order of the
+	 * {@link TestRunHistory}.
+	 */
+	private static final int MAX_PRIORITIZED_TESTS= 1000;
+
 	@Override
 	public String showCommandLine(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		if (monitor == null) {
@@ -153,8 +171,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			}
 
 			fKeepAlive= ILaunchManager.DEBUG_MODE.equals(mode) && configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, false);
-			fPort= evaluatePort();
-			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
@@ -169,101 +185,132 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				}
 			}
 
-			String mainTypeName= verifyMainTypeName(configuration);
-
-
-			File workingDir = verifyWorkingDirectory(configuration);
-			String workingDirName = null;
-			if (workingDir != null) {
-				workingDirName= workingDir.getAbsolutePath();
+			fShards= null;
+			int shardCount= fKeepAlive ? 1 : configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+			if (shardCount > 1) {
+				fShards= createShards(configuration, shardCount, monitor);
 			}
-
-			// Environment variables
-			String[] envp= getEnvironment(configuration);
-
-			ArrayList<String> vmArguments= new ArrayList<>();
-			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+			if (fShards != null) {
+				fShardPorts= evaluatePorts(fShards.length);
+				StringBuilder ports= new StringBuilder();
+				for (int shardPort : fShardPorts) {
+					if (ports.length() > 0) {
+						ports.append(',');
+					}
+					ports.append(shardPort);
+				}
+				// the session is created when the port is set, see JUnitModel
+				launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, ports.toString());
+				fTestElements= fShards[0];
+				fPort= fShardPorts[0];
+			} else {
+				fPort= evaluatePort();
 			}
+			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
-			// VM-specific attributes
-			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
+			runConfig= createVMRunnerConfiguration(configuration, mode, javaProject);
 
-			// Classpath and modulepath
-			String[][] classpathAndModulepath= getClasspathAndModulepath(configuration);
-			String[] classpath= classpathAndModulepath[0];
-			String[] modulepath= classpathAndModulepath[1];
+			// check for cancellation
+			if (monitor.isCanceled()) {
+				return null;
+			}
+		}finally {
+			// done the verification phase
+			monitor.worked(1);
+		}
+		return runConfig;
+	}
 
-			if (TestKindRegistry.JUNIT5_TEST_KIND_ID.equals(getTestRunnerKind(configuration).getId())) {
-				if (!configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY, false)) {
-					if (!Arrays.stream(classpath).anyMatch(s -> s.contains("junit-platform-launcher") || s.contains("org.junit.platform.launcher"))) { //$NON-NLS-1$ //$NON-NLS-2$
-						try {
-							JUnitRuntimeClasspathEntry x= new JUnitRuntimeClasspathEntry("junit-platform-launcher", null); //$NON-NLS-1$
-							String entryString= new ClasspathLocalizer(Platform.inDevelopmentMode()).entryString(x);
-							int length= classpath.length;
-							System.arraycopy(classpath, 0, classpath= new String[length + 1], 0, length);
-							classpath[length]= entryString;
-						} catch (IOException | URISyntaxException e) {
-							throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
-						}
+	/**
+	 * Creates the configuration of a test runner VM for the current {@link #fTestElements} and
+	 * {@link #fPort}.
+	 */
+	private VMRunnerConfiguration createVMRunnerConfiguration(ILaunchConfiguration configuration, String mode, IJavaProject javaProject) throws CoreException {
+		String mainTypeName= verifyMainTypeName(configuration);
+
+		File workingDir = verifyWorkingDirectory(configuration);
+		String workingDirName = null;
+		if (workingDir != null) {
+			workingDirName= workingDir.getAbsolutePath();
+		}
+
+		// Environment variables
+		String[] envp= getEnvironment(configuration);
+
+		ArrayList<String> vmArguments= new ArrayList<>();
+		ArrayList<String> programArguments= new ArrayList<>();
+		collectExecutionArguments(configuration, vmArguments, programArguments);
+		vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+		if (JavaRuntime.isModularProject(javaProject)) {
+			vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+		}
+
+		// VM-specific attributes
+		Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
+
+		// Classpath and modulepath
+		String[][] classpathAndModulepath= getClasspathAndModulepath(configuration);
+		String[] classpath= classpathAndModulepath[0];
+		String[] modulepath= classpathAndModulepath[1];
+
+		if (TestKindRegistry.JUNIT5_TEST_KIND_ID.equals(getTestRunnerKind(configuration).getId())) {
+			if (!configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY, false)) {
+				if (!Arrays.stream(classpath).anyMatch(s -> s.contains("junit-platform-launcher") || s.contains("org.junit.platform.launcher"))) { //$NON-NLS-1$ //$NON-NLS-2$
+					try {
+						JUnitRuntimeClasspathEntry x= new JUnitRuntimeClasspathEntry("junit-platform-launcher", null); //$NON-NLS-1$
+						String entryString= new ClasspathLocalizer(Platform.inDevelopmentMode()).entryString(x);
+						int length= classpath.length;
+						System.arraycopy(classpath, 0, classpath= new String[length + 1], 0, length);
+						classpath[length]= entryString;
+					} catch (IOException | URISyntaxException e) {
+						throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
 					}
-					if (!Arrays.stream(classpath).anyMatch(s -> s.contains("junit-jupiter-engine") || s.contains("org.junit.jupiter.engine"))) { //$NON-NLS-1$ //$NON-NLS-2$
-						try {
-							JUnitRuntimeClasspathEntry x= new JUnitRuntimeClasspathEntry("junit-jupiter-engine", null); //$NON-NLS-1$
-							String entryString= new ClasspathLocalizer(false).entryString(x);
-							int length= classpath.length;
-							System.arraycopy(classpath, 0, classpath= new String[length + 1], 0, length);
-							classpath[length]= entryString;
-						} catch (IOException | URISyntaxException e) {
-							throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
-						}
+				}
+				if (!Arrays.stream(classpath).anyMatch(s -> s.contains("junit-jupiter-engine") || s.contains("org.junit.jupiter.engine"))) { //$NON-NLS-1$ //$NON-NLS-2$
+					try {
+						JUnitRuntimeClasspathEntry x= new JUnitRuntimeClasspathEntry("junit-jupiter-engine", null); //$NON-NLS-1$
+						String entryString= new ClasspathLocalizer(false).entryString(x);
+						int length= classpath.length;
+						System.arraycopy(classpath, 0, classpath= new String[length + 1], 0, length);
+						classpath[length]= entryString;
+					} catch (IOException | URISyntaxException e) {
+						throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
 					}
-					if (!Arrays.stream(classpath).anyMatch(s -> s.contains("junit-jupiter-api") || s.contains("org.junit.jupiter.api"))) { //$NON-NLS-1$ //$NON-NLS-2$
-						try {
-							JUnitRuntimeClasspathEntry x= new JUnitRuntimeClasspathEntry("junit-jupiter-api", null); //$NON-NLS-1$
-							String entryString= new ClasspathLocalizer(false).entryString(x);
-							int length= classpath.length;
-							System.arraycopy(classpath, 0, classpath= new String[length + 1], 0, length);
-							classpath[length]= entryString;
-						} catch (IOException | URISyntaxException e) {
-							throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
-						}
+				}
+				if (!Arrays.stream(classpath).anyMatch(s -> s.contains("junit-jupiter-api") || s.contains("org.junit.jupiter.api"))) { //$NON-NLS-1$ //$NON-NLS-2$
+					try {
+						JUnitRuntimeClasspathEntry x= new JUnitRuntimeClasspathEntry("junit-jupiter-api", null); //$NON-NLS-1$
+						String entryString= new ClasspathLocalizer(false).entryString(x);
+						int length= classpath.length;
+						System.arraycopy(classpath, 0, classpath= new String[length + 1], 0, length);
+						classpath[length]= entryString;
+					} catch (IOException | URISyntaxException e) {
+						throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
 					}
 				}
 			}
+		}
 
-			// Create VM config
-			runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
-			runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
-			runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
-			runConfig.setEnvironment(envp);
-			runConfig.setWorkingDirectory(workingDirName);
-			runConfig.setVMSpecificAttributesMap(vmAttributesMap);
-			runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
+		// Create VM config
+		VMRunnerConfiguration runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
+		runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+		runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+		runConfig.setEnvironment(envp);
+		runConfig.setWorkingDirectory(workingDirName);
+		runConfig.setVMSpecificAttributesMap(vmAttributesMap);
+		runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
 
-			if (!JavaRuntime.isModularConfiguration(configuration)) {
-				// Bootpath
-				runConfig.setBootClassPath(getBootpath(configuration));
+		if (!JavaRuntime.isModularConfiguration(configuration)) {
+			// Bootpath
+			runConfig.setBootClassPath(getBootpath(configuration));
+		} else {
+			// module path
+			runConfig.setModulepath(modulepath);
+			if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS, true)) {
+				runConfig.setOverrideDependencies(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
 			} else {
-				// module path
-				runConfig.setModulepath(modulepath);
-				if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS, true)) {
-					runConfig.setOverrideDependencies(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
-				} else {
-					runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
-				}
+				runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
 			}
-
-			// check for cancellation
-			if (monitor.isCanceled()) {
-				return null;
-			}
-		}finally {
-			// done the verification phase
-			monitor.worked(1);
 		}
 		return runConfig;
 	}
@@ -289,12 +336,25 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Launch the configuration - 1 unit of work
 			runner.run(runConfig, launch, monitor);
 
+			if (fShards != null) {
+				String vmMode= JUnitLaunchConfigurationConstants.MODE_RUN_QUIETLY_MODE.equals(mode) ? ILaunchManager.RUN_MODE : mode;
+				IJavaProject javaProject= getJavaProject(configuration);
+				for (int i= 1; i < fShards.length && !monitor.isCanceled(); i++) {
+					fTestElements= fShards[i];
+					fPort= fShardPorts[i];
+					runner.run(createVMRunnerConfiguration(configuration, vmMode, javaProject), launch, monitor);
+				}
+			}
+
 			// check for cancellation
 			if (monitor.isCanceled()) {
 				return;
 			}
 		} finally {
 			fTestElements= null;
+			fShards= null;
+			fShardPorts= null;
+			fTestRunHistory= null;
 			monitor.done();
 		}
 	}
@@ -307,6 +367,70 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return port;
 	}
 
+	private int[] evaluatePorts(int count) throws CoreException {
+		int[] ports= new int[count];
+		Set<Integer> used= new HashSet<>();
+		for (int i= 0; i < count; i++) {
+			// a free port is not reserved, so the same port may be found again
+			int port= evaluatePort();
+			for (int attempt= 0; !used.add(Integer.valueOf(port)) && attempt < 10; attempt++) {
+				port= evaluatePort();
+			}
+			ports[i]= port;
+		}
+		return ports;
+	}
+
+	/**
+	 * Distributes the test classes of the launch over <code>shardCount</code> VMs with about the
+	 * same run time in the test run history.
+	 *
+	 * @param configuration the launch configuration
+	 * @param shardCount the requested number of VMs
+	 * @param monitor the progress monitor
+	 * @return the test classes of each VM, or <code>null</code> if the tests cannot be distributed
+	 * @throws CoreException if the search for tests failed
+	 */
+	private IJavaElement[][] createShards(ILaunchConfiguration configuration, int shardCount, IProgressMonitor monitor) throws CoreException {
+		IJavaElement[] testElements= fTestElements;
+		if (testElements.length == 1 && !(testElements[0] instanceof IMember)) {
+			// a test container, distribute the test classes in it
+			testElements= evaluateTests(configuration, new SubProgressMonitor(monitor, 1));
+		}
+		String[] classNames= new String[testElements.length];
+		for (int i= 0; i < testElements.length; i++) {
+			if (!(testElements[i] instanceof IType)) {
+				return null;
+			}
+			classNames[i]= ((IType) testElements[i]).getFullyQualifiedName();
+		}
+		shardCount= Math.min(shardCount, testElements.length);
+		if (shardCount < 2) {
+			return null;
+		}
+
+		int[] assignment= getTestRunHistory().assignShards(classNames, shardCount);
+		List<List<IJavaElement>> shards= new ArrayList<>(shardCount);
+		for (int i= 0; i < shardCount; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (int i= 0; i < testElements.length; i++) {
+			shards.get(assignment[i]).add(testElements[i]);
+		}
+		IJavaElement[][] result= new IJavaElement[shardCount][];
+		for (int i= 0; i < shardCount; i++) {
+			result[i]= shards.get(i).toArray(new IJavaElement[0]);
+		}
+		return result;
+	}
+
+	private TestRunHistory getTestRunHistory() {
+		if (fTestRunHistory == null) {
+			fTestRunHistory= new TestRunHistory(JUnitCorePlugin.getModel().getTestRunSessions());
+		}
+		return fTestRunHistory;
+	}
+
 	/**
 	 * Performs a check on the launch configuration's attributes. If an attribute contains an invalid value, a {@link CoreException}
 	 * with the error is thrown.
@@ -438,6 +562,8 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 		programArguments.add("-port"); //$NON-NLS-1$
 		programArguments.add(String.valueOf(fPort));
+		// offer the binary protocol, older runtimes ignore the argument and use the text protocol
+		programArguments.add(MessageIds.BINARY_PROTOCOL_ARG);
 
 		if (fKeepAlive)
 			programArguments.add(0, "-keepalive"); //$NON-NLS-1$
@@ -450,6 +576,8 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		programArguments.add(testRunnerKind.getLoaderPluginId());
 
 		IJavaElement[] testElements= fTestElements;
+		// accepts the raw class names of the launched tests
+		Predicate<String> launchedClasses= className -> false;
 
 		if (testElements.length == 1) { // a test name was specified just run the single test, or a test container was specified
 			IJavaElement testElement= testElements[0];
@@ -457,17 +585,20 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				IMethod method= (IMethod) testElement;
 				programArguments.add("-test"); //$NON-NLS-1$
 				programArguments.add(method.getDeclaringType().getFullyQualifiedName() + ':' + method.getElementName());
+				launchedClasses= method.getDeclaringType().getFullyQualifiedName()::equals;
 				collectAddOpensVmArgs(addOpensTargets, addOpensVmArgs, method, configuration);
 			} else if (testElement instanceof IType) {
 				IType type= (IType) testElement;
 				programArguments.add("-classNames"); //$NON-NLS-1$
 				programArguments.add(type.getFullyQualifiedName());
+				launchedClasses= isClassOrMemberOf(Collections.singleton(type.getFullyQualifiedName()));
 				collectAddOpensVmArgs(addOpensTargets, addOpensVmArgs, type, configuration);
 			} else if (testElement instanceof IPackageFragment || testElement instanceof IPackageFragmentRoot || testElement instanceof IJavaProject) {
 				Set<String> pkgNames= new HashSet<>();
 				String fileName= createPackageNamesFile(testElement, testRunnerKind, pkgNames);
 				programArguments.add("-packageNameFile"); //$NON-NLS-1$
 				programArguments.add(fileName);
+				launchedClasses= className -> pkgNames.contains(getPackageOfClass(className));
 				for (String pkgName : pkgNames) {
 					if (!DEFAULT.equals(pkgName)) { // skip --add-opens for default package
 						collectAddOpensVmArgs(addOpensTargets, addOpensVmArgs, pkgName, configuration);
@@ -477,18 +608,29 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_wrong_input, null, IJavaLaunchConfigurationConstants.ERR_UNSPECIFIED_MAIN_TYPE);
 			}
 		} else if (testElements.length > 1) {
-			String fileName= createTestNamesFile(testElements);
+			String fileName= createTestNamesFile(testElements, prioritizeByHistory(configuration));
 			programArguments.add("-testNameFile"); //$NON-NLS-1$
 			programArguments.add(fileName);
+			Set<String> typeNames= new HashSet<>();
 			for (IJavaElement testElement : testElements) {
 				collectAddOpensVmArgs(addOpensTargets, addOpensVmArgs, testElement, configuration);
+				if (testElement instanceof IType) {
+					typeNames.add(((IType) testElement).getFullyQualifiedName());
+				}
 			}
+			launchedClasses= isClassOrMemberOf(typeNames);
 		}
 
 		String testFailureNames= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_FAILURES_NAMES, ""); //$NON-NLS-1$
 		if (testFailureNames.length() > 0) {
 			programArguments.add("-testfailures"); //$NON-NLS-1$
 			programArguments.add(testFailureNames);
+		} else if (prioritizeByHistory(configuration)) {
+			List<String> prioritizedTestNames= getTestRunHistory().getPrioritizedTestNames(launchedClasses, MAX_PRIORITIZED_TESTS);
+			if (!prioritizedTestNames.isEmpty()) {
+				programArguments.add("-testfailures"); //$NON-NLS-1$
+				programArguments.add(createNamesFile("testPriorities", prioritizedTestNames)); //$NON-NLS-1$
+			}
 		}
 
 		String uniqueId= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, ""); //$NON-NLS-1$
@@ -622,20 +764,52 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return elementName;
 	}
 
-	private String createTestNamesFile(IJavaElement[] testElements) throws CoreException {
+	private static Predicate<String> isClassOrMemberOf(Set<String> typeNames) {
+		return className -> {
+			if (typeNames.contains(className))
+				return true;
+			for (int index= className.indexOf('$'); index > 0; index= className.indexOf('$', index + 1)) {
+				if (typeNames.contains(className.substring(0, index)))
+					return true;
+			}
+			return false;
+		};
+	}
+
+	private String getPackageOfClass(String className) {
+		int index= className.lastIndexOf('.');
+		return index > 0 ? className.substring(0, index) : DEFAULT;
+	}
+
+	private boolean prioritizeByHistory(ILaunchConfiguration configuration) throws CoreException {
+		return configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_HISTORY, false)
+				&& configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_FAILURES_NAMES, "").isEmpty(); //$NON-NLS-1$
+	}
+
+	private String createTestNamesFile(IJavaElement[] testElements, boolean prioritizeByHistory) throws CoreException {
+		List<String> testNames= new ArrayList<>(testElements.length);
+		for (IJavaElement testElement : testElements) {
+			if (testElement instanceof IType) {
+				IType type= (IType) testElement;
+				testNames.add(type.getFullyQualifiedName());
+			} else {
+				abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_wrong_input, null, IJavaLaunchConfigurationConstants.ERR_UNSPECIFIED_MAIN_TYPE);
+			}
+		}
+		if (prioritizeByHistory) {
+			getTestRunHistory().sortClasses(testNames);
+		}
+		return createNamesFile("testNames", testNames); //$NON-NLS-1$
+	}
+
+	private String createNamesFile(String prefix, List<String> names) throws CoreException {
 		try {
-			File file= File.createTempFile("testNames", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			File file= File.createTempFile(prefix, ".txt"); //$NON-NLS-1$
 			file.deleteOnExit();
 			try (BufferedWriter bw= new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));) {
-				for (IJavaElement testElement : testElements) {
-					if (testElement instanceof IType) {
-						IType type= (IType) testElement;
-						String testName= type.getFullyQualifiedName();
-						bw.write(testName);
-						bw.newLine();
-					} else {
-						abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_wrong_input, null, IJavaLaunchConfigurationConstants.ERR_UNSPECIFIED_MAIN_TYPE);
-					}
+				for (String name : names) {
+					bw.write(name);
+					bw.newLine();
 				}
 			}
 			return file.getAbsolutePath();
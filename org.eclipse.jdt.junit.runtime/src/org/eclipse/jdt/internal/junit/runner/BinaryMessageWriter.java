@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Writes the message stream of the binary protocol.
+ * <p>
+ * The stream starts with the int {@link MessageIds#BINARY_PROTOCOL_MAGIC} and the int
+ * {@link MessageIds#BINARY_PROTOCOL_VERSION}, followed by frames. A frame is an int length and
+ * that many bytes of messages. A message is a type byte (<code>MessageIds.BINARY_*</code>) and
+ * its arguments. Integers are big-endian, strings are an int byte count followed by the UTF-8
+ * bytes, or -1 for <code>null</code>. Unpaired surrogates are encoded like other chars in three
+ * bytes, so that test names with broken surrogates arrive unchanged.
+ * </p>
+ * <p>
+ * Messages are collected in a buffer that is sent when it is full, when the test run ends, and
+ * at the latest {@link #FLUSH_DELAY} ms after the first message has been added to it.
+ * </p>
+ */
+public class BinaryMessageWriter {
+
+	/**
+	 * Maximum time in ms for which a message is kept in the buffer.
+	 */
+	private static final int FLUSH_DELAY= 50;
+
+	/**
+	 * Frame size from which the buffer is sent immediately.
+	 */
+	private static final int FRAME_SIZE= 32 * 1024;
+
+	private static final int FRAME_HEADER_LENGTH= 4;
+
+	private final OutputStream fOut;
+
+	private byte[] fBuffer= new byte[2 * FRAME_SIZE];
+
+	private int fLength= FRAME_HEADER_LENGTH;
+
+	private boolean fClosed;
+
+	private Thread fFlusher;
+
+	/**
+	 * Creates a writer and sends the protocol header.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the header could not be written
+	 */
+	public BinaryMessageWriter(OutputStream out) throws IOException {
+		fOut= out;
+		byte[] header= new byte[8];
+		putInt(header, 0, MessageIds.BINARY_PROTOCOL_MAGIC);
+		putInt(header, 4, MessageIds.BINARY_PROTOCOL_VERSION);
+		fOut.write(header);
+		fOut.flush();
+	}
+
+	public synchronized void testRunStarted(int testCount) {
+		writeByte(MessageIds.BINARY_TEST_RUN_START);
+		writeInt(testCount);
+		messageWritten();
+	}
+
+	public synchronized void testTreeEntry(String testId, String testName, boolean isSuite, int testCount, boolean isDynamicTest,
+			String parentId, String displayName, String parameterTypes, String uniqueId) {
+		writeByte(MessageIds.BINARY_TEST_TREE);
+		writeString(testId);
+		writeString(testName);
+		writeBoolean(isSuite);
+		writeInt(testCount);
+		writeBoolean(isDynamicTest);
+		writeString(parentId);
+		writeString(displayName);
+		writeString(parameterTypes);
+		writeString(uniqueId);
+		messageWritten();
+	}
+
+	public synchronized void testStarted(String testId, String testName) {
+		writeByte(MessageIds.BINARY_TEST_START);
+		writeString(testId);
+		writeString(testName);
+		messageWritten();
+	}
+
+	public synchronized void testEnded(String testId, String testName) {
+		writeByte(MessageIds.BINARY_TEST_END);
+		writeString(testId);
+		writeString(testName);
+		messageWritten();
+	}
+
+	public synchronized void testFailed(String testId, TestReferenceFailure failure) {
+		writeByte(MessageIds.BINARY_TEST_FAILED);
+		writeByte(MessageIds.TEST_ERROR.equals(failure.getStatus()) ? MessageIds.BINARY_STATUS_ERROR : MessageIds.BINARY_STATUS_FAILURE);
+		writeString(testId);
+		writeString(failure.getTest().getName());
+		writeFailure(failure);
+		messageWritten();
+	}
+
+	/**
+	 * Writes the result of a rerun and sends it immediately.
+	 *
+	 * @param testId the test id
+	 * @param className the test class name
+	 * @param testName the test name
+	 * @param status one of the <code>RemoteTestRunner.RERAN_*</code> constants
+	 * @param failure the failure, or <code>null</code> if the test passed
+	 */
+	public synchronized void testReran(String testId, String className, String testName, String status, TestReferenceFailure failure) {
+		writeByte(MessageIds.BINARY_TEST_RERAN);
+		writeString(testId);
+		writeString(className);
+		writeString(testName);
+		if (RemoteTestRunner.RERAN_ERROR.equals(status)) {
+			writeByte(MessageIds.BINARY_STATUS_ERROR);
+		} else if (RemoteTestRunner.RERAN_FAILURE.equals(status)) {
+			writeByte(MessageIds.BINARY_STATUS_FAILURE);
+		} else {
+			writeByte(MessageIds.BINARY_STATUS_OK);
+		}
+		if (failure != null) {
+			writeFailure(failure);
+		} else {
+			writeString(null);
+			writeString(null);
+			writeString(null);
+		}
+		flush();
+	}
+
+	private void writeFailure(TestReferenceFailure failure) {
+		writeString(failure.getTrace());
+		FailedComparison comparison= failure.getComparison();
+		writeString(comparison != null ? comparison.getExpected() : null);
+		writeString(comparison != null ? comparison.getActual() : null);
+	}
+
+	/**
+	 * Writes the end of the test run and sends it immediately.
+	 *
+	 * @param elapsedTime the elapsed time in ms
+	 */
+	public synchronized void testRunEnded(long elapsedTime) {
+		writeByte(MessageIds.BINARY_TEST_RUN_END);
+		writeLong(elapsedTime);
+		flush();
+	}
+
+	/**
+	 * Writes the stop of the test run and sends it immediately.
+	 *
+	 * @param elapsedTime the elapsed time in ms
+	 */
+	public synchronized void testRunStopped(long elapsedTime) {
+		writeByte(MessageIds.BINARY_TEST_STOPPED);
+		writeLong(elapsedTime);
+		flush();
+	}
+
+	/**
+	 * Sends the buffered messages.
+	 */
+	public synchronized void flush() {
+		if (fClosed || fLength == FRAME_HEADER_LENGTH)
+			return;
+		putInt(fBuffer, 0, fLength - FRAME_HEADER_LENGTH);
+		try {
+			fOut.write(fBuffer, 0, fLength);
+			fOut.flush();
+		} catch (IOException e) {
+			// like the PrintWriter of the text protocol, give up silently if the client is gone
+			fClosed= true;
+		}
+		fLength= FRAME_HEADER_LENGTH;
+	}
+
+	/**
+	 * Sends the buffered messages and stops sending. Does not close the underlying stream.
+	 */
+	public synchronized void close() {
+		flush();
+		fClosed= true;
+		notifyAll();
+	}
+
+	private void messageWritten() {
+		if (fClosed) {
+			fLength= FRAME_HEADER_LENGTH;
+		} else if (fLength >= FRAME_SIZE) {
+			flush();
+		} else if (fFlusher == null) {
+			fFlusher= new Thread("BinaryMessageWriter") { //$NON-NLS-1$
+				@Override
+				public void run() {
+					flushPeriodically();
+				}
+			};
+			fFlusher.setDaemon(true);
+			fFlusher.start();
+		} else {
+			notifyAll();
+		}
+	}
+
+	private void flushPeriodically() {
+		try {
+			while (true) {
+				synchronized (this) {
+					while (!fClosed && fLength == FRAME_HEADER_LENGTH) {
+						wait();
+					}
+					if (fClosed)
+						return;
+				}
+				Thread.sleep(FLUSH_DELAY);
+				flush();
+			}
+		} catch (InterruptedException e) {
+			// stop flushing
+		}
+	}
+
+	private void ensureCapacity(int length) {
+		if (fLength + length > fBuffer.length) {
+			fBuffer= Arrays.copyOf(fBuffer, Math.max(2 * fBuffer.length, fLength + length));
+		}
+	}
+
+	private void writeByte(int value) {
+		ensureCapacity(1);
+		fBuffer[fLength++]= (byte) value;
+	}
+
+	private void writeBoolean(boolean value) {
+		writeByte(value ? 1 : 0);
+	}
+
+	private void writeInt(int value) {
+		ensureCapacity(4);
+		putInt(fBuffer, fLength, value);
+		fLength+= 4;
+	}
+
+	private void writeLong(long value) {
+		writeInt((int) (value >>> 32));
+		writeInt((int) value);
+	}
+
+	private void writeString(String string) {
+		if (string == null) {
+			writeInt(-1);
+			return;
+		}
+		int length= string.length();
+		ensureCapacity(4 + 3 * length);
+		int start= fLength + 4;
+		int pos= start;
+		byte[] buffer= fBuffer;
+		for (int i= 0; i < length; i++) {
+			char c= string.charAt(i);
+			if (c < 0x80) {
+				buffer[pos++]= (byte) c;
+			} else if (c < 0x800) {
+				buffer[pos++]= (byte) (0xC0 | (c >> 6));
+				buffer[pos++]= (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+				int codePoint= Character.toCodePoint(c, string.charAt(++i));
+				buffer[pos++]= (byte) (0xF0 | (codePoint >> 18));
+				buffer[pos++]= (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				buffer[pos++]= (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				buffer[pos++]= (byte) (0x80 | (codePoint & 0x3F));
+			} else {
+				buffer[pos++]= (byte) (0xE0 | (c >> 12));
+				buffer[pos++]= (byte) (0x80 | ((c >> 6) & 0x3F));
+				buffer[pos++]= (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		putInt(buffer, fLength, pos - start);
+		fLength= pos;
+	}
+
+	private static void putInt(byte[] buffer, int offset, int value) {
+		buffer[offset]= (byte) (value >>> 24);
+		buffer[offset + 1]= (byte) (value >>> 16);
+		buffer[offset + 2]= (byte) (value >>> 8);
+		buffer[offset + 3]= (byte) value;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,8 @@
 package org.eclipse.jdt.internal.junit.runner;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Enumeration;
-import java.util.HashSet;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Vector;
 
 import junit.extensions.TestDecorator;
@@ -28,74 +25,76 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+/**
+ * Moves the tests with priority to the front of their suites. The priorities are given as a list
+ * of test names, a test that is earlier in the list is run earlier. A suite is ranked like its
+ * first test. Tests without priority keep their relative order and are run after the tests with
+ * priority.
+ */
 public class FailuresFirstPrioritizer implements ITestPrioritizer {
-	private HashSet<String> fPriorities;
+	private static final int NO_PRIORITY= Integer.MAX_VALUE;
 
+	private final HashMap<String, Integer> fPriorities;
+
+	/**
+	 * @param priorities the names of the tests to run first, in the order in which they should run
+	 */
 	public FailuresFirstPrioritizer(String[] priorities) {
-		fPriorities= new HashSet<>(Arrays.asList(priorities));
+		fPriorities= new HashMap<>();
+		for (int i= 0; i < priorities.length; i++) {
+			fPriorities.putIfAbsent(priorities[i], Integer.valueOf(i));
+		}
 	}
 
 	@Override
 	public Test prioritize(Test suite) {
-		doPrioritize(suite, new ArrayList<Test>());
+		doPrioritize(suite);
 		return suite;
 	}
 
-	private void doPrioritize(Test suite, List<Test> path) {
-		if (suite instanceof TestCase) {
-			TestCase testCase= (TestCase) suite;
-			if (hasPriority(testCase))
-				reorder(testCase, path);
-		} else if (suite instanceof TestSuite) {
-			TestSuite aSuite= (TestSuite)suite;
-			path.add(suite);
-			loopTests(path, aSuite);
-			path.remove(path.size()-1);
-		} else if (suite instanceof TestDecorator) {
-			TestDecorator aDecorator= (TestDecorator)suite;
-			path.add(aDecorator);
-			doPrioritize(aDecorator.getTest(), path);
-			path.remove(path.size()-1);
-		}
-	}
-
-	private void loopTests(List<Test> path, TestSuite aSuite) {
-		for (Enumeration<Test> e= aSuite.tests(); e.hasMoreElements();) {
-			doPrioritize(e.nextElement(), path);
-		}
-	}
-
-
-	private void reorder(Test test, List<Test> path) {
-		doReorder(test, path, path.size()-1);
-	}
-
-	private void doReorder(Test test, List<Test> path, int top) {
-		if (top < 0)
-			return;
-		Test topTest= path.get(top);
-		// only reorder TestSuites
-		if (topTest instanceof TestSuite) {
-			TestSuite suite= (TestSuite) topTest;
-			moveTestToFront(suite, test);
+	/**
+	 * Sorts the suites in the given test and returns the rank of the test.
+	 *
+	 * @param test the test
+	 * @return the smallest rank of the test cases in <code>test</code>, or {@link #NO_PRIORITY}
+	 */
+	private int doPrioritize(Test test) {
+		if (test instanceof TestCase) {
+			Integer rank= fPriorities.get(test.toString());
+			return rank != null ? rank.intValue() : NO_PRIORITY;
+		} else if (test instanceof TestSuite) {
+			return sortTests((TestSuite) test);
+		} else if (test instanceof TestDecorator) {
+			return doPrioritize(((TestDecorator) test).getTest());
 		}
-		doReorder(topTest, path, top-1);
+		return NO_PRIORITY;
 	}
 
-	void moveTestToFront(TestSuite suite, Test test) {
+	private int sortTests(TestSuite suite) {
 		@SuppressWarnings("unchecked")
-		Vector<Test> tests= (Vector<Test>)getField(suite, "fTests"); //$NON-NLS-1$
-		for(int i= 0; i < tests.size(); i++) {
-			if (tests.get(i) == test) {
-				tests.remove(i);
-				tests.insertElementAt(test, 0);
-			}
+		Vector<Test> tests= (Vector<Test>) getField(suite, "fTests"); //$NON-NLS-1$
+		if (tests == null)
+			return NO_PRIORITY;
+
+		int count= tests.size();
+		Test[] sorted= tests.toArray(new Test[count]);
+		long[] keys= new long[count];
+		int minRank= NO_PRIORITY;
+		for (int i= 0; i < count; i++) {
+			int rank= doPrioritize(sorted[i]);
+			minRank= Math.min(minRank, rank);
+			// the index keeps the sort stable
+			keys[i]= ((long) rank << 32) | i;
 		}
-	}
-
+		if (minRank == NO_PRIORITY)
+			return NO_PRIORITY;
 
-	private boolean hasPriority(TestCase testCase) {
-		return fPriorities.contains(testCase.toString());
+		Arrays.sort(keys);
+		tests.clear();
+		for (long key : keys) {
+			tests.add(sorted[(int) key]);
+		}
+		return minRank;
 	}
 
 	public static Object getField(Object object, String fieldName) {
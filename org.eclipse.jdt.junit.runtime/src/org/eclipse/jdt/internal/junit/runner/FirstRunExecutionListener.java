@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,23 +19,41 @@ package org.eclipse.jdt.internal.junit.runner;
 public class FirstRunExecutionListener implements IListensToTestExecutions {
 	protected MessageSender fSender;
 
+	/**
+	 * Writer of the binary protocol, or <code>null</code> if the text protocol is used.
+	 */
+	protected final BinaryMessageWriter fBinaryWriter;
+
 	private TestIdMap fIds;
 
 	FirstRunExecutionListener(MessageSender sender, TestIdMap ids) {
+		this(sender, ids, null);
+	}
+
+	FirstRunExecutionListener(MessageSender sender, TestIdMap ids, BinaryMessageWriter binaryWriter) {
 		fSender = sender;
 		if (ids == null)
 			throw new NullPointerException();
 		fIds = ids;
+		fBinaryWriter = binaryWriter;
 	}
 
 	@Override
 	public void notifyTestEnded(ITestIdentifier test) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.testEnded(getTestId(test), test.getName());
+			return;
+		}
 		sendMessage(test, MessageIds.TEST_END);
 		fSender.flush();
 	}
 
 	@Override
 	public void notifyTestFailed(TestReferenceFailure failure) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.testFailed(getTestId(failure.getTest()), failure);
+			return;
+		}
 		sendMessage(failure.getTest(), failure.getStatus());
 		sendFailure(failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
 		// fSender.flush(); // flush is implicitly done by sendFailure()
@@ -43,6 +61,10 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 
 	@Override
 	public void notifyTestStarted(ITestIdentifier test) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.testStarted(getTestId(test), test.getName());
+			return;
+		}
 		sendMessage(test, MessageIds.TEST_START);
 		fSender.flush();
 	}
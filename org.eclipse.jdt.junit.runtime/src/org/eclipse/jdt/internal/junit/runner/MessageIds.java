@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -134,6 +134,81 @@ public class MessageIds {
 	 */
 	public static final String TEST_RERUN=	">RERUN  "; //$NON-NLS-1$
 
+	/**
+	 * Program argument with which the client offers the binary protocol. A RemoteTestRunner that
+	 * supports it starts its message stream with {@link #BINARY_PROTOCOL_MAGIC}, otherwise the
+	 * stream is in the text protocol. Requests from the client are always sent as text.
+	 *
+	 * @see BinaryMessageWriter
+	 */
+	public static final String BINARY_PROTOCOL_ARG= "-binaryprotocol"; //$NON-NLS-1$
+	/**
+	 * First four bytes of a message stream in the binary protocol. The first byte is 0, which
+	 * never starts a message of the text protocol.
+	 */
+	public static final int BINARY_PROTOCOL_MAGIC= 0x004A5542;
+	/**
+	 * Version of the binary protocol, follows the {@link #BINARY_PROTOCOL_MAGIC}.
+	 */
+	public static final int BINARY_PROTOCOL_VERSION= 1;
+
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_RUN_START}.
+	 * int testCount
+	 */
+	public static final byte BINARY_TEST_RUN_START= 1;
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_TREE}.
+	 * testId, testName, boolean isSuite, int testCount, boolean isDynamicTest, parentId,
+	 * displayName, parameterTypes, uniqueId
+	 */
+	public static final byte BINARY_TEST_TREE= 2;
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_START}.
+	 * testId, testName
+	 */
+	public static final byte BINARY_TEST_START= 3;
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_END}.
+	 * testId, testName
+	 */
+	public static final byte BINARY_TEST_END= 4;
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_ERROR} and {@link #TEST_FAILED} together with
+	 * the trace and the expected and actual results.
+	 * byte status, testId, testName, trace, expected, actual
+	 */
+	public static final byte BINARY_TEST_FAILED= 5;
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_RERAN} together with the trace and the expected
+	 * and actual results.
+	 * testId, testClass, testName, byte status, trace, expected, actual
+	 */
+	public static final byte BINARY_TEST_RERAN= 6;
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_RUN_END}.
+	 * long elapsedTime
+	 */
+	public static final byte BINARY_TEST_RUN_END= 7;
+	/**
+	 * Binary protocol: equivalent of {@link #TEST_STOPPED}.
+	 * long elapsedTime
+	 */
+	public static final byte BINARY_TEST_STOPPED= 8;
+
+	/**
+	 * Binary protocol status: the test passed.
+	 */
+	public static final byte BINARY_STATUS_OK= 0;
+	/**
+	 * Binary protocol status: the test had an error.
+	 */
+	public static final byte BINARY_STATUS_ERROR= 1;
+	/**
+	 * Binary protocol status: the test had a failure.
+	 */
+	public static final byte BINARY_STATUS_FAILURE= 2;
+
 	/**
 	 * MessageFormat to encode test method identifiers:
 	 * testMethod(testClass)
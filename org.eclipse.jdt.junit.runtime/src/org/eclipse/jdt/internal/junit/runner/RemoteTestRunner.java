@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,9 +87,17 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 */
 	private Socket fClientSocket;
 	/**
-	 * Print writer for sending messages
+	 * Print writer for sending messages, or <code>null</code> if the binary protocol is used
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages in the binary protocol, or <code>null</code>
+	 */
+	private BinaryMessageWriter fBinaryWriter;
+	/**
+	 * Has the client offered the binary protocol?
+	 */
+	private boolean fBinaryProtocol= false;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -300,6 +308,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equals(args[i].toLowerCase())) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if(MessageIds.BINARY_PROTOCOL_ARG.equals(args[i].toLowerCase())) {
+				fBinaryProtocol= true;
+			}
 			else if("-debugging".equals(args[i].toLowerCase()) || "-debug".equals(args[i].toLowerCase())){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -458,7 +469,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	}
 
 	public FirstRunExecutionListener firstRunExecutionListener() {
-		return new FirstRunExecutionListener(fSender, fIds);
+		return new FirstRunExecutionListener(fSender, fIds, fBinaryWriter);
 	}
 
 	/**
@@ -564,11 +575,14 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		ITestReference[] suites= new ITestReference[] { rerunTest1 };
 		execution.run(suites);
 
-		notifyRerunComplete(r, service.getStatus());
+		if (fBinaryWriter != null)
+			fBinaryWriter.testReran(Integer.toString(r.fRerunTestId), r.fRerunClassName, r.fRerunTestName, service.getStatus(), service.getFailure());
+		else
+			notifyRerunComplete(r, service.getStatus());
 	}
 
 	public RerunExecutionListener rerunExecutionListener() {
-		return new RerunExecutionListener(fSender, fIds);
+		return new RerunExecutionListener(fSender, fIds, fBinaryWriter);
 	}
 
 	protected IClassifiesThrowables getClassifier() {
@@ -577,6 +591,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void visitTreeEntry(ITestIdentifier identifier, boolean hasChildren, int testCount, boolean isDynamicTest, String parentId) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.testTreeEntry(getTestId(identifier), identifier.getName(), hasChildren, testCount, isDynamicTest, parentId,
+					identifier.getDisplayName(), identifier.getParameterTypes(), identifier.getUniqueId());
+			return;
+		}
 		String treeEntry= getTestId(identifier) + ',' + escapeText(identifier.getName()) + ',' + hasChildren + ',' + testCount
 				+ ',' + isDynamicTest + ',' + parentId + ',' + escapeText(identifier.getDisplayName()) + ',' + escapeText(identifier.getParameterTypes())
 				+ ',' + escapeText(identifier.getUniqueId());
@@ -647,11 +666,16 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
-				try {
-				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), "UTF-8")), false/*true*/); //$NON-NLS-1$
-	            } catch (UnsupportedEncodingException e1) {
-	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
-	            }
+				if (fBinaryProtocol && fSender == this) {
+					// messages that are not sent through this runner need the text protocol
+					fBinaryWriter= new BinaryMessageWriter(fClientSocket.getOutputStream());
+				} else {
+					try {
+					    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), "UTF-8")), false/*true*/); //$NON-NLS-1$
+		            } catch (UnsupportedEncodingException e1) {
+		                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
+		            }
+				}
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), "UTF-8")); //$NON-NLS-1$
                 } catch (UnsupportedEncodingException e1) {
@@ -676,6 +700,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.close();
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -717,16 +744,28 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	}
 
 	protected void notifyTestRunStarted(int testCount) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.testRunStarted(testCount);
+			return;
+		}
 		fSender.sendMessage(MessageIds.TEST_RUN_START + testCount + " " + "v2"); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 	private void notifyTestRunEnded(long elapsedTime) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.testRunEnded(elapsedTime);
+			return;
+		}
 		fSender.sendMessage(MessageIds.TEST_RUN_END + elapsedTime);
 		fSender.flush();
 		//shutDown();
 	}
 
 	protected void notifyTestRunStopped(long elapsedTime) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.testRunStopped(elapsedTime);
+			return;
+		}
 		fSender.sendMessage(MessageIds.TEST_STOPPED + elapsedTime);
 		fSender.flush();
 		//shutDown();
@@ -749,7 +788,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
-	    fWriter.flush();
+		if (fBinaryWriter != null)
+			fBinaryWriter.flush();
+		else
+			fWriter.flush();
 	}
 
 	public void runTests(TestExecution execution) {
@@ -24,11 +24,22 @@ public class RerunExecutionListener extends FirstRunExecutionListener {
 		super(sender, ids);
 	}
 
+	RerunExecutionListener(MessageSender sender, TestIdMap ids, BinaryMessageWriter binaryWriter) {
+		super(sender, ids, binaryWriter);
+	}
+
 	private String fStatus = RemoteTestRunner.RERAN_OK;
 
+	private TestReferenceFailure fFailure;
+
 	@Override
 	public void notifyTestFailed(TestReferenceFailure failure) {
-		sendFailure(failure, MessageIds.RTRACE_START, MessageIds.RTRACE_END);
+		if (fBinaryWriter != null) {
+			// sent together with the rerun result
+			fFailure = failure;
+		} else {
+			sendFailure(failure, MessageIds.RTRACE_START, MessageIds.RTRACE_END);
+		}
 
 		String status = failure.getStatus();
 		if (MessageIds.TEST_FAILED.equals(status))
@@ -53,4 +64,12 @@ public class RerunExecutionListener extends FirstRunExecutionListener {
 		return fStatus;
 	}
 
+	/**
+	 * @return the failure of the rerun test, or <code>null</code>; only available with the binary
+	 *         protocol
+	 */
+	TestReferenceFailure getFailure() {
+		return fFailure;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -168,6 +168,11 @@ public class TestRunnerViewPart extends ViewPart {
 
 	static final int REFRESH_INTERVAL= 200;
 
+	/**
+	 * Refresh interval while the test viewer has more changes than it processes in one refresh.
+	 */
+	static final int BACKLOG_REFRESH_INTERVAL= 20;
+
 	public static final int LAYOUT_FLAT= 0;
 	public static final int LAYOUT_HIERARCHICAL= 1;
 
@@ -200,6 +205,12 @@ public class TestRunnerViewPart extends ViewPart {
 	protected Clipboard fClipboard;
 	protected volatile String fInfoMessage;
 
+	/**
+	 * The last started test, if its start has not been shown in the info message yet. The message
+	 * is only created when it is shown, see {@link #doShowInfoMessage()}.
+	 */
+	private volatile TestCaseElement fStartedTestCase;
+
 	private FailureTrace fFailureTrace;
 
 	private TestViewer fTestViewer;
@@ -816,11 +827,7 @@ public class TestRunnerViewPart extends ViewPart {
 		public void testStarted(TestCaseElement testCaseElement) {
 			fTestViewer.registerAutoScrollTarget(testCaseElement);
 			fTestViewer.registerViewerUpdate(testCaseElement);
-
-			String className= BasicElementLabels.getJavaElementName(testCaseElement.getClassName());
-			String method= BasicElementLabels.getJavaElementName(testCaseElement.getTestMethodName());
-			String status= Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method });
-			registerInfoMessage(status);
+			registerStartedInfoMessage(testCaseElement);
 		}
 
 		@Override
@@ -878,6 +885,10 @@ public class TestRunnerViewPart extends ViewPart {
 		public IStatus runInUIThread(IProgressMonitor monitor) {
 			if (!isDisposed()) {
 				processChangesInUI();
+				if (fTestViewer.hasPendingChanges()) {
+					schedule(BACKLOG_REFRESH_INTERVAL);
+					return Status.OK_STATUS;
+				}
 			}
 			schedule(REFRESH_INTERVAL);
 			return Status.OK_STATUS;
@@ -1823,16 +1834,28 @@ action enablement
 	}
 
 	protected void doShowInfoMessage() {
-		if (fInfoMessage != null) {
+		TestCaseElement startedTestCase= fStartedTestCase;
+		if (startedTestCase != null) {
+			fStartedTestCase= null;
+			String className= BasicElementLabels.getJavaElementName(startedTestCase.getClassName());
+			String method= BasicElementLabels.getJavaElementName(startedTestCase.getTestMethodName());
+			setContentDescription(Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method }));
+		} else if (fInfoMessage != null) {
 			setContentDescription(fInfoMessage);
 			fInfoMessage= null;
 		}
 	}
 
 	protected void registerInfoMessage(String message) {
+		fStartedTestCase= null;
 		fInfoMessage= message;
 	}
 
+	private void registerStartedInfoMessage(TestCaseElement testCaseElement) {
+		fInfoMessage= null;
+		fStartedTestCase= testCaseElement;
+	}
+
 	private SashForm createSashForm(Composite parent) {
 		fSashForm= new SashForm(parent, SWT.VERTICAL);
 
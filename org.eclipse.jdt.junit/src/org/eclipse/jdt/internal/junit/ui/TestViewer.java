@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,13 +21,17 @@
 package org.eclipse.jdt.internal.junit.ui;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.junit.model.ITestElement;
@@ -216,9 +220,16 @@ public class TestViewer {
 
 	private TestRunSession fTestRunSession;
 
+	/**
+	 * Maximum number of added and of updated elements that are processed by one call to
+	 * {@link #processChangesInUI()}. The remaining changes are processed by the next calls.
+	 */
+	private static final int MAX_CHANGES_PER_REFRESH= 1000;
+
 	private boolean fTreeNeedsRefresh;
 	private boolean fTableNeedsRefresh;
-	private HashSet<TestElement> fNeedUpdate;
+	private LinkedHashSet<TestElement> fNeedUpdate;
+	private LinkedHashSet<TestElement> fNeedAdd;
 	private TestCaseElement fAutoScrollTarget;
 
 	private LinkedList<TestSuiteElement> fAutoClose;
@@ -690,10 +701,17 @@ public class TestViewer {
 			viewer.setInput(testRoot);
 
 		} else {
+			List<TestElement> toAdd;
 			Object[] toUpdate;
 			synchronized (this) {
-				toUpdate= fNeedUpdate.toArray();
-				fNeedUpdate.clear();
+				toAdd= removeBatch(fNeedAdd);
+				toUpdate= removeBatch(fNeedUpdate).toArray();
+			}
+			if (! toAdd.isEmpty()) {
+				if (fLayoutMode == TestRunnerViewPart.LAYOUT_HIERARCHICAL)
+					addElementsToTree(toAdd);
+				else
+					addElementsToTable(toAdd);
 			}
 			if (! fTreeNeedsRefresh && toUpdate.length > 0) {
 				if (fTreeHasFilter)
@@ -722,6 +740,59 @@ public class TestViewer {
 		autoScrollInUI();
 	}
 
+	/**
+	 * Removes at most {@link #MAX_CHANGES_PER_REFRESH} elements from the given set.
+	 *
+	 * @param elements the registered elements
+	 * @return the removed elements, in registration order
+	 */
+	private static List<TestElement> removeBatch(LinkedHashSet<TestElement> elements) {
+		List<TestElement> batch;
+		if (elements.size() <= MAX_CHANGES_PER_REFRESH) {
+			batch= new ArrayList<>(elements);
+			elements.clear();
+		} else {
+			batch= new ArrayList<>(MAX_CHANGES_PER_REFRESH);
+			Iterator<TestElement> iter= elements.iterator();
+			while (batch.size() < MAX_CHANGES_PER_REFRESH) {
+				batch.add(iter.next());
+				iter.remove();
+			}
+		}
+		return batch;
+	}
+
+	private void addElementsToTree(List<TestElement> added) {
+		// the tree viewer only creates items for the children of expanded suites and ignores
+		// elements that are already shown
+		Map<TestSuiteElement, List<TestElement>> addedByParent= new LinkedHashMap<>();
+		for (TestElement element : added) {
+			addedByParent.computeIfAbsent(element.getParent(), parent -> new ArrayList<>()).add(element);
+		}
+		for (Map.Entry<TestSuiteElement, List<TestElement>> entry : addedByParent.entrySet()) {
+			fTreeViewer.add(entry.getKey(), entry.getValue().toArray());
+		}
+	}
+
+	private void addElementsToTable(List<TestElement> added) {
+		List<TestElement> toAdd= new ArrayList<>(added.size());
+		for (TestElement element : added) {
+			// the table only shows test cases, see TestSessionTableContentProvider
+			if (element instanceof TestCaseElement && fTableViewer.testFindItem(element) == null)
+				toAdd.add(element);
+		}
+		if (! toAdd.isEmpty())
+			fTableViewer.add(toAdd.toArray());
+	}
+
+	/**
+	 * @return <code>true</code> if there are registered changes that have not been processed
+	 * yet by {@link #processChangesInUI()}
+	 */
+	public synchronized boolean hasPendingChanges() {
+		return ! fNeedAdd.isEmpty() || ! fNeedUpdate.isEmpty();
+	}
+
 	private void updateElementInTree(final TestElement testElement) {
 		if (isShown(testElement)) {
 			updateShownElementInTree(testElement);
@@ -921,6 +992,7 @@ public class TestViewer {
 
 	private void clearUpdateAndExpansion() {
 		fNeedUpdate= new LinkedHashSet<>();
+		fNeedAdd= new LinkedHashSet<>();
 		fAutoClose= new LinkedList<>();
 		fAutoExpand= new HashSet<>();
 	}
@@ -929,9 +1001,16 @@ public class TestViewer {
 	 * @param testElement the added test
 	 */
 	public synchronized void registerTestAdded(TestElement testElement) {
-		//TODO: performance: would only need to refresh parent of added element
-		fTreeNeedsRefresh= true;
-		fTableNeedsRefresh= true;
+		// only the active viewer is updated incrementally, the other one is refreshed when it is shown
+		if (fLayoutMode == TestRunnerViewPart.LAYOUT_HIERARCHICAL) {
+			fTableNeedsRefresh= true;
+			if (! fTreeNeedsRefresh)
+				fNeedAdd.add(testElement);
+		} else {
+			fTreeNeedsRefresh= true;
+			if (! fTableNeedsRefresh)
+				fNeedAdd.add(testElement);
+		}
 	}
 
 	public synchronized void registerViewerUpdate(final TestElement testElement) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 SpringSource and others.
+ * Copyright (c) 2009, 2026 SpringSource and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,65 +15,65 @@
 
 package org.eclipse.jdt.internal.junit4.runner;
 
-import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.runner.Description;
 
 /**
- * Comparator for descriptions to sort according to inclusion in a failure list.
- * A description is considered to have failures if its name or one of its transitive
- * children's names are in the failures list.
- * If neither or both have failures, returns 0.
+ * Comparator for descriptions to sort according to the position in a failure list.
+ * The rank of a description is the position of its name or of one of its transitive
+ * children's names in the failures list, whichever comes first. Descriptions that are
+ * not in the list are ranked after all others.
  *
  * @since 3.6
  */
 public class FailuresFirstSorter implements Comparator<Description> {
 
-	private final Set<String> failuresList;
+	private static final int NO_FAILURES= Integer.MAX_VALUE;
+
+	private final Map<String, Integer> failuresList;
+
+	private final Map<Description, Integer> ranks= new HashMap<>();
 
 	/**
 	 * Creates a sorter.
 	 *
-	 * @param failuresList list of failed tests based on the description's display string
+	 * @param failuresList list of failed tests based on the description's display string,
+	 *            in the order in which they should run
 	 */
 	public FailuresFirstSorter(String[] failuresList) {
-		this.failuresList = new HashSet<>(Arrays.asList(failuresList));
+		this.failuresList= new HashMap<>();
+		for (int i= 0; i < failuresList.length; i++) {
+			this.failuresList.putIfAbsent(failuresList[i], Integer.valueOf(i));
+		}
 	}
 
 	/**
 	 * Compares two descriptions based on the failure list.
 	 * @param d1 the first Description to compare with
 	 * @param d2 the second Description to compare with
-	 * @return -1 if only d1 has failures, 1 if only d2 has failures, 0 otherwise
+	 * @return a negative number if d1 comes first in the failure list, a positive number if d2
+	 *         comes first, 0 if they have the same rank
 	 */
 	@Override
 	public int compare(Description d1, Description d2) {
-		boolean d1HasFailures = hasFailures(d1);
-		boolean d2HasFailures = hasFailures(d2);
-
-		if (d1HasFailures) {
-			return -1;
-		} else if (d2HasFailures) {
-			return 1;
-		} else { // ((d1HasFailures && d2HasFailures) || (!d1HasFailures && !d2HasFailures))
-			return 0;
-		}
+		return Integer.compare(getRank(d1), getRank(d2));
 	}
 
-	private boolean hasFailures(Description d) {
-		if (failuresList.contains(d.getDisplayName())) {
-			return true;
-		} else {
-			for (Description child : d.getChildren()) {
-				if (hasFailures(child)) {
-					return true;
-				}
-			}
+	private int getRank(Description d) {
+		Integer cached= ranks.get(d);
+		if (cached != null) {
+			return cached.intValue();
+		}
+		Integer index= failuresList.get(d.getDisplayName());
+		int rank= index != null ? index.intValue() : NO_FAILURES;
+		for (Description child : d.getChildren()) {
+			rank= Math.min(rank, getRank(child));
 		}
-		return false;
+		ranks.put(d, Integer.valueOf(rank));
+		return rank;
 	}
 
 }
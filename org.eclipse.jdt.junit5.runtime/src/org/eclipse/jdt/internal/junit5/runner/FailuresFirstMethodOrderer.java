@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 SpringSource and others.
+ * Copyright (c) 2022, 2026 SpringSource and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,19 +13,32 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit5.runner;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.MethodDescriptor;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.MethodOrdererContext;
 
+/**
+ * Orders the methods by their position in the failure list. Methods that are not in the list
+ * keep their relative order and are run after the methods in the list.
+ */
 public class FailuresFirstMethodOrderer implements MethodOrderer {
 
-	private List<String> failuresList= new ArrayList<>();
+	private static final int NO_FAILURES= Integer.MAX_VALUE;
+
+	/**
+	 * The failure names of the last parsed configuration parameter and their ranks. An orderer is
+	 * created for each test class, but all of them get the same parameter.
+	 */
+	private static String fgParsedFailureNames;
+	private static Map<String, Integer> fgParsedFailuresList= Collections.emptyMap();
+
+	private Map<String, Integer> failuresList= Collections.emptyMap();
 
 	public FailuresFirstMethodOrderer() {
 	}
@@ -36,29 +49,19 @@ public class FailuresFirstMethodOrderer implements MethodOrderer {
 		 * Compares two descriptions based on the failure list.
 		 * @param d1 the first MethodDescriptor to compare with
 		 * @param d2 the second MethodDescriptor to compare with
-		 * @return -1 if only d1 has failures, 1 if only d2 has failures, 0 otherwise
+		 * @return a negative number if d1 comes first in the failure list, a positive number if d2
+		 *         comes first, 0 if they have the same rank
 		 */
 		@Override
 		public int compare(MethodDescriptor d1, MethodDescriptor d2) {
-			boolean d1HasFailures = hasFailures(d1);
-			boolean d2HasFailures = hasFailures(d2);
-
-			if (d1HasFailures) {
-				return -1;
-			} else if (d2HasFailures) {
-				return 1;
-			} else { // ((d1HasFailures && d2HasFailures) || (!d1HasFailures && !d2HasFailures))
-				return 0;
-			}
+			return Integer.compare(getRank(d1), getRank(d2));
 		}
 
-		private boolean hasFailures(MethodDescriptor d) {
+		private int getRank(MethodDescriptor d) {
 			// failure names are of form METHOD_NAME(CLASS_NAME) so translate MethodDescriptor
 			String methodId= d.getMethod().getName() + "(" + d.getMethod().getDeclaringClass().getName() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
-			if (failuresList.contains(methodId)) {
-				return true;
-			}
-			return false;
+			Integer rank= failuresList.get(methodId);
+			return rank != null ? rank.intValue() : NO_FAILURES;
 		}
 
 	};
@@ -73,11 +76,22 @@ public class FailuresFirstMethodOrderer implements MethodOrderer {
 		Optional<String> failureNamesParm= context.getConfigurationParameter(JUnit5TestLoader.FAILURE_NAMES);
 		String failureNamesString= failureNamesParm.orElse(null);
 		if (failureNamesString != null) {
-			String[] failureNames= failureNamesString.split(";"); //$NON-NLS-1$
-			failuresList= Arrays.asList(failureNames);
+			failuresList= getFailuresList(failureNamesString);
 		}
 		context.getMethodDescriptors().sort(comparator);
 	}
 
-}
+	private static synchronized Map<String, Integer> getFailuresList(String failureNamesString) {
+		if (!failureNamesString.equals(fgParsedFailureNames)) {
+			String[] failureNames= failureNamesString.split(";"); //$NON-NLS-1$
+			Map<String, Integer> ranks= new HashMap<>();
+			for (int i= 0; i < failureNames.length; i++) {
+				ranks.putIfAbsent(failureNames[i], Integer.valueOf(i));
+			}
+			fgParsedFailureNames= failureNamesString;
+			fgParsedFailuresList= ranks;
+		}
+		return fgParsedFailuresList;
+	}
 
+}
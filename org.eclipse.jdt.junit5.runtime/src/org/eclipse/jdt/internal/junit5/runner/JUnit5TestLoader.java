@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,24 +42,26 @@ public class JUnit5TestLoader implements ITestLoader {
 	public ITestReference[] loadTests(Class<?>[] testClasses, String testName, String[] failureNames, String[] packages, String[][] includeExcludeTags, String uniqueId, RemoteTestRunner listener) {
 		fRemoteTestRunner= listener;
 		ITestReference[] refs= new ITestReference[0];
+		// joined once, the list can hold the whole run history
+		String failureNamesString= failureNames != null && failureNames.length > 0 ? String.join(";", failureNames) : null; //$NON-NLS-1$
 		if (uniqueId != null && !uniqueId.trim().isEmpty()) {
 			refs= new ITestReference[1];
 			refs[0]= createUniqueIdTest(uniqueId, includeExcludeTags);
 		} else if (packages != null) {
 			refs= new ITestReference[packages.length];
 			for (int i= 0; i < packages.length; i++) {
-				refs[i]= createTest(packages[i], includeExcludeTags);
+				refs[i]= createTest(packages[i], includeExcludeTags, failureNamesString);
 			}
 		} else {
 			refs= new ITestReference[testClasses.length];
 			for (int i= 0; i < testClasses.length; i++) {
-				refs[i]= createTest(testClasses[i], testName, includeExcludeTags, failureNames);
+				refs[i]= createTest(testClasses[i], testName, includeExcludeTags, failureNamesString);
 			}
 		}
 		return refs;
 	}
 
-	private ITestReference createTest(Class<?> clazz, String testName, String[][] includeExcludeTags, String[] failureNames) {
+	private ITestReference createTest(Class<?> clazz, String testName, String[][] includeExcludeTags, String failureNames) {
 		if (clazz == null) {
 			return null;
 		}
@@ -74,21 +76,13 @@ public class JUnit5TestLoader implements ITestLoader {
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
-	private ITestReference createUnfilteredTest(Class<?> clazz, String[][] includeExcludeTags, String[] failureNames) {
+	private ITestReference createUnfilteredTest(Class<?> clazz, String[][] includeExcludeTags, String failureNames) {
 		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectClass(clazz)).filters(getTagFilters(includeExcludeTags));
-		if (failureNames != null && failureNames.length > 0) {
-			String failureNamesString= ""; //$NON-NLS-1$
-			for (String failureName : failureNames) {
-				failureNamesString += failureName + ";"; //$NON-NLS-1$
-			}
-			requestBuilder.configurationParameter(FAILURE_NAMES, failureNamesString);
-			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", FailuresFirstMethodOrderer.class.getName()); //$NON-NLS-1$
-		}
-		LauncherDiscoveryRequest request= requestBuilder.build();
+		LauncherDiscoveryRequest request= orderFailuresFirst(requestBuilder, failureNames).build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
-	private ITestReference createTest(String pkg, String[][] includeExcludeTags) {
+	private ITestReference createTest(String pkg, String[][] includeExcludeTags, String failureNames) {
 		if (pkg == null) {
 			return null;
 		}
@@ -99,15 +93,27 @@ public class JUnit5TestLoader implements ITestLoader {
 		} else {
 			pattern= "^" + pkg + "\\.[^.]+$"; //$NON-NLS-1$//$NON-NLS-2$
 		}
-		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request()
+		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request()
 				.selectors(DiscoverySelectors.selectPackage(pkg))
 				.filters(ClassNameFilter.includeClassNamePatterns(pattern))
-				.filters(getTagFilters(includeExcludeTags))
-				.build();
+				.filters(getTagFilters(includeExcludeTags));
+		LauncherDiscoveryRequest request= orderFailuresFirst(requestBuilder, failureNames).build();
 
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
+	/**
+	 * Orders the test methods of each test class by their position in the failure list. The test
+	 * classes of a package keep the order of the test engine.
+	 */
+	private LauncherDiscoveryRequestBuilder orderFailuresFirst(LauncherDiscoveryRequestBuilder requestBuilder, String failureNames) {
+		if (failureNames != null) {
+			requestBuilder.configurationParameter(FAILURE_NAMES, failureNames);
+			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", FailuresFirstMethodOrderer.class.getName()); //$NON-NLS-1$
+		}
+		return requestBuilder;
+	}
+
 	private ITestReference createUniqueIdTest(String uniqueId, String[][] includeExcludeTags) {
 		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectUniqueId(uniqueId)).filters(getTagFilters(includeExcludeTags)).build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
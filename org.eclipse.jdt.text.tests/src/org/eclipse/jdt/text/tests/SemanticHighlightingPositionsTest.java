@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+
+/**
+ * Tests how the {@link SemanticHighlightingReconciler} compares the existing highlighted
+ * positions with the positions of a new AST.
+ */
+public class SemanticHighlightingPositionsTest {
+
+	@Test
+	public void testRetainedInSingleRange() {
+		List<Region> ranges= Arrays.asList(new Region(10, 20));
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 0, 10, 20));
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 0, 15, 5));
+		assertFalse(SemanticHighlightingReconciler.isRetained(ranges, 0, 5, 10));
+		assertFalse(SemanticHighlightingReconciler.isRetained(ranges, 0, 25, 10));
+		assertFalse(SemanticHighlightingReconciler.isRetained(ranges, 0, 40, 1));
+	}
+
+	@Test
+	public void testRetainedInOverlappingRanges() {
+		// the second range starts inside the first one and ends after it
+		List<Region> ranges= Arrays.asList(new Region(0, 100), new Region(90, 110));
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 0, 50, 10));
+		// only contained in the later range
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 0, 95, 10));
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 0, 150, 10));
+		// spans both ranges, but is contained in neither
+		assertFalse(SemanticHighlightingReconciler.isRetained(ranges, 0, 50, 100));
+		assertFalse(SemanticHighlightingReconciler.isRetained(ranges, 0, 195, 10));
+	}
+
+	@Test
+	public void testRetainedInNestedRanges() {
+		List<Region> ranges= Arrays.asList(new Region(0, 10), new Region(20, 100), new Region(30, 5), new Region(40, 200));
+		// the first range ends before the position
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 1, 32, 2));
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 1, 110, 20));
+		assertTrue(SemanticHighlightingReconciler.isRetained(ranges, 1, 200, 40));
+		assertFalse(SemanticHighlightingReconciler.isRetained(ranges, 1, 15, 10));
+	}
+}
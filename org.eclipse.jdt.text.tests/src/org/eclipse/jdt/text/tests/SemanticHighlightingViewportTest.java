@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+import org.eclipse.jdt.text.tests.performance.ResourceTestHelper;
+
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.graphics.Point;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.FindReplaceDocumentAdapter;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.HighlightedPosition;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingPresenter;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Tests that the {@link SemanticHighlightingReconciler} highlights a compilation unit above the
+ * viewport-first threshold in two passes with the same result as in a single pass.
+ */
+public class SemanticHighlightingViewportTest {
+
+	private static final String FILE= "/" + AbstractSemanticHighlightingTest.PROJECT + "/src/SHViewportTest.java";
+
+	/** Each method has 6 lines, the compilation unit is well above the 64K threshold */
+	private static final int METHODS= 2000;
+
+	private static final String FIELD_DECLARATION= "\tprivate int fField;\n";
+
+	private static final String[] HIGHLIGHTINGS= {
+			SemanticHighlightings.FIELD,
+			SemanticHighlightings.METHOD_DECLARATION,
+			SemanticHighlightings.LOCAL_VARIABLE_DECLARATION,
+			SemanticHighlightings.PARAMETER_VARIABLE,
+	};
+
+	private IJavaProject fJavaProject;
+
+	private JavaEditor fEditor;
+
+	private SourceViewer fSourceViewer;
+
+	private SemanticHighlightingReconciler fReconciler;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= EditorTestHelper.createJavaProject(AbstractSemanticHighlightingTest.PROJECT, AbstractSemanticHighlightingTest.LINKED_FOLDER);
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (String highlighting : HIGHLIGHTINGS)
+			store.setValue(getEnabledPreferenceKey(highlighting), true);
+
+		ResourceTestHelper.write(FILE, createSource());
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), true);
+		fSourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		fReconciler= manager.getReconciler();
+		assertNotNull(fReconciler);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeEditor(fEditor);
+		fEditor= null;
+		fSourceViewer= null;
+		fReconciler= null;
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (String highlighting : HIGHLIGHTINGS)
+			store.setToDefault(getEnabledPreferenceKey(highlighting));
+
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+	}
+
+	@Test
+	public void testViewportFirstReconcile() throws Exception {
+		Accessor reconciler= new Accessor(fReconciler, SemanticHighlightingReconciler.class);
+		Position[] original= getSemanticHighlightingPositions();
+		assertTrue(original.length > 0);
+
+		// highlight the change in a single pass
+		fSourceViewer.removeViewportListener(fReconciler);
+		Position[] expected;
+		try {
+			reconciler.set("fViewport", null);
+			renameField("fRenamedField");
+			expected= getSemanticHighlightingPositions();
+			// the references to the field are no longer highlighted
+			assertNotEquals(original.length, expected.length);
+
+			renameField("fField");
+			assertEqualPositions(original, getSemanticHighlightingPositions());
+		} finally {
+			fSourceViewer.addViewportListener(fReconciler);
+		}
+
+		// highlight the middle of the compilation unit first
+		IDocument document= fSourceViewer.getDocument();
+		fSourceViewer.setTopIndex(document.getNumberOfLines() / 2);
+		EditorTestHelper.runEventQueue(100);
+		renameField("fRenamedField");
+		CompilationUnit ast= SharedASTProviderCore.getAST(JavaUI.getEditorInputTypeRoot(fEditor.getEditorInput()), SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		assertNotNull(reconciler.invoke("getViewportRegion", new Object[] { ast }));
+
+		assertEqualPositions(expected, getSemanticHighlightingPositions());
+	}
+
+	@Test
+	public void testViewportOnResize() throws Exception {
+		Accessor reconciler= new Accessor(fReconciler, SemanticHighlightingReconciler.class);
+		reconciler.set("fViewport", null);
+
+		StyledText textWidget= fSourceViewer.getTextWidget();
+		Point size= textWidget.getSize();
+		try {
+			textWidget.setSize(size.x, size.y / 2);
+			int start= fSourceViewer.getTopIndexStartOffset();
+			int end= fSourceViewer.getBottomIndexEndOffset();
+			assertEquals(new Region(start, end - start), reconciler.get("fViewport"));
+		} finally {
+			textWidget.setSize(size);
+			EditorTestHelper.runEventQueue(100);
+		}
+
+		EditorTestHelper.closeEditor(fEditor);
+		fEditor= null;
+		assertNull(reconciler.get("fViewport"));
+	}
+
+	private void renameField(String name) throws Exception {
+		IDocument document= fSourceViewer.getDocument();
+		IRegion field= new FindReplaceDocumentAdapter(document).find(0, "\\bf(Renamed)?Field;", true, true, false, true);
+		assertNotNull(field);
+		document.replace(field.getOffset(), field.getLength(), name + ";");
+		EditorTestHelper.forceReconcile(fSourceViewer);
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
+	private static void assertEqualPositions(Position[] expected, Position[] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int i= 0, n= expected.length; i < n; i++) {
+			HighlightedPosition position= (HighlightedPosition) expected[i];
+			assertEquals(position.isDeleted(), actual[i].isDeleted());
+			assertTrue(((HighlightedPosition) actual[i]).isEqual(position.getOffset(), position.getLength(), position.getHighlighting()));
+		}
+	}
+
+	private Position[] getSemanticHighlightingPositions() throws Exception {
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		SemanticHighlightingPresenter presenter= (SemanticHighlightingPresenter) new Accessor(manager, manager.getClass()).get("fPresenter");
+		String positionCategory= (String) new Accessor(presenter, presenter.getClass()).invoke("getPositionCategory", new Object[0]);
+		return fSourceViewer.getDocument().getPositions(positionCategory);
+	}
+
+	private static String getEnabledPreferenceKey(String preferenceKey) {
+		return PreferenceConstants.EDITOR_SEMANTIC_HIGHLIGHTING_PREFIX + preferenceKey + PreferenceConstants.EDITOR_SEMANTIC_HIGHLIGHTING_ENABLED_SUFFIX;
+	}
+
+	private static String createSource() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("public class SHViewportTest {\n");
+		buf.append(FIELD_DECLARATION);
+		buf.append("\n");
+		for (int i= 0; i < METHODS; i++) {
+			buf.append("\tpublic int method").append(i).append("(int parameter) {\n");
+			buf.append("\t\tint local= parameter + fField;\n");
+			buf.append("\t\tfField= local;\n");
+			buf.append("\t\treturn local;\n");
+			buf.append("\t}\n");
+			buf.append("\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+
+
+/**
+ * Measures the time to reconcile the semantic highlighting of a large generated compilation
+ * unit whose positions are already highlighted.
+ *
+ * @since 3.27
+ */
+public class SemanticHighlightingReconcilerTest extends TextPerformanceTestCase {
+
+	private static final Class<SemanticHighlightingReconcilerTest> THIS= SemanticHighlightingReconcilerTest.class;
+
+	private static final String FILE= "/" + PerformanceTestSetup.PROJECT + "/Eclipse SWT Custom Widgets/common/org/eclipse/swt/custom/SemanticHighlightingLarge.java";
+
+	/** Each method has 7 lines */
+	private static final int METHODS= 3000;
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 5;
+
+	private JavaEditor fEditor;
+
+	private SemanticHighlightingReconciler fReconciler;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		ResourceTestHelper.write(FILE, createSource());
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		fReconciler= manager.getReconciler();
+		assertNotNull(fReconciler);
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		EditorTestHelper.closeAllEditors();
+		ResourceTestHelper.delete(FILE);
+	}
+
+	/**
+	 * Measures the time to reconcile the semantic highlighting of a large compilation unit.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	public void test() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		PerformanceMeter performanceMeter= createPerformanceMeterForSummary("Java Editor: semantic highlighting", Dimension.ELAPSED_PROCESS);
+		measure(performanceMeter, getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) {
+		ITypeRoot typeRoot= JavaUI.getEditorInputTypeRoot(fEditor.getEditorInput());
+		CompilationUnit ast= SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		for (int i= 0; i < runs; i++) {
+			performanceMeter.start();
+			fReconciler.reconciled(ast, true, new NullProgressMonitor());
+			performanceMeter.stop();
+			EditorTestHelper.runEventQueue();
+		}
+	}
+
+	private static String createSource() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.eclipse.swt.custom;\n");
+		buf.append("\n");
+		buf.append("public class SemanticHighlightingLarge {\n");
+		buf.append("\tprivate static final int CONSTANT= 1;\n");
+		buf.append("\tprivate int fField;\n");
+		buf.append("\n");
+		for (int i= 0; i < METHODS; i++) {
+			buf.append("\t@Deprecated\n");
+			buf.append("\tpublic int method").append(i).append("(int parameter) {\n");
+			buf.append("\t\tint local= parameter + fField + CONSTANT;\n");
+			buf.append("\t\tString string= String.valueOf(local);\n");
+			buf.append("\t\treturn method").append((i + 1) % METHODS).append("(local) + string.length();\n");
+			buf.append("\t}\n");
+			buf.append("\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.AbstractSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.CompactSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+public class CompactSpellDictionaryTest {
+
+	private static final List<String> WORDS= Arrays.asList(
+			"Global", "Lastwagen", "Lorry", "Truck", "sentence", "Sentence", "house", "houses", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+			"mouse", "horse", "hose", "spell", "spelling", "dictionary", "diction", "Stra\u00dfe", "\u00e9t\u00e9"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$
+
+	private static final List<String> QUERIES= Arrays.asList(
+			"Global", "global", "GLOBAL", "lorry", "Truk", "trcuk", "sentense", "Sentence", "huose", "hous", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+			"spel", "speling", "dictionnary", "Strasse", "ete", "xyz", "house.", "(house)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+
+	private static class FileDictionary extends AbstractSpellDictionary {
+
+		private final URL fURL;
+
+		FileDictionary(URL url) {
+			fURL= url;
+		}
+
+		@Override
+		protected URL getURL() {
+			return fURL;
+		}
+	}
+
+	private File fDirectory;
+
+	private URL fURL;
+
+	private File fCacheFile;
+
+	@Before
+	public void setUp() throws IOException {
+		fDirectory= Files.createTempDirectory("dictionary").toFile(); //$NON-NLS-1$
+		File wordList= new File(fDirectory, "words.dictionary"); //$NON-NLS-1$
+		Files.write(wordList.toPath(), WORDS, StandardCharsets.UTF_8);
+		fURL= wordList.toURI().toURL();
+		fCacheFile= new File(fDirectory, "cache/words.dictionary.index"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		delete(fDirectory);
+	}
+
+	private static void delete(File file) {
+		File[] children= file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	private static Set<String> getProposals(ISpellDictionary dictionary, String word, boolean sentence) {
+		Set<String> result= new TreeSet<>();
+		for (RankedWordProposal proposal : dictionary.getProposals(word, sentence)) {
+			result.add(proposal.getText() + ':' + proposal.getRank());
+		}
+		return result;
+	}
+
+	private void assertSameAsHashedDictionary(CompactSpellDictionary compact) {
+		FileDictionary reference= new FileDictionary(fURL);
+		for (String query : QUERIES) {
+			assertEquals(query, reference.isCorrect(query), compact.isCorrect(query));
+			assertEquals(query, getProposals(reference, query, false), getProposals(compact, query, false));
+			assertEquals(query, getProposals(reference, query, true), getProposals(compact, query, true));
+		}
+		assertTrue(compact.isCorrect("house.")); //$NON-NLS-1$
+		assertTrue(compact.isCorrect("(house)")); //$NON-NLS-1$
+
+		reference.setStripNonLetters(false);
+		compact.setStripNonLetters(false);
+		for (String query : QUERIES) {
+			assertEquals(query, reference.isCorrect(query), compact.isCorrect(query));
+		}
+		assertFalse(compact.isCorrect("house.")); //$NON-NLS-1$
+		assertFalse(compact.isCorrect("(house)")); //$NON-NLS-1$
+		assertTrue(compact.isCorrect("house")); //$NON-NLS-1$
+
+		reference.setStripNonLetters(true);
+		compact.setStripNonLetters(true);
+	}
+
+	@Test
+	public void testSameResultsWithoutCache() {
+		CompactSpellDictionary dictionary= new CompactSpellDictionary(fURL, null);
+		assertSameAsHashedDictionary(dictionary);
+		assertTrue(dictionary.isLoaded());
+	}
+
+	@Test
+	public void testSameResultsWithCache() {
+		CompactSpellDictionary dictionary= new CompactSpellDictionary(fURL, fCacheFile);
+		assertSameAsHashedDictionary(dictionary);
+		assertTrue(fCacheFile.isFile());
+
+		dictionary.unload();
+		assertFalse(dictionary.isLoaded());
+		long modified= fCacheFile.lastModified();
+		assertSameAsHashedDictionary(new CompactSpellDictionary(fURL, fCacheFile));
+		assertEquals(modified, fCacheFile.lastModified());
+	}
+
+	@Test
+	public void testStaleCacheIsRebuilt() throws IOException {
+		new CompactSpellDictionary(fURL, fCacheFile).isCorrect("house"); //$NON-NLS-1$
+		assertTrue(fCacheFile.isFile());
+
+		File wordList= new File(fURL.getPath());
+		Files.write(wordList.toPath(), Arrays.asList("house", "garden"), StandardCharsets.UTF_8); //$NON-NLS-1$ //$NON-NLS-2$
+		wordList.setLastModified(wordList.lastModified() + 10000);
+
+		CompactSpellDictionary dictionary= new CompactSpellDictionary(fURL, fCacheFile);
+		assertTrue(dictionary.isCorrect("garden")); //$NON-NLS-1$
+		assertFalse(dictionary.isCorrect("mouse")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCorruptCacheIsIgnored() throws IOException {
+		fCacheFile.getParentFile().mkdirs();
+		Files.write(fCacheFile.toPath(), new byte[] { 1, 2, 3, 4 });
+
+		CompactSpellDictionary dictionary= new CompactSpellDictionary(fURL, fCacheFile);
+		assertTrue(dictionary.isCorrect("Lorry")); //$NON-NLS-1$
+		assertFalse(dictionary.isCorrect("Lory")); //$NON-NLS-1$
+	}
+}
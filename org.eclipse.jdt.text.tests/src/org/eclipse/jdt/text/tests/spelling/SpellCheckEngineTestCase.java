@@ -15,6 +15,7 @@ package org.eclipse.jdt.text.tests.spelling;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -36,6 +37,7 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.AbstractSpellDictionary;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultPhoneticDistanceAlgorithm;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
@@ -172,6 +174,21 @@ public class SpellCheckEngineTestCase {
 		assertFalse(checker.isCorrect(LORRY));
 	}
 
+	@Test
+	public void testCachedVerdicts() {
+		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+		final ISpellChecker checker= fEngine.getSpellChecker();
+		assertTrue(checker instanceof DefaultSpellChecker);
+		final long stamp= ((DefaultSpellChecker) checker).getModificationStamp();
+
+		assertFalse(checker.isCorrect(LASTWAGEN));
+		checker.addDictionary(fDEDictionary);
+		assertNotEquals(stamp, ((DefaultSpellChecker) checker).getModificationStamp());
+		assertTrue(checker.isCorrect(LASTWAGEN));
+		checker.removeDictionary(fDEDictionary);
+		assertFalse(checker.isCorrect(LASTWAGEN));
+	}
+
 	@Test
 	public void testUKSpellChecker() {
 		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.UK.toString());
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextUtilities;
+import org.eclipse.jface.text.rules.FastPartitioner;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellingProblemCache;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellingProblemCache.Check;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellingProblemCache.Problem;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+
+public class SpellingProblemCacheTest {
+
+	private static final String CONTENT= "/* first commment */\nclass A {\n\t// secnd comment\n\tString s= \"thrid\";\n}\n"; //$NON-NLS-1$
+
+	private static final int THRESHOLD= 100;
+
+	private IDocument fDocument;
+
+	private SpellingProblemCache fCache;
+
+	@Before
+	public void setUp() {
+		assumeTrue(SpellCheckEngine.getInstance().getSpellChecker() instanceof DefaultSpellChecker);
+
+		Document document= new Document(CONTENT);
+		String[] types= new String[] {
+				IJavaPartitions.JAVA_DOC,
+				IJavaPartitions.JAVA_MULTI_LINE_COMMENT,
+				IJavaPartitions.JAVA_SINGLE_LINE_COMMENT,
+				IJavaPartitions.JAVA_STRING,
+				IJavaPartitions.JAVA_CHARACTER,
+				IDocument.DEFAULT_CONTENT_TYPE
+		};
+		FastPartitioner partitioner= new FastPartitioner(new FastJavaPartitionScanner(), types);
+		partitioner.connect(document);
+		document.setDocumentPartitioner(IJavaPartitions.JAVA_PARTITIONING, partitioner);
+		fDocument= document;
+
+		fCache= new SpellingProblemCache();
+		fCache.install(fDocument);
+	}
+
+	@After
+	public void tearDown() {
+		if (fCache != null)
+			fCache.uninstall();
+	}
+
+	@Test
+	public void testReuseWithoutChanges() {
+		List<Problem> problems= checkAll();
+
+		Check check= beginCheck();
+		assertNull(check.getRegion());
+		assertProblems(problems, fCache.endCheck(check, Collections.emptyList(), THRESHOLD));
+	}
+
+	@Test
+	public void testShiftOffsets() throws Exception {
+		List<Problem> problems= checkAll();
+
+		// code between the comments
+		insert(CONTENT.indexOf("lass"), "x"); //$NON-NLS-1$ //$NON-NLS-2$
+		Check check= beginCheck();
+		IRegion code= getPartition(CONTENT.indexOf("class")); //$NON-NLS-1$
+		assertEquals(IDocument.DEFAULT_CONTENT_TYPE, ((ITypedRegion) code).getType());
+		assertEquals(new Region(code.getOffset(), code.getLength()), check.getRegion());
+
+		List<Problem> expected= Arrays.asList(problems.get(0), shift(problems.get(1), 1), shift(problems.get(2), 1));
+		assertProblems(expected, fCache.endCheck(check, Collections.emptyList(), THRESHOLD));
+	}
+
+	@Test
+	public void testWidenToPartition() throws Exception {
+		List<Problem> problems= checkAll();
+
+		// behind the problem in the single line comment
+		insert(CONTENT.indexOf("omment\n"), "x"); //$NON-NLS-1$ //$NON-NLS-2$
+		Check check= beginCheck();
+		IRegion comment= getPartition(CONTENT.indexOf("secnd")); //$NON-NLS-1$
+		assertEquals(IJavaPartitions.JAVA_SINGLE_LINE_COMMENT, ((ITypedRegion) comment).getType());
+		assertEquals(new Region(comment.getOffset(), comment.getLength()), check.getRegion());
+
+		// the problem in the checked partition is not reused, but found again
+		List<Problem> found= Collections.singletonList(problems.get(1));
+		List<Problem> expected= Arrays.asList(problems.get(0), problems.get(1), shift(problems.get(2), 1));
+		assertProblems(expected, fCache.endCheck(check, found, THRESHOLD));
+	}
+
+	@Test
+	public void testMergeDirtyRanges() throws Exception {
+		List<Problem> problems= checkAll();
+
+		insert(CONTENT.indexOf("lass"), "x"); //$NON-NLS-1$ //$NON-NLS-2$
+		// inside the problem in the string
+		insert(CONTENT.indexOf("rid") + 1, "x"); //$NON-NLS-1$ //$NON-NLS-2$
+		Check check= beginCheck();
+		IRegion code= getPartition(CONTENT.indexOf("class")); //$NON-NLS-1$
+		IRegion string= getPartition(CONTENT.indexOf("thrid") + 2); //$NON-NLS-1$
+		assertEquals(IJavaPartitions.JAVA_STRING, ((ITypedRegion) string).getType());
+		assertEquals(new Region(code.getOffset(), string.getOffset() + string.getLength() - code.getOffset()), check.getRegion());
+
+		assertProblems(Collections.singletonList(problems.get(0)), fCache.endCheck(check, Collections.emptyList(), THRESHOLD));
+	}
+
+	@Test
+	public void testThreshold() {
+		Check check= beginCheck();
+		List<Problem> problems= createProblems();
+		List<Problem> reported= fCache.endCheck(check, problems, 2);
+		assertProblems(problems.subList(0, 2), reported);
+
+		// the problems beyond the threshold are unknown, check all again
+		check= beginCheck();
+		assertEquals(new Region(0, fDocument.getLength()), check.getRegion());
+	}
+
+	@Test
+	public void testDocumentChangedDuringCheck() throws Exception {
+		Check check= beginCheck();
+		insert(CONTENT.indexOf("lass"), "x"); //$NON-NLS-1$ //$NON-NLS-2$
+		List<Problem> problems= createProblems();
+		assertProblems(problems, fCache.endCheck(check, problems, THRESHOLD));
+
+		// the problems were found in an older version of the document
+		check= beginCheck();
+		assertEquals(new Region(0, fDocument.getLength()), check.getRegion());
+	}
+
+	private List<Problem> checkAll() {
+		Check check= beginCheck();
+		assertEquals(new Region(0, fDocument.getLength()), check.getRegion());
+		List<Problem> problems= createProblems();
+		assertProblems(problems, fCache.endCheck(check, problems, THRESHOLD));
+		return problems;
+	}
+
+	private Check beginCheck() {
+		return fCache.beginCheck(new Region(0, fDocument.getLength()));
+	}
+
+	private void insert(int offset, String text) throws BadLocationException {
+		fDocument.replace(offset, 0, text);
+	}
+
+	private IRegion getPartition(int offset) throws BadLocationException {
+		return TextUtilities.getPartition(fDocument, IJavaPartitions.JAVA_PARTITIONING, offset, false);
+	}
+
+	private static List<Problem> createProblems() {
+		List<Problem> problems= new ArrayList<>();
+		problems.add(createProblem("commment")); //$NON-NLS-1$
+		problems.add(createProblem("secnd")); //$NON-NLS-1$
+		problems.add(createProblem("thrid")); //$NON-NLS-1$
+		return problems;
+	}
+
+	private static Problem createProblem(String word) {
+		return new Problem(CONTENT.indexOf(word), word.length(), word, false, false);
+	}
+
+	private static Problem shift(Problem problem, int delta) {
+		return new Problem(problem.getOffset() + delta, problem.getLength(), problem.getMessage(), problem.isDictionaryMatch(), problem.isSentenceStart());
+	}
+
+	private static void assertProblems(List<Problem> expected, List<Problem> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i= 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getMessage(), actual.get(i).getMessage());
+			assertEquals(expected.get(i).getOffset(), actual.get(i).getOffset());
+			assertEquals(expected.get(i).getLength(), actual.get(i).getLength());
+		}
+	}
+}
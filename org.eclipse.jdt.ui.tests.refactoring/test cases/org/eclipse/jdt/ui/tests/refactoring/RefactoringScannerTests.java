@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -88,6 +88,13 @@ public class RefactoringScannerTests extends GenericRefactoringTest {
 		assertEquals("results.length", 0, fScanner.getMatches().size());
 	}
 
+	@Test
+	public void testNameNotInSource() throws Exception{
+		String text= "/* Test Pattern, TestPatter */ class TestPatter { String s= \"org.eclipse.Test\"; }";
+		fScanner.scan(text);
+		assertEquals("results.length", 0, fScanner.getMatches().size());
+	}
+
 	@Test
 	public void test1() throws Exception{
 		helper("A.java", 8);
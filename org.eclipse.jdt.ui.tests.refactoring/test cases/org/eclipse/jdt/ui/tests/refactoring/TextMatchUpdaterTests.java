@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+import org.eclipse.jdt.internal.corext.refactoring.rename.TextMatchUpdater;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+
+import org.eclipse.jdt.ui.tests.refactoring.infra.AbstractJunit4CUTestCase;
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringTestPlugin;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class TextMatchUpdaterTests extends AbstractJunit4CUTestCase {
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	@Override
+	protected InputStream getFileInputStream(String fileName) throws IOException {
+		return RefactoringTestPlugin.getDefault().getTestResourceStream(fileName);
+	}
+
+	private static String getSource(String typeName, int indent) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		for (int i= 0; i < indent; i++) {
+			buf.append(' ');
+		}
+		buf.append("// uses Old\n");
+		buf.append("public class ").append(typeName).append(" {\n");
+		buf.append("\tString s= \"Old\";\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	private TextChangeManager perform(ICompilationUnit[] cus, SearchResultGroup[] references) throws Exception {
+		TextChangeManager manager= new TextChangeManager();
+		TextMatchUpdater.perform(new NullProgressMonitor(), SearchEngine.createJavaSearchScope(cus), "Old", "p", "New", manager, references, false);
+		return manager;
+	}
+
+	private static int[] getEditOffsets(TextChangeManager manager, ICompilationUnit cu) {
+		TextEdit[] edits= manager.get(cu).getEdit().getChildren();
+		int[] offsets= new int[edits.length];
+		for (int i= 0; i < edits.length; i++) {
+			offsets[i]= edits[i].getOffset();
+		}
+		return offsets;
+	}
+
+	private static int[] getMatchOffsets(String source) {
+		int comment= source.indexOf("Old");
+		return new int[] { comment, source.indexOf("Old", comment + 1) };
+	}
+
+	@Test
+	public void testEditsOfEachUnit() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		List<ICompilationUnit> cus= new ArrayList<>();
+		List<String> sources= new ArrayList<>();
+		for (int i= 0; i < 20; i++) {
+			// the matches of each unit are at other offsets
+			String source= getSource("T" + i, i);
+			cus.add(createCU(pack, "T" + i + ".java", source));
+			sources.add(source);
+		}
+
+		TextChangeManager manager= perform(cus.toArray(new ICompilationUnit[cus.size()]), new SearchResultGroup[0]);
+		assertEquals(cus.size(), manager.getAllCompilationUnits().length);
+		for (int i= 0; i < cus.size(); i++) {
+			assertArrayEquals(getMatchOffsets(sources.get(i)), getEditOffsets(manager, cus.get(i)));
+		}
+	}
+
+	@Test
+	public void testRemoveReferencesOfUnit() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		String source= getSource("A", 0);
+		ICompilationUnit cuA= createCU(pack, "A.java", source);
+		ICompilationUnit cuB= createCU(pack, "B.java", getSource("B", 0));
+
+		// a reference at the offset of the match in the string of A
+		int[] matches= getMatchOffsets(source);
+		SearchMatch reference= new SearchMatch(cuA.getType("A"), SearchMatch.A_ACCURATE, matches[1], 3, null, cuA.getResource());
+		SearchResultGroup[] references= { new SearchResultGroup(cuA.getResource(), new SearchMatch[] { reference }) };
+
+		TextChangeManager manager= perform(new ICompilationUnit[] { cuA, cuB }, references);
+		assertArrayEquals(new int[] { matches[0] }, getEditOffsets(manager, cuA));
+		// the same offset in another unit is not a reference
+		assertArrayEquals(matches, getEditOffsets(manager, cuB));
+	}
+
+	@Test
+	public void testClosedUnits() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		String source= getSource("A", 0);
+		ICompilationUnit cuA= createCU(pack, "A.java", source);
+		ICompilationUnit cuB= createCU(pack, "B.java", "package p;\n// no match\npublic class B {\n}\n");
+		cuA.close();
+		cuB.close();
+
+		TextChangeManager manager= perform(new ICompilationUnit[] { cuA, cuB }, new SearchResultGroup[0]);
+		assertArrayEquals(getMatchOffsets(source), getEditOffsets(manager, cuA));
+		assertFalse(manager.containsChangesIn(cuB));
+		// the units are scanned without opening them
+		assertFalse(cuA.isOpen());
+		assertFalse(cuB.isOpen());
+
+		cuA.open(null);
+		manager= perform(new ICompilationUnit[] { cuA, cuB }, new SearchResultGroup[0]);
+		assertTrue(cuA.isOpen());
+		assertArrayEquals(getMatchOffsets(source), getEditOffsets(manager, cuA));
+	}
+}
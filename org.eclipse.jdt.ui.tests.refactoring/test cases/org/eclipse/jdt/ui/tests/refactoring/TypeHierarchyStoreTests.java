@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyStore;
+
+import org.eclipse.jdt.ui.tests.refactoring.infra.AbstractJunit4CUTestCase;
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringTestPlugin;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class TypeHierarchyStoreTests extends AbstractJunit4CUTestCase {
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private IType fTypeA;
+
+	private ICompilationUnit fUnitB;
+
+	@Override
+	protected InputStream getFileInputStream(String fileName) throws IOException {
+		return RefactoringTestPlugin.getDefault().getTestResourceStream(fileName);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		TypeHierarchyStore.connect();
+		IPackageFragment pack= rts.getPackageP();
+		ICompilationUnit unitA= createCU(pack, "A.java", "package p;\npublic class A {\n}\n");
+		fUnitB= createCU(pack, "B.java", "package p;\npublic class B extends A {\n}\n");
+		fTypeA= unitA.getType("A");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		TypeHierarchyStore.disconnect();
+	}
+
+	@Test
+	public void testReuse() throws Exception {
+		ITypeHierarchy hierarchy= TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor());
+		assertEquals(1, hierarchy.getSubtypes(fTypeA).length);
+		assertSame(hierarchy, TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor()));
+
+		ITypeHierarchy regionHierarchy= TypeHierarchyStore.getRegionHierarchy(new IType[] { fTypeA }, null, new NullProgressMonitor());
+		assertSame(regionHierarchy, TypeHierarchyStore.getRegionHierarchy(new IType[] { fTypeA }, null, new NullProgressMonitor()));
+	}
+
+	@Test
+	public void testFlushOnSuperTypeChange() throws Exception {
+		ITypeHierarchy hierarchy= TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor());
+		assertTrue(hierarchy.contains(fUnitB.getType("B")));
+
+		fUnitB.getBuffer().setContents("package p;\npublic class B {\n}\n");
+		fUnitB.save(new NullProgressMonitor(), true);
+
+		ITypeHierarchy newHierarchy= TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor());
+		assertNotSame(hierarchy, newHierarchy);
+		assertFalse(newHierarchy.contains(fUnitB.getType("B")));
+	}
+
+	@Test
+	public void testFlushOnAnonymousSubtype() throws Exception {
+		ICompilationUnit unitC= createCU(rts.getPackageP(), "C.java", "package p;\npublic class C {\n    void m() {\n    }\n}\n");
+		ITypeHierarchy hierarchy= TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor());
+		assertEquals(1, hierarchy.getAllSubtypes(fTypeA).length);
+
+		unitC.becomeWorkingCopy(new NullProgressMonitor());
+		try {
+			unitC.getBuffer().setContents("package p;\npublic class C {\n    void m() {\n        new A() {\n        };\n    }\n}\n");
+			unitC.reconcile(ICompilationUnit.NO_AST, false, null, new NullProgressMonitor());
+
+			ITypeHierarchy newHierarchy= TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor());
+			assertNotSame(hierarchy, newHierarchy);
+			assertEquals(2, newHierarchy.getAllSubtypes(fTypeA).length);
+		} finally {
+			unitC.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testNoSharingWithoutSession() throws Exception {
+		TypeHierarchyStore.disconnect();
+		try {
+			ITypeHierarchy hierarchy= TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor());
+			assertNotSame(hierarchy, TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor()));
+		} finally {
+			TypeHierarchyStore.connect();
+		}
+	}
+
+	@Test
+	public void testBypassForOwner() throws Exception {
+		WorkingCopyOwner owner= new WorkingCopyOwner() {
+		};
+		ITypeHierarchy hierarchy= TypeHierarchyStore.getTypeHierarchy(fTypeA, owner, new NullProgressMonitor());
+		assertNotSame(hierarchy, TypeHierarchyStore.getTypeHierarchy(fTypeA, owner, new NullProgressMonitor()));
+		assertNotSame(hierarchy, TypeHierarchyStore.getTypeHierarchy(fTypeA, null, new NullProgressMonitor()));
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.type;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+
+import org.eclipse.jdt.ui.tests.refactoring.reorg.RepeatingRefactoringPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures Infer Generic Type Arguments on generated pre-generics code in which raw collections
+ * are passed between compilation units, so that the solver has to propagate type estimates over
+ * long chains of constraints.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class InferTypeArgumentsPerfAcceptanceTests extends RepeatingRefactoringPerformanceTestCaseCommon {
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	@Test
+	public void testACold_10_5() throws Exception {
+		executeRefactoring(10, 5, false, 3);
+	}
+
+	@Test
+	public void testB_100_5() throws Exception {
+		executeRefactoring(100, 5, true, 5);
+	}
+
+	@Test
+	public void testC_500_5() throws Exception {
+		tagAsSummary("Infer Generic Type Arguments - 500 CUs", Dimension.ELAPSED_PROCESS);
+		executeRefactoring(500, 5, true, 5);
+	}
+
+	@Override
+	protected void doExecuteRefactoring(int numberOfCus, int numberOfFields, boolean measure) throws Exception {
+		JavaProjectHelper.set15CompilerOptions(fTestProject.getProject());
+		IPackageFragment pack= fTestProject.getSourceFolder().createPackageFragment("legacy", false, null);
+		for (int i= 0; i < numberOfCus; i++) {
+			createCu(pack, i, numberOfFields);
+		}
+		InferTypeArgumentsRefactoring refactoring= new InferTypeArgumentsRefactoring(new IJavaElement[] { fTestProject.getProject() });
+		executeRefactoring(refactoring, measure);
+	}
+
+	private void createCu(IPackageFragment pack, int index, int numberOfFields) throws Exception {
+		String previous= "C" + (index > 0 ? index - 1 : 0);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package " + pack.getElementName() + ";\n");
+		buf.append("import java.util.*;\n");
+		buf.append("public class C" + index + " {\n");
+		for (int i= 0; i < numberOfFields; i++) {
+			buf.append("    private List fNames" + i + "= new ArrayList();\n");
+			buf.append("    private Map fIndex" + i + "= new HashMap();\n");
+			buf.append("    public void add" + i + "(String name) {\n");
+			buf.append("        fNames" + i + ".add(name);\n");
+			buf.append("        fIndex" + i + ".put(name, Integer.valueOf(fNames" + i + ".size()));\n");
+			buf.append("    }\n");
+			buf.append("    public List getNames" + i + "() {\n");
+			buf.append("        return fNames" + i + ";\n");
+			buf.append("    }\n");
+			buf.append("    public Integer indexOf" + i + "(String name) {\n");
+			buf.append("        return (Integer) fIndex" + i + ".get(name);\n");
+			buf.append("    }\n");
+			buf.append("    public void copy" + i + "(" + previous + " other) {\n");
+			buf.append("        for (Iterator iter= other.getNames" + i + "().iterator(); iter.hasNext();) {\n");
+			buf.append("            add" + i + "((String) iter.next());\n");
+			buf.append("        }\n");
+			buf.append("    }\n");
+		}
+		buf.append("}\n");
+		pack.createCompilationUnit("C" + index + ".java", buf.toString(), false, null);
+	}
+}
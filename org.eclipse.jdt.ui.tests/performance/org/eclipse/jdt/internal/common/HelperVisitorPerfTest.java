@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Compares the dispatch of {@link HelperVisitor}, which looks up the predicates in arrays and
+ * skips subtrees without registered node types, with the previous dispatch, which looked up the
+ * predicates in a map for every visited node and traversed the whole AST.
+ */
+public class HelperVisitorPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int METHODS= 2000;
+
+	private static final int RUNS= 20;
+
+	/**
+	 * The dispatch of {@link HelperVisitor} before the predicates were indexed: a lookup in a
+	 * linked hash map for each visited node, and no subtrees are skipped.
+	 */
+	private static final class MapDispatchVisitor<E> extends ASTVisitor {
+
+		private static final VisitorEnum[] fgKinds= new VisitorEnum[VisitorEnum.stream().mapToInt(VisitorEnum::getValue).max().getAsInt() + 1];
+
+		static {
+			for (VisitorEnum kind : VisitorEnum.values()) {
+				fgKinds[kind.getValue()]= kind;
+			}
+		}
+
+		private final Map<VisitorEnum, BiPredicate<? extends ASTNode, E>> fPredicates;
+
+		private final E fDataHolder;
+
+		MapDispatchVisitor(HelperVisitor<?, ?, ?> helperVisitor, E dataHolder) {
+			@SuppressWarnings("unchecked")
+			Map<VisitorEnum, BiPredicate<? extends ASTNode, E>> predicates= (Map<VisitorEnum, BiPredicate<? extends ASTNode, E>>) (Map<?, ?>) helperVisitor.getSuppliermap();
+			fPredicates= new LinkedHashMap<>(predicates);
+			fDataHolder= dataHolder;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			int nodeType= node.getNodeType();
+			VisitorEnum kind= nodeType < fgKinds.length ? fgKinds[nodeType] : null;
+			if (fPredicates.containsKey(kind)) {
+				return ((BiPredicate<ASTNode, E>) fPredicates.get(kind)).test(node, fDataHolder);
+			}
+			return true;
+		}
+	}
+
+	private CompilationUnit fAST;
+
+	@Before
+	public void setUp() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test;\n");
+		buf.append("import java.util.List;\n");
+		buf.append("import java.util.ArrayList;\n");
+		buf.append("public class Large {\n");
+		for (int i= 0; i < METHODS; i++) {
+			buf.append("    /** Method ").append(i).append(" */\n");
+			buf.append("    public int method").append(i).append("(int a, String s) {\n");
+			buf.append("        List<String> list= new ArrayList<>();\n");
+			buf.append("        for (int j= 0; j < a; j++) {\n");
+			buf.append("            if (s.length() > j && j % 2 == 0) {\n");
+			buf.append("                list.add(s.substring(j) + \"x\" + j);\n");
+			buf.append("            } else {\n");
+			buf.append("                a-= Math.max(j, 1);\n");
+			buf.append("            }\n");
+			buf.append("        }\n");
+			buf.append("        return list.size() + a;\n");
+			buf.append("    }\n");
+		}
+		buf.append("}\n");
+
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		Map<String, String> options= JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.latestSupportedJavaVersion(), options);
+		parser.setCompilerOptions(options);
+		parser.setSource(buf.toString().toCharArray());
+		fAST= (CompilationUnit) parser.createAST(null);
+	}
+
+	@Test
+	public void testMapDispatch() throws Exception {
+		for (int i= 0; i < RUNS; i++) {
+			ReferenceHolder<Integer, MethodInvocation> holder= new ReferenceHolder<>();
+			HelperVisitor<ReferenceHolder<Integer, MethodInvocation>, Integer, MethodInvocation> hv= createMethodInvocationVisitor(holder);
+			startMeasuring();
+			fAST.accept(new MapDispatchVisitor<>(hv, holder));
+			stopMeasuring();
+			assertEquals(5 * METHODS, holder.size());
+		}
+		commitMeasurements();
+	}
+
+	@Test
+	public void testIndexedDispatch() throws Exception {
+		for (int i= 0; i < RUNS; i++) {
+			ReferenceHolder<Integer, MethodInvocation> holder= new ReferenceHolder<>();
+			HelperVisitor<ReferenceHolder<Integer, MethodInvocation>, Integer, MethodInvocation> hv= createMethodInvocationVisitor(holder);
+			startMeasuring();
+			hv.build(fAST);
+			stopMeasuring();
+			assertEquals(5 * METHODS, holder.size());
+		}
+		commitMeasurements();
+	}
+
+	@Test
+	public void testMapDispatchOfRareNodes() throws Exception {
+		for (int i= 0; i < RUNS; i++) {
+			ReferenceHolder<Integer, ImportDeclaration> holder= new ReferenceHolder<>();
+			HelperVisitor<ReferenceHolder<Integer, ImportDeclaration>, Integer, ImportDeclaration> hv= createImportDeclarationVisitor(holder);
+			startMeasuring();
+			fAST.accept(new MapDispatchVisitor<>(hv, holder));
+			stopMeasuring();
+			assertEquals(2, holder.size());
+		}
+		commitMeasurements();
+	}
+
+	@Test
+	public void testIndexedDispatchOfRareNodes() throws Exception {
+		for (int i= 0; i < RUNS; i++) {
+			ReferenceHolder<Integer, ImportDeclaration> holder= new ReferenceHolder<>();
+			HelperVisitor<ReferenceHolder<Integer, ImportDeclaration>, Integer, ImportDeclaration> hv= createImportDeclarationVisitor(holder);
+			startMeasuring();
+			hv.build(fAST);
+			stopMeasuring();
+			assertEquals(2, holder.size());
+		}
+		commitMeasurements();
+	}
+
+	private static HelperVisitor<ReferenceHolder<Integer, MethodInvocation>, Integer, MethodInvocation> createMethodInvocationVisitor(ReferenceHolder<Integer, MethodInvocation> holder) {
+		HelperVisitor<ReferenceHolder<Integer, MethodInvocation>, Integer, MethodInvocation> hv= new HelperVisitor<>(new HashSet<>(), holder);
+		hv.addMethodInvocation((node, h) -> {
+			h.put(Integer.valueOf(h.size()), node);
+			return true;
+		});
+		return hv;
+	}
+
+	private static HelperVisitor<ReferenceHolder<Integer, ImportDeclaration>, Integer, ImportDeclaration> createImportDeclarationVisitor(ReferenceHolder<Integer, ImportDeclaration> holder) {
+		HelperVisitor<ReferenceHolder<Integer, ImportDeclaration>, Integer, ImportDeclaration> hv= new HelperVisitor<>(new HashSet<>(), holder);
+		hv.addImportDeclaration((node, h) -> {
+			h.put(Integer.valueOf(h.size()), node);
+			return true;
+		});
+		return hv;
+	}
+}
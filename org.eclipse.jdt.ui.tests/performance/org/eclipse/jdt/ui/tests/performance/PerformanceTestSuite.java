@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,12 @@ import org.junit.runners.Suite;
 
 import org.eclipse.jdt.ui.tests.performance.views.TypeHierarchyPerfTest;
 
+import org.eclipse.jdt.internal.common.HelperVisitorPerfTest;
+
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	TypeHierarchyPerfTest.class
+	TypeHierarchyPerfTest.class,
+	HelperVisitorPerfTest.class
 })
 public class PerformanceTestSuite {
 }
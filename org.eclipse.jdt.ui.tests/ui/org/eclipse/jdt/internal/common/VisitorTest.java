@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -617,6 +619,43 @@ public class VisitorTest {
 		hv.build(result2);
 	}
 
+	/**
+	 * Visitors run in one traversal with FusedASTVisitor see the same nodes as when run on their
+	 * own, even if another visitor skips subtrees.
+	 */
+	@Test
+	public void fusedTest() {
+		ReferenceHolder<VisitorEnum, Integer> expected= new ReferenceHolder<>();
+		countNodes(expected).build(result2);
+
+		ReferenceHolder<VisitorEnum, Integer> counted= new ReferenceHolder<>();
+		List<String> invocations= new ArrayList<>();
+		HelperVisitor<ReferenceHolder<VisitorEnum,Integer>,VisitorEnum,Integer> pruning= new HelperVisitor<>(null, new ReferenceHolder<>());
+		pruning.addWhileStatement((node, holder) -> false);
+		pruning.addMethodInvocation((node, holder) -> {
+			invocations.add(node.getName().getIdentifier());
+			return true;
+		});
+		result2.accept(new FusedASTVisitor().add(pruning).add(countNodes(counted)));
+
+		assertEquals(expected, counted);
+		assertEquals(List.of("reverse", "iterator", "println"), invocations);
+	}
+
+	private HelperVisitor<ReferenceHolder<VisitorEnum,Integer>,VisitorEnum,Integer> countNodes(ReferenceHolder<VisitorEnum, Integer> dataholder) {
+		HelperVisitor<ReferenceHolder<VisitorEnum,Integer>,VisitorEnum,Integer> hv = new HelperVisitor<>(null, dataholder);
+		VisitorEnum.stream().forEach(ve -> {
+			hv.add(ve, (node, holder) -> {
+				holder.merge(VisitorEnum.fromNode(node), 1, Integer::sum);
+				return true;
+			});
+			hv.addEnd(ve, (node, holder) -> {
+				holder.merge(VisitorEnum.fromNode(node), 1, Integer::sum);
+			});
+		});
+		return hv;
+	}
+
 	Collection<String> getUsedVariableNames(ASTNode node) {
 		CompilationUnit root= (CompilationUnit) node.getRoot();
 		Collection<String> res= (new ScopeAnalyzer(root)).getUsedVariableNames(node.getStartPosition(), node.getLength());
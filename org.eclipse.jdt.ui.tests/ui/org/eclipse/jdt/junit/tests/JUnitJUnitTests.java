@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,7 +26,9 @@ import org.junit.runners.Suite;
 
 TestEnableAssertions.class,
 TestPriorization.class,
+TestRunHistoryTest.class,
 TestTestSearchEngine.class,
+TestSearchIndexTest.class,
 
 TestRunListenerTest3.class,
 TestRunListenerTest4.class,
@@ -37,6 +39,9 @@ TestRunFilteredParameterizedRunnerTest4.class,
 
 TestRunSessionSerializationTests3.class,
 TestRunSessionSerializationTests4.class,
+TestRunSessionSwapFileTest.class,
+RemoteTestRunnerClientTest.class,
+JUnitLaunchShardsTest.class,
 
 JUnit3TestFinderTest.class,
 JUnit4TestFinderTest.class,
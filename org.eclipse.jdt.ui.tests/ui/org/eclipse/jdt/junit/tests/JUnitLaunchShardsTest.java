@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.junit.launcher.JUnitLaunchConfigurationDelegate;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestRunHistory;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests how the {@link JUnitLaunchConfigurationDelegate} distributes the test classes of a launch
+ * over several VMs.
+ */
+public class JUnitLaunchShardsTest {
+
+	private static final Class<?>[] CREATE_SHARDS_TYPES= { ILaunchConfiguration.class, int.class, IProgressMonitor.class };
+
+	private Accessor fDelegate;
+
+	private IPackageFragment fPackage;
+
+	private int fNextId;
+
+	@Before
+	public void setUp() {
+		TestRunSession session= new TestRunSession("ShardsTest", null);
+		addTest(session, "p.A", 4.0);
+		addTest(session, "p.B", 3.0);
+		addTest(session, "p.C", 2.0);
+		addTest(session, "p.D", 1.0);
+		TestRunHistory history= new TestRunHistory();
+		history.addSession(session);
+
+		fDelegate= new Accessor(new JUnitLaunchConfigurationDelegate(), JUnitLaunchConfigurationDelegate.class);
+		fDelegate.set("fTestRunHistory", history);
+
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("JUnitLaunchShardsTest"));
+		fPackage= project.getPackageFragmentRoot(project.getProject().getFolder("src")).getPackageFragment("p");
+	}
+
+	private void addTest(TestRunSession session, String className, double time) {
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), String.valueOf(++fNextId), className, true, 1, false, null, null, null);
+		TestCaseElement test= (TestCaseElement) session.createTestElement(suite, String.valueOf(++fNextId), "test(" + className + ")", false, 0, false, null, null, null);
+		session.registerTestEnded(test, true);
+		test.setElapsedTimeInSeconds(time);
+	}
+
+	private IType getType(String name) {
+		return fPackage.getCompilationUnit(name + ".java").getType(name);
+	}
+
+	private IJavaElement[][] createShards(IJavaElement[] testElements, int shardCount) {
+		fDelegate.set("fTestElements", testElements);
+		return (IJavaElement[][]) fDelegate.invoke("createShards", CREATE_SHARDS_TYPES, new Object[] { null, Integer.valueOf(shardCount), new NullProgressMonitor() });
+	}
+
+	@Test
+	public void testCreateShards() {
+		IType a= getType("A");
+		IType b= getType("B");
+		IType c= getType("C");
+		IType d= getType("D");
+
+		// the longest test class first onto the VM with the least run time
+		IJavaElement[][] shards= createShards(new IJavaElement[] { a, b, c, d }, 2);
+		assertEquals(2, shards.length);
+		assertArrayEquals(new IJavaElement[] { a, d }, shards[0]);
+		assertArrayEquals(new IJavaElement[] { b, c }, shards[1]);
+
+		// not more VMs than test classes
+		shards= createShards(new IJavaElement[] { a, b, c }, 5);
+		assertEquals(3, shards.length);
+		assertArrayEquals(new IJavaElement[] { a }, shards[0]);
+		assertArrayEquals(new IJavaElement[] { b }, shards[1]);
+		assertArrayEquals(new IJavaElement[] { c }, shards[2]);
+	}
+
+	@Test
+	public void testNoShards() {
+		IType a= getType("A");
+		IType b= getType("B");
+
+		// a single test class runs in one VM
+		assertNull(createShards(new IJavaElement[] { a }, 2));
+		// a test method cannot be distributed
+		assertNull(createShards(new IJavaElement[] { a.getMethod("test", new String[0]), b }, 2));
+	}
+
+	@Test
+	public void testEvaluatePorts() {
+		int[] ports= (int[]) fDelegate.invoke("evaluatePorts", new Class<?>[] { int.class }, new Object[] { Integer.valueOf(4) });
+		assertEquals(4, ports.length);
+		Set<Integer> distinct= new HashSet<>();
+		for (int port : ports) {
+			assertTrue(port > 0);
+			distinct.add(Integer.valueOf(port));
+		}
+		assertEquals(4, distinct.size());
+	}
+}
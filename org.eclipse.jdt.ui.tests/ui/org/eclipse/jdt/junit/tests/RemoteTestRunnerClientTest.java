@@ -0,0 +1,479 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.FailedComparison;
+import org.eclipse.jdt.internal.junit.runner.ITestIdentifier;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.TestReferenceFailure;
+
+/**
+ * Sends the messages of a test run with the binary and the text protocol of the
+ * {@link RemoteTestRunner} and checks the test tree that the client builds from them. A session
+ * whose tests run in several VMs gets the messages of each VM on its own port.
+ */
+public class RemoteTestRunnerClientTest {
+
+	private static final long TIMEOUT= 10000;
+
+	private static final String SUITE_NAME= "p.ATest";
+
+	private static final String TEST_NAME= "testA[1, x\\y](p.ATest)";
+
+	private static final String DISPLAY_NAME= "[1] 1, x\\y \u00e4 \uD83D\uDE00";
+
+	private static final String PARAMETER_TYPES= "int, java.lang.String";
+
+	private static final String UNIQUE_ID= "[engine:junit-jupiter]/[class:p.ATest]/[method:testA(int, java.lang.String)]";
+
+	private static final String TRACE= "java.lang.AssertionError: \u00e4";
+
+	private static class TestIdentifier implements ITestIdentifier {
+		private final String fName;
+
+		TestIdentifier(String name) {
+			fName= name;
+		}
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fName;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			return "";
+		}
+
+		@Override
+		public String getUniqueId() {
+			return "";
+		}
+	}
+
+	/**
+	 * Records how a test run session ends.
+	 */
+	private static class SessionEndListener implements ITestSessionListener {
+		final List<String> fEnds= Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void sessionStarted() {
+		}
+
+		@Override
+		public void sessionEnded(long elapsedTime) {
+			fEnds.add("ended");
+		}
+
+		@Override
+		public void sessionStopped(long elapsedTime) {
+			fEnds.add("stopped");
+		}
+
+		@Override
+		public void sessionTerminated() {
+			fEnds.add("terminated");
+		}
+
+		@Override
+		public void testAdded(TestElement testElement) {
+		}
+
+		@Override
+		public void runningBegins() {
+		}
+
+		@Override
+		public void testStarted(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testEnded(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		}
+
+		@Override
+		public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		}
+
+		@Override
+		public boolean acceptsSwapToDisk() {
+			return false;
+		}
+	}
+
+	@Test
+	public void testBinaryProtocol() throws Exception {
+		int port= findFreePort();
+		TestRunSession session= createSession(port);
+		try (Socket socket= connect(port)) {
+			BinaryMessageWriter writer= new BinaryMessageWriter(socket.getOutputStream());
+			writer.testRunStarted(1);
+			writer.testTreeEntry("1", SUITE_NAME, true, 1, false, "-1", SUITE_NAME, "", "");
+			writer.testTreeEntry("2", TEST_NAME, false, 1, false, "-1", DISPLAY_NAME, PARAMETER_TYPES, UNIQUE_ID);
+			writer.testStarted("2", TEST_NAME);
+			writer.testFailed("2", new TestReferenceFailure(new TestIdentifier(TEST_NAME), MessageIds.TEST_FAILED, TRACE, new FailedComparison("1", "2")));
+			writer.testEnded("2", TEST_NAME);
+			writer.testRunEnded(10);
+			writer.close();
+		}
+		waitForEnd(session);
+		assertTestTree(session);
+	}
+
+	@Test
+	public void testTextProtocolFallback() throws Exception {
+		int port= findFreePort();
+		TestRunSession session= createSession(port);
+		try (Socket socket= connect(port)) {
+			// the messages of a runtime that does not support the binary protocol
+			PrintWriter writer= new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+			writer.println(MessageIds.TEST_RUN_START + "1 v2");
+			writer.println(MessageIds.TEST_TREE + "1," + RemoteTestRunner.escapeText(SUITE_NAME) + ",true,1,false,-1," + RemoteTestRunner.escapeText(SUITE_NAME) + ",,");
+			writer.println(MessageIds.TEST_TREE + "2," + RemoteTestRunner.escapeText(TEST_NAME) + ",false,1,false,-1," + RemoteTestRunner.escapeText(DISPLAY_NAME) + ","
+					+ RemoteTestRunner.escapeText(PARAMETER_TYPES) + "," + RemoteTestRunner.escapeText(UNIQUE_ID));
+			writer.println(MessageIds.TEST_START + "2," + RemoteTestRunner.escapeText(TEST_NAME));
+			writer.println(MessageIds.TEST_FAILED + "2," + RemoteTestRunner.escapeText(TEST_NAME));
+			writer.println(MessageIds.EXPECTED_START);
+			writer.println("1");
+			writer.println(MessageIds.EXPECTED_END);
+			writer.println(MessageIds.ACTUAL_START);
+			writer.println("2");
+			writer.println(MessageIds.ACTUAL_END);
+			writer.println(MessageIds.TRACE_START);
+			writer.println(TRACE);
+			writer.println(MessageIds.TRACE_END);
+			writer.println(MessageIds.TEST_END + "2," + RemoteTestRunner.escapeText(TEST_NAME));
+			writer.println(MessageIds.TEST_RUN_END + "10");
+			writer.flush();
+		}
+		waitForEnd(session);
+		assertTestTree(session);
+	}
+
+	@Test
+	public void testUnpairedSurrogates() throws Exception {
+		String testName= "test\uD800(p.ATest)";
+		String displayName= "\uDC00 x \uD800";
+		int port= findFreePort();
+		TestRunSession session= createSession(port);
+		try (Socket socket= connect(port)) {
+			BinaryMessageWriter writer= new BinaryMessageWriter(socket.getOutputStream());
+			writer.testRunStarted(1);
+			writer.testTreeEntry("1", testName, false, 1, false, "-1", displayName, "", "");
+			writer.testStarted("1", testName);
+			writer.testEnded("1", testName);
+			writer.testRunEnded(10);
+			writer.close();
+		}
+		waitForEnd(session);
+
+		TestElement test= session.getTestElement("1");
+		assertNotNull(test);
+		assertEquals(testName, test.getTestName());
+		assertEquals(displayName, test.getDisplayName());
+		assertSame(Status.OK, test.getStatus());
+	}
+
+	@Test
+	public void testTruncatedFrame() throws Exception {
+		int port= findFreePort();
+		TestRunSession session= createSession(port);
+		try (Socket socket= connect(port)) {
+			DataOutputStream out= new DataOutputStream(socket.getOutputStream());
+			out.writeInt(MessageIds.BINARY_PROTOCOL_MAGIC);
+			out.writeInt(MessageIds.BINARY_PROTOCOL_VERSION);
+			out.writeInt(5);
+			out.writeByte(MessageIds.BINARY_TEST_RUN_START);
+			out.writeInt(1);
+			// a tree entry whose test id is longer than the frame
+			out.writeInt(5);
+			out.writeByte(MessageIds.BINARY_TEST_TREE);
+			out.writeInt(1000);
+			out.flush();
+			// the client ends the session without waiting for the end of the stream
+			waitForEnd(session);
+		}
+		assertTrue(session.isStopped());
+		assertNull(session.getTestElement("1"));
+	}
+
+	@Test
+	public void testMalformedString() throws Exception {
+		int port= findFreePort();
+		TestRunSession session= createSession(port);
+		try (Socket socket= connect(port)) {
+			DataOutputStream out= new DataOutputStream(socket.getOutputStream());
+			out.writeInt(MessageIds.BINARY_PROTOCOL_MAGIC);
+			out.writeInt(MessageIds.BINARY_PROTOCOL_VERSION);
+			out.writeInt(5);
+			out.writeByte(MessageIds.BINARY_TEST_RUN_START);
+			out.writeInt(1);
+			// a test id that ends in the middle of a three byte char
+			out.writeInt(7);
+			out.writeByte(MessageIds.BINARY_TEST_START);
+			out.writeInt(2);
+			out.writeByte('1');
+			out.writeByte(0xE4);
+			out.flush();
+			waitForEnd(session);
+		}
+		assertTrue(session.isStopped());
+	}
+
+	@Test
+	public void testShards() throws Exception {
+		int[] ports= { findFreePort(), findFreePort() };
+		TestRunSession session= createSession(ports);
+		SessionEndListener listener= new SessionEndListener();
+		session.addTestSessionListener(listener);
+
+		try (Socket socket= connect(ports[0])) {
+			BinaryMessageWriter writer= new BinaryMessageWriter(socket.getOutputStream());
+			writer.testRunStarted(2);
+			writer.testTreeEntry("1", "p.ATest", true, 2, false, "-1", "p.ATest", "", "");
+			writer.testTreeEntry("2", "testA1(p.ATest)", false, 1, false, "1", "testA1(p.ATest)", "", "");
+			writer.testTreeEntry("3", "testA2(p.ATest)", false, 1, false, "1", "testA2(p.ATest)", "", "");
+			writer.testStarted("2", "testA1(p.ATest)");
+			writer.testEnded("2", "testA1(p.ATest)");
+			writer.testStarted("3", "testA2(p.ATest)");
+			writer.testEnded("3", "testA2(p.ATest)");
+			writer.testRunEnded(10);
+			writer.close();
+			waitForTest(session, "0:3", Status.OK);
+		}
+		// the session ends after the last VM
+		Thread.sleep(100);
+		assertTrue(session.isRunning());
+		assertTrue(listener.fEnds.isEmpty());
+
+		try (Socket socket= connect(ports[1])) {
+			BinaryMessageWriter writer= new BinaryMessageWriter(socket.getOutputStream());
+			writer.testRunStarted(3);
+			writer.testTreeEntry("1", "p.BTest", true, 3, false, "-1", "p.BTest", "", "");
+			writer.testTreeEntry("2", "testB1(p.BTest)", false, 1, false, "1", "testB1(p.BTest)", "", "");
+			writer.testTreeEntry("3", "testB2(p.BTest)", false, 1, false, "1", "testB2(p.BTest)", "", "");
+			writer.testTreeEntry("4", "testB3(p.BTest)", false, 1, false, "1", "testB3(p.BTest)", "", "");
+			writer.testStarted("2", "testB1(p.BTest)");
+			writer.testFailed("2", new TestReferenceFailure(new TestIdentifier("testB1(p.BTest)"), MessageIds.TEST_FAILED, TRACE));
+			writer.testEnded("2", "testB1(p.BTest)");
+			writer.testRunEnded(10);
+			writer.close();
+		}
+		waitForEnds(listener, 1);
+		assertEquals(Arrays.asList("ended"), listener.fEnds);
+		assertFalse(session.isRunning());
+		assertFalse(session.isStopped());
+
+		// the test ids of each VM get the index of the VM as prefix, also the parent ids
+		TestElement suiteA= session.getTestElement("0:1");
+		assertNotNull(suiteA);
+		assertEquals("p.ATest", suiteA.getTestName());
+		assertSame(suiteA, session.getTestElement("0:2").getParent());
+		assertSame(Status.OK, session.getTestElement("0:2").getStatus());
+		TestElement suiteB= session.getTestElement("1:1");
+		assertNotNull(suiteB);
+		assertEquals("p.BTest", suiteB.getTestName());
+		TestElement testB1= session.getTestElement("1:2");
+		assertSame(suiteB, testB1.getParent());
+		assertEquals("testB1(p.BTest)", testB1.getTestName());
+		assertSame(Status.FAILURE, testB1.getStatus());
+		assertSame(suiteB, session.getTestElement("1:4").getParent());
+		assertNull(session.getTestElement("1"));
+
+		// the test counts of all VMs are summed
+		assertEquals(5, session.getTotalCount());
+		assertEquals(3, session.getStartedCount());
+		assertEquals(1, session.getFailureCount());
+	}
+
+	@Test
+	public void testStoppedShard() throws Exception {
+		int[] ports= { findFreePort(), findFreePort() };
+		TestRunSession session= createSession(ports);
+		SessionEndListener listener= new SessionEndListener();
+		session.addTestSessionListener(listener);
+
+		runShard(ports[0], true);
+		runShard(ports[1], false);
+		waitForEnds(listener, 1);
+		assertEquals(Arrays.asList("stopped"), listener.fEnds);
+		assertTrue(session.isStopped());
+	}
+
+	@Test
+	public void testTerminatedShard() throws Exception {
+		int[] ports= { findFreePort(), findFreePort(), findFreePort() };
+		TestRunSession session= createSession(ports);
+		SessionEndListener listener= new SessionEndListener();
+		session.addTestSessionListener(listener);
+
+		runShard(ports[0], true);
+		try (Socket socket= connect(ports[1])) {
+			DataOutputStream out= new DataOutputStream(socket.getOutputStream());
+			out.writeInt(MessageIds.BINARY_PROTOCOL_MAGIC);
+			out.writeInt(MessageIds.BINARY_PROTOCOL_VERSION);
+			out.writeInt(5);
+			out.writeByte(MessageIds.BINARY_TEST_RUN_START);
+			out.writeInt(1);
+			// a truncated frame terminates the run of this VM
+			out.writeInt(5);
+			out.writeByte(MessageIds.BINARY_TEST_TREE);
+			out.writeInt(1000);
+			out.flush();
+			Thread.sleep(100);
+		}
+		runShard(ports[2], false);
+		// a terminated VM terminates the session, even if another VM was stopped
+		waitForEnds(listener, 1);
+		Thread.sleep(100);
+		assertEquals(Arrays.asList("terminated"), listener.fEnds);
+		assertTrue(session.isStopped());
+	}
+
+	private static void runShard(int port, boolean stop) throws Exception {
+		try (Socket socket= connect(port)) {
+			BinaryMessageWriter writer= new BinaryMessageWriter(socket.getOutputStream());
+			writer.testRunStarted(1);
+			writer.testTreeEntry("1", TEST_NAME, false, 1, false, "-1", TEST_NAME, "", "");
+			writer.testStarted("1", TEST_NAME);
+			writer.testEnded("1", TEST_NAME);
+			if (stop) {
+				writer.testRunStopped(10);
+			} else {
+				writer.testRunEnded(10);
+			}
+			writer.close();
+		}
+	}
+
+	private void assertTestTree(TestRunSession session) {
+		TestElement suite= session.getTestElement("1");
+		assertNotNull(suite);
+		assertEquals(SUITE_NAME, suite.getTestName());
+
+		TestElement test= session.getTestElement("2");
+		assertNotNull(test);
+		assertSame(suite, test.getParent());
+		assertEquals(TEST_NAME, test.getTestName());
+		assertEquals(DISPLAY_NAME, test.getDisplayName());
+		assertArrayEquals(new String[] { "int", "java.lang.String" }, test.getParameterTypes());
+		assertEquals(UNIQUE_ID, test.getUniqueId());
+		assertSame(Status.FAILURE, test.getStatus());
+		assertEquals(TRACE, test.getTrace().trim());
+		assertEquals("1", test.getExpected());
+		assertEquals("2", test.getActual());
+		assertNull(session.getTestElement("3"));
+	}
+
+	private static TestRunSession createSession(int port) {
+		return createSession(new int[] { port });
+	}
+
+	private static TestRunSession createSession(int[] ports) {
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("RemoteTestRunnerClientTest"));
+		return new TestRunSession(new Launch(null, ILaunchManager.RUN_MODE, null), project, ports);
+	}
+
+	private static int findFreePort() throws IOException {
+		try (ServerSocket socket= new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static Socket connect(int port) throws Exception {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (true) {
+			try {
+				return new Socket(InetAddress.getLoopbackAddress(), port);
+			} catch (ConnectException e) {
+				// the client has not opened its server socket yet
+				assertTrue("client not listening", System.currentTimeMillis() < end);
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	private static void waitForTest(TestRunSession session, String testId, Status status) throws InterruptedException {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (session.getTestElement(testId) == null || session.getTestElement(testId).getStatus() != status) {
+			assertTrue("test did not end", System.currentTimeMillis() < end);
+			Thread.sleep(10);
+		}
+	}
+
+	private static void waitForEnds(SessionEndListener listener, int count) throws InterruptedException {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (listener.fEnds.size() < count) {
+			assertTrue("test run did not end", System.currentTimeMillis() < end);
+			Thread.sleep(10);
+		}
+	}
+
+	private static void waitForEnd(TestRunSession session) throws InterruptedException {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (session.getStartTime() == 0 || session.isRunning()) {
+			assertTrue("test run did not end", System.currentTimeMillis() < end);
+			Thread.sleep(10);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -216,12 +216,50 @@ public class TestPriorization extends TestCase {
 		collectOrder(reordered, order);
 
 		String[] expected= {
-				"testF", "testE", "testD", "testA", "testB", "testC", "testX", "testY", "testZ",
+				"testE", "testF", "testD", "testA", "testB", "testC", "testX", "testY", "testZ",
 		};
 		//printOrder(order);
 		checkOrder(expected, order);
 	}
 
+	public void testReorderByRank() {
+		// suite4
+		//		suite3
+		//			X
+		//			Y
+		//			Z*
+		//		suite
+		//	 		suite1
+		//				A*
+		//				B
+		//				C*
+		//			suite2
+		//				D
+		//				E
+		//				F*
+		TestSuite suite= new TestSuite();
+		suite.addTest(createSuiteABC());
+		suite.addTest(createSuiteDEF());
+		TestSuite suite4= new TestSuite();
+		suite4.addTest(createSuiteXYZ());
+		suite4.addTest(suite);
+
+		String[] priority= {
+				"testC(org.eclipse.jdt.junit.tests.TestPriorizationSuite1)",
+				"testZ(org.eclipse.jdt.junit.tests.TestPriorizationSuite)",
+				"testF(org.eclipse.jdt.junit.tests.TestPriorizationSuite2)",
+				"testA(org.eclipse.jdt.junit.tests.TestPriorizationSuite1)"
+		};
+		Test reordered= prioritize(suite4, priority);
+		List<String> order= new ArrayList<>();
+		collectOrder(reordered, order);
+
+		String[] expected= {
+				"testC", "testA", "testB", "testF", "testD", "testE", "testZ", "testX", "testY",
+		};
+		checkOrder(expected, order);
+	}
+
 	public void testReorderWithPropagation3() {
 		// suite4
 		//		suite3
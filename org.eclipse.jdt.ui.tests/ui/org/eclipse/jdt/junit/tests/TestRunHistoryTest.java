@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunHistory;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+public class TestRunHistoryTest {
+
+	private int fNextId;
+
+	private TestSuiteElement createSuite(TestRunSession session, String name) {
+		return (TestSuiteElement) session.createTestElement(session.getTestRoot(), String.valueOf(++fNextId), name, true, 0, false, null, null, null);
+	}
+
+	private TestCaseElement addTest(TestRunSession session, TestSuiteElement suite, String name, Status status, double time) {
+		TestCaseElement test= (TestCaseElement) session.createTestElement(suite, String.valueOf(++fNextId), name, false, 0, false, null, null, null);
+		if (status.isErrorOrFailure()) {
+			session.registerTestFailureStatus(test, status, "trace", null, null);
+		}
+		session.registerTestEnded(test, status != Status.NOT_RUN);
+		if (status != Status.NOT_RUN) {
+			test.setElapsedTimeInSeconds(time);
+		}
+		return test;
+	}
+
+	private TestRunSession createSession(Status statusA) {
+		TestRunSession session= new TestRunSession("HistoryTest", null);
+		TestSuiteElement suite= createSuite(session, "p.ATest");
+		addTest(session, suite, "testA(p.ATest)", statusA, 1.0);
+		addTest(session, suite, "testB(p.ATest)", Status.OK, 0.01);
+		addTest(session, suite, "testC(p.ATest)", Status.OK, 2.0);
+		addTest(session, suite, "testNotRun(p.ATest)", Status.NOT_RUN, 0);
+		TestCaseElement ignored= addTest(session, suite, "testIgnored(p.ATest)", Status.OK, 0);
+		ignored.setIgnored(true);
+		return session;
+	}
+
+	@Test
+	public void testStatistics() {
+		TestRunHistory history= new TestRunHistory(Arrays.asList(createSession(Status.FAILURE), createSession(Status.OK)));
+
+		assertEquals(2, history.getRunCount("testA(p.ATest)"));
+		assertEquals(1, history.getFailureCount("testA(p.ATest)"));
+		assertEquals(0, history.getFailureCount("testB(p.ATest)"));
+		assertEquals(2.0, history.getAverageTime("testC(p.ATest)"), 1e-9);
+		assertEquals(0, history.getRunCount("testNotRun(p.ATest)"));
+		assertEquals(0, history.getRunCount("testIgnored(p.ATest)"));
+		assertTrue(Double.isNaN(history.getAverageTime("testUnknown(p.ATest)")));
+		assertEquals(3.01, history.getClassTime("p.ATest"), 1e-9);
+	}
+
+	@Test
+	public void testPrioritizedTestNames() {
+		TestRunHistory history= new TestRunHistory(Arrays.asList(createSession(Status.FAILURE), createSession(Status.OK)));
+
+		// B is fast, A has failed, C is slow
+		assertEquals(Arrays.asList("testB(p.ATest)", "testA(p.ATest)", "testC(p.ATest)"), history.getPrioritizedTestNames(className -> true, 10));
+		assertEquals(Arrays.asList("testB(p.ATest)", "testA(p.ATest)"), history.getPrioritizedTestNames(className -> true, 2));
+		assertTrue(history.getPrioritizedTestNames("p.BTest"::equals, 10).isEmpty());
+	}
+
+	@Test
+	public void testSwappedOutSession() {
+		TestRunSession session= createSession(Status.FAILURE);
+		session.swapOut();
+		assertTrue(session.isSwappedOut());
+
+		TestRunHistory history= new TestRunHistory();
+		history.addSession(session);
+		assertTrue(session.isSwappedOut());
+		assertEquals(1, history.getRunCount("testA(p.ATest)"));
+		assertEquals(1, history.getFailureCount("testA(p.ATest)"));
+		assertEquals(0, history.getRunCount("testIgnored(p.ATest)"));
+		session.removeSwapFile();
+	}
+
+	@Test
+	public void testSortClasses() {
+		TestRunSession session= new TestRunSession("HistoryTest", null);
+		addTest(session, createSuite(session, "p.Slow"), "testSlow(p.Slow)", Status.OK, 10.0);
+		addTest(session, createSuite(session, "p.Failing"), "testFailing(p.Failing)", Status.ERROR, 10.0);
+		TestRunHistory history= new TestRunHistory();
+		history.addSession(session);
+
+		List<String> classNames= new ArrayList<>(Arrays.asList("p.Slow", "p.Failing", "p.New"));
+		history.sortClasses(classNames);
+		assertEquals(Arrays.asList("p.New", "p.Failing", "p.Slow"), classNames);
+	}
+
+	@Test
+	public void testAssignShards() {
+		TestRunSession session= new TestRunSession("HistoryTest", null);
+		addTest(session, createSuite(session, "p.A"), "test(p.A)", Status.OK, 4.0);
+		addTest(session, createSuite(session, "p.B"), "test(p.B)", Status.OK, 3.0);
+		addTest(session, createSuite(session, "p.C"), "test(p.C)", Status.OK, 2.0);
+		addTest(session, createSuite(session, "p.D"), "test(p.D)", Status.OK, 1.0);
+		TestRunHistory history= new TestRunHistory();
+		history.addSession(session);
+
+		// p.E has no history and counts with the average time 2.5
+		int[] shards= history.assignShards(new String[] { "p.A", "p.B", "p.C", "p.D", "p.E" }, 2);
+		assertArrayEquals(new int[] { 0, 1, 0, 1, 1 }, shards);
+
+		shards= history.assignShards(new String[] { "p.A", "p.B" }, 3);
+		assertArrayEquals(new int[] { 0, 1 }, shards);
+	}
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.JUnitModel;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+public class TestRunSessionSwapFileTest {
+
+	private TestRunSession fSession;
+
+	@Before
+	public void setUp() {
+		fSession= new TestRunSession("SwapFileTest", null);
+		TestSuiteElement root= fSession.getTestRoot();
+		TestSuiteElement suite= createSuite(root, "1", "pack.AllTests");
+		TestSuiteElement nested= createSuite(suite, "2", "pack.ATest");
+		endTest(createTestCase(nested, "3", "testOK(pack.ATest)"));
+		TestCaseElement failed= createTestCase(nested, "4", "testFailure(pack.ATest)");
+		fSession.registerTestFailureStatus(failed, Status.FAILURE, "junit.framework.ComparisonFailure: \u00e4\n\tat pack.ATest", "expected", "actual");
+		endTest(failed);
+		TestCaseElement ignored= createTestCase(nested, "5", "testIgnored(pack.ATest)");
+		ignored.setIgnored(true);
+		endTest(ignored);
+		endTest(nested);
+		TestSuiteElement other= createSuite(suite, "6", "pack.BTest");
+		TestCaseElement error= createTestCase(other, "7", "testError(pack.BTest)");
+		fSession.registerTestFailureStatus(error, Status.ERROR, "java.lang.NullPointerException", null, null);
+		endTest(error);
+		createTestCase(other, "8", "testNotRun(pack.BTest)");
+		fSession.registerTestEnded(fSession.getTestElement("8"), false);
+		endTest(other);
+		endTest(suite);
+	}
+
+	@After
+	public void tearDown() {
+		fSession.removeSwapFile();
+	}
+
+	private TestSuiteElement createSuite(TestSuiteElement parent, String id, String name) {
+		return (TestSuiteElement) fSession.createTestElement(parent, id, name, true, 0, false, null, null, null);
+	}
+
+	private TestCaseElement createTestCase(TestSuiteElement parent, String id, String name) {
+		return (TestCaseElement) fSession.createTestElement(parent, id, name, false, 0, false, null, new String[] { "int", "String" }, "[id:" + id + "]");
+	}
+
+	private void endTest(TestElement testElement) {
+		fSession.registerTestEnded(testElement, true);
+	}
+
+	private String export() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		JUnitModel.exportTestRunSession(fSession, out);
+		return out.toString("UTF-8");
+	}
+
+	@Test
+	public void testSwapOutAndIn() throws Exception {
+		String expected= export();
+		ITestElement.Result result= fSession.getTestResult(true);
+
+		fSession.swapOut();
+		assertSame(result, fSession.getTestResult(true));
+		assertEquals(expected, export());
+
+		// swap out without changes reuses the swap file
+		fSession.swapOut();
+		assertEquals(expected, export());
+	}
+
+	@Test
+	public void testLazyChildren() throws Exception {
+		Status rootStatus= fSession.getTestRoot().getStatus();
+		Status suiteStatus= fSession.getTestElement("1").getStatus();
+		assertTrue(suiteStatus.isError());
+		fSession.swapOut();
+
+		TestSuiteElement root= fSession.getTestRoot();
+		assertTrue(root.hasChildren());
+		assertSame(rootStatus, root.getStatus());
+		TestSuiteElement suite= (TestSuiteElement) root.getChildren()[0];
+		assertTrue(suite.hasChildren());
+		assertSame(suiteStatus, suite.getStatus());
+
+		// elements that have not been read yet are still found
+		TestElement failed= fSession.getTestElement("4");
+		assertNotNull(failed);
+		assertEquals(Status.FAILURE, failed.getStatus());
+		assertEquals("expected", failed.getExpected());
+		assertEquals("actual", failed.getActual());
+		assertEquals(2, failed.getParameterTypes().length);
+		assertEquals("[id:4]", failed.getUniqueId());
+		assertSame(suite, failed.getParent().getParent());
+		assertTrue(((TestCaseElement) fSession.getTestElement("5")).isIgnored());
+		assertEquals(Status.NOT_RUN, fSession.getTestElement("8").getStatus());
+	}
+
+	@Test
+	public void testRewriteWithUnreadChildren() throws Exception {
+		fSession.swapOut();
+		TestSuiteElement suite= (TestSuiteElement) fSession.getTestRoot().getChildren()[0];
+		// invalidates the swap file while the children of the suite have not been read from it
+		fSession.registerTestFailureStatus(suite, Status.ERROR, "java.lang.IllegalStateException", null, null);
+		fSession.swapOut();
+
+		assertEquals("java.lang.IllegalStateException", fSession.getTestElement("1").getTrace());
+		TestElement failed= fSession.getTestElement("4");
+		assertNotNull(failed);
+		assertEquals(Status.FAILURE, failed.getStatus());
+		assertEquals("expected", failed.getExpected());
+		assertEquals(Status.ERROR, fSession.getTestElement("7").getStatus());
+		assertEquals(Status.NOT_RUN, fSession.getTestElement("8").getStatus());
+	}
+}
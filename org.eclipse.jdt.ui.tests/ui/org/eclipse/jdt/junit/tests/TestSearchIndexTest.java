@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.StringAsserts;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.launcher.ITestFinder;
+import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.launcher.TestSearchIndex;
+
+public class TestSearchIndexTest {
+
+	private IJavaProject fProject;
+	private IPackageFragmentRoot fRoot;
+	private TestSearchIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= createProject("TestSearchIndexProject");
+		fRoot= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fIndex= JUnitCorePlugin.getTestSearchIndex();
+		fIndex.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private static IJavaProject createProject(String name) throws Exception {
+		IJavaProject project= JavaProjectHelper.createJavaProject(name, "bin");
+		JavaProjectHelper.addRTJar(project);
+		IClasspathEntry cpe= JavaCore.newContainerEntry(JUnitCore.JUNIT4_CONTAINER_PATH);
+		JavaProjectHelper.addToClasspath(project, cpe);
+		JavaProjectHelper.set15CompilerOptions(project);
+		return project;
+	}
+
+	private static ICompilationUnit createTest(IPackageFragment pack, String name) throws Exception {
+		return createTest(pack, name, "public");
+	}
+
+	private static ICompilationUnit createTest(IPackageFragment pack, String name, String modifiers) throws Exception {
+		String source= "package " + pack.getElementName() + ";\n"
+				+ "import org.junit.Test;\n"
+				+ modifiers + " class " + name + " {\n"
+				+ "    @Test public void testFoo() {\n"
+				+ "    }\n"
+				+ "}\n";
+		return pack.createCompilationUnit(name + ".java", source, false, null);
+	}
+
+	private static void assertTestFound(IJavaElement container, String... expectedTypes) throws Exception {
+		ITestFinder finder= TestKindRegistry.getDefault().getKind(TestKindRegistry.JUNIT4_TEST_KIND_ID).getFinder();
+		Set<IType> result= new HashSet<>();
+		finder.findTestsInContainer(container, result, null);
+		Set<String> namesFound= new HashSet<>();
+		for (IType type : result) {
+			namesFound.add(type.getFullyQualifiedName('.'));
+		}
+		StringAsserts.assertEqualStringsIgnoreOrder(namesFound.toArray(new String[namesFound.size()]), expectedTypes);
+	}
+
+	@Test
+	public void testContainersOfSearchedProject() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		IPackageFragment q= fRoot.createPackageFragment("q", true, null);
+		ICompilationUnit test1= createTest(p, "Test1");
+		createTest(q, "Test2");
+
+		int misses= fIndex.getMissCount();
+		int hits= fIndex.getHitCount();
+		assertTestFound(p, "p.Test1");
+		assertEquals(misses + 1, fIndex.getMissCount());
+
+		assertTestFound(q, "q.Test2");
+		assertTestFound(fRoot, "p.Test1", "q.Test2");
+		assertTestFound(fProject, "p.Test1", "q.Test2");
+		assertTestFound(test1, "p.Test1");
+		assertEquals(misses + 1, fIndex.getMissCount());
+		assertEquals(hits + 4, fIndex.getHitCount());
+	}
+
+	@Test
+	public void testChangeInProject() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		ICompilationUnit test1= createTest(p, "Test1");
+		assertTestFound(fProject, "p.Test1");
+
+		createTest(p, "Test2");
+		assertTestFound(fProject, "p.Test1", "p.Test2");
+
+		test1.delete(true, null);
+		assertTestFound(fProject, "p.Test2");
+	}
+
+	@Test
+	public void testChangeInUnit() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		createTest(p, "Test1");
+		// a final test has no subtypes in other units, only its unit is searched again
+		ICompilationUnit test2= createTest(p, "Test2", "public final");
+		assertTestFound(fProject, "p.Test1", "p.Test2");
+		int misses= fIndex.getMissCount();
+
+		test2.becomeWorkingCopy(null);
+		try {
+			String source= test2.getBuffer().getContents();
+			test2.getBuffer().setContents(source.replace("@Test ", ""));
+			test2.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertTestFound(fProject, "p.Test1");
+
+			// method bodies do not change the tests
+			source= test2.getBuffer().getContents();
+			test2.getBuffer().setContents(source.replace("testFoo() {", "testFoo() {\n        int i= 0;"));
+			test2.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertTestFound(fProject, "p.Test1");
+		} finally {
+			test2.discardWorkingCopy();
+		}
+		assertTestFound(fProject, "p.Test1", "p.Test2");
+		assertEquals(misses, fIndex.getMissCount());
+	}
+
+	@Test
+	public void testChangeInSuperTypeUnit() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String source= "package p;\n"
+				+ "import org.junit.Test;\n"
+				+ "public abstract class Base {\n"
+				+ "    @Test public void testFoo() {\n"
+				+ "    }\n"
+				+ "}\n";
+		ICompilationUnit baseUnit= p.createCompilationUnit("Base.java", source, false, null);
+		p.createCompilationUnit("Sub.java", "package p;\npublic class Sub extends Base {\n}\n", false, null);
+		assertTestFound(fProject, "p.Sub");
+		int misses= fIndex.getMissCount();
+
+		baseUnit.becomeWorkingCopy(null);
+		try {
+			baseUnit.getBuffer().setContents(source.replace("@Test ", ""));
+			baseUnit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertTestFound(fProject);
+			assertEquals(misses + 1, fIndex.getMissCount());
+
+			baseUnit.getBuffer().setContents(source);
+			baseUnit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertTestFound(fProject, "p.Sub");
+
+			baseUnit.getBuffer().setContents(source.replace("@Test ", ""));
+			baseUnit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertTestFound(fProject);
+		} finally {
+			baseUnit.discardWorkingCopy();
+		}
+		// the discarded working copy does not tell which members changed
+		assertTestFound(fProject, "p.Sub");
+	}
+
+	@Test
+	public void testChangeInRequiredProject() throws Exception {
+		IJavaProject base= createProject("TestSearchIndexBase");
+		try {
+			IPackageFragment b= JavaProjectHelper.addSourceContainer(base, "src").createPackageFragment("b", true, null);
+			String source= "package b;\n"
+					+ "import org.junit.Test;\n"
+					+ "public abstract class Base {\n"
+					+ "    @Test public void testFoo() {\n"
+					+ "    }\n"
+					+ "}\n";
+			ICompilationUnit baseUnit= b.createCompilationUnit("Base.java", source, false, null);
+			JavaProjectHelper.addRequiredProject(fProject, base);
+
+			IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+			p.createCompilationUnit("Sub.java", "package p;\npublic class Sub extends b.Base {\n}\n", false, null);
+			assertTestFound(fProject, "p.Sub");
+
+			baseUnit.getBuffer().setContents(source.replace("@Test ", ""));
+			baseUnit.save(null, true);
+			assertTestFound(fProject);
+		} finally {
+			JavaProjectHelper.delete(base);
+		}
+	}
+}
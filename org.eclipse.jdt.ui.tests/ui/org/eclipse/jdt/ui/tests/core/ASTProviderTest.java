@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,16 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -40,7 +49,10 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
@@ -141,6 +153,113 @@ public class ASTProviderTest extends CoreTests {
 		cu.getBuffer().save(null, true);
 	}
 
+	@Test
+	public void testGetASTAsync() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E1 {\n");
+		buf.append("}\n");
+		final ICompilationUnit cu= pack1.createCompilationUnit("E1.java", buf.toString(), false, null);
+
+		JavaUI.openInEditor(cu);
+
+		CompletableFuture<CompilationUnit> future= SharedASTProviderCore.getASTAsync(cu, ForkJoinPool.commonPool());
+		CompilationUnit ast= future.get(30, TimeUnit.SECONDS);
+		assertNotNull(ast);
+		assertEquals(cu, ast.getJavaElement());
+		assertEquals("E1", ((TypeDeclaration) ast.types().get(0)).getName().getIdentifier());
+	}
+
+	@Test
+	public void testGetASTAsyncOfInactiveElement() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E2 {\n");
+		buf.append("}\n");
+		final ICompilationUnit cu= pack1.createCompilationUnit("E2.java", buf.toString(), false, null);
+
+		CompletableFuture<CompilationUnit> future= SharedASTProviderCore.getASTAsync(cu, ForkJoinPool.commonPool());
+		CompilationUnit ast= future.get(30, TimeUnit.SECONDS);
+		assertNotNull(ast);
+		assertEquals(cu, ast.getJavaElement());
+
+		// the created AST is shared with later requests
+		assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null));
+		assertSame(ast, SharedASTProviderCore.getASTAsync(cu, ForkJoinPool.commonPool()).get(30, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testGetASTAsyncOfActiveElementWithoutReconcile() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E3 {\n");
+		buf.append("}\n");
+		final ICompilationUnit cu= pack1.createCompilationUnit("E3.java", buf.toString(), false, null);
+
+		CoreASTProvider provider= CoreASTProvider.getInstance();
+		ITypeRoot previous= provider.getActiveJavaElement();
+		provider.disposeAST();
+		provider.setActiveJavaElement(cu);
+		try {
+			CountDownLatch latch= new CountDownLatch(1);
+			Executor blocked= command -> ForkJoinPool.commonPool().execute(() -> {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				command.run();
+			});
+			CompletableFuture<CompilationUnit> first= provider.getASTAsync(cu, blocked);
+			CompletableFuture<CompilationUnit> second= provider.getASTAsync(cu, ForkJoinPool.commonPool());
+			// the creation of the AST is not reported as a reconcile of the element
+			assertFalse(cu.equals(provider.getReconcilingJavaElement()));
+			latch.countDown();
+
+			CompilationUnit ast= first.get(30, TimeUnit.SECONDS);
+			assertNotNull(ast);
+			assertSame(ast, second.get(30, TimeUnit.SECONDS));
+			assertSame(ast, provider.getCachedAST());
+			assertFalse(cu.equals(provider.getReconcilingJavaElement()));
+		} finally {
+			provider.disposeAST();
+			provider.setActiveJavaElement(previous);
+		}
+	}
+
+	@Test
+	public void testCachedASTOfReconciledWorkingCopy() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E1 {\n");
+		buf.append("}\n");
+		final ICompilationUnit cu= pack1.createCompilationUnit("E1.java", buf.toString(), false, null);
+
+		cu.becomeWorkingCopy(null);
+		try {
+			CompilationUnit ast= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+			assertNotNull(ast);
+			assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null));
+
+			// modify and reconcile the working copy without saving it
+			String contents= cu.getBuffer().getContents();
+			int offset= contents.indexOf('}');
+			cu.getBuffer().replace(offset, 0, "  int a;\n");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			CompilationUnit newAST= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+			assertNotNull(newAST);
+			assertNotSame(ast, newAST);
+			assertEquals(1, ((TypeDeclaration) newAST.types().get(0)).getFields().length);
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
 	private static String getNormalizeNumber(int number) {
 		if (number < 10) {
 			return "000" + number;
@@ -48,12 +48,14 @@ PartialASTTest.class,
 ScopeAnalyzerTest.class,
 TemplateStoreTest.class,
 TypeHierarchyTest.class,
+SuperTypeHierarchyCacheTest.class,
 TypeHierarchyViewPartTest.class,
 TypeRulesTest.class,
 TypeInfoTest.class,
 StringsTest.class,
 IndentManipulationTest.class,
 SelectionHistoryTest.class,
+HistoryJournalTest.class,
 ASTProviderTest.class,
 JDTFlagsTest18.class,
 })
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.w3c.dom.Element;
+
+import org.eclipse.jdt.internal.corext.util.JournaledHistory;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+public class HistoryJournalTest {
+
+	private static final String FILE_NAME= "HistoryJournalTest.xml";
+
+	private static final String ROOT= "testHistory";
+
+	private static final String INFO= "entry";
+
+	private static final class TestHistory extends JournaledHistory<String, String> {
+
+		/** The objects read from the journal that were not removed by a later record. */
+		final Set<String> fRead= new HashSet<>();
+
+		public TestHistory() {
+			super(FILE_NAME, ROOT, INFO);
+			load();
+		}
+
+		@Override
+		protected void setAttributes(Object object, Element element) {
+			element.setAttribute("name", (String) object);
+		}
+
+		@Override
+		protected String createFromElement(Element element) {
+			return element.getAttribute("name");
+		}
+
+		@Override
+		protected String getKey(String object) {
+			return object;
+		}
+
+		@Override
+		protected void write(String object, DataOutput out) throws IOException {
+			out.writeUTF(object);
+		}
+
+		@Override
+		protected String read(DataInput in) throws IOException {
+			String object= in.readUTF();
+			fRead.add(object);
+			return object;
+		}
+
+		@Override
+		protected void readRemoved(String object) {
+			fRead.remove(object);
+		}
+
+		String[] getEntries() {
+			return getValues().toArray(new String[0]);
+		}
+	}
+
+	private File fXMLFile;
+
+	private File fJournalFile;
+
+	@Before
+	public void setUp() {
+		fXMLFile= JavaPlugin.getDefault().getStateLocation().append(FILE_NAME).toFile();
+		fJournalFile= JavaPlugin.getDefault().getStateLocation().append("HistoryJournalTest.journal").toFile();
+		tearDown();
+	}
+
+	@After
+	public void tearDown() {
+		fXMLFile.delete();
+		fJournalFile.delete();
+	}
+
+	@Test
+	public void testSaveAndLoad() throws Exception {
+		TestHistory history= new TestHistory();
+		assertTrue(history.isEmpty());
+		history.accessed("a");
+		history.accessed("b");
+		history.accessed("c");
+		history.accessed("a");
+		history.save();
+		assertTrue(fJournalFile.exists());
+
+		assertArrayEquals(new String[] { "b", "c", "a" }, new TestHistory().getEntries());
+	}
+
+	@Test
+	public void testAppend() throws Exception {
+		TestHistory history= new TestHistory();
+		history.accessed("a");
+		history.accessed("b");
+		history.save();
+		long length= fJournalFile.length();
+
+		history.accessed("c");
+		history.remove("a");
+		history.save();
+		assertTrue(fJournalFile.length() > length);
+
+		history= new TestHistory();
+		assertArrayEquals(new String[] { "b", "c" }, history.getEntries());
+		assertEquals(1, history.getPosition("c"));
+	}
+
+	@Test
+	public void testReadRemoved() throws Exception {
+		TestHistory history= new TestHistory();
+		history.accessed("a");
+		history.accessed("b");
+		history.save();
+		history.remove("a");
+		history.save();
+
+		history= new TestHistory();
+		assertArrayEquals(new String[] { "b" }, history.getEntries());
+		assertEquals(Collections.singleton("b"), history.fRead);
+	}
+
+	@Test
+	public void testCompaction() throws Exception {
+		TestHistory history= new TestHistory();
+		for (int i= 0; i < 1000; i++) {
+			history.accessed(Integer.toString(i % 3));
+			if (i % 50 == 0)
+				history.save();
+		}
+		history.save();
+		assertTrue(fJournalFile.length() < 4000);
+
+		assertArrayEquals(history.getEntries(), new TestHistory().getEntries());
+	}
+
+	@Test
+	public void testIncompleteRecord() throws Exception {
+		TestHistory history= new TestHistory();
+		history.accessed("a");
+		history.accessed("b");
+		history.save();
+		try (RandomAccessFile file= new RandomAccessFile(fJournalFile, "rw")) {
+			file.setLength(file.length() - 1);
+		}
+
+		history= new TestHistory();
+		assertArrayEquals(new String[] { "a" }, history.getEntries());
+		history.accessed("c");
+		history.save();
+
+		assertArrayEquals(new String[] { "a", "c" }, new TestHistory().getEntries());
+	}
+
+	@Test
+	public void testCorruptRecordLength() throws Exception {
+		TestHistory history= new TestHistory();
+		history.accessed("a");
+		history.save();
+		long length= fJournalFile.length();
+		history.accessed("b");
+		history.save();
+		try (RandomAccessFile file= new RandomAccessFile(fJournalFile, "rw")) {
+			// the length of the record of "b"
+			file.seek(length + 1);
+			file.writeInt(Integer.MAX_VALUE);
+		}
+
+		history= new TestHistory();
+		assertArrayEquals(new String[] { "a" }, history.getEntries());
+		history.accessed("c");
+		history.save();
+
+		assertArrayEquals(new String[] { "a", "c" }, new TestHistory().getEntries());
+	}
+
+	@Test
+	public void testMigrateXML() throws Exception {
+		String xml= "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<" + ROOT + ">\n"
+				+ "<" + INFO + " name=\"x\"/>\n"
+				+ "<" + INFO + " name=\"y\"/>\n"
+				+ "</" + ROOT + ">\n";
+		Files.write(fXMLFile.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+
+		TestHistory history= new TestHistory();
+		assertArrayEquals(new String[] { "x", "y" }, history.getEntries());
+		history.save();
+		assertTrue(fJournalFile.exists());
+		assertFalse(fXMLFile.exists());
+
+		assertArrayEquals(new String[] { "x", "y" }, new TestHistory().getEntries());
+	}
+}
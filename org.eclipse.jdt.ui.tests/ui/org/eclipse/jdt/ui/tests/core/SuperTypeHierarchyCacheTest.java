@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SuperTypeHierarchyCacheTest {
+
+	private static final long TIMEOUT= 10000;
+
+	/**
+	 * A progress monitor that blocks the hierarchy computation until it is released, and then
+	 * optionally cancels it.
+	 */
+	private static class BlockingProgressMonitor extends NullProgressMonitor {
+		private final CountDownLatch fStarted= new CountDownLatch(1);
+		private final CountDownLatch fReleased= new CountDownLatch(1);
+		private final boolean fCancel;
+
+		BlockingProgressMonitor(boolean cancel) {
+			fCancel= cancel;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fStarted.countDown();
+			try {
+				fReleased.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (fCancel)
+				setCanceled(true);
+		}
+
+		void awaitStarted() throws InterruptedException {
+			assertTrue("computation not started", fStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		}
+
+		void release() {
+			fReleased.countDown();
+		}
+	}
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack= root.createPackageFragment("pack1", true, null);
+		SuperTypeHierarchyCache.flushCache();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SuperTypeHierarchyCache.flushCache();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void testSingleComputation() throws Exception {
+		IType type= createTypes();
+		long misses= SuperTypeHierarchyCache.getCacheMisses();
+
+		BlockingProgressMonitor monitor= new BlockingProgressMonitor(false);
+		FutureTask<ITypeHierarchy> first= startComputation(type, monitor);
+		monitor.awaitStarted();
+		FutureTask<ITypeHierarchy> second= startComputation(type, null);
+		monitor.release();
+
+		ITypeHierarchy hierarchy= get(first);
+		assertNotNull(hierarchy);
+		assertSame(hierarchy, get(second));
+		assertEquals(1, SuperTypeHierarchyCache.getCacheMisses() - misses);
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(type));
+	}
+
+	@Test
+	public void testCanceledComputation() throws Exception {
+		IType type= createTypes();
+		long misses= SuperTypeHierarchyCache.getCacheMisses();
+
+		BlockingProgressMonitor monitor= new BlockingProgressMonitor(true);
+		FutureTask<ITypeHierarchy> first= startComputation(type, monitor);
+		monitor.awaitStarted();
+		FutureTask<ITypeHierarchy> second= startComputation(type, null);
+		monitor.release();
+
+		try {
+			get(first);
+			fail("computation not canceled");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof OperationCanceledException);
+		}
+		// the waiting thread computes the hierarchy itself
+		ITypeHierarchy hierarchy= get(second);
+		assertNotNull(hierarchy);
+		assertTrue(hierarchy.contains(type));
+		assertEquals(1, SuperTypeHierarchyCache.getCacheMisses() - misses);
+		assertTrue(SuperTypeHierarchyCache.hasInCache(type));
+	}
+
+	@Test
+	public void testContainedType() throws Exception {
+		IType type= createTypes();
+		IType superType= fPack.getCompilationUnit("B.java").getType("B");
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(type);
+		assertTrue(hierarchy.contains(superType));
+
+		// the hierarchy of the sub type is found for its super type
+		long misses= SuperTypeHierarchyCache.getCacheMisses();
+		assertTrue(SuperTypeHierarchyCache.hasInCache(superType));
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(superType));
+		assertEquals(misses, SuperTypeHierarchyCache.getCacheMisses());
+
+		SuperTypeHierarchyCache.flushCache();
+		assertFalse(SuperTypeHierarchyCache.hasInCache(type));
+		assertFalse(SuperTypeHierarchyCache.hasInCache(superType));
+	}
+
+	@Test
+	public void testSuperTypeChange() throws Exception {
+		IType type= createTypes();
+		ICompilationUnit other= fPack.getCompilationUnit("D.java");
+		other.createType("public class D {\n}\n", null, true, null);
+		IType otherType= other.getType("D");
+
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(type);
+		SuperTypeHierarchyCache.getTypeHierarchy(otherType);
+
+		// a change of a type that is not in the hierarchy keeps it
+		modify(other, "public class D {\n    int fField;\n}\n");
+		assertTrue(SuperTypeHierarchyCache.hasInCache(type));
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(type));
+
+		// a change of the super types of a type in the hierarchy removes it
+		IType superType= fPack.getCompilationUnit("B.java").getType("B");
+		modify(superType.getCompilationUnit(), "public class B extends D {\n}\n");
+		assertFalse(SuperTypeHierarchyCache.hasInCache(type));
+		assertFalse(SuperTypeHierarchyCache.hasInCache(superType));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(otherType));
+
+		hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(type);
+		assertTrue(hierarchy.contains(otherType));
+	}
+
+	private IType createTypes() throws Exception {
+		fPack.getCompilationUnit("B.java").createType("public class B {\n}\n", null, true, null);
+		ICompilationUnit cu= fPack.getCompilationUnit("A.java");
+		return cu.createType("public class A extends B {\n}\n", null, true, null);
+	}
+
+	private static void modify(ICompilationUnit cu, String contents) throws Exception {
+		ICompilationUnit workingCopy= cu.getWorkingCopy(null);
+		try {
+			workingCopy.getBuffer().setContents("package pack1;\n" + contents);
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			workingCopy.commitWorkingCopy(true, null);
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
+	private static FutureTask<ITypeHierarchy> startComputation(IType type, BlockingProgressMonitor monitor) throws InterruptedException {
+		FutureTask<ITypeHierarchy> task= new FutureTask<>(() -> SuperTypeHierarchyCache.getTypeHierarchy(type, monitor));
+		Thread thread= new Thread(task, "SuperTypeHierarchyCacheTest");
+		thread.setDaemon(true);
+		thread.start();
+		if (monitor == null) {
+			// wait until the thread waits for the pending computation
+			long end= System.currentTimeMillis() + TIMEOUT;
+			while (thread.getState() != Thread.State.WAITING) {
+				assertTrue("thread not waiting", System.currentTimeMillis() < end);
+				Thread.sleep(10);
+			}
+		}
+		return task;
+	}
+
+	private static ITypeHierarchy get(FutureTask<ITypeHierarchy> task) throws Exception {
+		return task.get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,15 +21,20 @@
 package org.eclipse.jdt.ui.tests.jarexport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -262,6 +267,21 @@ public class FatJarExportTests {
 			}
 			assertEquals("loader is a class file", 0xCAFEBABE, magic); //$NON-NLS-1$
 			assertEquals("loader compiled with JDK 1.6", "50.0", majorVersion + "." + minorVersion); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+			// nested jars are stored, so that the loader can read them through the index
+			boolean hasNestedJars= false;
+			for (Enumeration<? extends ZipEntry> entries= generatedArchive.entries(); entries.hasMoreElements();) {
+				ZipEntry entry= entries.nextElement();
+				if (entry.getName().endsWith(".jar")) { //$NON-NLS-1$
+					assertEquals(entry.getName(), ZipEntry.STORED, entry.getMethod());
+					hasNestedJars= true;
+				}
+			}
+			if (hasNestedJars) {
+				ZipEntry indexEntry= generatedArchive.getEntry("META-INF/JARINJAR.IDX"); //$NON-NLS-1$
+				assertNotNull(indexEntry);
+				assertEquals(ZipEntry.STORED, indexEntry.getMethod());
+			}
 		}
 
 		MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, 0, "", null); //$NON-NLS-1$
@@ -986,6 +1006,98 @@ public class FatJarExportTests {
 		}
 	}
 
+	@Test
+	public void signedLibNotIndexed() throws Exception {
+		File lib= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB_SIG);
+		IPackageFragmentRoot root= JavaProjectHelper.addLibraryWithImport(fProject, Path.fromOSString(lib.getPath()), null, null);
+
+		try {
+			// the loader must not define the classes of a signed library without its signers
+			JarPackageData data= createAndRunFatJar(fProject, getName(), true, new PackageLibraryHandler());
+			try (ZipFile generatedArchive= new ZipFile(data.getAbsoluteJarLocation().toFile())) {
+				assertNotNull(generatedArchive.getEntry("mylib_sig.jar")); //$NON-NLS-1$
+				ZipEntry indexEntry= generatedArchive.getEntry("META-INF/JARINJAR.IDX"); //$NON-NLS-1$
+				if (indexEntry != null) {
+					try (InputStream in= generatedArchive.getInputStream(indexEntry)) {
+						Set<String> indexedJars= readIndexedJars(in);
+						assertFalse(indexedJars.toString(), indexedJars.contains("mylib_sig.jar")); //$NON-NLS-1$
+					}
+				}
+			}
+		} finally {
+			JavaProjectHelper.removeFromClasspath(fProject, root.getPath());
+		}
+	}
+
+	@Test
+	public void indexedClassPathOrder() throws Exception {
+		File lib= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB_STDOUT);
+		IPackageFragmentRoot root= JavaProjectHelper.addLibraryWithImport(fProject, Path.fromOSString(lib.getPath()), null, null);
+
+		try {
+			// the project declares mylib.Foo as well, it comes first in the class path
+			StringBuilder buf= new StringBuilder();
+			buf.append("package mylib;\n"); //$NON-NLS-1$
+			buf.append("public class Foo {\n"); //$NON-NLS-1$
+			buf.append("    public Foo() {\n"); //$NON-NLS-1$
+			buf.append("        System.out.println(\"created project \" + Foo.class.getName());\n"); //$NON-NLS-1$
+			buf.append("    }\n"); //$NON-NLS-1$
+			buf.append("}\n"); //$NON-NLS-1$
+			fMainRoot.createPackageFragment("mylib", true, null).createCompilationUnit("Foo.java", buf.toString(), true, null); //$NON-NLS-1$ //$NON-NLS-2$
+
+			// the manifest of the runnable jar comes before the one of the library
+			buf= new StringBuilder();
+			buf.append("package org.eclipse.jdt.ui.test;\n"); //$NON-NLS-1$
+			buf.append("import java.io.InputStream;\n"); //$NON-NLS-1$
+			buf.append("import java.util.jar.Manifest;\n"); //$NON-NLS-1$
+			buf.append("import mylib.Foo;\n"); //$NON-NLS-1$
+			buf.append("public class Main {\n"); //$NON-NLS-1$
+			buf.append("    public static void main(String[] args) throws Exception {\n"); //$NON-NLS-1$
+			buf.append("        new Foo();\n"); //$NON-NLS-1$
+			buf.append("        InputStream in= Thread.currentThread().getContextClassLoader().getResourceAsStream(\"META-INF/MANIFEST.MF\");\n"); //$NON-NLS-1$
+			buf.append("        Manifest manifest= new Manifest(in);\n"); //$NON-NLS-1$
+			buf.append("        in.close();\n"); //$NON-NLS-1$
+			buf.append("        System.out.println(manifest.getMainAttributes().getValue(\"Rsrc-Main-Class\"));\n"); //$NON-NLS-1$
+			buf.append("        System.out.println(Main.class.getClassLoader().getResource(\"mylib/Foo.class\"));\n"); //$NON-NLS-1$
+			buf.append("    }\n"); //$NON-NLS-1$
+			buf.append("}\n"); //$NON-NLS-1$
+			fMainRoot.getPackageFragment("org.eclipse.jdt.ui.test").createCompilationUnit("Main.java", buf.toString(), true, null); //$NON-NLS-1$ //$NON-NLS-2$
+
+			JarPackageData data= assertFatJarWithLoaderExport(fProject, getName(), true, new PackageLibraryHandler());
+			try (ZipFile generatedArchive= new ZipFile(data.getAbsoluteJarLocation().toFile())) {
+				assertNotNull(generatedArchive.getEntry("META-INF/JARINJAR.IDX")); //$NON-NLS-1$
+			}
+			String stdout= runJar(fProject, data.getJarLocation().toOSString());
+			stdout= stdout.replaceAll("\r\n", "\n").replaceAll("\r", "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			String expected= "created project mylib.Foo\n" //$NON-NLS-1$
+					+ "org.eclipse.jdt.ui.test.Main\n" //$NON-NLS-1$
+					+ "rsrc:mylib/Foo.class\n"; //$NON-NLS-1$
+			assertEquals(expected, stdout);
+		} finally {
+			JavaProjectHelper.removeFromClasspath(fProject, root.getPath());
+		}
+	}
+
+	private static Set<String> readIndexedJars(InputStream stream) throws Exception {
+		DataInputStream in= new DataInputStream(stream);
+		in.readInt(); // magic
+		in.readInt(); // version
+		int jarCount= in.readInt();
+		Set<String> result= new HashSet<>();
+		for (int i= 0; i < jarCount; i++) {
+			result.add(in.readUTF());
+			int entryCount= in.readInt();
+			for (int j= 0; j < entryCount; j++) {
+				in.readUTF();
+				in.readInt();
+				in.readLong();
+				in.readLong();
+				in.readLong();
+			}
+		}
+		return result;
+	}
+
 	@Test
 	public void externalClassFolder() throws Exception {
 		File classFolder= JavaTestPlugin.getDefault().getFileInPlugin(new Path("testresources/externalClassFolder/"));//$NON-NLS-1$
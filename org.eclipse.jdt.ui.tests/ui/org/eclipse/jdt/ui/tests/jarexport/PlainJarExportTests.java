@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,26 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.jarexport;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -53,6 +62,7 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.jarpackager.ParallelJarOutputStream;
 
 import org.eclipse.jdt.ui.jarpackager.IJarExportRunnable;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
@@ -160,6 +170,89 @@ public class PlainJarExportTests {
 		assertEquals(expected.toString(), entries.toString());
 	}
 
+	@Test
+	public void exportTwice() throws Exception {
+		JarPackageData data= createJarPackageData();
+		data.setElements(new Object[] { fCU.getResource() });
+		data.setExportClassFiles(true);
+		data.setCompress(true);
+
+		byte[] mainClass;
+		try (ZipFile jar= createArchive(data)) {
+			mainClass= readEntry(jar, "org/eclipse/jdt/ui/test/Main.class");
+		}
+		// the second export reuses the deflated entries of the first
+		try (ZipFile jar= createArchive(data)) {
+			assertEquals(4, getSortedEntries(jar).size());
+			assertArrayEquals(mainClass, readEntry(jar, "org/eclipse/jdt/ui/test/Main.class"));
+		}
+	}
+
+	@Test
+	public void parallelCompression() throws Exception {
+		byte[][] contents= new byte[200][];
+		for (int i= 0; i < contents.length; i++) {
+			StringBuilder buf= new StringBuilder();
+			for (int j= 0; j < 50 * i; j++) {
+				buf.append("line ").append(j % (i + 1)).append('\n');
+			}
+			contents[i]= buf.toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+		ByteArrayOutputStream sequential= new ByteArrayOutputStream();
+		try (JarOutputStream out= new JarOutputStream(sequential)) {
+			for (int i= 0; i < contents.length; i++) {
+				out.putNextEntry(createEntry(i));
+				out.write(contents[i]);
+				if (i == 10)
+					out.putNextEntry(createEntry(-1));
+			}
+		}
+		ByteArrayOutputStream parallel= new ByteArrayOutputStream();
+		try (ParallelJarOutputStream out= new ParallelJarOutputStream(parallel, null, 4)) {
+			for (int i= 0; i < contents.length; i++) {
+				out.putEntry(createEntry(i), new ByteArrayInputStream(contents[i]));
+				if (i == 10)
+					out.putNextEntry(createEntry(-1));
+			}
+		}
+		assertArrayEquals(sequential.toByteArray(), parallel.toByteArray());
+
+		File file= ResourcesPlugin.getWorkspace().getRoot().getLocation().append(getName() + ".jar").toFile();
+		try {
+			Files.write(file.toPath(), parallel.toByteArray());
+			contents[5]= "changed".getBytes(StandardCharsets.UTF_8);
+			try (ParallelJarOutputStream out= ParallelJarOutputStream.create(file, null)) {
+				for (int i= 0; i < contents.length; i++) {
+					out.putEntry(createEntry(i), new ByteArrayInputStream(contents[i]));
+				}
+				out.finish();
+				assertEquals(contents.length - 1, out.getReusedEntryCount());
+			}
+			try (ZipFile jar= new ZipFile(file)) {
+				for (int i= 0; i < contents.length; i++) {
+					assertArrayEquals(contents[i], readEntry(jar, createEntry(i).getName()));
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static JarEntry createEntry(int i) {
+		JarEntry entry= new JarEntry(i < 0 ? "dir/" : "dir/file" + i + ".txt");
+		entry.setTime(1000000000000L);
+		return entry;
+	}
+
+	private static byte[] readEntry(ZipFile jar, String name) throws IOException {
+		ZipEntry entry= jar.getEntry(name);
+		assertNotNull(name, entry);
+		try (InputStream in= jar.getInputStream(entry)) {
+			return in.readAllBytes();
+		}
+	}
+
 	private JarPackageData createJarPackageData() {
 		JarPackageData data= new JarPackageData();
 		data.setJarLocation(ResourcesPlugin.getWorkspace().getRoot().getLocation().append(getName() + ".jar"));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,10 +45,14 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 public class CleanUpStressTest extends CleanUpTestCase {
 
 	@Rule
@@ -5246,6 +5250,34 @@ public class CleanUpStressTest extends CleanUpTestCase {
 		List<IJavaElement> cus= new ArrayList<>();
 		addAllCUs(getProject().getChildren(), cus);
 
+		enableAllCleanUps();
+
+		ICompilationUnit[] units= cus.toArray(new ICompilationUnit[cus.size()]);
+		performRefactoring(units, null);
+
+
+//		generateTable(units);
+		assertContentAsExpected(units);
+	}
+
+	@Test
+	public void testAllCleanUpsInParallel() throws Exception {
+		List<IJavaElement> cus= new ArrayList<>();
+		addAllCUs(getProject().getChildren(), cus);
+
+		enableAllCleanUps();
+
+		ICompilationUnit[] units= cus.toArray(new ICompilationUnit[cus.size()]);
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(4);
+		ICleanUp[] cleanUps= JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps();
+		performRefactoring(ref, units, cleanUps, null);
+
+		assertContentAsExpected(units);
+	}
+
+	private void enableAllCleanUps() throws CoreException {
 		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS);
 		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS);
 		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_METHOD_USE_THIS);
@@ -5298,12 +5330,9 @@ public class CleanUpStressTest extends CleanUpTestCase {
 
 		enable(CleanUpConstants.REMOVE_REDUNDANT_MODIFIERS);
 		enable(CleanUpConstants.REMOVE_REDUNDANT_SEMICOLONS);
+	}
 
-		ICompilationUnit[] units= cus.toArray(new ICompilationUnit[cus.size()]);
-		performRefactoring(units, null);
-
-
-//		generateTable(units);
+	private void assertContentAsExpected(ICompilationUnit[] units) throws JavaModelException {
 		for (ICompilationUnit cu : units) {
 			String previewContent= getNormalizedContent(new Document(cu.getBuffer().getContents()));
 			String compilationUnitName= getCompilationUnitName(cu);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,40 +13,277 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.dom;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.IBinding;
 
+import org.eclipse.jdt.internal.corext.util.ConcurrentTasks;
+
 /**
  * Creates AST from a set of compilation units. Uses the
  * batch parser. Splits the set of compilation units in subsets
  * such that it is unlikely that a out of memory exception will occur.
+ * <p>
+ * The size of each subset is planned right before it is parsed, from the
+ * length of the sources of the compilation units, a fixed binding cost per
+ * compilation unit and the heap which was live after the last garbage collection.
+ * The estimated memory needed per source character is adjusted to the live heap
+ * measured while the batches parsed so far were still referenced by the parser.
+ * </p>
  *
  * @since 3.4
  */
 public class ASTBatchParser {
 
-	private static final int MAX_AT_ONCE;
-	static {
-		long maxMemory= Runtime.getRuntime().maxMemory() / (1 << 20); // in MiB
+	/**
+	 * Upper bound of compilation units parsed at once, even if they are small.
+	 */
+	private static final int MAX_AT_ONCE= 1000;
+
+	/**
+	 * Estimated retained heap in bytes per source character, including bindings.
+	 */
+	private static final long INITIAL_BYTES_PER_CHAR= 400;
+
+	private static final long MIN_BYTES_PER_CHAR= 100;
+
+	private static final long MAX_BYTES_PER_CHAR= 4000;
+
+	/**
+	 * Estimated binding cost of a compilation unit independent of its size, in characters.
+	 */
+	private static final long UNIT_OVERHEAD_CHARS= 4000;
+
+	/**
+	 * Length assumed for compilation units whose size cannot be determined cheaply.
+	 */
+	private static final long DEFAULT_UNIT_CHARS= 8000;
+
+	/**
+	 * Lower bound of the budget of a batch in characters, such that a heap which is
+	 * nearly exhausted does not lead to batches of single compilation units.
+	 */
+	private static final long MIN_BATCH_BUDGET= 10 * (DEFAULT_UNIT_CHARS + UNIT_OVERHEAD_CHARS);
+
+	/**
+	 * Part of the free heap which may be used by one batch.
+	 */
+	private static final double HEAP_FRACTION= 0.5;
+
+	/**
+	 * Part of a batch which must have been parsed when the live heap is measured, such that
+	 * the estimate is not adjusted to the first few compilation units of a batch.
+	 */
+	private static final double MIN_MEASURED_FRACTION= 0.25;
+
+	/**
+	 * Progress monitor which serializes all calls to the wrapped monitor. Used when
+	 * batches are parsed concurrently. The lock is the wrapped monitor itself, such that
+	 * requestors can synchronize on the monitor they handed in.
+	 */
+	private static final class SynchronizedProgressMonitor extends ProgressMonitorWrapper {
+
+		private final Object fLock;
+
+		SynchronizedProgressMonitor(IProgressMonitor monitor) {
+			super(monitor);
+			fLock= monitor;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			// the task is owned by the caller of createASTs
+		}
+
+		@Override
+		public void done() {
+			// the task is owned by the caller of createASTs
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			synchronized (fLock) {
+				super.internalWorked(work);
+			}
+		}
+
+		@Override
+		public void worked(int work) {
+			synchronized (fLock) {
+				super.worked(work);
+			}
+		}
+
+		@Override
+		public void subTask(String name) {
+			synchronized (fLock) {
+				super.subTask(name);
+			}
+		}
+
+		@Override
+		public void setTaskName(String name) {
+			synchronized (fLock) {
+				super.setTaskName(name);
+			}
+		}
+
+		@Override
+		public boolean isCanceled() {
+			synchronized (fLock) {
+				return super.isCanceled();
+			}
+		}
+
+		@Override
+		public void setCanceled(boolean value) {
+			synchronized (fLock) {
+				super.setCanceled(value);
+			}
+		}
+	}
+
+	/**
+	 * Progress monitor which measures the live heap when the heap has been collected while
+	 * the parser reports progress. The parser then still references the ASTs and bindings of
+	 * the compilation units parsed so far. After the batch they are released, and the live
+	 * heap would not show them anymore.
+	 */
+	private static final class LiveHeapMonitor extends ProgressMonitorWrapper {
+
+		private long fCollections;
+		private int fTotalWork= IProgressMonitor.UNKNOWN;
+		private double fWorked;
+
+		private long fPeakLiveHeap= -1;
+		private double fPeakFraction;
+
+		LiveHeapMonitor(IProgressMonitor monitor, long collections) {
+			super(monitor);
+			fCollections= collections;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fTotalWork= totalWork;
+			super.beginTask(name, totalWork);
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			fWorked+= work;
+			measure();
+			super.internalWorked(work);
+		}
+
+		@Override
+		public void worked(int work) {
+			fWorked+= work;
+			measure();
+			super.worked(work);
+		}
+
+		private void measure() {
+			long collections= getCollectionCount();
+			if (collections == fCollections)
+				return;
+			fCollections= collections;
+			long liveHeap= getLiveHeap();
+			if (liveHeap > fPeakLiveHeap) {
+				fPeakLiveHeap= liveHeap;
+				fPeakFraction= fTotalWork > 0 ? Math.min(1, fWorked / fTotalWork) : 1;
+			}
+		}
+
+		/**
+		 * @return the highest live heap measured while the batch was parsed, or <code>-1</code>
+		 *         if the heap has not been collected
+		 */
+		long getPeakLiveHeap() {
+			return fPeakLiveHeap;
+		}
+
+		/**
+		 * @return the part of the batch which was parsed when the peak was measured
+		 */
+		double getPeakFraction() {
+			return fPeakFraction;
+		}
+	}
+
+	private int fParallelism= 1;
+
+	private volatile long fBytesPerChar= INITIAL_BYTES_PER_CHAR;
+
+	private final List<ASTBatchStatistics> fStatistics= Collections.synchronizedList(new ArrayList<ASTBatchStatistics>());
 
-		if      (maxMemory >= 2000) MAX_AT_ONCE= 400;
-		else if (maxMemory >= 1500) MAX_AT_ONCE= 300;
-		else if (maxMemory >= 1000) MAX_AT_ONCE= 200;
-		else if (maxMemory >=  500) MAX_AT_ONCE= 100;
-		else                        MAX_AT_ONCE=  25;
+	/**
+	 * Sets the number of batches which may be parsed concurrently. The default is
+	 * <code>1</code>, i.e. all batches are parsed sequentially in the calling thread.
+	 * <p>
+	 * If the parallelism is greater than one, the compilation units of each project are
+	 * split into smaller batches which are parsed on a bounded pool of worker threads.
+	 * The memory budget of a batch is divided by the parallelism such that the ASTs held
+	 * in memory at the same time do not exceed the sequential mode. The <code>ASTRequestor</code> passed to
+	 * {@link #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)}
+	 * must then be thread safe. Calls to the progress monitor are synchronized on the
+	 * monitor passed to <code>createASTs</code>.
+	 * </p>
+	 *
+	 * @param parallelism the maximal number of batches parsed at the same time, must be
+	 *            greater than zero
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException(String.valueOf(parallelism));
+		fParallelism= parallelism;
+	}
+
+	/**
+	 * @return the maximal number of batches parsed at the same time
+	 * @see #setParallelism(int)
+	 */
+	public int getParallelism() {
+		return fParallelism;
+	}
+
+	/**
+	 * Returns timing and memory information about the batches parsed so far by this parser,
+	 * in the order in which the batches were completed.
+	 *
+	 * @return the statistics of all parsed batches
+	 */
+	public List<ASTBatchStatistics> getStatistics() {
+		synchronized (fStatistics) {
+			return new ArrayList<>(fStatistics);
+		}
 	}
 
 	/**
@@ -76,22 +313,19 @@ public class ASTBatchParser {
 
 		monitor.beginTask("", compilationUnits.length); //$NON-NLS-1$
 		try {
+			if (fParallelism > 1 && compilationUnits.length > 1) {
+				createASTsInParallel(compilationUnits, bindingKeys, requestor, monitor);
+				return;
+			}
 
 			for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
-				if (units.length <= MAX_AT_ONCE) {
-					createParser(units[0].getJavaProject()).createASTs(units, bindingKeys, requestor, new SubProgressMonitor(monitor, units.length));
-				} else {
-					List<ICompilationUnit> list= Arrays.asList(units);
-					int end= 0;
-					int cursor= 0;
-					while (cursor < units.length) {
-						end= Math.min(end + MAX_AT_ONCE, units.length);
-						List<ICompilationUnit> toParse= list.subList(cursor, end);
-
-						createParser(units[0].getJavaProject()).createASTs(toParse.toArray(new ICompilationUnit[toParse.size()]), bindingKeys, requestor,
-							new SubProgressMonitor(monitor, toParse.size()));
-						cursor= end;
-					}
+				long[] lengths= getSourceLengths(units);
+				int cursor= 0;
+				while (cursor < units.length) {
+					int end= getBatchEnd(lengths, cursor, getBatchBudget(1));
+					ICompilationUnit[] batch= Arrays.copyOfRange(units, cursor, end);
+					parseBatch(batch, sum(lengths, cursor, end), bindingKeys, requestor, new SubProgressMonitor(monitor, batch.length), true);
+					cursor= end;
 				}
 			}
 		} finally {
@@ -99,6 +333,191 @@ public class ASTBatchParser {
 		}
 	}
 
+	private void createASTsInParallel(ICompilationUnit[] compilationUnits, final String[] bindingKeys, final ASTRequestor requestor, IProgressMonitor monitor) {
+		final IProgressMonitor syncMonitor= new SynchronizedProgressMonitor(monitor);
+
+		// Keep the memory used by all concurrent batches comparable to the sequential case
+		long budget= getBatchBudget(fParallelism);
+
+		List<ICompilationUnit[]> batches= new ArrayList<>();
+		List<Long> batchLengths= new ArrayList<>();
+		for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
+			long[] lengths= getSourceLengths(units);
+			// Give every worker something to do, even if the whole project fits into one budget
+			long projectBudget= Math.min(budget, Math.max(1, (sum(lengths, 0, units.length) + fParallelism - 1) / fParallelism));
+			int cursor= 0;
+			while (cursor < units.length) {
+				int end= getBatchEnd(lengths, cursor, projectBudget);
+				batches.add(Arrays.copyOfRange(units, cursor, end));
+				batchLengths.add(Long.valueOf(sum(lengths, cursor, end)));
+				cursor= end;
+			}
+		}
+
+		ExecutorService executor= ConcurrentTasks.newExecutor("AST Batch Parser", Math.min(fParallelism, batches.size())); //$NON-NLS-1$
+		try {
+			List<Future<?>> futures= new ArrayList<>(batches.size());
+			for (int i= 0; i < batches.size(); i++) {
+				final ICompilationUnit[] batch= batches.get(i);
+				final long length= batchLengths.get(i).longValue();
+				futures.add(executor.submit(() -> {
+					if (syncMonitor.isCanceled())
+						throw new OperationCanceledException();
+					parseBatch(batch, length, bindingKeys, requestor, new SubProgressMonitor(syncMonitor, batch.length), false);
+				}));
+			}
+			for (Future<?> future : futures) {
+				ConcurrentTasks.join(future);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void parseBatch(ICompilationUnit[] batch, long sourceLength, String[] bindingKeys, ASTRequestor requestor, IProgressMonitor monitor, boolean adapt) {
+		IJavaProject project= batch[0].getJavaProject();
+		long collectionsBefore= getCollectionCount();
+		long usedBefore= getLiveHeap();
+		long start= System.currentTimeMillis();
+
+		// Heap deltas of concurrent batches cannot be attributed, only learn from sequential ones.
+		LiveHeapMonitor liveHeapMonitor= adapt && collectionsBefore >= 0 ? new LiveHeapMonitor(monitor, collectionsBefore) : null;
+		createParser(project).createASTs(batch, bindingKeys, requestor, liveHeapMonitor != null ? liveHeapMonitor : monitor);
+
+		long elapsed= System.currentTimeMillis() - start;
+		long usedAfter= getLiveHeap();
+		fStatistics.add(new ASTBatchStatistics(project.getElementName(), batch.length, sourceLength, elapsed, usedBefore, usedAfter));
+
+		// The live heap is only known if the heap was collected while the batch was referenced.
+		if (liveHeapMonitor != null && liveHeapMonitor.getPeakLiveHeap() >= 0 && liveHeapMonitor.getPeakFraction() >= MIN_MEASURED_FRACTION) {
+			double cost= (sourceLength + batch.length * UNIT_OVERHEAD_CHARS) * liveHeapMonitor.getPeakFraction();
+			long observed= (long) (Math.max(0, liveHeapMonitor.getPeakLiveHeap() - usedBefore) / cost);
+			long estimate= (fBytesPerChar + observed) / 2;
+			fBytesPerChar= Math.max(MIN_BYTES_PER_CHAR, Math.min(MAX_BYTES_PER_CHAR, estimate));
+		}
+	}
+
+	/**
+	 * Returns the budget of a batch, measured in source characters, which can be
+	 * parsed with the heap that is not live.
+	 *
+	 * @param concurrentBatches the number of batches sharing the free heap
+	 * @return the budget of a batch, at least {@link #MIN_BATCH_BUDGET}
+	 */
+	private long getBatchBudget(int concurrentBatches) {
+		Runtime runtime= Runtime.getRuntime();
+		long headroom= runtime.maxMemory() - getLiveHeap();
+		long budget= (long) (headroom * HEAP_FRACTION) / fBytesPerChar / concurrentBatches;
+		return Math.max(MIN_BATCH_BUDGET, budget);
+	}
+
+	/**
+	 * Returns the heap which was used after the last garbage collection of each heap pool.
+	 * Unlike the currently used heap, this does not include garbage which has not been
+	 * collected yet.
+	 *
+	 * @return the live heap in bytes
+	 */
+	private static long getLiveHeap() {
+		long result= 0;
+		boolean found= false;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+				MemoryUsage usage= pool.getCollectionUsage();
+				if (usage != null) {
+					result+= usage.getUsed();
+					found= true;
+				}
+			}
+		}
+		if (found)
+			return result;
+		// the virtual machine does not report the usage after collections
+		Runtime runtime= Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * @return the number of garbage collections so far, or <code>-1</code> if unknown
+	 */
+	private static long getCollectionCount() {
+		long result= 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			long count= collector.getCollectionCount();
+			if (count < 0)
+				return -1;
+			result+= count;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the end (exclusive) of the batch starting at <code>start</code>. The
+	 * batch contains at least one compilation unit.
+	 *
+	 * @param lengths the source lengths of the compilation units
+	 * @param start the index of the first compilation unit of the batch
+	 * @param budget the budget of the batch in characters
+	 * @return the index after the last compilation unit of the batch
+	 */
+	private static int getBatchEnd(long[] lengths, int start, long budget) {
+		int end= start;
+		long cost= 0;
+		while (end < lengths.length && end - start < MAX_AT_ONCE) {
+			cost+= lengths[end] + UNIT_OVERHEAD_CHARS;
+			if (cost > budget && end > start)
+				break;
+			end++;
+		}
+		return end;
+	}
+
+	private static long sum(long[] lengths, int start, int end) {
+		long result= 0;
+		for (int i= start; i < end; i++) {
+			result+= lengths[i];
+		}
+		return result;
+	}
+
+	private static long[] getSourceLengths(ICompilationUnit[] units) {
+		long[] result= new long[units.length];
+		for (int i= 0; i < units.length; i++) {
+			result[i]= getSourceLength(units[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Estimates the length of the source of the given compilation unit without
+	 * opening it.
+	 *
+	 * @param unit the compilation unit
+	 * @return the length of the buffer if the unit is open, the length of the
+	 *         underlying file otherwise
+	 */
+	private static long getSourceLength(ICompilationUnit unit) {
+		try {
+			if (unit.isOpen()) {
+				IBuffer buffer= unit.getBuffer();
+				if (buffer != null)
+					return buffer.getLength();
+			}
+			IResource resource= unit.getResource();
+			if (resource != null) {
+				IPath location= resource.getLocation();
+				if (location != null) {
+					long length= location.toFile().length();
+					if (length > 0)
+						return length;
+				}
+			}
+		} catch (JavaModelException e) {
+			// use the default
+		}
+		return DEFAULT_UNIT_CHARS;
+	}
+
 	/**
 	 * Creates a new parser which can be used to create ASTs
 	 * for compilation units in <code>project</code>
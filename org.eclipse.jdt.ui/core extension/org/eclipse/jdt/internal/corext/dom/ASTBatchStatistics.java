@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.dom;
+
+/**
+ * Timing and memory information about one batch of compilation units
+ * parsed by an {@link ASTBatchParser}.
+ *
+ * @see ASTBatchParser#getStatistics()
+ * @since 3.27
+ */
+public final class ASTBatchStatistics {
+
+	private final String fProjectName;
+	private final int fUnitCount;
+	private final long fSourceLength;
+	private final long fElapsedTime;
+	private final long fUsedHeapBefore;
+	private final long fUsedHeapAfter;
+
+	ASTBatchStatistics(String projectName, int unitCount, long sourceLength, long elapsedTime, long usedHeapBefore, long usedHeapAfter) {
+		fProjectName= projectName;
+		fUnitCount= unitCount;
+		fSourceLength= sourceLength;
+		fElapsedTime= elapsedTime;
+		fUsedHeapBefore= usedHeapBefore;
+		fUsedHeapAfter= usedHeapAfter;
+	}
+
+	/**
+	 * @return the name of the project the compilation units belong to
+	 */
+	public String getProjectName() {
+		return fProjectName;
+	}
+
+	/**
+	 * @return the number of compilation units in the batch
+	 */
+	public int getUnitCount() {
+		return fUnitCount;
+	}
+
+	/**
+	 * @return the estimated number of characters of all compilation units in the batch
+	 */
+	public long getSourceLength() {
+		return fSourceLength;
+	}
+
+	/**
+	 * @return the time in milliseconds needed to create and process the ASTs of the batch
+	 */
+	public long getElapsedTime() {
+		return fElapsedTime;
+	}
+
+	/**
+	 * @return the heap in bytes which was live after the last garbage collection before the
+	 *         batch was parsed
+	 */
+	public long getUsedHeapBefore() {
+		return fUsedHeapBefore;
+	}
+
+	/**
+	 * @return the heap in bytes which was live after the last garbage collection when the
+	 *         batch was parsed
+	 */
+	public long getUsedHeapAfter() {
+		return fUsedHeapAfter;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buf= new StringBuilder();
+		buf.append(fProjectName);
+		buf.append(": ").append(fUnitCount).append(" units, "); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append(fSourceLength).append(" chars, "); //$NON-NLS-1$
+		buf.append(fElapsedTime).append(" ms, heap "); //$NON-NLS-1$
+		buf.append(fUsedHeapBefore >> 20).append(" -> ").append(fUsedHeapAfter >> 20).append(" MiB"); //$NON-NLS-1$ //$NON-NLS-2$
+		return buf.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -69,8 +69,10 @@ import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
+import org.eclipse.jdt.internal.corext.dom.ASTBatchStatistics;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationStateChange;
@@ -88,7 +90,9 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
+import org.eclipse.jdt.internal.ui.fix.IThreadSafeCleanUp;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
 
@@ -244,17 +248,26 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * Calculates the solutions for the accepted compilation units. Can be called
+	 * concurrently by a parallel {@link ASTBatchParser}, calls to the progress
+	 * monitor are synchronized on the monitor. The fixes of clean ups which are not
+	 * {@link IThreadSafeCleanUp}s are calculated for one compilation unit at a time.
+	 */
 	private static class CleanUpASTRequestor extends ASTRequestor {
 
-		private final List<ParseListElement> fUndoneElements;
+		private final List<ParseListElement> fParseList;
+		private final Hashtable<ICompilationUnit, ParseListElement> fUndoneElements;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ParseListElement> fCompilationUnitParseElementMap;
 		private final CleanUpRefactoringProgressMonitor fMonitor;
+		private final Object fCleanUpLock= new Object();
 
 		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
+			fParseList= parseList;
 			fSolutions= solutions;
 			fMonitor= monitor;
-			fUndoneElements= new ArrayList<>();
+			fUndoneElements= new Hashtable<>();
 			fCompilationUnitParseElementMap= new Hashtable<>(parseList.size());
 			for (ParseListElement element : parseList) {
 				fCompilationUnitParseElementMap.put(element.getTarget().getCompilationUnit(), element);
@@ -264,7 +277,9 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		@Override
 		public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
 
-			fMonitor.subTask(fMonitor.getSubTaskMessage(source));
+			synchronized (fMonitor) {
+				fMonitor.subTask(fMonitor.getSubTaskMessage(source));
+			}
 
 			ICompilationUnit primary= (ICompilationUnit)source.getPrimaryElement();
 			ParseListElement element= fCompilationUnitParseElementMap.get(primary);
@@ -278,11 +293,13 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 			ICleanUp[] rejectedCleanUps= calculateSolutions(context, element.getCleanUps());
 
-			if (rejectedCleanUps.length > 0) {
-				fUndoneElements.add(new ParseListElement(target, rejectedCleanUps));
-				fMonitor.reset();
-			} else {
-				fMonitor.flush();
+			synchronized (fMonitor) {
+				if (rejectedCleanUps.length > 0) {
+					fUndoneElements.put(primary, new ParseListElement(target, rejectedCleanUps));
+					fMonitor.reset();
+				} else {
+					fMonitor.flush();
+				}
 			}
 		}
 
@@ -290,15 +307,31 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			acceptAST(source, null);
 		}
 
+		/**
+		 * @return the elements which need another pass, in the order of the parse list such
+		 *         that the result does not depend on the order in which ASTs were accepted
+		 */
 		public List<ParseListElement> getUndoneElements() {
-			return fUndoneElements;
+			List<ParseListElement> result= new ArrayList<>(fUndoneElements.size());
+			for (ParseListElement element : fParseList) {
+				ParseListElement undone= fUndoneElements.get(element.getTarget().getCompilationUnit());
+				if (undone != null)
+					result.add(undone);
+			}
+			return result;
 		}
 
 		private ICleanUp[] calculateSolutions(CleanUpContext context, ICleanUp[] cleanUps) {
 			List<ICleanUp>result= new ArrayList<>();
 			CleanUpChange solution;
 			try {
-				solution= calculateChange(context, cleanUps, result, null);
+				if (isThreadSafe(cleanUps)) {
+					solution= calculateChange(context, cleanUps, result, null);
+				} else {
+					synchronized (fCleanUpLock) {
+						solution= calculateChange(context, cleanUps, result, null);
+					}
+				}
 			} catch (CoreException e) {
 				throw new FixCalculationException(e);
 			}
@@ -310,21 +343,32 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return result.toArray(new ICleanUp[result.size()]);
 		}
 
+		private static boolean isThreadSafe(ICleanUp[] cleanUps) {
+			for (ICleanUp cleanUp : cleanUps) {
+				if (!(cleanUp instanceof IThreadSafeCleanUp))
+					return false;
+			}
+			return true;
+		}
+
 		private void integrateSolution(CleanUpChange solution, ICompilationUnit source) {
 			ICompilationUnit primary= source.getPrimary();
 
-			List<CleanUpChange> changes= fSolutions.get(primary);
-			if (changes == null) {
-				changes= new ArrayList<>();
-				fSolutions.put(primary, changes);
+			synchronized (fSolutions) {
+				List<CleanUpChange> changes= fSolutions.get(primary);
+				if (changes == null) {
+					changes= new ArrayList<>();
+					fSolutions.put(primary, changes);
+				}
+				changes.add(solution);
 			}
-			changes.add(solution);
 		}
 	}
 
 	private class CleanUpFixpointIterator {
 
 		private List<ParseListElement> fParseList;
+		private final List<ICompilationUnit> fTargetUnits;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
@@ -336,8 +380,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			fWorkingCopies= new Hashtable<>();
 
 			fParseList= new ArrayList<>(targets.length);
+			fTargetUnits= new ArrayList<>(targets.length);
 			for (CleanUpTarget target : targets) {
 				fParseList.add(new ParseListElement(target, cleanUps));
+				fTargetUnits.add(target.getCompilationUnit());
 			}
 
 			fCleanUpOptions= new Hashtable<>();
@@ -394,12 +440,18 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 							return result;
 						}
 					};
+					parser.setParallelism(fParallelism);
 					try {
 						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
 						parser.createASTs(units, new String[0], requestor, cuMonitor);
 					} catch (FixCalculationException e) {
 						throw e.getException();
 					}
+					if (JavaPlugin.DEBUG_AST_BATCH_PARSER) {
+						for (ASTBatchStatistics statistics : parser.getStatistics()) {
+							System.out.println("CleanUpRefactoring batch: " + statistics); //$NON-NLS-1$
+						}
+					}
 				}
 
 				for (ICompilationUnit cu : sourceList) {
@@ -441,9 +493,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			// Report the changes in the order of the targets, independent of the order in which they were calculated
+			for (ICompilationUnit unit : fTargetUnits) {
+				List<CleanUpChange> changes= fSolutions.get(unit);
+				if (changes == null)
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -501,6 +555,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * Whether clean ups implementing {@link IFusedCleanUp} share a single traversal of the AST.
+	 * Off by default, enabled with the system property
+	 * <code>org.eclipse.jdt.ui.cleanup.fusedTraversal=true</code>.
+	 */
+	private static final boolean FUSED_TRAVERSAL= Boolean.getBoolean("org.eclipse.jdt.ui.cleanup.fusedTraversal"); //$NON-NLS-1$
+
+	/**
+	 * Default number of worker threads used to create ASTs and calculate fixes. The
+	 * default of <code>1</code> processes all compilation units sequentially.
+	 */
+	private static final int DEFAULT_PARALLELISM= Math.max(1, Integer.getInteger("org.eclipse.jdt.ui.cleanup.parallelism", 1).intValue()); //$NON-NLS-1$
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -509,6 +576,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private int fParallelism;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -518,12 +587,32 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelism= DEFAULT_PARALLELISM;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the number of worker threads used to create the ASTs and to calculate the fixes
+	 * of the compilation units of a project. The resulting change does not depend on the
+	 * number of threads. The fixes are only calculated concurrently if all clean ups of a
+	 * compilation unit are {@link IThreadSafeCleanUp}s, otherwise only the ASTs are created
+	 * in parallel.
+	 *
+	 * @param parallelism the number of worker threads, <code>1</code> to process all
+	 *            compilation units in the calling thread
+	 * @see ASTBatchParser#setParallelism(int)
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism= Math.max(1, parallelism);
+	}
+
+	public int getParallelism() {
+		return fParallelism;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -758,6 +847,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		if (cleanUps.length == 0)
 			return null;
 
+		long traversalStart= System.currentTimeMillis();
+		IFusedCleanUp.FixCollector[] collectors= createFixCollectors(context, cleanUps);
+		// the time of the shared traversal is split evenly among the clean ups taking part in it
+		long fusedTime= 0;
+		if (collectors != null) {
+			int fusedCount= 0;
+			for (IFusedCleanUp.FixCollector collector : collectors) {
+				if (collector != null)
+					fusedCount++;
+			}
+			fusedTime= (System.currentTimeMillis() - traversalStart) / fusedCount;
+		}
+
 		CleanUpChange solution= null;
 		int i= 0;
 		do {
@@ -765,11 +867,14 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			ICleanUpFix fix;
 			if (slowCleanUps != null) {
 				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
-				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
+				fix= createFix(context, cleanUp, collectors, i);
+				long time= System.currentTimeMillis() - timeBefore;
+				if (collectors != null && collectors[i] != null)
+					time+= fusedTime;
+				if (time > SLOW_CLEAN_UP_THRESHOLD)
 					slowCleanUps.add(cleanUp);
 			} else {
-				fix= cleanUp.createFix(context);
+				fix= createFix(context, cleanUp, collectors, i);
 			}
 			if (fix != null) {
 				CompilationUnitChange current= fix.createChange(null);
@@ -803,6 +908,60 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		return solution;
 	}
 
+	private static ICleanUpFix createFix(CleanUpContext context, ICleanUp cleanUp, IFusedCleanUp.FixCollector[] collectors, int index) throws CoreException {
+		if (collectors != null && collectors[index] != null)
+			return collectors[index].createFix();
+
+		return cleanUp.createFix(context);
+	}
+
+	/**
+	 * Runs the visitors of all clean ups which implement {@link IFusedCleanUp} and work on the AST
+	 * of the given context in a single traversal of the AST.
+	 *
+	 * @param context the context
+	 * @param cleanUps the clean ups, as passed to
+	 *            {@link #calculateChange(CleanUpContext, ICleanUp[], List, HashSet)}
+	 * @return the collectors indexed like <code>cleanUps</code>, or <code>null</code> if all clean
+	 *         ups have to create their fix on their own
+	 * @throws CoreException if a clean up failed
+	 */
+	private static IFusedCleanUp.FixCollector[] createFixCollectors(CleanUpContext context, ICleanUp[] cleanUps) throws CoreException {
+		CompilationUnit ast= context.getAST();
+		if (!FUSED_TRAVERSAL || ast == null)
+			return null;
+
+		// the clean ups following one which requires a fresh AST are not run on this AST
+		int end= 1;
+		while (end < cleanUps.length && !cleanUps[end].getRequirements().requiresFreshAST())
+			end++;
+
+		IFusedCleanUp.FixCollector[] collectors= null;
+		FusedASTVisitor fused= new FusedASTVisitor();
+		for (int i= 0; i < end; i++) {
+			if (cleanUps[i] instanceof IFusedCleanUp) {
+				IFusedCleanUp.FixCollector collector= ((IFusedCleanUp) cleanUps[i]).createFixCollector(context, fused);
+				if (collector != null) {
+					if (collectors == null)
+						collectors= new IFusedCleanUp.FixCollector[cleanUps.length];
+					collectors[i]= collector;
+				}
+			}
+		}
+		if (collectors == null)
+			return null;
+
+		try {
+			ast.accept(fused);
+		} catch (OperationCanceledException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			// let each clean up search on its own, such that the failure is reported by the failing clean up only
+			return null;
+		}
+		return collectors;
+	}
+
 	private static void copyChangeGroups(CompilationUnitChange target, CompilationUnitChange source) {
 		for (TextEditBasedChangeGroup changeGroup : source.getChangeGroups()) {
 			TextEditGroup textEditGroup= changeGroup.getTextEditGroup();
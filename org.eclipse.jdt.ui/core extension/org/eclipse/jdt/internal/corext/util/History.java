@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,16 +13,27 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -62,7 +73,14 @@ import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
  * MAX_HISTORY_SIZE. If the list exceeds this size the eldest element is removed
  * from the list. An element can be added/renewed with a call to <code>accessed(Object)</code>.
  *
- * The history can be stored to/loaded from an xml file.
+ * The history can be stored to/loaded from an xml file. Subclasses of
+ * {@link JournaledHistory} are stored in a binary journal file instead, to which
+ * each save only appends the changes since the last save. The journal is compacted when it
+ * contains many more records than entries, and replaces an existing xml file of the history
+ * on the first save.
+ * <p>
+ * The file is loaded lazily on first access after {@link #load()} has been called.
+ * </p>
  *
  * @param <K> key type
  * @param <V> value type
@@ -73,6 +91,33 @@ public abstract class History<K, V> {
 	private static final String DEFAULT_INFO_NODE_NAME= "infoNode"; //$NON-NLS-1$
 	private static final int MAX_HISTORY_SIZE= 60;
 
+	private static final String XML_FILE_EXTENSION= ".xml"; //$NON-NLS-1$
+	private static final String JOURNAL_FILE_EXTENSION= ".journal"; //$NON-NLS-1$
+	private static final int JOURNAL_MAGIC= 0x4A484953;
+	private static final int JOURNAL_VERSION= 1;
+	private static final byte RECORD_ACCESSED= 1;
+	private static final byte RECORD_REMOVED= 2;
+
+	/**
+	 * The journal is compacted on save when it would contain more records than this.
+	 */
+	private static final int MAX_JOURNAL_RECORDS= 4 * MAX_HISTORY_SIZE;
+
+	/**
+	 * Maximal length of a journal record. A longer record indicates a corrupt journal.
+	 */
+	private static final int MAX_RECORD_LENGTH= 64 * 1024;
+
+	private static final class Record<V> {
+		final byte fKind;
+		final V fObject;
+
+		Record(byte kind, V object) {
+			fKind= kind;
+			fObject= object;
+		}
+	}
+
 	private static JavaUIException createException(Throwable t, String message) {
 		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, t));
 	}
@@ -83,6 +128,15 @@ public abstract class History<K, V> {
 	private final String fRootNodeName;
 	private final String fInfoNodeName;
 
+	/** <code>true</code> if {@link #load()} was called and the file has not been read yet */
+	private boolean fLoadPending;
+	/** Changes which are not yet appended to the journal */
+	private final List<Record<V>> fPendingRecords= new ArrayList<>();
+	/** Number of records in the journal file */
+	private int fJournalRecords;
+	/** <code>true</code> if the journal has to be rewritten on the next save */
+	private boolean fCompactionRequested;
+
 	public History(String fileName, String rootNodeName, String infoNodeName) {
 		fHistory= new LinkedHashMap<K, V>(80, 0.75f, true) {
 			private static final long serialVersionUID= 1L;
@@ -102,31 +156,42 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void accessed(V object) {
+		ensureLoaded();
 		fHistory.put(getKey(object), object);
 		rebuildPositions();
+		addRecord(RECORD_ACCESSED, object);
 	}
 
 	public synchronized boolean contains(V object) {
+		ensureLoaded();
 		return fHistory.containsKey(getKey(object));
 	}
 
 	public synchronized boolean containsKey(K key) {
+		ensureLoaded();
 		return fHistory.containsKey(key);
 	}
 
 	public synchronized boolean isEmpty() {
+		ensureLoaded();
 		return fHistory.isEmpty();
 	}
 
 	public synchronized Object remove(V object) {
-		Object removed= fHistory.remove(getKey(object));
+		ensureLoaded();
+		V removed= fHistory.remove(getKey(object));
 		rebuildPositions();
+		if (removed != null)
+			addRecord(RECORD_REMOVED, removed);
 		return removed;
 	}
 
 	public synchronized Object removeKey(Object key) {
-		Object removed= fHistory.remove(key);
+		ensureLoaded();
+		V removed= fHistory.remove(key);
 		rebuildPositions();
+		if (removed != null)
+			addRecord(RECORD_REMOVED, removed);
 		return removed;
 	}
 
@@ -164,7 +229,36 @@ public abstract class History<K, V> {
 		return fPositions.get(key);
 	}
 
+	/**
+	 * Requests to load the history from its file. The file is read on the first access
+	 * of the history.
+	 */
 	public synchronized void load() {
+		fLoadPending= true;
+	}
+
+	/**
+	 * Reads the history file if {@link #load()} has been called and the file has not been
+	 * read yet.
+	 */
+	protected final synchronized void ensureLoaded() {
+		if (!fLoadPending)
+			return;
+		fLoadPending= false;
+
+		if (isJournaled()) {
+			File journal= getJournalFile();
+			if (journal.exists()) {
+				loadJournal(journal);
+				return;
+			}
+			// migrate the history from the xml file on the next save
+			fCompactionRequested= true;
+		}
+		loadXML();
+	}
+
+	private void loadXML() {
 		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
 		File file= stateLocation.toFile();
 		if (file.exists()) {
@@ -186,6 +280,14 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void save() {
+		if (isJournaled()) {
+			// nothing can have changed if the history has not been loaded
+			if (!fLoadPending)
+				saveJournal();
+			return;
+		}
+		ensureLoaded();
+
 		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
 		File file= stateLocation.toFile();
 		OutputStream out= null;
@@ -208,13 +310,24 @@ public abstract class History<K, V> {
 	}
 
 	protected Set<K> getKeys() {
+		ensureLoaded();
 		return fHistory.keySet();
 	}
 
 	protected Collection<V> getValues() {
+		ensureLoaded();
 		return fHistory.values();
 	}
 
+	/**
+	 * Requests to rewrite the whole journal on the next save. Subclasses call this if
+	 * information stored with an entry has changed without accessing the entry.
+	 */
+	protected final synchronized void requestCompaction() {
+		fCompactionRequested= true;
+		fPendingRecords.clear();
+	}
+
 	/**
 	 * Store <code>Object</code> in <code>Element</code>
 	 *
@@ -239,6 +352,122 @@ public abstract class History<K, V> {
 	 */
 	protected abstract K getKey(V object);
 
+	private boolean isJournaled() {
+		return this instanceof JournaledHistory;
+	}
+
+	@SuppressWarnings("unchecked")
+	private JournaledHistory<K, V> getJournaled() {
+		return (JournaledHistory<K, V>) this;
+	}
+
+	private void addRecord(byte kind, V object) {
+		if (!isJournaled() || fCompactionRequested)
+			return;
+		if (fJournalRecords + fPendingRecords.size() >= MAX_JOURNAL_RECORDS)
+			requestCompaction();
+		else
+			fPendingRecords.add(new Record<>(kind, object));
+	}
+
+	private File getJournalFile() {
+		String name= fFileName;
+		if (name.endsWith(XML_FILE_EXTENSION))
+			name= name.substring(0, name.length() - XML_FILE_EXTENSION.length());
+		return JavaPlugin.getDefault().getStateLocation().append(name + JOURNAL_FILE_EXTENSION).toFile();
+	}
+
+	private void loadJournal(File file) {
+		int records= 0;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != JOURNAL_MAGIC || in.readInt() != JOURNAL_VERSION)
+				throw new IOException("Unknown journal format"); //$NON-NLS-1$
+			while (true) {
+				int kind= in.read();
+				if (kind == -1)
+					break;
+				int length= in.readInt();
+				if ((kind != RECORD_ACCESSED && kind != RECORD_REMOVED) || length < 0 || length > MAX_RECORD_LENGTH) {
+					// the journal is corrupt from here on, drop the rest with the next save
+					fCompactionRequested= true;
+					break;
+				}
+				byte[] data= new byte[length];
+				in.readFully(data);
+				records++;
+				V object= getJournaled().read(new DataInputStream(new ByteArrayInputStream(data)));
+				if (object == null)
+					continue;
+				if (kind == RECORD_ACCESSED)
+					fHistory.put(getKey(object), object);
+				else if (kind == RECORD_REMOVED) {
+					fHistory.remove(getKey(object));
+					getJournaled().readRemoved(object);
+				}
+			}
+		} catch (EOFException e) {
+			// the last record is incomplete, drop it with the next save
+			fCompactionRequested= true;
+		} catch (IOException e) {
+			fCompactionRequested= true;
+			JavaPlugin.log(createException(e, Messages.format(CorextMessages.History_error_journal_read, BasicElementLabels.getResourceName(file.getName()))));
+		}
+		fJournalRecords= records;
+		rebuildPositions();
+	}
+
+	private void saveJournal() {
+		if (!fCompactionRequested && fPendingRecords.isEmpty())
+			return;
+
+		File file= getJournalFile();
+		try {
+			if (fCompactionRequested || !file.exists()) {
+				List<Record<V>> records= new ArrayList<>(fHistory.size());
+				for (V object : fHistory.values())
+					records.add(new Record<>(RECORD_ACCESSED, object));
+
+				File temp= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+				writeJournal(temp, records, false);
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				fJournalRecords= records.size();
+
+				// the journal replaces the xml file
+				File xml= JavaPlugin.getDefault().getStateLocation().append(fFileName).toFile();
+				if (xml.exists() && !xml.equals(file))
+					xml.delete();
+			} else {
+				writeJournal(file, fPendingRecords, true);
+				fJournalRecords+= fPendingRecords.size();
+			}
+			fPendingRecords.clear();
+			fCompactionRequested= false;
+		} catch (IOException e) {
+			// rewrite the whole journal on the next save
+			requestCompaction();
+			JavaPlugin.log(createException(e, Messages.format(CorextMessages.History_error_journal_write, BasicElementLabels.getResourceName(file.getName()))));
+		}
+	}
+
+	private void writeJournal(File file, List<Record<V>> records, boolean append) throws IOException {
+		ByteArrayOutputStream data= new ByteArrayOutputStream();
+		DataOutputStream dataOut= new DataOutputStream(data);
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append)))) {
+			if (!append) {
+				out.writeInt(JOURNAL_MAGIC);
+				out.writeInt(JOURNAL_VERSION);
+			}
+			for (Record<V> record : records) {
+				data.reset();
+				getJournaled().write(record.fObject, dataOut);
+				dataOut.flush();
+				out.writeByte(record.fKind);
+				out.writeInt(data.size());
+				data.writeTo(out);
+			}
+		}
+	}
+
 	private void rebuildPositions() {
 		fPositions.clear();
 		int pos=0;
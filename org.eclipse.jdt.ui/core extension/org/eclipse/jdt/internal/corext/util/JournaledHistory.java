@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link History} which is stored in a binary journal instead of an xml file. Each save
+ * only appends the changes since the last save. An existing xml file of the history is read
+ * once and replaced by the journal on the first save.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public abstract class JournaledHistory<K, V> extends History<K, V> {
+
+	public JournaledHistory(String fileName, String rootNodeName, String infoNodeName) {
+		super(fileName, rootNodeName, infoNodeName);
+	}
+
+	public JournaledHistory(String fileName) {
+		super(fileName);
+	}
+
+	/**
+	 * Writes the given object to a journal record.
+	 *
+	 * @param object the object to write
+	 * @param out the output to write to
+	 * @throws IOException if writing fails
+	 */
+	protected abstract void write(V object, DataOutput out) throws IOException;
+
+	/**
+	 * Reads an object from a journal record written by {@link #write(Object, DataOutput)}.
+	 *
+	 * @param in the input to read from
+	 * @return the object or <code>null</code> if it does not exist anymore
+	 * @throws IOException if reading fails
+	 */
+	protected abstract V read(DataInput in) throws IOException;
+
+	/**
+	 * Called when a journal record read by {@link #read(DataInput)} removes the object from the
+	 * history. Releases any state that was created for the object while reading it.
+	 *
+	 * @param object the removed object
+	 */
+	protected void readRemoved(V object) {
+		// nothing to release by default
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
  package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -57,7 +60,7 @@ import org.eclipse.jdt.internal.corext.CorextMessages;
 /**
  * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
  */
-public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
+public class OpenTypeHistory extends JournaledHistory<TypeNameMatch, TypeNameMatch> {
 
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
@@ -244,6 +247,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	@Override
 	public synchronized void accessed(TypeNameMatch info) {
+		ensureLoaded();
 		// Fetching the timestamp might not be cheap (remote file system
 		// external Jars. So check if we alreay have one.
 		if (!fTimestampMapping.containsKey(info)) {
@@ -254,11 +258,13 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	@Override
 	public synchronized TypeNameMatch remove(TypeNameMatch info) {
+		ensureLoaded();
 		fTimestampMapping.remove(info);
 		return (TypeNameMatch)super.remove(info);
 	}
 
 	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		ensureLoaded();
 		fTimestampMapping.remove(old);
 		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
 		super.remove(old);
@@ -315,7 +321,9 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 					if (modifiers != type.getModifiers()) {
 						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
 					} else {
-						fTimestampMapping.put(type, currentTimestamp);
+						Long previous= fTimestampMapping.put(type, currentTimestamp);
+						if (previous == null || previous.longValue() != currentTimestamp)
+							requestCompaction();
 					}
 				}
 			} catch (JavaModelException e) {
@@ -397,7 +405,6 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		} catch (NumberFormatException e) {
 			// take zero
 		}
-		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		long timestamp= IResource.NULL_STAMP;
 		String timestampValue= type.getAttribute(NODE_TIMESTAMP);
 		if (timestampValue != null && timestampValue.length() > 0) {
@@ -407,12 +414,42 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				// take null stamp
 			}
 		}
+		return createTypeNameMatch((IType) element, modifiers, timestamp);
+	}
+
+	private TypeNameMatch createTypeNameMatch(IType type, int modifiers, long timestamp) {
+		TypeNameMatch info= SearchEngine.createTypeNameMatch(type, modifiers);
 		if (timestamp != IResource.NULL_STAMP) {
 			fTimestampMapping.put(info, timestamp);
 		}
 		return info;
 	}
 
+	@Override
+	protected void write(TypeNameMatch type, DataOutput out) throws IOException {
+		out.writeUTF(type.getType().getHandleIdentifier());
+		out.writeInt(type.getModifiers());
+		Long timestamp= fTimestampMapping.get(type);
+		out.writeLong(timestamp == null ? IResource.NULL_STAMP : timestamp.longValue());
+	}
+
+	@Override
+	protected TypeNameMatch read(DataInput in) throws IOException {
+		String handle= in.readUTF();
+		int modifiers= in.readInt();
+		long timestamp= in.readLong();
+
+		IJavaElement element= JavaCore.create(handle);
+		if (!(element instanceof IType))
+			return null;
+		return createTypeNameMatch((IType) element, modifiers, timestamp);
+	}
+
+	@Override
+	protected void readRemoved(TypeNameMatch type) {
+		fTimestampMapping.remove(type);
+	}
+
 	@Override
 	protected void setAttributes(Object object, Element typeElement) {
 		TypeNameMatch type= (TypeNameMatch) object;
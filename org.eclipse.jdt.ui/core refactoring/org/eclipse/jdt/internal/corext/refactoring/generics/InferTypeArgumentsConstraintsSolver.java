@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,14 @@ package org.eclipse.jdt.internal.corext.refactoring.generics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -61,6 +62,77 @@ public class InferTypeArgumentsConstraintsSolver {
 		public static TTypeComparator INSTANCE= new TTypeComparator();
 	}
 
+	/**
+	 * A first-in first-out work list that contains each constraint variable at most once. The
+	 * variables are numbered when they are first added, the queue is a ring buffer of these numbers.
+	 */
+	private static class WorkList {
+		private final Map<ConstraintVariable2, Integer> fIds= new IdentityHashMap<>();
+		private ConstraintVariable2[] fVariables;
+		private final BitSet fQueued= new BitSet();
+		private int[] fQueue;
+		private int fHead;
+		private int fSize;
+
+		public WorkList(int capacity) {
+			capacity= Math.max(capacity, 16);
+			fVariables= new ConstraintVariable2[capacity];
+			fQueue= new int[capacity];
+		}
+
+		public void add(ConstraintVariable2 cv) {
+			int id= getId(cv);
+			if (fQueued.get(id))
+				return;
+			fQueued.set(id);
+			fQueue[(fHead + fSize) % fQueue.length]= id;
+			fSize++;
+		}
+
+		public void addAll(ConstraintVariable2[] cvs) {
+			for (ConstraintVariable2 cv : cvs) {
+				add(cv);
+			}
+		}
+
+		public ConstraintVariable2 removeFirst() {
+			int id= fQueue[fHead];
+			fHead= (fHead + 1) % fQueue.length;
+			fSize--;
+			fQueued.clear(id);
+			return fVariables[id];
+		}
+
+		public boolean isEmpty() {
+			return fSize == 0;
+		}
+
+		public int size() {
+			return fSize;
+		}
+
+		private int getId(ConstraintVariable2 cv) {
+			Integer id= fIds.get(cv);
+			if (id != null)
+				return id.intValue();
+
+			int newId= fIds.size();
+			if (newId == fVariables.length) {
+				// each variable is queued at most once, so the queue never needs more slots than there are variables
+				int[] queue= new int[2 * newId];
+				for (int i= 0; i < fSize; i++) {
+					queue[i]= fQueue[(fHead + i) % fQueue.length];
+				}
+				fQueue= queue;
+				fHead= 0;
+				fVariables= Arrays.copyOf(fVariables, 2 * newId);
+			}
+			fVariables[newId]= cv;
+			fIds.put(cv, Integer.valueOf(newId));
+			return newId;
+		}
+	}
+
 	private final static String CHOSEN_TYPE= "chosenType"; //$NON-NLS-1$
 
 	private final InferTypeArgumentsTCModel fTCModel;
@@ -71,14 +143,13 @@ public class InferTypeArgumentsConstraintsSolver {
 	 * nodes in the constraint graph that remain to be (re-)processed. Entries
 	 * are <code>ConstraintVariable2</code>s.
 	 */
-	private LinkedList<ConstraintVariable2> fWorkList;
+	private WorkList fWorkList;
 
 	private InferTypeArgumentsUpdate fUpdate;
 
 
 	public InferTypeArgumentsConstraintsSolver(InferTypeArgumentsTCModel typeConstraintFactory) {
 		fTCModel= typeConstraintFactory;
-		fWorkList= new LinkedList<>();
 	}
 
 	public InferTypeArgumentsUpdate solveConstraints(IProgressMonitor pm) {
@@ -122,7 +193,8 @@ public class InferTypeArgumentsConstraintsSolver {
 		initializeTypeEstimates(allConstraintVariables);
 		if (pm.isCanceled())
 			throw new OperationCanceledException();
-		fWorkList.addAll(Arrays.asList(allConstraintVariables));
+		fWorkList= new WorkList(allConstraintVariables.length);
+		fWorkList.addAll(allConstraintVariables);
 		runSolver(new SubProgressMonitor(pm, 1));
 		chooseTypes(allConstraintVariables, new SubProgressMonitor(pm, 1));
 		findCastsToRemove(fTCModel.getCastVariables());
@@ -248,7 +320,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for LHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			leftSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(leftSet.getContributingVariables()));
+			fWorkList.addAll(leftSet.getContributingVariables());
 		}
 		if (! lhsSuperTypes.containsAll(rightEstimate)) {
 			TypeSet xsection= rightEstimate.intersectedWith(lhsSuperTypes);
@@ -257,7 +329,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for RHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			rightSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(rightSet.getContributingVariables()));
+			fWorkList.addAll(rightSet.getContributingVariables());
 		}
 	}
 
@@ -292,11 +364,14 @@ public class InferTypeArgumentsConstraintsSolver {
 
 		} else {
 			EnumeratedTypeSet lowerBound= typeEstimate.lowerBound().enumerate();
+			// the iteration order of the lower bound is not specified, choose independently of it
+			TType classCandidate= null;
 			ArrayList<TType> interfaceCandidates= null;
 			for (Iterator<TType> iter= lowerBound.iterator(); iter.hasNext();) {
 				TType type= iter.next();
 				if (! type.isInterface()) {
-					return type;
+					if (classCandidate == null || TTypeComparator.INSTANCE.compare(type, classCandidate) < 0)
+						classCandidate= type;
 				} else {
 					if (interfaceCandidates == null)
 						interfaceCandidates= new ArrayList<>(2);
@@ -304,7 +379,9 @@ public class InferTypeArgumentsConstraintsSolver {
 				}
 			}
 
-			if (interfaceCandidates == null || interfaceCandidates.isEmpty()) {
+			if (classCandidate != null) {
+				return classCandidate;
+			} else if (interfaceCandidates == null || interfaceCandidates.isEmpty()) {
 				return null;
 			} else if (interfaceCandidates.size() == 1) {
 				return interfaceCandidates.get(0);
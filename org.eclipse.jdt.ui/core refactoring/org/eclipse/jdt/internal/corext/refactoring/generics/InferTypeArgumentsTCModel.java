@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -76,9 +75,10 @@ public class InferTypeArgumentsTCModel {
 	 */
 	private HashMap<ConstraintVariable2, ConstraintVariable2> fConstraintVariables;
 	/**
-	 * Map from a {@link ITypeConstraint2} to itself.
+	 * Number of {@link ITypeConstraint2}s. The constraints themselves are only referenced from
+	 * the {@link #USED_IN} data of their constraint variables, see {@link #getAllTypeConstraints()}.
 	 */
-	private HashMap<ITypeConstraint2, ITypeConstraint2> fTypeConstraints;
+	private int fTypeConstraintCount;
 	private Collection<CastVariable2> fCastVariables;
 
 	private HashSet<ConstraintVariable2> fCuScopedConstraintVariables;
@@ -96,7 +96,6 @@ public class InferTypeArgumentsTCModel {
 
 
 	public InferTypeArgumentsTCModel() {
-		fTypeConstraints= new HashMap<>();
 		fConstraintVariables= new LinkedHashMap<>(); // make iteration independent of hashCode() implementation
 		fCastVariables= new ArrayList<>();
 
@@ -199,8 +198,17 @@ public class InferTypeArgumentsTCModel {
 	}
 
 	public ITypeConstraint2[] getAllTypeConstraints() {
-		Set<ITypeConstraint2> typeConstraints= fTypeConstraints.keySet();
-		return typeConstraints.toArray(new ITypeConstraint2[typeConstraints.size()]);
+		ITypeConstraint2[] result= new ITypeConstraint2[fTypeConstraintCount];
+		int i= 0;
+		for (ConstraintVariable2 cv : fConstraintVariables.keySet()) {
+			for (ITypeConstraint2 typeConstraint : getUsedIn(cv)) {
+				// every constraint is registered with both of its variables, report it once
+				if (typeConstraint.getLeft() == cv)
+					result[i++]= typeConstraint;
+			}
+		}
+		Assert.isTrue(i == fTypeConstraintCount);
+		return result;
 	}
 
 	public CastVariable2[] getCastVariables() {
@@ -214,18 +222,35 @@ public class InferTypeArgumentsTCModel {
 		ConstraintVariable2 storedCv1= storedCv(cv1);
 		ConstraintVariable2 storedCv2= storedCv(cv2);
 		ITypeConstraint2 typeConstraint= new SubTypeConstraint2(storedCv1, storedCv2);
+		if (isRegistered(storedCv1, storedCv2, typeConstraint))
+			return;
 
-		Object storedTc= fTypeConstraints.get(typeConstraint);
-		if (storedTc == null) {
-			fTypeConstraints.put(typeConstraint, typeConstraint);
-		} else {
-			typeConstraint= (ITypeConstraint2) storedTc;
-		}
-
+		fTypeConstraintCount++;
 		registerCvWithTc(storedCv1, typeConstraint);
 		registerCvWithTc(storedCv2, typeConstraint);
 	}
 
+	/**
+	 * Tells whether an equal type constraint already exists. Existing constraints are found
+	 * in the shorter of the {@link #USED_IN} lists of the two variables, which avoids a
+	 * global map of all constraints.
+	 *
+	 * @param storedCv1 the stored left variable of the constraint
+	 * @param storedCv2 the stored right variable of the constraint
+	 * @param typeConstraint the new constraint
+	 * @return <code>true</code> iff an equal constraint has already been registered
+	 */
+	private boolean isRegistered(ConstraintVariable2 storedCv1, ConstraintVariable2 storedCv2, ITypeConstraint2 typeConstraint) {
+		List<ITypeConstraint2> usedIn1= getUsedIn(storedCv1);
+		List<ITypeConstraint2> usedIn2= getUsedIn(storedCv2);
+		List<ITypeConstraint2> usedIn= usedIn1.size() <= usedIn2.size() ? usedIn1 : usedIn2;
+		for (ITypeConstraint2 existing : usedIn) {
+			if (typeConstraint.equals(existing))
+				return true;
+		}
+		return false;
+	}
+
 	private ConstraintVariable2 storedCv(ConstraintVariable2 cv) {
 		Object stored= fConstraintVariables.get(cv);
 		if (stored == null) {
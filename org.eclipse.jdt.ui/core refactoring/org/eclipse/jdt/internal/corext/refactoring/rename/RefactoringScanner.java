@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.IScanner;
 import org.eclipse.jdt.core.compiler.ITerminalSymbols;
 import org.eclipse.jdt.core.compiler.InvalidInputException;
@@ -57,6 +58,7 @@ public class RefactoringScanner {
 	}
 
 	private final String fName;
+	private final char[] fNameChars;
 	private final String fQualifier;
 
 	private IScanner fScanner;
@@ -67,13 +69,24 @@ public class RefactoringScanner {
 		Assert.isNotNull(name);
 		Assert.isNotNull(qualifier);
 		fName= name;
+		fNameChars= name.toCharArray();
 		fQualifier= qualifier;
 	}
 
 	public void scan(ICompilationUnit cu)	throws JavaModelException {
-		char[] chars= cu.getBuffer().getCharacters();
+		scan(cu.getBuffer().getCharacters(), cu.getJavaProject());
+	}
+
+	/**
+	 * Scans the given contents of a compilation unit without opening the compilation unit.
+	 *
+	 * @param chars the contents of the compilation unit
+	 * @param javaProject the project of the compilation unit, or <code>null</code>
+	 */
+	public void scan(char[] chars, IJavaProject javaProject) {
 		fMatches= new HashSet<>();
-		IJavaProject javaProject= cu.getJavaProject();
+		if (!mayContainName(chars))
+			return;
         if (javaProject != null) {
             String sourceLevel = javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
             String complianceLevel = javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
@@ -104,12 +117,25 @@ public class RefactoringScanner {
 	public void scan(String text) {
 		char[] chars= text.toCharArray();
 		fMatches= new HashSet<>();
+		if (!mayContainName(chars))
+			return;
 		fScanner= ToolFactory.createScanner(true, true, false, true);
 		fScanner.setSource(chars);
 		doScan();
 		fScanner= null;
 	}
 
+	/**
+	 * Tells whether the name occurs anywhere in the given source. Sources without the name
+	 * cannot have a match and need not be tokenized.
+	 *
+	 * @param chars the source
+	 * @return <code>false</code> if the source does not contain the name
+	 */
+	private boolean mayContainName(char[] chars) {
+		return chars != null && CharOperation.indexOf(fNameChars, chars, true) != -1;
+	}
+
 	private void doScan() {
 		try{
 			int token = fScanner.getNextToken();
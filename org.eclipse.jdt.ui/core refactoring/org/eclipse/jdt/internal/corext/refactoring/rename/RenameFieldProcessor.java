@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyStore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -347,7 +348,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 			return ""; //$NON-NLS-1$
 		final NullProgressMonitor monitor= new NullProgressMonitor();
 		if (MethodChecks.isVirtual(getter)) {
-			final ITypeHierarchy hierarchy= getter.getDeclaringType().newTypeHierarchy(monitor);
+			final ITypeHierarchy hierarchy= TypeHierarchyStore.getTypeHierarchy(getter.getDeclaringType(), null, monitor);
 			if (MethodChecks.isDeclaredInInterface(getter, hierarchy, monitor) != null || MethodChecks.overridesAnotherMethod(getter, hierarchy) != null)
 				return RefactoringCoreMessages.RenameFieldRefactoring_declared_in_supertype;
 		}
@@ -367,7 +368,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 			return "";	 //$NON-NLS-1$
 		final NullProgressMonitor monitor= new NullProgressMonitor();
 		if (MethodChecks.isVirtual(setter)) {
-			final ITypeHierarchy hierarchy= setter.getDeclaringType().newTypeHierarchy(monitor);
+			final ITypeHierarchy hierarchy= TypeHierarchyStore.getTypeHierarchy(setter.getDeclaringType(), null, monitor);
 			if (MethodChecks.isDeclaredInInterface(setter, hierarchy, monitor) != null || MethodChecks.overridesAnotherMethod(setter, hierarchy) != null)
 				return RefactoringCoreMessages.RenameFieldRefactoring_declared_in_supertype;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ import org.eclipse.ltk.core.refactoring.IResourceMapper;
 import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.RefactoringStatusContext;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
 import org.eclipse.ltk.core.refactoring.TextChange;
 import org.eclipse.ltk.core.refactoring.TextFileChange;
 import org.eclipse.ltk.core.refactoring.participants.CheckConditionsContext;
@@ -73,6 +74,9 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -91,6 +95,7 @@ import org.eclipse.jdt.core.search.TypeReferenceMatch;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.JDTRefactoringDescriptorComment;
@@ -118,6 +123,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameSearchResul
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyStore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -1281,6 +1287,12 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	 * @throws CoreException should not happen
 	 */
 	private RefactoringStatus initializeSimilarElementsRenameProcessors(IProgressMonitor progressMonitor, CheckConditionsContext context) throws CoreException {
+		List<PendingLocalRenameAnalysis> localRenameAnalyses= new ArrayList<>();
+		RefactoringStatus status= createSimilarElementsRenameProcessors(progressMonitor, context, localRenameAnalyses);
+		return completeLocalRenameAnalyses(status, localRenameAnalyses);
+	}
+
+	private RefactoringStatus createSimilarElementsRenameProcessors(IProgressMonitor progressMonitor, CheckConditionsContext context, List<PendingLocalRenameAnalysis> localRenameAnalyses) throws CoreException {
 
 		Assert.isNotNull(fPreloadedElementToName);
 		Assert.isNotNull(fPreloadedElementToSelection);
@@ -1319,7 +1331,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 			if (!newCU.equals(currentCU)) {
 
-				checkCUCompleteConditions(status, currentResolvedCU, currentCU, processors);
+				checkCUCompleteConditions(status, currentResolvedCU, currentCU, processors, localRenameAnalyses);
 
 				if (status.hasFatalError())
 					return status;
@@ -1363,7 +1375,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 					final IType declaringType= currentMethod.getDeclaringType();
 					ITypeHierarchy hierarchy= null;
 					if (!declaringType.isInterface())
-						hierarchy= declaringType.newTypeHierarchy(new NullProgressMonitor());
+						hierarchy= TypeHierarchyStore.getTypeHierarchy(declaringType, null, new NullProgressMonitor());
 
 					final IMethod topmost= MethodChecks.getTopmostMethod(currentMethod, hierarchy, new NullProgressMonitor());
 					if (topmost != null)
@@ -1418,7 +1430,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		}
 
 		// check last CU
-		checkCUCompleteConditions(status, currentResolvedCU, currentCU, processors);
+		checkCUCompleteConditions(status, currentResolvedCU, currentCU, processors, localRenameAnalyses);
 
 		status.merge(addWarnings(warnings));
 
@@ -1426,7 +1438,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		return status;
 	}
 
-	private void checkCUCompleteConditions(final RefactoringStatus status, CompilationUnit currentResolvedCU, ICompilationUnit currentCU, List<RefactoringProcessor> processors) throws CoreException {
+	private void checkCUCompleteConditions(final RefactoringStatus status, CompilationUnit currentResolvedCU, ICompilationUnit currentCU, List<RefactoringProcessor> processors, List<PendingLocalRenameAnalysis> localRenameAnalyses) throws CoreException {
 
 		// check local variable conditions
 		List<RefactoringProcessor> locals= getProcessorsOfType(processors, RenameLocalVariableProcessor.class);
@@ -1445,7 +1457,8 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 				}
 				current++;
 			}
-			status.merge(RenameAnalyzeUtil.analyzeLocalRenames(analyzePackages, textChange, currentResolvedCU, false));
+			// the changed cus of all local renames are parsed together by #completeLocalRenameAnalyses()
+			localRenameAnalyses.add(new PendingLocalRenameAnalysis(status.getEntries().length, new RenameAnalyzeUtil.LocalRenameAnalysis(analyzePackages, textChange, currentResolvedCU)));
 		}
 
 		/*
@@ -1456,6 +1469,66 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		 */
 	}
 
+	/**
+	 * Parses the changed compilation units of the pending local rename analyses in batches and
+	 * analyzes them concurrently. The results are inserted into <code>status</code> at the
+	 * positions at which the analyses have been scheduled.
+	 *
+	 * @param status the status of the similar elements rename processors
+	 * @param localRenameAnalyses the pending analyses, in the order in which they have been scheduled
+	 * @return the combined status
+	 * @throws CoreException if the working copies of the changed compilation units cannot be created
+	 */
+	private static RefactoringStatus completeLocalRenameAnalyses(RefactoringStatus status, List<PendingLocalRenameAnalysis> localRenameAnalyses) throws CoreException {
+		if (localRenameAnalyses.isEmpty())
+			return status;
+
+		final Map<ICompilationUnit, PendingLocalRenameAnalysis> workingCopyToAnalysis= new HashMap<>();
+		WorkingCopyOwner owner= new WorkingCopyOwner() {/* private owner of the changed cus */};
+		try {
+			for (PendingLocalRenameAnalysis pending : localRenameAnalyses) {
+				ICompilationUnit workingCopy= pending.fAnalysis.getCompilationUnit().getWorkingCopy(owner, new NullProgressMonitor());
+				workingCopy.getBuffer().setContents(pending.fAnalysis.getNewSource());
+				workingCopyToAnalysis.put(workingCopy, pending);
+			}
+			ASTBatchParser parser= new ASTBatchParser() {
+				@Override
+				protected ASTParser createParser(IJavaProject project) {
+					ASTParser result= super.createParser(project);
+					result.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
+					return result;
+				}
+			};
+			parser.setParallelism(Runtime.getRuntime().availableProcessors());
+			ICompilationUnit[] workingCopies= workingCopyToAnalysis.keySet().toArray(new ICompilationUnit[workingCopyToAnalysis.size()]);
+			parser.createASTs(workingCopies, new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					PendingLocalRenameAnalysis pending= workingCopyToAnalysis.get(source);
+					pending.fResult= pending.fAnalysis.analyze(ast);
+				}
+			}, new NullProgressMonitor());
+		} finally {
+			for (ICompilationUnit workingCopy : workingCopyToAnalysis.keySet()) {
+				workingCopy.discardWorkingCopy();
+			}
+		}
+
+		RefactoringStatus result= new RefactoringStatus();
+		RefactoringStatusEntry[] entries= status.getEntries();
+		int next= 0;
+		for (PendingLocalRenameAnalysis pending : localRenameAnalyses) {
+			for (; next < pending.fStatusIndex; next++) {
+				result.addEntry(entries[next]);
+			}
+			result.merge(pending.fResult);
+		}
+		for (; next < entries.length; next++) {
+			result.addEntry(entries[next]);
+		}
+		return result;
+	}
+
 	private List<RefactoringProcessor> getProcessorsOfType(List<RefactoringProcessor> processors, Class<RenameLocalVariableProcessor> type) {
 		List<RefactoringProcessor> tmp= new ArrayList<>();
 		for (RefactoringProcessor element : processors) {
@@ -1609,6 +1682,21 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		return (addSelectionWarning || addNameWarning);
 	}
 
+	/**
+	 * A local rename analysis of one compilation unit whose changed AST has not been created yet.
+	 */
+	private static class PendingLocalRenameAnalysis {
+
+		private final int fStatusIndex;
+		private final RenameAnalyzeUtil.LocalRenameAnalysis fAnalysis;
+		private RefactoringStatus fResult;
+
+		public PendingLocalRenameAnalysis(int statusIndex, RenameAnalyzeUtil.LocalRenameAnalysis analysis) {
+			fStatusIndex= statusIndex;
+			fAnalysis= analysis;
+		}
+	}
+
 	private static class Warning {
 
 		private IMethod[] fRipple;
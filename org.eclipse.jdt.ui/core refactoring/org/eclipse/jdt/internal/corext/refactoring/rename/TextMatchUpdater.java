@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,26 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
 import org.eclipse.core.resources.IContainer;
@@ -51,8 +60,20 @@ import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibili
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner.TextMatch;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.ITextUpdating;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+import org.eclipse.jdt.internal.corext.util.ConcurrentTasks;
 
-class TextMatchUpdater {
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Adds edits for the textual matches of a renamed element in comments and strings.
+ * <p>
+ * The compilation units in scope are collected first and then scanned concurrently. Units
+ * which are not open are scanned in the contents of their files and are not opened. The edits
+ * are added to the {@link TextChangeManager} in the calling thread, in the order of the
+ * resources.
+ * </p>
+ */
+public class TextMatchUpdater {
 
 	private static final String TEXT_EDIT_LABEL= RefactoringCoreMessages.TextMatchUpdater_update;
 
@@ -66,7 +87,8 @@ class TextMatchUpdater {
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
@@ -80,11 +102,12 @@ class TextMatchUpdater {
 		fOnlyQualified= onlyQualified;
 
 		fNewName= newName;
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
 	}
 
-	static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
+	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
 		new TextMatchUpdater(manager, scope, currentName, currentQualifier, newName, references, onlyQualified).updateTextMatches(pm);
 	}
 
@@ -96,12 +119,14 @@ class TextMatchUpdater {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", projectsInScope.length * 2); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, new SubProgressMonitor(pm, 1));
+				collectCompilationUnits(project, cus, new SubProgressMonitor(pm, 1));
 			}
+			addTextMatches(cus.toArray(new ICompilationUnit[cus.size()]), new SubProgressMonitor(pm, projectsInScope.length));
 		} finally{
 			pm.done();
 		}
@@ -120,7 +145,7 @@ class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void collectCompilationUnits(IResource resource, List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -132,7 +157,7 @@ class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				cus.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -141,7 +166,7 @@ class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, new SubProgressMonitor(pm, 1));
+					collectCompilationUnits(member, cus, new SubProgressMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -153,35 +178,109 @@ class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
-		if (matches.isEmpty())
-			return;
+	private void addTextMatches(ICompilationUnit[] cus, IProgressMonitor pm) throws JavaModelException {
+		try {
+			pm.beginTask("", cus.length); //$NON-NLS-1$
+			if (cus.length == 0)
+				return;
 
-		removeReferences(cu, matches);
-		if (!matches.isEmpty())
-			addTextUpdates(cu, matches);
+			final Map<ICompilationUnit, List<SearchResultGroup>> references= getReferencesByCompilationUnit();
+			int parallelism= Math.min(Runtime.getRuntime().availableProcessors(), cus.length);
+			ExecutorService executor= ConcurrentTasks.newExecutor("Text Match Scanner", parallelism); //$NON-NLS-1$
+			try {
+				List<Future<Set<TextMatch>>> futures= new ArrayList<>(cus.length);
+				for (final ICompilationUnit cu : cus) {
+					futures.add(executor.submit(() -> findTextMatches(cu, references.get(cu), pm)));
+				}
+				// add the edits in the order of the resources, independent of the order in which the scans complete
+				for (int i= 0; i < cus.length; i++) {
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+					Set<TextMatch> matches= ConcurrentTasks.getResult(futures.get(i));
+					if (!matches.isEmpty())
+						addTextUpdates(cus[i], matches);
+					pm.worked(1);
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+		} finally {
+			pm.done();
+		}
 	}
 
-	private void removeReferences(ICompilationUnit cu, Set<TextMatch> matches) {
+	private Map<ICompilationUnit, List<SearchResultGroup>> getReferencesByCompilationUnit() {
+		Map<ICompilationUnit, List<SearchResultGroup>> result= new HashMap<>();
 		for (SearchResultGroup group : fReferences) {
-			if (cu.equals(group.getCompilationUnit())) {
-				removeReferences(matches, group);
+			ICompilationUnit cu= group.getCompilationUnit();
+			if (cu != null)
+				result.computeIfAbsent(cu, key -> new ArrayList<>()).add(group);
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the textual matches in a compilation unit which are not references. Called
+	 * concurrently for different compilation units.
+	 *
+	 * @param cu the compilation unit
+	 * @param references the references in <code>cu</code>, or <code>null</code> if there are none
+	 * @param pm the progress monitor of the scans, only checked for cancellation
+	 * @return the textual matches
+	 * @throws CoreException if the contents of <code>cu</code> cannot be read
+	 */
+	private Set<TextMatch> findTextMatches(ICompilationUnit cu, List<SearchResultGroup> references, IProgressMonitor pm) throws CoreException {
+		if (pm.isCanceled())
+			throw new OperationCanceledException();
+
+		RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+		IFile file= (IFile) cu.getResource();
+		if (cu.isOpen() || file == null) {
+			scanner.scan(cu);
+		} else {
+			// contents without the current name are not tokenized
+			scanner.scan(getContents(file), cu.getJavaProject());
+		}
+		Set<TextMatch> matches= scanner.getMatches();
+		if (references != null && !matches.isEmpty())
+			removeReferences(matches, references);
+		return matches;
+	}
+
+	/**
+	 * Reads the contents of the given file. Avoids opening compilation units only to scan them.
+	 *
+	 * @param file the file of a compilation unit which is not open
+	 * @return the contents
+	 * @throws CoreException if the contents cannot be read
+	 */
+	private static char[] getContents(IFile file) throws CoreException {
+		StringBuilder contents= new StringBuilder();
+		try (Reader reader= new InputStreamReader(file.getContents(), file.getCharset())) {
+			char[] buffer= new char[8192];
+			int read;
+			while ((read= reader.read(buffer)) != -1) {
+				contents.append(buffer, 0, read);
 			}
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), e.getMessage(), e));
 		}
+		// like the buffer of an open compilation unit, the contents do not start with the byte order mark
+		int start= contents.length() > 0 && contents.charAt(0) == '\uFEFF' ? 1 : 0;
+		char[] chars= new char[contents.length() - start];
+		contents.getChars(start, contents.length(), chars, 0);
+		return chars;
 	}
 
-	private void removeReferences(Set<TextMatch> matches, SearchResultGroup group) {
-		for (SearchMatch searchResult : group.getSearchResults()) {
-			//int start= searchResults[r].getStart(); // doesn't work for pack.ReferencedType
-			int unqualifiedStart= searchResult.getOffset() + searchResult.getLength() - fCurrentNameLength;
-			for (Iterator<TextMatch> iter= matches.iterator(); iter.hasNext();) {
-				TextMatch element= iter.next();
-				if (element.getStartPosition() == unqualifiedStart)
-					iter.remove();
+	private void removeReferences(Set<TextMatch> matches, List<SearchResultGroup> references) {
+		Set<Integer> referenceStarts= new HashSet<>();
+		for (SearchResultGroup group : references) {
+			for (SearchMatch searchResult : group.getSearchResults()) {
+				//int start= searchResults[r].getStart(); // doesn't work for pack.ReferencedType
+				referenceStarts.add(Integer.valueOf(searchResult.getOffset() + searchResult.getLength() - fCurrentNameLength));
 			}
 		}
+		matches.removeIf(match -> referenceStarts.contains(Integer.valueOf(match.getStartPosition())));
 	}
 
 	private void addTextUpdates(ICompilationUnit cu, Set<TextMatch> matches) {
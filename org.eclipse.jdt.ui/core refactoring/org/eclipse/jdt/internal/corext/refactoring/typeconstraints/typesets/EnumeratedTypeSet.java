@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.NoSuchElementException;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -26,6 +26,11 @@ import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 /**
  * A type-safe wrapper for {@code Set<TType>} that also adds {@code TType}-specific
  * functionality, e.g. subTypes() and superTypes().
+ * <p>
+ * The members are stored as a bit set of the type numbers assigned by
+ * {@link TypeSetEnvironment#getTypeId(TType)}, so intersections and subset tests work on whole
+ * words. The members are iterated in the order of their numbers.
+ * </p>
  */
 public class EnumeratedTypeSet extends TypeSet {
 	static private int sCount= 0;
@@ -39,9 +44,14 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	/**
-	 * Set containing the TTypes in this EnumeratedTypeSet.
+	 * Set containing the numbers of the TTypes in this EnumeratedTypeSet.
 	 */
-	Set<TType> fMembers= new LinkedHashSet<>();
+	private BitSet fMembers= new BitSet();
+
+	/**
+	 * The number of members, or <code>-1</code> if it has to be recomputed.
+	 */
+	private int fSize;
 
 	/**
 	 * Constructs a new EnumeratedTypeSet with the members of Set s in it.
@@ -53,7 +63,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(Iterator<TType> types, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		while (types.hasNext()) {
-			fMembers.add(types.next());
+			add(types.next());
 		}
 		sCount++;
 	}
@@ -77,7 +87,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(TType t, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		Assert.isNotNull(t);
-		fMembers.add(t);
+		add(t);
 		sCount++;
 	}
 
@@ -99,16 +109,16 @@ public class EnumeratedTypeSet extends TypeSet {
 		} else if (o instanceof SingletonTypeSet) {
 			SingletonTypeSet other= (SingletonTypeSet) o;
 
-			return (fMembers.size() == 1) && fMembers.contains(other.anyMember());
+			return (size() == 1) && contains(other.anyMember());
 		} else if (o instanceof TypeSet) {
 			TypeSet other= (TypeSet) o;
 
 			for(Iterator<TType> otherIter= other.iterator(); otherIter.hasNext(); ) {
-				if (!fMembers.contains(otherIter.next()))
+				if (!contains(otherIter.next()))
 					return false;
 			}
-			for (TType tType : fMembers) {
-				if (!other.contains(tType))
+			for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+				if (!other.contains(iter.next()))
 					return false;
 			}
 			return true;
@@ -131,8 +141,8 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (s2 instanceof EnumeratedTypeSet) {
 			EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
-			result.addAll(this); // copy first since retainAll() modifies in-place
-			result.retainAll(s2);
+			result.setMembers((BitSet) fMembers.clone()); // copy first since and() modifies in-place
+			result.fMembers.and(((EnumeratedTypeSet) s2).fMembers);
 			if (result.size() > 0)
 				return result;
 			else
@@ -152,8 +162,7 @@ public class EnumeratedTypeSet extends TypeSet {
 			// More than an optimization: the universe never contains array types, so
 			// if s2 has array types, the following will retain them, as it should.
 			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
-			fMembers= new LinkedHashSet<>();
-			fMembers.addAll(ets2.fMembers);
+			setMembers((BitSet) ets2.fMembers.clone());
 		} else
 			retainAll(s2);
 	}
@@ -167,7 +176,7 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (isUniverse())
 			return makeClone(); // subtypes(universe) = universe
 
-		if (fMembers.contains(getJavaLangObject()))
+		if (contains(getJavaLangObject()))
 			return getTypeSetEnvironment().getUniverseTypeSet();
 
 		return getTypeSetEnvironment().createSubTypesSet(this);
@@ -200,20 +209,24 @@ public class EnumeratedTypeSet extends TypeSet {
 	public TypeSet makeClone() {
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
-		result.fMembers.addAll(fMembers);
+		result.setMembers((BitSet) fMembers.clone());
 		result.initComplete();
 		return result;
 	}
 
+	private void setMembers(BitSet members) {
+		fMembers= members;
+		fSize= -1;
+	}
+
 	public int size() {
-		return fMembers.size();
+		if (fSize < 0)
+			fSize= fMembers.cardinality();
+		return fSize;
 	}
 
 	public void clear() {
-		if (isUniverse())
-			fMembers= new LinkedHashSet<>();
-		else
-			fMembers.clear();
+		setMembers(new BitSet());
 	}
 
 	@Override
@@ -222,42 +235,50 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	public TType[] toArray() {
-		return fMembers.toArray(new TType[fMembers.size()]);
+		TType[] result= new TType[size()];
+		TypeSetEnvironment environment= getTypeSetEnvironment();
+		for (int id= fMembers.nextSetBit(0), i= 0; id >= 0; id= fMembers.nextSetBit(id + 1), i++) {
+			result[i]= environment.getType(id);
+		}
+		return result;
 	}
 
 	public boolean add(TType t) {
 		// Doesn't make sense to do here what other methods do (copy-and-modify)
 		Assert.isTrue(!isUniverse(), "Someone's trying to expand the universe!"); //$NON-NLS-1$
-		return fMembers.add(t);
+		int id= getTypeSetEnvironment().getTypeId(t);
+		if (fMembers.get(id))
+			return false;
+		fMembers.set(id);
+		if (fSize >= 0)
+			fSize++;
+		return true;
 	}
 
 	@Override
 	public boolean contains(TType t) {
 		if (isUniverse())
 			return true;
-		return fMembers.contains(t);
+		int id= getTypeSetEnvironment().findTypeId(t);
+		return id >= 0 && fMembers.get(id);
 	}
 
 	public boolean remove(TType t) {
-		if (isUniverse())
-			fMembers= cloneSet(fMembers);
-		return fMembers.remove(t);
-	}
-
-	private Set<TType> cloneSet(Set<TType> members) {
-		return new LinkedHashSet<>(members);
+		int id= getTypeSetEnvironment().findTypeId(t);
+		if (id < 0 || !fMembers.get(id))
+			return false;
+		fMembers.clear(id);
+		if (fSize >= 0)
+			fSize--;
+		return true;
 	}
 
 	public boolean addAll(TypeSet s) {
-		if (s instanceof EnumeratedTypeSet) {
-			EnumeratedTypeSet ets= (EnumeratedTypeSet) s;
-
-			return fMembers.addAll(ets.fMembers);
-		} else {
-			EnumeratedTypeSet ets= s.enumerate();
-
-			return fMembers.addAll(ets.fMembers);
-		}
+		EnumeratedTypeSet ets= s.enumerate();
+		int size= size();
+		fMembers.or(ets.fMembers);
+		fSize= -1;
+		return size() != size;
 	}
 
 	@Override
@@ -278,13 +299,16 @@ public class EnumeratedTypeSet extends TypeSet {
 			return false;
 		EnumeratedTypeSet ets= s.enumerate();
 
-		return fMembers.containsAll(ets.fMembers);
+		BitSet missing= (BitSet) ets.fMembers.clone();
+		missing.andNot(fMembers);
+		return missing.isEmpty();
 	}
 
 	public boolean removeAll(EnumeratedTypeSet s) {
-		if (isUniverse())
-			fMembers= cloneSet(fMembers);
-		return fMembers.removeAll(s.fMembers);
+		int size= size();
+		fMembers.andNot(s.fMembers);
+		fSize= -1;
+		return size() != size;
 	}
 
 	public boolean retainAll(TypeSet s) {
@@ -292,44 +316,47 @@ public class EnumeratedTypeSet extends TypeSet {
 
 		EnumeratedTypeSet ets= (EnumeratedTypeSet) s;
 
-		if (isUniverse()) {
-			fMembers= cloneSet(ets.fMembers);
-			return true;
-		} else
-			return fMembers.retainAll(ets.fMembers);
+		int size= size();
+		fMembers.and(ets.fMembers);
+		fSize= -1;
+		return size() != size;
 	}
 
 	@Override
 	public boolean isSingleton() {
-		return fMembers.size() == 1;
+		return size() == 1;
 	}
 
 	@Override
 	public TType anyMember() {
-		return fMembers.iterator().next();
+		int id= fMembers.nextSetBit(0);
+		if (id < 0)
+			throw new NoSuchElementException();
+		return getTypeSetEnvironment().getType(id);
 	}
 
 	@Override
 	public TypeSet upperBound() {
-		if (fMembers.size() == 1)
-			return new SingletonTypeSet(fMembers.iterator().next(), getTypeSetEnvironment());
-		if (fMembers.contains(getJavaLangObject()))
+		if (size() == 1)
+			return new SingletonTypeSet(anyMember(), getTypeSetEnvironment());
+		if (contains(getJavaLangObject()))
 			return new SingletonTypeSet(getJavaLangObject(), getTypeSetEnvironment());
 
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper supertype in fMembers
-		result.fMembers.addAll(fMembers);
-		for (TType t : fMembers) {
+		result.setMembers((BitSet) fMembers.clone());
+		for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+			TType t= iter.next();
 			if (t.isArrayType()) {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
 				for(Iterator<TType> subIter=TTypes.getAllSubTypesIterator(at.getElementType()); subIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(subIter.next(), numDims));
+					result.remove(TTypes.createArrayType(subIter.next(), numDims));
 				}
 			} else {
 				for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
+					result.remove(iterator.next());
 				}
 			}
 		}
@@ -339,19 +366,20 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	@Override
 	public TypeSet lowerBound() {
-		if (fMembers.size() == 1)
-			return new SingletonTypeSet(fMembers.iterator().next(), getTypeSetEnvironment());
+		if (size() == 1)
+			return new SingletonTypeSet(anyMember(), getTypeSetEnvironment());
 
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper subtype in fMembers
-		result.fMembers.addAll(fMembers);
+		result.setMembers((BitSet) fMembers.clone());
 
-		for (TType t : fMembers) {
+		for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+			TType t= iter.next();
 			// java.lang.Object is only in the lower bound if fMembers consists
 			// of only java.lang.Object, but that case is handled above.
 			if (t.equals(getJavaLangObject())) {
-				result.fMembers.remove(t);
+				result.remove(t);
 				continue;
 			}
 
@@ -359,11 +387,11 @@ public class EnumeratedTypeSet extends TypeSet {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
 				for(Iterator<TType> superIter=TTypes.getAllSuperTypesIterator(at.getElementType()); superIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(superIter.next(), numDims));
+					result.remove(TTypes.createArrayType(superIter.next(), numDims));
 				}
 			} else {
 				for (Iterator<TType> iterator= TTypes.getAllSuperTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
+					result.remove(iterator.next());
 				}
 			}
 		}
@@ -375,31 +403,49 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	@Override
 	public boolean hasUniqueLowerBound() {
-		return fMembers.size() == 1;
+		return size() == 1;
 	}
 
 	@Override
 	public boolean hasUniqueUpperBound() {
-		return fMembers.size() == 1;
+		return size() == 1;
 	}
 
 	@Override
 	public TType uniqueLowerBound() {
-		if (fMembers.size() == 1)
-			return fMembers.iterator().next();
+		if (size() == 1)
+			return anyMember();
 		return null;
 	}
 
 	@Override
 	public TType uniqueUpperBound() {
-		if (fMembers.size() == 1)
-			return fMembers.iterator().next();
+		if (size() == 1)
+			return anyMember();
 		return null;
 	}
 
 	@Override
 	public Iterator<TType> iterator() {
-		return fMembers.iterator();
+		final BitSet members= fMembers;
+		final TypeSetEnvironment environment= getTypeSetEnvironment();
+		return new Iterator<TType>() {
+			private int fNext= members.nextSetBit(0);
+
+			@Override
+			public boolean hasNext() {
+				return fNext >= 0;
+			}
+
+			@Override
+			public TType next() {
+				if (fNext < 0)
+					throw new NoSuchElementException();
+				TType type= environment.getType(fNext);
+				fNext= members.nextSetBit(fNext + 1);
+				return type;
+			}
+		};
 	}
 
 	/**
@@ -439,4 +485,14 @@ public class EnumeratedTypeSet extends TypeSet {
 		Assert.isTrue(! fMembers.isEmpty());
 	}
 
+	/**
+	 * Adds the given type to the members without the checks of {@link #add(TType)}.
+	 *
+	 * @param t the type
+	 */
+	void addMember(TType t) {
+		fMembers.set(getTypeSetEnvironment().getTypeId(t));
+		fSize= -1;
+	}
+
 }
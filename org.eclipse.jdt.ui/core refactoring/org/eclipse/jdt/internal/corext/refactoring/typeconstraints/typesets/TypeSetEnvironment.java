@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -33,6 +35,15 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	/**
+	 * Maps the types in {@link EnumeratedTypeSet}s to dense numbers, starting at 0.
+	 */
+	private final Map<TType, Integer> fTypeIds= new HashMap<>();
+	/**
+	 * The types in {@link EnumeratedTypeSet}s, indexed by their numbers.
+	 */
+	private TType[] fTypes= new TType[64];
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
@@ -119,6 +130,43 @@ public class TypeSetEnvironment {
 		}
 	}
 
+	/**
+	 * Returns the number of the given type. Equal types have the same number. A type gets the next
+	 * free number the first time it is passed to this method.
+	 *
+	 * @param type the type
+	 * @return the number of the type
+	 */
+	int getTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		if (id != null)
+			return id.intValue();
+
+		int newId= fTypeIds.size();
+		if (newId == fTypes.length)
+			fTypes= Arrays.copyOf(fTypes, 2 * newId);
+		fTypes[newId]= type;
+		fTypeIds.put(type, Integer.valueOf(newId));
+		return newId;
+	}
+
+	/**
+	 * @param type the type
+	 * @return the number of the type, or <code>-1</code> if the type has not been numbered yet
+	 */
+	int findTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		return id != null ? id.intValue() : -1;
+	}
+
+	/**
+	 * @param id a type number returned by {@link #getTypeId(TType)}
+	 * @return the type with the given number
+	 */
+	TType getType(int id) {
+		return fTypes[id];
+	}
+
 	public void dumpStats() {
 		System.out.println("Common expression hits:   " + fgCommonExprHits); //$NON-NLS-1$
 		System.out.println("Common expression misses: " + fgCommonExprMisses); //$NON-NLS-1$
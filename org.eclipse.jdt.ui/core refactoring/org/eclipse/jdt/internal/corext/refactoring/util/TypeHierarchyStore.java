@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IRegion;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+
+import org.eclipse.jdt.internal.corext.util.HierarchyDeltaClassifier;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+/**
+ * Type hierarchies shared by the refactorings of a session, e.g. by the ripple method
+ * computations, checks and change creations of a rename refactoring whose preview is shown
+ * repeatedly.
+ * <p>
+ * A session starts with {@link #connect()} and ends with {@link #disconnect()}, e.g. when the
+ * refactoring wizard is opened and closed. Hierarchies are only shared while a session is open,
+ * they are discarded when the last session ends.
+ * </p>
+ * <p>
+ * Full type hierarchies and region hierarchies are kept until the content of a compilation
+ * unit or the class path changes, until they have not been used for {@link #IDLE_TIMEOUT} or
+ * until the heap runs low. Super type hierarchies are taken from the
+ * {@link SuperTypeHierarchyCache}. Hierarchies are only shared if they are based on the primary
+ * working copies.
+ * </p>
+ * <p>
+ * Shared hierarchies must not be modified, e.g. by {@link ITypeHierarchy#refresh(IProgressMonitor)}.
+ * </p>
+ */
+public final class TypeHierarchyStore {
+
+	private static class StoreEntry {
+
+		private final SoftReference<ITypeHierarchy> fHierarchy;
+		private long fLastAccess;
+
+		StoreEntry(ITypeHierarchy hierarchy) {
+			fHierarchy= new SoftReference<>(hierarchy);
+			fLastAccess= System.nanoTime();
+		}
+	}
+
+	/**
+	 * Flushes the store when the Java model changes in a way that may affect type hierarchies.
+	 * Full and region hierarchies contain subtypes from anywhere in the workspace, including
+	 * local and anonymous types, hence the store is flushed by any change of the content of a
+	 * compilation unit. The generation is incremented even if the store is empty, as hierarchies
+	 * may be being computed.
+	 */
+	private static class HierarchyInvalidator implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (HierarchyDeltaClassifier.affectsSubtypeHierarchies(event.getDelta()))
+				flush();
+		}
+	}
+
+	/**
+	 * Time after which a hierarchy which has not been used is dropped.
+	 */
+	private static final long IDLE_TIMEOUT= TimeUnit.MINUTES.toNanos(10);
+
+	private static final int MAX_ENTRIES= 64;
+
+	/**
+	 * Map from an {@link IType} to its full type hierarchy, and from the {@link Set} of
+	 * {@link IType}s of a region to the region's hierarchy. Accessed in LRU order.
+	 */
+	private static final Map<Object, StoreEntry> fgStore= new LinkedHashMap<Object, StoreEntry>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, StoreEntry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Incremented when the store is flushed. Hierarchies whose computation overlapped a flush
+	 * are returned to the caller, but not stored. Guarded by {@link #fgStore}.
+	 */
+	private static long fgGeneration;
+
+	/**
+	 * Generation of computations outside of a session, whose hierarchies are not stored.
+	 */
+	private static final long NO_SESSION= -1;
+
+	/**
+	 * The number of open sessions. Guarded by {@link #fgStore}.
+	 */
+	private static int fgSessions;
+
+	/**
+	 * The listener which flushes the store, or <code>null</code> if no session is open.
+	 * Guarded by {@link #fgStore}.
+	 */
+	private static HierarchyInvalidator fgInvalidator;
+
+	/**
+	 * Opens a session. Hierarchies are shared until all sessions are closed by
+	 * {@link #disconnect()}.
+	 */
+	public static void connect() {
+		synchronized (fgStore) {
+			if (fgSessions++ == 0) {
+				fgInvalidator= new HierarchyInvalidator();
+				JavaCore.addElementChangedListener(fgInvalidator, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+		}
+	}
+
+	/**
+	 * Closes a session opened by {@link #connect()}. The hierarchies are discarded when the last
+	 * session is closed.
+	 */
+	public static void disconnect() {
+		synchronized (fgStore) {
+			if (fgSessions == 0 || --fgSessions > 0)
+				return;
+			JavaCore.removeElementChangedListener(fgInvalidator);
+			fgInvalidator= null;
+			fgStore.clear();
+			fgGeneration++;
+		}
+	}
+
+	/**
+	 * Returns the type hierarchy of the given type, including all of its subtypes.
+	 *
+	 * @param type the focus type
+	 * @param owner the owner of the working copies that take precedence over their
+	 *            original compilation units, or <code>null</code> for the primary working copies
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return the type hierarchy of <code>type</code>
+	 * @throws JavaModelException if the hierarchy could not be computed
+	 * @see IType#newTypeHierarchy(WorkingCopyOwner, IProgressMonitor)
+	 */
+	public static ITypeHierarchy getTypeHierarchy(IType type, WorkingCopyOwner owner, IProgressMonitor monitor) throws JavaModelException {
+		long generation= getGeneration();
+		if (owner != null || generation == NO_SESSION)
+			return type.newTypeHierarchy(owner, monitor);
+
+		ITypeHierarchy hierarchy= get(type);
+		if (hierarchy == null) {
+			hierarchy= type.newTypeHierarchy(monitor);
+			put(type, hierarchy, generation);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Returns a super type hierarchy that contains the given type. The returned hierarchy may
+	 * be based on a subtype of the requested type.
+	 *
+	 * @param type the type
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return a super type hierarchy that contains <code>type</code>
+	 * @throws JavaModelException if the hierarchy could not be computed
+	 * @see SuperTypeHierarchyCache#getTypeHierarchy(IType, IProgressMonitor)
+	 */
+	public static ITypeHierarchy getSupertypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+		return SuperTypeHierarchyCache.getTypeHierarchy(type, monitor);
+	}
+
+	/**
+	 * Returns the hierarchy of the given types and all their subtypes and super types.
+	 *
+	 * @param types the types of the region
+	 * @param owner the owner of the working copies that take precedence over their
+	 *            original compilation units, or <code>null</code> for the primary working copies
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return the hierarchy of the region consisting of <code>types</code>
+	 * @throws JavaModelException if the hierarchy could not be computed
+	 * @see JavaCore#newTypeHierarchy(IRegion, WorkingCopyOwner, IProgressMonitor)
+	 */
+	public static ITypeHierarchy getRegionHierarchy(IType[] types, WorkingCopyOwner owner, IProgressMonitor monitor) throws JavaModelException {
+		IRegion region= JavaCore.newRegion();
+		for (IType type : types) {
+			region.add(type);
+		}
+		long generation= getGeneration();
+		if (owner != null || generation == NO_SESSION)
+			return JavaCore.newTypeHierarchy(region, owner, monitor);
+
+		Set<IType> key= new HashSet<>(Arrays.asList(types));
+		ITypeHierarchy hierarchy= get(key);
+		if (hierarchy == null) {
+			hierarchy= JavaCore.newTypeHierarchy(region, null, monitor);
+			put(key, hierarchy, generation);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Removes all hierarchies from the store.
+	 */
+	public static void flush() {
+		synchronized (fgStore) {
+			fgStore.clear();
+			fgGeneration++;
+		}
+	}
+
+	/**
+	 * Returns the generation of a computation. Read before the computation, so that a change
+	 * during the computation is not missed.
+	 *
+	 * @return the generation, or {@link #NO_SESSION} if no session is open
+	 */
+	private static long getGeneration() {
+		synchronized (fgStore) {
+			return fgSessions > 0 ? fgGeneration : NO_SESSION;
+		}
+	}
+
+	private static ITypeHierarchy get(Object key) {
+		synchronized (fgStore) {
+			removeIdleEntries();
+			StoreEntry entry= fgStore.get(key);
+			if (entry == null)
+				return null;
+			ITypeHierarchy hierarchy= entry.fHierarchy.get();
+			if (hierarchy == null) {
+				fgStore.remove(key);
+				return null;
+			}
+			entry.fLastAccess= System.nanoTime();
+			return hierarchy;
+		}
+	}
+
+	private static void put(Object key, ITypeHierarchy hierarchy, long generation) {
+		synchronized (fgStore) {
+			if (generation == fgGeneration)
+				fgStore.put(key, new StoreEntry(hierarchy));
+		}
+	}
+
+	private static void removeIdleEntries() {
+		long now= System.nanoTime();
+		for (Iterator<StoreEntry> iter= fgStore.values().iterator(); iter.hasNext();) {
+			StoreEntry entry= iter.next();
+			if (now - entry.fLastAccess > IDLE_TIMEOUT)
+				iter.remove();
+		}
+	}
+
+	private TypeHierarchyStore() {
+	}
+}
@@ -0,0 +1,486 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarinjarloader;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Class loader for runnable jars with an index of the entries of the nested jars, see
+ * {@link JIJConstants#INDEX_NAME}. The outer jar is memory-mapped and the classes of indexed jars
+ * are defined directly from the mapped bytes, or inflated from them, without opening a stream on
+ * the nested jar. Nested jars are only indexed if they are stored uncompressed in the outer jar.
+ * The root of the outer jar, <code>./</code>, is indexed from the central directory of the outer
+ * jar.
+ * <p>
+ * Class path entries that are not indexed are loaded by the {@link URLClassLoader}. Classes and
+ * resources of indexed jars are found before those of the other class path entries, so the index
+ * is only used if no entry that is not indexed precedes an indexed one in the class path.
+ * </p>
+ *
+ * @since 3.27
+ */
+public class IndexedRsrcClassLoader extends URLClassLoader {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int LOCAL_HEADER_LENGTH = 30;
+	private static final int CENTRAL_HEADER_LENGTH = 46;
+	private static final int END_LENGTH = 22;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	private static class Entry {
+		final int jar;
+		final int headerOffset; // of the local header in the outer jar
+		final int method;
+		final int compressedSize;
+		final int size;
+		Entry next; // entry with the same name in a later jar of the class path
+
+		Entry(int jar, int headerOffset, int method, int compressedSize, int size) {
+			this.jar = jar;
+			this.headerOffset = headerOffset;
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+		}
+	}
+
+	private static class JarIndex {
+		String[] names;
+		int[] methods;
+		long[] headerOffsets;
+		long[] compressedSizes;
+		long[] sizes;
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		public int read(byte[] b, int off, int len) {
+			if (len == 0)
+				return 0;
+			if (!buffer.hasRemaining())
+				return -1;
+			len = Math.min(len, buffer.remaining());
+			buffer.get(b, off, len);
+			return len;
+		}
+
+		public long skip(long n) {
+			int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + skipped);
+			return skipped;
+		}
+
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+
+	private final ByteBuffer outerJar;
+	private final URL[] jarUrls;
+	private final ProtectionDomain[] domains;
+	private final Manifest[] manifests;
+	private final boolean[] manifestsRead;
+	private final Map entries; // String -> Entry
+
+	private IndexedRsrcClassLoader(URL[] urls, ClassLoader parent, ByteBuffer outerJar, URL[] jarUrls, Map entries) {
+		super(urls, parent);
+		this.outerJar = outerJar;
+		this.jarUrls = jarUrls;
+		this.entries = entries;
+		domains = new ProtectionDomain[jarUrls.length];
+		for (int i = 0; i < jarUrls.length; i++) {
+			CodeSource codeSource = new CodeSource(jarUrls[i], (Certificate[]) null);
+			domains[i] = new ProtectionDomain(codeSource, getPermissions(codeSource), this, null);
+		}
+		manifests = new Manifest[jarUrls.length];
+		manifestsRead = new boolean[jarUrls.length];
+	}
+
+	/**
+	 * Creates a class loader that reads the indexed jars of the class path from the mapped outer
+	 * jar.
+	 *
+	 * @param rsrcClassPath the entries of the Rsrc-Class-Path
+	 * @param rsrcUrls the URLs of the class path entries
+	 * @param parent the parent class loader
+	 * @return the class loader, or <code>null</code> if the outer jar has no index or cannot be
+	 *         mapped
+	 */
+	static URLClassLoader create(String[] rsrcClassPath, URL[] rsrcUrls, ClassLoader parent) {
+		try {
+			ByteBuffer outerJar = mapOuterJar();
+			if (outerJar == null)
+				return null;
+			Map outerEntries = readCentralDirectory(outerJar);
+			int[] indexEntry = outerEntries == null ? null : (int[]) outerEntries.get(JIJConstants.INDEX_NAME);
+			if (indexEntry == null || indexEntry[0] != STORED)
+				return null;
+			Map jarIndexes = readIndex(getData(outerJar, indexEntry[1], indexEntry[2]));
+			if (jarIndexes == null)
+				return null;
+
+			List urls = new ArrayList();
+			List jarUrls = new ArrayList();
+			Map entries = new HashMap();
+			for (int i = 0; i < rsrcClassPath.length; i++) {
+				String rsrcPath = rsrcClassPath[i];
+				if (JIJConstants.CURRENT_DIR.equals(rsrcPath)) {
+					if (!urls.isEmpty())
+						return null; // the index would change the class path order
+					int jar = jarUrls.size();
+					jarUrls.add(rsrcUrls[i]);
+					for (Iterator iter = outerEntries.entrySet().iterator(); iter.hasNext();) {
+						Map.Entry outerEntry = (Map.Entry) iter.next();
+						int[] data = (int[]) outerEntry.getValue();
+						if (data[2] < 0 || data[3] < 0)
+							throw new IOException("Invalid entry: " + outerEntry.getKey()); //$NON-NLS-1$
+						addEntry(entries, (String) outerEntry.getKey(), new Entry(jar, data[1], data[0], data[2], data[3]));
+					}
+					continue;
+				}
+				JarIndex jarIndex = null;
+				int[] jarEntry = null;
+				if (!rsrcPath.endsWith(JIJConstants.PATH_SEPARATOR)) {
+					String jarName = URLDecoder.decode(rsrcPath, JIJConstants.UTF8_ENCODING);
+					jarIndex = (JarIndex) jarIndexes.get(jarName);
+					jarEntry = (int[]) outerEntries.get(jarName);
+				}
+				if (jarIndex == null || jarEntry == null || jarEntry[0] != STORED) {
+					urls.add(rsrcUrls[i]);
+					continue;
+				}
+				if (!urls.isEmpty())
+					return null; // the index would change the class path order
+				int jar = jarUrls.size();
+				jarUrls.add(rsrcUrls[i]);
+				int jarOffset = getDataOffset(outerJar, jarEntry[1]);
+				int jarSize = jarEntry[2];
+				for (int j = 0; j < jarIndex.names.length; j++) {
+					long headerOffset = jarIndex.headerOffsets[j];
+					if (headerOffset + LOCAL_HEADER_LENGTH + jarIndex.compressedSizes[j] > jarSize || jarIndex.sizes[j] > Integer.MAX_VALUE)
+						throw new IOException("Invalid index entry: " + jarIndex.names[j]); //$NON-NLS-1$
+					addEntry(entries, jarIndex.names[j], new Entry(jar, jarOffset + (int) headerOffset, jarIndex.methods[j], (int) jarIndex.compressedSizes[j], (int) jarIndex.sizes[j]));
+				}
+			}
+			if (jarUrls.isEmpty())
+				return null;
+			return new IndexedRsrcClassLoader((URL[]) urls.toArray(new URL[urls.size()]), parent, outerJar,
+					(URL[]) jarUrls.toArray(new URL[jarUrls.size()]), entries);
+		} catch (IOException e) {
+			return null;
+		} catch (RuntimeException e) {
+			// corrupt jar or index, use the URLClassLoader
+			return null;
+		}
+	}
+
+	/**
+	 * Adds an entry after the entries with the same name in the preceding jars of the class path.
+	 */
+	private static void addEntry(Map entries, String name, Entry entry) {
+		Entry first = (Entry) entries.get(name);
+		if (first == null) {
+			entries.put(name, entry);
+		} else {
+			while (first.next != null)
+				first = first.next;
+			first.next = entry;
+		}
+	}
+
+	private static ByteBuffer mapOuterJar() throws IOException {
+		CodeSource codeSource = IndexedRsrcClassLoader.class.getProtectionDomain().getCodeSource();
+		if (codeSource == null || codeSource.getLocation() == null)
+			return null;
+		File file;
+		try {
+			file = new File(codeSource.getLocation().toURI());
+		} catch (URISyntaxException e) {
+			return null;
+		} catch (IllegalArgumentException e) {
+			// not a file URI
+			return null;
+		}
+		if (!file.isFile())
+			return null;
+		RandomAccessFile in = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+		try {
+			FileChannel channel = in.getChannel();
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				return null;
+			// the mapping stays valid after the channel is closed
+			ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			return buffer;
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Reads the central directory of the outer jar. Directories are skipped.
+	 *
+	 * @param buffer the outer jar
+	 * @return entry name to method, local header offset, compressed size and size, or
+	 *         <code>null</code> if the jar cannot be read
+	 * @throws IOException if an entry name cannot be decoded
+	 */
+	private static Map readCentralDirectory(ByteBuffer buffer) throws IOException {
+		int length = buffer.limit();
+		int end = length - END_LENGTH;
+		int minEnd = Math.max(0, length - END_LENGTH - MAX_COMMENT_LENGTH);
+		while (end >= minEnd && buffer.getInt(end) != END_SIGNATURE)
+			end--;
+		if (end < minEnd)
+			return null;
+		int count = buffer.getShort(end + 10) & 0xFFFF;
+		int pos = buffer.getInt(end + 16);
+		if (count == 0xFFFF || pos < 0 || pos > end)
+			return null; // ZIP64
+		Map result = new HashMap();
+		byte[] nameBytes = new byte[256];
+		for (int i = 0; i < count; i++) {
+			if (pos + CENTRAL_HEADER_LENGTH > end || buffer.getInt(pos) != CENTRAL_HEADER_SIGNATURE)
+				return null;
+			int method = buffer.getShort(pos + 10) & 0xFFFF;
+			int compressedSize = buffer.getInt(pos + 20);
+			int size = buffer.getInt(pos + 24);
+			int nameLength = buffer.getShort(pos + 28) & 0xFFFF;
+			int extraLength = buffer.getShort(pos + 30) & 0xFFFF;
+			int commentLength = buffer.getShort(pos + 32) & 0xFFFF;
+			int headerOffset = buffer.getInt(pos + 42);
+			if (nameLength > nameBytes.length)
+				nameBytes = new byte[nameLength];
+			for (int j = 0; j < nameLength; j++)
+				nameBytes[j] = buffer.get(pos + CENTRAL_HEADER_LENGTH + j);
+			String name = new String(nameBytes, 0, nameLength, JIJConstants.UTF8_ENCODING);
+			if (!name.endsWith(JIJConstants.PATH_SEPARATOR))
+				result.put(name, new int[] { method, headerOffset, compressedSize, size });
+			pos += CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+		}
+		return result;
+	}
+
+	private static Map readIndex(ByteBuffer buffer) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+		if (in.readInt() != JIJConstants.INDEX_MAGIC || in.readInt() != JIJConstants.INDEX_VERSION)
+			return null;
+		int jarCount = in.readInt();
+		Map result = new HashMap();
+		for (int i = 0; i < jarCount; i++) {
+			String jarName = in.readUTF();
+			int count = in.readInt();
+			JarIndex jarIndex = new JarIndex();
+			jarIndex.names = new String[count];
+			jarIndex.methods = new int[count];
+			jarIndex.headerOffsets = new long[count];
+			jarIndex.compressedSizes = new long[count];
+			jarIndex.sizes = new long[count];
+			for (int j = 0; j < count; j++) {
+				jarIndex.names[j] = in.readUTF();
+				jarIndex.methods[j] = in.readInt();
+				jarIndex.headerOffsets[j] = in.readLong();
+				jarIndex.compressedSizes[j] = in.readLong();
+				jarIndex.sizes[j] = in.readLong();
+			}
+			result.put(jarName, jarIndex);
+		}
+		return result;
+	}
+
+	private static int getDataOffset(ByteBuffer buffer, int headerOffset) throws IOException {
+		if (buffer.getInt(headerOffset) != LOCAL_HEADER_SIGNATURE)
+			throw new IOException("Invalid local header at " + headerOffset); //$NON-NLS-1$
+		return headerOffset + LOCAL_HEADER_LENGTH + (buffer.getShort(headerOffset + 26) & 0xFFFF) + (buffer.getShort(headerOffset + 28) & 0xFFFF);
+	}
+
+	/**
+	 * @return a view on the mapped data of the entry, the buffer itself is not modified
+	 */
+	private static ByteBuffer getData(ByteBuffer buffer, int headerOffset, int compressedSize) throws IOException {
+		int dataOffset = getDataOffset(buffer, headerOffset);
+		ByteBuffer data = buffer.duplicate();
+		data.limit(dataOffset + compressedSize);
+		data.position(dataOffset);
+		return data.slice();
+	}
+
+	private ByteBuffer getData(Entry entry) throws IOException {
+		ByteBuffer data = getData(outerJar, entry.headerOffset, entry.compressedSize);
+		if (entry.method == STORED)
+			return data;
+		if (entry.method != DEFLATED)
+			throw new IOException("Unsupported compression method " + entry.method); //$NON-NLS-1$
+
+		// the nowrap mode needs an extra byte after the data
+		byte[] input = new byte[entry.compressedSize + 1];
+		data.get(input, 0, entry.compressedSize);
+		byte[] output = new byte[entry.size];
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(input);
+			int length = 0;
+			while (length < output.length) {
+				int count = inflater.inflate(output, length, output.length - length);
+				if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+					break;
+				length += count;
+			}
+			if (length != output.length)
+				throw new IOException("Invalid compressed data"); //$NON-NLS-1$
+		} catch (DataFormatException e) {
+			throw new IOException(e.getMessage());
+		} finally {
+			inflater.end();
+		}
+		return ByteBuffer.wrap(output);
+	}
+
+	protected Class findClass(String name) throws ClassNotFoundException {
+		Entry entry = (Entry) entries.get(name.replace('.', '/').concat(".class")); //$NON-NLS-1$
+		if (entry == null)
+			return super.findClass(name);
+		try {
+			ByteBuffer data = getData(entry);
+			definePackage(name, entry.jar);
+			return defineClass(name, data, domains[entry.jar]);
+		} catch (IOException e) {
+			throw new ClassNotFoundException(name, e);
+		}
+	}
+
+	private void definePackage(String className, int jar) throws IOException {
+		int lastDot = className.lastIndexOf('.');
+		if (lastDot == -1)
+			return;
+		String packageName = className.substring(0, lastDot);
+		if (getPackage(packageName) != null)
+			return;
+		try {
+			Manifest manifest = getManifest(jar);
+			if (manifest != null)
+				definePackage(packageName, manifest, jarUrls[jar]);
+			else
+				definePackage(packageName, null, null, null, null, null, null, null);
+		} catch (IllegalArgumentException e) {
+			// defined concurrently
+		}
+	}
+
+	private synchronized Manifest getManifest(int jar) throws IOException {
+		if (!manifestsRead[jar]) {
+			for (Entry entry = (Entry) entries.get(JarFile.MANIFEST_NAME); entry != null; entry = entry.next) {
+				if (entry.jar == jar) {
+					manifests[jar] = new Manifest(new ByteBufferInputStream(getData(entry)));
+					break;
+				}
+			}
+			manifestsRead[jar] = true;
+		}
+		return manifests[jar];
+	}
+
+	public URL findResource(String name) {
+		Entry entry = (Entry) entries.get(name);
+		if (entry != null) {
+			URL url = getResourceURL(entry, name);
+			if (url != null)
+				return url;
+		}
+		return super.findResource(name);
+	}
+
+	public Enumeration findResources(String name) throws IOException {
+		Vector urls = new Vector();
+		for (Entry entry = (Entry) entries.get(name); entry != null; entry = entry.next) {
+			URL url = getResourceURL(entry, name);
+			if (url != null)
+				urls.add(url);
+		}
+		Enumeration others = super.findResources(name);
+		while (others.hasMoreElements())
+			urls.add(others.nextElement());
+		return urls.elements();
+	}
+
+	/**
+	 * Returns the content of indexed resources from the mapped outer jar, all other resources are
+	 * read through their URL. The resources of the parent class loader come first, except for the
+	 * boot class loader on Java 8.
+	 *
+	 * @param name the resource name
+	 * @return the content of the resource or <code>null</code> if it was not found
+	 */
+	public InputStream getResourceAsStream(String name) {
+		Entry entry = (Entry) entries.get(name);
+		ClassLoader parent = getParent();
+		if (entry != null && (parent == null || parent.getResource(name) == null)) {
+			try {
+				return new ByteBufferInputStream(getData(entry));
+			} catch (IOException e) {
+				return null;
+			}
+		}
+		return super.getResourceAsStream(name);
+	}
+
+	private URL getResourceURL(Entry entry, String name) {
+		try {
+			return new URL(jarUrls[entry.jar], name);
+		} catch (MalformedURLException e) {
+			return null;
+		}
+	}
+}
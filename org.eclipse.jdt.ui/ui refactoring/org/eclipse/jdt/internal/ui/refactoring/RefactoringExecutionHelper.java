@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.ui.refactoring.RefactoringUI;
 
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyStore;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.refactoring.RefactoringSaveHelper;
@@ -183,6 +184,7 @@ public class RefactoringExecutionHelper {
 				throw new InterruptedException();
 			final Operation op= new Operation(fork, forkChangeExecution);
 			fRefactoring.setValidationContext(fParent);
+			TypeHierarchyStore.connect();
 			try{
 				fExecContext.run(fork, cancelable, new WorkbenchRunnableAdapter(op, rule, true));
 				if (fork && !forkChangeExecution && op.fPerformChangeOperation != null)
@@ -216,6 +218,7 @@ public class RefactoringExecutionHelper {
 			} catch (OperationCanceledException e) {
 				throw new InterruptedException(e.getMessage());
 			} finally {
+				TypeHierarchyStore.disconnect();
 				saveHelper.triggerIncrementalBuild();
 			}
 		} finally {
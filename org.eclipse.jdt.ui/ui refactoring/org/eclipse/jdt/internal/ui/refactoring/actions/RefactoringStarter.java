@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.ui.refactoring.RefactoringWizard;
 import org.eclipse.ltk.ui.refactoring.RefactoringWizardOpenOperation;
 
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyStore;
+
 import org.eclipse.jdt.ui.refactoring.RefactoringSaveHelper;
 
 
@@ -36,6 +38,8 @@ public class RefactoringStarter {
 		if (! canActivate(saveHelper, parent))
 			return false;
 
+		// the type hierarchies are shared while the wizard is open
+		TypeHierarchyStore.connect();
 		try {
 			RefactoringWizardOpenOperation op= new RefactoringWizardOpenOperation(wizard);
 			int result= op.run(parent, dialogTitle);
@@ -48,6 +52,8 @@ public class RefactoringStarter {
 			}
 		} catch (InterruptedException e) {
 			return false; // User action got cancelled
+		} finally {
+			TypeHierarchyStore.disconnect();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,7 +48,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 /**
  * A fix that replaces Boolean.TRUE/Boolean.FALSE by true/false when used as primitive.
  */
-public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpFix, IThreadSafeCleanUp {
 	public BooleanLiteralCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,7 +51,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Prefer equality/difference operation rather than negated operand.</li>
  * </ul>
  */
-public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpFix, IThreadSafeCleanUp {
 	public DoubleNegationCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+/**
+ * A clean up whose {@link #createFix(CleanUpContext)} may be called concurrently for different
+ * contexts once its options are set, e.g. because it keeps no state besides its options. The
+ * {@link org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring} calculates the fixes of other
+ * clean ups one compilation unit at a time, even if the ASTs are created in parallel.
+ */
+public interface IThreadSafeCleanUp extends ICleanUp {
+}
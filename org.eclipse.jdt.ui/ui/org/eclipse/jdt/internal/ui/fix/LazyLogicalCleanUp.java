@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,7 +48,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Replaces | by ||.</li>
  * </ul>
  */
-public class LazyLogicalCleanUp extends AbstractMultiFix {
+public class LazyLogicalCleanUp extends AbstractMultiFix implements IThreadSafeCleanUp {
 	public LazyLogicalCleanUp() {
 		this(Collections.emptyMap());
 	}
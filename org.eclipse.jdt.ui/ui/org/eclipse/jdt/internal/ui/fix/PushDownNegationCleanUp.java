@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Fabrice TIERCELIN and others.
+ * Copyright (c) 2019, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,7 +53,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Reverses arithmetic expressions.</li>
  * </ul>
  */
-public class PushDownNegationCleanUp extends AbstractMultiFix {
+public class PushDownNegationCleanUp extends AbstractMultiFix implements IThreadSafeCleanUp {
 	public PushDownNegationCleanUp() {
 		this(Collections.emptyMap());
 	}
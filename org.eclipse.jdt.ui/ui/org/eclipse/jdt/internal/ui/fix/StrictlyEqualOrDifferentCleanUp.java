@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,7 +57,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>It does not matter an operand is on the left or right.</li>
  * </ul>
  */
-public class StrictlyEqualOrDifferentCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class StrictlyEqualOrDifferentCleanUp extends AbstractMultiFix implements ICleanUpFix, IThreadSafeCleanUp {
 	public StrictlyEqualOrDifferentCleanUp() {
 		this(Collections.emptyMap());
 	}
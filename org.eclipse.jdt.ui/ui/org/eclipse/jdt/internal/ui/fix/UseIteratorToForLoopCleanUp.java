@@ -23,9 +23,11 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 /**
  */
-public class UseIteratorToForLoopCleanUp extends AbstractCleanUp {
+public class UseIteratorToForLoopCleanUp extends AbstractCleanUp implements IFusedCleanUp {
 	private final UseIteratorToForLoopCleanUpCore coreCleanUp= new UseIteratorToForLoopCleanUpCore();
 	public UseIteratorToForLoopCleanUp(final Map<String, String> options) {
 		setOptions(options);
@@ -46,6 +48,17 @@ public class UseIteratorToForLoopCleanUp extends AbstractCleanUp {
 		return fixCore == null ? null : new CleanUpFixWrapper(fixCore);
 	}
 	@Override
+	public FixCollector createFixCollector(final CleanUpContext context, final FusedASTVisitor fused) throws CoreException {
+		IFusedCleanUpCore.FixCollectorCore collector= coreCleanUp.createFixCollector(context, fused);
+		if (collector == null) {
+			return null;
+		}
+		return () -> {
+			ICleanUpFixCore fixCore= collector.createFix();
+			return fixCore == null ? null : new CleanUpFixWrapper(fixCore);
+		};
+	}
+	@Override
 	public String[] getStepDescriptions() {
 		return coreCleanUp.getStepDescriptions();
 	}
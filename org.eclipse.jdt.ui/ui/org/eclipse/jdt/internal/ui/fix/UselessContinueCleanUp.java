@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,7 +57,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>A continue statement is kept if it has a label.</li>
  * </ul>
  */
-public class UselessContinueCleanUp extends AbstractMultiFix {
+public class UselessContinueCleanUp extends AbstractMultiFix implements IThreadSafeCleanUp {
 	public UselessContinueCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,7 +53,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 /**
  * A fix that removes useless lone return at the end of a method or lambda.
  */
-public class UselessReturnCleanUp extends AbstractMultiFix {
+public class UselessReturnCleanUp extends AbstractMultiFix implements IThreadSafeCleanUp {
 	public UselessReturnCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2011 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,7 +55,7 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	public static final String JAR_RSRC_LOADER_ZIP= "jar-in-jar-loader.zip"; //$NON-NLS-1$
 
 	private Set<String> jarNames;
-	private JarPackageData fJarPackage;
+	private FatJarRsrcUrlIndex fIndex;
 
 	@Override
 	public String getId() {
@@ -93,8 +93,8 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	@Override
 	public void open(JarPackageData jarPackage, Shell displayShell, MultiStatus status) throws CoreException {
 		super.open(jarPackage, displayShell, status);
-		fJarPackage= jarPackage;
 		jarNames= new HashSet<>();
+		fIndex= new FatJarRsrcUrlIndex();
 		try {
 			writeRsrcUrlClasses();
 		} catch (IOException e) {
@@ -114,14 +114,36 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 		newEntry.setMethod(ZipEntry.STORED);
 		byte[] readBuffer= new byte[4096];
 		try {
-			if (!fJarPackage.isCompressed())
-				JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(jarPathFile), readBuffer);
-			getJarWriter().addZipEntryStream(newEntry, new FileInputStream(jarPathFile), jarName);
+			// libraries are always stored, so that the loader can read their entries from the outer jar
+			JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(jarPathFile), readBuffer);
+			getJarWriter().addZipEntryStream(newEntry, new FileInputStream(jarPathFile), jarName, false);
+			fIndex.addJar(jarName, jarPathFile);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	@Override
+	public void close() throws CoreException {
+		try {
+			if (fIndex != null && !fIndex.isEmpty())
+				writeIndex();
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, e.getMessage(), e));
+		} finally {
+			fIndex= null;
+			super.close();
+		}
+	}
+
+	private void writeIndex() throws IOException {
+		byte[] content= fIndex.toByteArray();
+		JarEntry indexEntry= new JarEntry(JIJConstants.INDEX_NAME);
+		indexEntry.setMethod(ZipEntry.STORED);
+		JarPackagerUtil.calculateCrcAndSize(indexEntry, new ByteArrayInputStream(content), new byte[4096]);
+		getJarWriter().addZipEntryStream(indexEntry, new ByteArrayInputStream(content), JIJConstants.INDEX_NAME, false);
+	}
+
 	public void writeRsrcUrlClasses() throws IOException {
 		InputStream is= JavaPlugin.getDefault().getBundle().getEntry(JAR_RSRC_LOADER_ZIP).openStream();
 		ZipInputStream zis= new ZipInputStream(is);
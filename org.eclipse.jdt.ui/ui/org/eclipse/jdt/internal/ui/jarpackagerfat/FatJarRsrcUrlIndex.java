@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.ui.jarpackagerfat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+/**
+ * Index of the entries of the libraries that the {@link FatJarRsrcUrlBuilder} stores in the
+ * generated jar. With the index, the jar in jar loader reads classes and resources of the
+ * libraries directly from the outer jar instead of opening a stream for each nested jar.
+ * <p>
+ * The index is written to {@link JIJConstants#INDEX_NAME}: the int
+ * {@link JIJConstants#INDEX_MAGIC}, the int {@link JIJConstants#INDEX_VERSION}, the int number of
+ * jars, and for each jar its entry name in the outer jar, the int number of entries, and for each
+ * entry its name, the int compression method, and the long offset of its local header in the
+ * nested jar, its compressed and its uncompressed size. Strings are written with
+ * {@link DataOutputStream#writeUTF(String)}.
+ * </p>
+ */
+class FatJarRsrcUrlIndex {
+
+	private static final int CENTRAL_HEADER_SIGNATURE= 0x02014b50;
+	private static final int END_SIGNATURE= 0x06054b50;
+	private static final int CENTRAL_HEADER_LENGTH= 46;
+	private static final int END_LENGTH= 22;
+	private static final int MAX_COMMENT_LENGTH= 0xFFFF;
+	private static final int FLAG_ENCRYPTED= 1;
+	private static final String META_INF= "META-INF/"; //$NON-NLS-1$
+	private static final String[] SIGNATURE_SUFFIXES= { ".SF", ".RSA", ".DSA", ".EC" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private static class Entry {
+		final String fName;
+		final int fMethod;
+		final long fHeaderOffset;
+		final long fCompressedSize;
+		final long fSize;
+
+		Entry(String name, int method, long headerOffset, long compressedSize, long size) {
+			fName= name;
+			fMethod= method;
+			fHeaderOffset= headerOffset;
+			fCompressedSize= compressedSize;
+			fSize= size;
+		}
+	}
+
+	private final ByteArrayOutputStream fBytes= new ByteArrayOutputStream();
+	private final DataOutputStream fOut= new DataOutputStream(fBytes);
+	private int fJarCount;
+
+	/**
+	 * Adds the entries of a library. Libraries that the loader cannot read directly, i.e. that
+	 * need ZIP64 extensions, are encrypted or use compression methods other than stored and
+	 * deflated, are not added. Signed libraries are not added either, as the loader defines the
+	 * classes of indexed libraries without verifying their signers; they are loaded through the
+	 * URL class loader instead.
+	 *
+	 * @param jarName the name of the entry of the library in the outer jar
+	 * @param file the library
+	 * @return whether the library has been added
+	 * @throws IOException if the library could not be read
+	 */
+	public boolean addJar(String jarName, File file) throws IOException {
+		List<Entry> entries= readCentralDirectory(file);
+		if (entries == null)
+			return false;
+		fOut.writeUTF(jarName);
+		fOut.writeInt(entries.size());
+		for (Entry entry : entries) {
+			fOut.writeUTF(entry.fName);
+			fOut.writeInt(entry.fMethod);
+			fOut.writeLong(entry.fHeaderOffset);
+			fOut.writeLong(entry.fCompressedSize);
+			fOut.writeLong(entry.fSize);
+		}
+		fJarCount++;
+		return true;
+	}
+
+	public boolean isEmpty() {
+		return fJarCount == 0;
+	}
+
+	/**
+	 * @return the content of the index entry
+	 * @throws IOException if the index could not be written
+	 */
+	public byte[] toByteArray() throws IOException {
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream(fBytes.size() + 12);
+		DataOutputStream out= new DataOutputStream(bytes);
+		out.writeInt(JIJConstants.INDEX_MAGIC);
+		out.writeInt(JIJConstants.INDEX_VERSION);
+		out.writeInt(fJarCount);
+		fOut.flush();
+		fBytes.writeTo(out);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Reads the central directory of a zip file.
+	 *
+	 * @param file the zip file
+	 * @return the file entries, or <code>null</code> if the file cannot be indexed
+	 * @throws IOException if the file could not be read
+	 */
+	private static List<Entry> readCentralDirectory(File file) throws IOException {
+		try (RandomAccessFile in= new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+			long length= in.length();
+			int tailLength= (int) Math.min(length, END_LENGTH + MAX_COMMENT_LENGTH);
+			ByteBuffer tail= read(in, length - tailLength, tailLength);
+			int end= tailLength - END_LENGTH;
+			while (end >= 0 && tail.getInt(end) != END_SIGNATURE) {
+				end--;
+			}
+			if (end < 0)
+				return null;
+			int count= tail.getShort(end + 10) & 0xFFFF;
+			long size= tail.getInt(end + 12) & 0xFFFFFFFFL;
+			long offset= tail.getInt(end + 16) & 0xFFFFFFFFL;
+			if (count == 0xFFFF || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL || offset + size > length)
+				return null; // ZIP64
+
+			ByteBuffer directory= read(in, offset, (int) size);
+			List<Entry> entries= new ArrayList<>(count);
+			int pos= 0;
+			for (int i= 0; i < count; i++) {
+				if (pos + CENTRAL_HEADER_LENGTH > size || directory.getInt(pos) != CENTRAL_HEADER_SIGNATURE)
+					return null;
+				int flags= directory.getShort(pos + 8) & 0xFFFF;
+				int method= directory.getShort(pos + 10) & 0xFFFF;
+				long compressedSize= directory.getInt(pos + 20) & 0xFFFFFFFFL;
+				long entrySize= directory.getInt(pos + 24) & 0xFFFFFFFFL;
+				int nameLength= directory.getShort(pos + 28) & 0xFFFF;
+				int extraLength= directory.getShort(pos + 30) & 0xFFFF;
+				int commentLength= directory.getShort(pos + 32) & 0xFFFF;
+				long headerOffset= directory.getInt(pos + 42) & 0xFFFFFFFFL;
+				if ((flags & FLAG_ENCRYPTED) != 0 || (method != ZipEntry.STORED && method != ZipEntry.DEFLATED)
+						|| compressedSize == 0xFFFFFFFFL || entrySize == 0xFFFFFFFFL || headerOffset == 0xFFFFFFFFL)
+					return null;
+				String name= new String(directory.array(), pos + CENTRAL_HEADER_LENGTH, nameLength, StandardCharsets.UTF_8);
+				if (isSignatureFile(name))
+					return null;
+				if (!name.endsWith("/")) { //$NON-NLS-1$
+					entries.add(new Entry(name, method, headerOffset, compressedSize, entrySize));
+				}
+				pos+= CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+			}
+			return entries;
+		}
+	}
+
+	private static boolean isSignatureFile(String name) {
+		if (!name.regionMatches(true, 0, META_INF, 0, META_INF.length()) || name.indexOf('/', META_INF.length()) != -1)
+			return false;
+		for (String suffix : SIGNATURE_SUFFIXES) {
+			if (name.regionMatches(true, name.length() - suffix.length(), suffix, 0, suffix.length()))
+				return true;
+		}
+		return false;
+	}
+
+	private static ByteBuffer read(RandomAccessFile in, long offset, int length) throws IOException {
+		byte[] bytes= new byte[length];
+		in.seek(offset);
+		in.readFully(bytes);
+		return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+	}
+}
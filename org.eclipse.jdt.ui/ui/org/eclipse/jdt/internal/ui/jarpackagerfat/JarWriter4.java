@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -72,10 +72,24 @@ public class JarWriter4 extends JarWriter3 {
 	}
 
 	public void addZipEntryStream(ZipEntry zipEntry, InputStream is, String path) throws IOException {
+		addZipEntryStream(zipEntry, is, path, fJarPackage.isCompressed());
+	}
+
+	/**
+	 * Adds an entry with the content of the given stream.
+	 *
+	 * @param zipEntry the entry, the size and CRC must be set if <code>compress</code> is
+	 *            <code>false</code>
+	 * @param is the content of the entry
+	 * @param path the path of the entry
+	 * @param compress whether the entry is deflated, independent of the compression of the jar
+	 * @throws IOException if the entry could not be written
+	 */
+	public void addZipEntryStream(ZipEntry zipEntry, InputStream is, String path, boolean compress) throws IOException {
 		if (fJarPackage.areDirectoryEntriesIncluded())
 			addDirectories(path);
 		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
-		if (fJarPackage.isCompressed())
+		if (compress)
 			newEntry.setMethod(ZipEntry.DEFLATED);
 		// Entry is filled automatically.
 		else {
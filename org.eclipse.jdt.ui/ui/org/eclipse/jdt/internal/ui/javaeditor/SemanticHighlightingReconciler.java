@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,13 @@
 package org.eclipse.jdt.internal.ui.javaeditor;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.events.ControlAdapter;
+import org.eclipse.swt.events.ControlEvent;
+import org.eclipse.swt.events.ControlListener;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 
@@ -26,8 +31,11 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextInputListener;
+import org.eclipse.jface.text.IViewportListener;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.TextPresentation;
 import org.eclipse.jface.text.source.ISourceViewer;
 
@@ -63,7 +71,40 @@ import org.eclipse.jdt.internal.ui.util.ASTHelper;
  *
  * @since 3.0
  */
-public class SemanticHighlightingReconciler implements IJavaReconcilingListener, ITextInputListener {
+public class SemanticHighlightingReconciler implements IJavaReconcilingListener, ITextInputListener, IViewportListener {
+
+	/**
+	 * Minimal length of a compilation unit whose visible part is highlighted before the rest of the
+	 * file.
+	 * @since 3.27
+	 */
+	private static final int VIEWPORT_FIRST_MIN_LENGTH= 64 * 1024;
+
+	/**
+	 * A position found in the AST, before it is compared with the existing positions.
+	 *
+	 * @since 3.27
+	 */
+	private static class CollectedPosition {
+
+		/** The position offset */
+		final int fOffset;
+		/** The position length */
+		final int fLength;
+		/** The position's highlighting */
+		final Highlighting fHighlighting;
+
+		CollectedPosition(int offset, int length, Highlighting highlighting) {
+			fOffset= offset;
+			fLength= length;
+			fHighlighting= highlighting;
+		}
+	}
+
+	/** Orders collected positions by offset */
+	private static final Comparator<CollectedPosition> POSITION_ORDER= (p1, p2) -> Integer.compare(p1.fOffset, p2.fOffset);
+	/** Orders retained ranges by offset */
+	private static final Comparator<Region> RANGE_ORDER= (r1, r2) -> Integer.compare(r1.getOffset(), r2.getOffset());
 
 	/**
 	 * Collects positions from the AST.
@@ -73,6 +114,68 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		/** The semantic token */
 		private SemanticToken fToken= new SemanticToken();
 
+		/**
+		 * The positions found in the AST, in visiting order
+		 * @since 3.27
+		 */
+		private List<CollectedPosition> fCollectedPositions= new ArrayList<>();
+		/**
+		 * The ranges of malformed nodes whose existing positions are retained
+		 * @since 3.27
+		 */
+		private List<Region> fRetainedRanges= new ArrayList<>();
+		/**
+		 * Start of the range in which positions are collected and compared
+		 * @since 3.27
+		 */
+		private int fRangeStart;
+		/**
+		 * End (exclusive) of the range in which positions are collected and compared
+		 * @since 3.27
+		 */
+		private int fRangeEnd= Integer.MAX_VALUE;
+		/**
+		 * Progress monitor of the reconcile, or <code>null</code> if it is not checked
+		 * @since 3.27
+		 */
+		private IProgressMonitor fProgressMonitor;
+
+		/**
+		 * Limits the collected positions to those starting in the given region. Existing positions
+		 * starting outside the region are neither compared nor removed.
+		 *
+		 * @param region the region or <code>null</code> to collect all positions
+		 * @param progressMonitor the progress monitor that stops the visit when canceled, or
+		 *            <code>null</code>
+		 * @since 3.27
+		 */
+		void setRange(IRegion region, IProgressMonitor progressMonitor) {
+			if (region != null) {
+				fRangeStart= region.getOffset();
+				fRangeEnd= region.getOffset() + region.getLength();
+			} else {
+				fRangeStart= 0;
+				fRangeEnd= Integer.MAX_VALUE;
+			}
+			fProgressMonitor= progressMonitor;
+		}
+
+		private boolean isInRange(int offset) {
+			return fRangeStart <= offset && offset < fRangeEnd;
+		}
+
+		/*
+		 * @see org.eclipse.jdt.core.dom.ASTVisitor#preVisit2(org.eclipse.jdt.core.dom.ASTNode)
+		 * @since 3.27
+		 */
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			if (fProgressMonitor != null && fProgressMonitor.isCanceled())
+				return false;
+			int offset= node.getStartPosition();
+			return offset < 0 || offset < fRangeEnd && offset + node.getLength() >= fRangeStart;
+		}
+
 
 		@Override
 		protected boolean visitLiteral(Expression node) {
@@ -255,30 +358,15 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 
 		/**
-		 * Add a position with the given range and highlighting iff it does not exist already.
+		 * Add a position with the given range and highlighting. The position is compared with the
+		 * existing positions in {@link #diffPositions()}.
 		 * @param offset The range offset
 		 * @param length The range length
 		 * @param highlighting The highlighting
 		 */
 		private void addPosition(int offset, int length, Highlighting highlighting) {
-			boolean isExisting= false;
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
-				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position == null)
-					continue;
-				if (position.isEqual(offset, length, highlighting)) {
-					isExisting= true;
-					fRemovedPositions.set(i, null);
-					fNOfRemovedPositions--;
-					break;
-				}
-			}
-
-			if (!isExisting) {
-				Position position= fJobPresenter.createHighlightedPosition(offset, length, highlighting);
-				fAddedPositions.add(position);
-			}
+			if (isInRange(offset))
+				fCollectedPositions.add(new CollectedPosition(offset, length, highlighting));
 		}
 
 		/**
@@ -288,15 +376,87 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		protected void retainPositions(int offset, int length) {
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
-				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position != null && position.isContained(offset, length)) {
-					fRemovedPositions.set(i, null);
-					fNOfRemovedPositions--;
+			fRetainedRanges.add(new Region(offset, length));
+		}
+
+		/**
+		 * Compares the collected positions with the existing positions in
+		 * <code>fRemovedPositions</code>, which are ordered by offset. Afterwards
+		 * <code>fAddedPositions</code> contains the new positions and <code>fRemovedPositions</code>
+		 * the existing positions in the range that are neither collected again nor retained, both
+		 * ordered by offset.
+		 * <p>
+		 * The AST is visited almost in document order, so sorting the collected positions is cheap
+		 * and both lists are merged in a single pass.
+		 * </p>
+		 *
+		 * @since 3.27
+		 */
+		void diffPositions() {
+			fCollectedPositions.sort(POSITION_ORDER);
+			fRetainedRanges.sort(RANGE_ORDER);
+
+			List<Position> oldPositions= fRemovedPositions;
+			int n= oldPositions.size();
+			boolean[] isExisting= new boolean[n];
+			int i= 0;
+			for (CollectedPosition collected : fCollectedPositions) {
+				while (i < n && oldPositions.get(i).getOffset() < collected.fOffset)
+					i++;
+				boolean found= false;
+				for (int j= i; j < n && oldPositions.get(j).getOffset() == collected.fOffset; j++) {
+					if (!isExisting[j] && ((HighlightedPosition) oldPositions.get(j)).isEqual(collected.fOffset, collected.fLength, collected.fHighlighting)) {
+						isExisting[j]= true;
+						found= true;
+						break;
+					}
 				}
+				if (!found)
+					fAddedPositions.add(fJobPresenter.createHighlightedPosition(collected.fOffset, collected.fLength, collected.fHighlighting));
+			}
+
+			List<Position> newPositions= new ArrayList<>();
+			int k= 0, m= fRetainedRanges.size();
+			for (int j= 0; j < n; j++) {
+				if (isExisting[j])
+					continue;
+				HighlightedPosition position= (HighlightedPosition) oldPositions.get(j);
+				if (!isInRange(position.getOffset()))
+					continue;
+				while (k < m && fRetainedRanges.get(k).getOffset() + fRetainedRanges.get(k).getLength() < position.getOffset())
+					k++;
+				if (isRetained(fRetainedRanges, k, position.getOffset(), position.getLength()))
+					continue;
+				newPositions.add(position);
 			}
+			fRemovedPositions= newPositions;
+
+			fCollectedPositions.clear();
+			fRetainedRanges.clear();
+		}
+	}
+
+	/**
+	 * Tells whether a position is completely contained in one of the given ranges. The ranges
+	 * are ordered by offset and may overlap, so all ranges starting before the position are
+	 * checked.
+	 *
+	 * @param ranges the ranges, ordered by offset
+	 * @param start the index of the first range that may contain the position
+	 * @param offset the offset of the position
+	 * @param length the length of the position
+	 * @return <code>true</code> if a range contains the position
+	 * @since 3.27
+	 */
+	public static boolean isRetained(List<? extends IRegion> ranges, int start, int offset, int length) {
+		for (int i= start, n= ranges.size(); i < n; i++) {
+			IRegion range= ranges.get(i);
+			if (range.getOffset() > offset)
+				break;
+			if (offset + length <= range.getOffset() + range.getLength())
+				return true;
 		}
+		return false;
 	}
 
 	/** Position collector */
@@ -317,8 +477,33 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private List<Position> fAddedPositions= new ArrayList<>();
 	/** Background job's removed highlighted positions */
 	private List<Position> fRemovedPositions= new ArrayList<>();
-	/** Number of removed positions */
-	private int fNOfRemovedPositions;
+	/**
+	 * The presenter's positions after the pending update of the visible region has been applied,
+	 * or <code>null</code> if there is no pending update
+	 * @since 3.27
+	 */
+	private List<Position> fPendingPositions;
+	/**
+	 * The visible region of the source viewer, or <code>null</code> if unknown. Updated in the UI
+	 * thread.
+	 * @since 3.27
+	 */
+	private volatile IRegion fViewport;
+	/**
+	 * Updates the visible region when the text widget is resized.
+	 * @since 3.27
+	 */
+	private final ControlListener fResizeListener= new ControlAdapter() {
+		@Override
+		public void controlResized(ControlEvent e) {
+			updateViewport();
+		}
+	};
+	/**
+	 * The text widget the resize listener is registered with, or <code>null</code>
+	 * @since 3.27
+	 */
+	private StyledText fTextWidget;
 
 	/** Background job */
 	private Job fJob;
@@ -386,39 +571,120 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (subtrees.length == 0)
 				return;
 
-			startReconcilingPositions();
-
-			if (!fJobPresenter.isCanceled()) {
-				fJobDeprecatedMemberHighlighting= null;
-				for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
-					SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-					if (fJobHighlightings[i].isEnabled() && semanticHighlighting instanceof DeprecatedMemberHighlighting) {
-						fJobDeprecatedMemberHighlighting= fJobHighlightings[i];
-						break;
-					}
+			fJobDeprecatedMemberHighlighting= null;
+			for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
+				SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
+				if (fJobHighlightings[i].isEnabled() && semanticHighlighting instanceof DeprecatedMemberHighlighting) {
+					fJobDeprecatedMemberHighlighting= fJobHighlightings[i];
+					break;
 				}
-				reconcilePositions(subtrees);
 			}
 
-			TextPresentation textPresentation= null;
-			if (!fJobPresenter.isCanceled())
-				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
-
-			if (!fJobPresenter.isCanceled())
-				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
-
-			stopReconcilingPositions();
+			IRegion viewport= getViewportRegion(ast);
+			if (viewport != null) {
+				// highlight the visible part first, the rest of the file can be canceled by further changes
+				reconcile(subtrees, viewport, null);
+				if (progressMonitor.isCanceled())
+					return;
+				reconcile(subtrees, null, progressMonitor);
+			} else {
+				reconcile(subtrees, null, null);
+			}
 		} finally {
 			fJobPresenter= null;
 			fJobSemanticHighlightings= null;
 			fJobHighlightings= null;
 			fJobDeprecatedMemberHighlighting= null;
+			fPendingPositions= null;
 			synchronized (fReconcileLock) {
 				fIsReconciling= false;
 			}
 		}
 	}
 
+	/**
+	 * Reconciles the positions in the given region.
+	 *
+	 * @param subtrees the AST subtrees
+	 * @param region the region, or <code>null</code> to reconcile all positions
+	 * @param progressMonitor the progress monitor that cancels the reconcile, or <code>null</code>
+	 *            if it only depends on the presenter
+	 * @since 3.27
+	 */
+	private void reconcile(ASTNode[] subtrees, IRegion region, IProgressMonitor progressMonitor) {
+		startReconcilingPositions();
+		List<Position> oldPositions= fRemovedPositions;
+
+		if (!isCanceled(progressMonitor))
+			reconcilePositions(subtrees, region, progressMonitor);
+
+		TextPresentation textPresentation= null;
+		if (!isCanceled(progressMonitor))
+			textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
+
+		boolean isUpdated= false;
+		if (!isCanceled(progressMonitor))
+			isUpdated= updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+
+		if (region != null && isUpdated)
+			fPendingPositions= mergePositions(oldPositions, fRemovedPositions, fAddedPositions);
+
+		stopReconcilingPositions();
+	}
+
+	private boolean isCanceled(IProgressMonitor progressMonitor) {
+		return fJobPresenter.isCanceled() || progressMonitor != null && progressMonitor.isCanceled();
+	}
+
+	/**
+	 * Returns the region that is highlighted before the rest of the compilation unit: the visible
+	 * region of the source viewer and a margin of its size above and below.
+	 *
+	 * @param ast the compilation unit
+	 * @return the region, or <code>null</code> if the compilation unit is highlighted at once
+	 * @since 3.27
+	 */
+	private IRegion getViewportRegion(CompilationUnit ast) {
+		IRegion viewport= fViewport;
+		int length= ast.getStartPosition() + ast.getLength();
+		if (viewport == null || length < VIEWPORT_FIRST_MIN_LENGTH)
+			return null;
+
+		int margin= viewport.getLength();
+		int start= Math.max(viewport.getOffset() - margin, 0);
+		int end= Math.min(viewport.getOffset() + viewport.getLength() + margin, length);
+		if (end - start > length / 2)
+			return null;
+		return new Region(start, end - start);
+	}
+
+	/**
+	 * Computes the positions of the presenter after an update.
+	 *
+	 * @param oldPositions the positions before the update, ordered by offset
+	 * @param removedPositions the removed positions, a subsequence of <code>oldPositions</code>
+	 * @param addedPositions the added positions, ordered by offset
+	 * @return the positions after the update, ordered by offset
+	 * @since 3.27
+	 */
+	private static List<Position> mergePositions(List<Position> oldPositions, List<Position> removedPositions, List<Position> addedPositions) {
+		List<Position> positions= new ArrayList<>(oldPositions.size() + addedPositions.size() - removedPositions.size());
+		int j= 0, k= 0;
+		int m= removedPositions.size(), l= addedPositions.size();
+		for (Position position : oldPositions) {
+			if (j < m && removedPositions.get(j) == position) {
+				j++;
+				continue;
+			}
+			while (k < l && addedPositions.get(k).getOffset() < position.getOffset())
+				positions.add(addedPositions.get(k++));
+			positions.add(position);
+		}
+		while (k < l)
+			positions.add(addedPositions.get(k++));
+		return positions;
+	}
+
 	/**
 	 * @param node Root node
 	 * @return Array of subtrees that may be affected by past document changes
@@ -432,29 +698,36 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * Start reconciling positions.
 	 */
 	private void startReconcilingPositions() {
-		fJobPresenter.addAllPositions(fRemovedPositions);
-		fNOfRemovedPositions= fRemovedPositions.size();
+		if (fPendingPositions != null) {
+			// the update of the visible region may not have been applied yet
+			fRemovedPositions.addAll(fPendingPositions);
+			fPendingPositions= null;
+		} else {
+			fJobPresenter.addAllPositions(fRemovedPositions);
+		}
 	}
 
 	/**
 	 * Reconcile positions based on the AST subtrees
 	 *
 	 * @param subtrees the AST subtrees
+	 * @param region the region, or <code>null</code> to reconcile all positions
+	 * @param progressMonitor the progress monitor that stops the visit when canceled, or
+	 *            <code>null</code>
 	 */
-	private void reconcilePositions(ASTNode[] subtrees) {
+	private void reconcilePositions(ASTNode[] subtrees, IRegion region, IProgressMonitor progressMonitor) {
 		// FIXME: remove positions not covered by subtrees
 
 
 
-		for (ASTNode subtree : subtrees)
-			subtree.accept(fCollector);
-		List<Position> oldPositions= fRemovedPositions;
-		List<Position> newPositions= new ArrayList<>(fNOfRemovedPositions);
-		for (Position current : oldPositions) {
-			if (current != null)
-				newPositions.add(current);
+		fCollector.setRange(region, progressMonitor);
+		try {
+			for (ASTNode subtree : subtrees)
+				subtree.accept(fCollector);
+			fCollector.diffPositions();
+		} finally {
+			fCollector.setRange(null, null);
 		}
-		fRemovedPositions= newPositions;
 	}
 
 	/**
@@ -463,29 +736,31 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param textPresentation the text presentation
 	 * @param addedPositions the added positions
 	 * @param removedPositions the removed positions
+	 * @return <code>true</code> if the update has been posted to the UI thread
 	 */
-	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions) {
+	private boolean updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions) {
 		Runnable runnable= fJobPresenter.createUpdateRunnable(textPresentation, addedPositions, removedPositions);
 		if (runnable == null)
-			return;
+			return false;
 
 		JavaEditor editor= fEditor;
 		if (editor == null)
-			return;
+			return false;
 
 		IWorkbenchPartSite site= editor.getSite();
 		if (site == null)
-			return;
+			return false;
 
 		Shell shell= site.getShell();
 		if (shell == null || shell.isDisposed())
-			return;
+			return false;
 
 		Display display= shell.getDisplay();
 		if (display == null || display.isDisposed())
-			return;
+			return false;
 
 		display.asyncExec(runnable);
+		return true;
 	}
 
 	/**
@@ -493,7 +768,6 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void stopReconcilingPositions() {
 		fRemovedPositions.clear();
-		fNOfRemovedPositions= 0;
 		fAddedPositions.clear();
 	}
 
@@ -513,6 +787,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fEditor= editor;
 		fSourceViewer= sourceViewer;
 
+		fSourceViewer.addViewportListener(this);
+		fTextWidget= fSourceViewer.getTextWidget();
+		if (fTextWidget != null)
+			fTextWidget.addControlListener(fResizeListener);
+		updateViewport();
+
 		if (fEditor instanceof CompilationUnitEditor) {
 			((CompilationUnitEditor)fEditor).addReconcileListener(this);
 		} else if (fEditor == null) {
@@ -536,6 +816,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			fEditor= null;
 		}
 
+		if (fSourceViewer != null)
+			fSourceViewer.removeViewportListener(this);
+		if (fTextWidget != null && !fTextWidget.isDisposed())
+			fTextWidget.removeControlListener(fResizeListener);
+		fTextWidget= null;
+		fViewport= null;
 		fSourceViewer= null;
 		fSemanticHighlightings= null;
 		fHighlightings= null;
@@ -608,6 +894,32 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			scheduleJob();
 	}
 
+	/*
+	 * @see org.eclipse.jface.text.IViewportListener#viewportChanged(int)
+	 * @since 3.27
+	 */
+	@Override
+	public void viewportChanged(int verticalOffset) {
+		updateViewport();
+	}
+
+	/**
+	 * Updates the visible region of the source viewer. Called in the UI thread.
+	 *
+	 * @since 3.27
+	 */
+	private void updateViewport() {
+		ISourceViewer sourceViewer= fSourceViewer;
+		StyledText textWidget= sourceViewer != null ? sourceViewer.getTextWidget() : null;
+		if (textWidget == null || textWidget.isDisposed()) {
+			fViewport= null;
+			return;
+		}
+		int start= sourceViewer.getTopIndexStartOffset();
+		int end= sourceViewer.getBottomIndexEndOffset();
+		fViewport= start >= 0 && end > start ? new Region(start, end - start) : null;
+	}
+
 	/**
 	 * Refreshes the highlighting.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,14 @@ import org.eclipse.jdt.core.JavaCore;
  */
 public class DefaultSpellingEngine implements ISpellingEngine {
 
+	/**
+	 * The id of this engine in the <code>org.eclipse.ui.workbench.texteditor.spellingEngine</code>
+	 * extension point.
+	 *
+	 * @since 3.27
+	 */
+	public static final String ID= "org.eclipse.jdt.internal.ui.text.spelling.DefaultSpellingEngine"; //$NON-NLS-1$
+
 	/** Text content type */
 	private static final IContentType TEXT_CONTENT_TYPE= Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.content.IContentType;
 
@@ -37,6 +41,8 @@ import org.eclipse.jdt.core.IProblemRequestor;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.compiler.IProblem;
 
+import org.eclipse.jdt.ui.PreferenceConstants;
+
 
 /**
  * Reconcile strategy for spell checking comments.
@@ -48,36 +54,29 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 
 	/**
 	 * Spelling problem collector that forwards {@link SpellingProblem}s as
-	 * {@link IProblem}s to the {@link IProblemRequestor}.
+	 * {@link IProblem}s to the {@link IProblemRequestor}, together with the
+	 * problems of the unchanged partitions from the previous check.
 	 */
 	private class SpellingProblemCollector implements ISpellingProblemCollector {
 
+		/**
+		 * The problems found by the current check.
+		 * @since 3.27
+		 */
+		private final List<SpellingProblemCache.Problem> fFound= new ArrayList<>();
+
 		/*
 		 * @see org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector#accept(org.eclipse.ui.texteditor.spelling.SpellingProblem)
 		 */
 		@Override
 		public void accept(SpellingProblem problem) {
-			IProblemRequestor requestor= fRequestor;
-			if (requestor != null) {
-				try {
-					int line= getDocument().getLineOfOffset(problem.getOffset()) + 1;
-					String word= getDocument().get(problem.getOffset(), problem.getLength());
-					boolean dictionaryMatch= false;
-					boolean sentenceStart= false;
-					if (problem instanceof JavaSpellingProblem) {
-						dictionaryMatch= ((JavaSpellingProblem)problem).isDictionaryMatch();
-						sentenceStart= ((JavaSpellingProblem) problem).isSentenceStart();
-					}
-					// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=81514
-					IEditorInput editorInput= fEditor.getEditorInput();
-					if (editorInput != null) {
-						CoreSpellingProblem iProblem= new CoreSpellingProblem(problem.getOffset(), problem.getOffset() + problem.getLength() - 1, line, problem.getMessage(), word, dictionaryMatch, sentenceStart, getDocument(), editorInput.getName());
-						requestor.acceptProblem(iProblem);
-					}
-				} catch (BadLocationException x) {
-					// drop this SpellingProblem
-				}
+			boolean dictionaryMatch= false;
+			boolean sentenceStart= false;
+			if (problem instanceof JavaSpellingProblem) {
+				dictionaryMatch= ((JavaSpellingProblem)problem).isDictionaryMatch();
+				sentenceStart= ((JavaSpellingProblem) problem).isSentenceStart();
 			}
+			fFound.add(new SpellingProblemCache.Problem(problem.getOffset(), problem.getLength(), problem.getMessage(), dictionaryMatch, sentenceStart));
 		}
 
 		/*
@@ -85,8 +84,7 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 		 */
 		@Override
 		public void beginCollecting() {
-			if (fRequestor != null)
-				fRequestor.beginReporting();
+			fFound.clear();
 		}
 
 		/*
@@ -94,8 +92,11 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 		 */
 		@Override
 		public void endCollecting() {
-			if (fRequestor != null)
-				fRequestor.endReporting();
+			SpellingProblemCache.Check check= fCheck;
+			fCheck= null;
+			if (check != null)
+				report(fProblemCache.endCheck(check, fFound, getProblemsThreshold()));
+			fFound.clear();
 		}
 	}
 
@@ -112,6 +113,18 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	/** The problem requester. */
 	private IProblemRequestor fRequestor;
 
+	/**
+	 * The problems of the last check and the changes since then.
+	 * @since 3.27
+	 */
+	private final SpellingProblemCache fProblemCache= new SpellingProblemCache();
+
+	/**
+	 * The running check or <code>null</code>.
+	 * @since 3.27
+	 */
+	private SpellingProblemCache.Check fCheck;
+
 
 	/**
 	 * Creates a new comment reconcile strategy.
@@ -129,8 +142,65 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	 */
 	@Override
 	public void reconcile(IRegion region) {
-		if (fRequestor != null && isSpellingEnabled())
-			super.reconcile(region);
+		if (fRequestor == null || !isSpellingEnabled())
+			return;
+
+		SpellingProblemCache.Check check= fProblemCache.beginCheck(region);
+		IRegion dirtyRegion= check.getRegion();
+		if (dirtyRegion == null) {
+			// nothing changed since the last check
+			report(fProblemCache.endCheck(check, Collections.emptyList(), getProblemsThreshold()));
+			return;
+		}
+
+		fCheck= check;
+		try {
+			super.reconcile(dirtyRegion);
+		} finally {
+			if (fCheck != null) {
+				// the check did not finish, the changes since the last check are unknown now
+				fCheck= null;
+				fProblemCache.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * Reports the given problems to the problem requestor.
+	 *
+	 * @param problems the problems of the checked region
+	 * @since 3.27
+	 */
+	private void report(List<SpellingProblemCache.Problem> problems) {
+		IProblemRequestor requestor= fRequestor;
+		if (requestor == null)
+			return;
+
+		requestor.beginReporting();
+		try {
+			// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=81514
+			IEditorInput editorInput= fEditor.getEditorInput();
+			if (editorInput == null)
+				return;
+
+			IDocument document= getDocument();
+			for (SpellingProblemCache.Problem problem : problems) {
+				try {
+					int offset= problem.getOffset();
+					int line= document.getLineOfOffset(offset) + 1;
+					String word= document.get(offset, problem.getLength());
+					requestor.acceptProblem(new CoreSpellingProblem(offset, offset + problem.getLength() - 1, line, problem.getMessage(), word, problem.isDictionaryMatch(), problem.isSentenceStart(), document, editorInput.getName()));
+				} catch (BadLocationException x) {
+					// drop this SpellingProblem
+				}
+			}
+		} finally {
+			requestor.endReporting();
+		}
+	}
+
+	private static int getProblemsThreshold() {
+		return PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
 	}
 
 	private boolean isSpellingEnabled() {
@@ -161,9 +231,19 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	@Override
 	public void setDocument(IDocument document) {
 		super.setDocument(document);
+		fProblemCache.install(document);
 		updateProblemRequester();
 	}
 
+	/**
+	 * Stops tracking the changes of the document and forgets the cached problems.
+	 *
+	 * @since 3.27
+	 */
+	public void dispose() {
+		fProblemCache.uninstall();
+	}
+
 	/**
 	 * Update the problem requester based on the current editor
 	 */
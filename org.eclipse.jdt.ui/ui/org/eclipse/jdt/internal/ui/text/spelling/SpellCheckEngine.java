@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.ui.text.spelling;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -44,6 +45,7 @@ import org.eclipse.ui.editors.text.EditorsUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.CompactSpellDictionary;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
@@ -62,9 +64,32 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	/** The dictionary location */
 	public static final String DICTIONARY_LOCATION= "dictionaries/"; //$NON-NLS-1$
 
+	/**
+	 * Whether the locale dictionaries use the compact, memory-mapped
+	 * {@link CompactSpellDictionary}.
+	 *
+	 * @since 3.27
+	 */
+	private static final boolean COMPACT_DICTIONARIES= Boolean.getBoolean("org.eclipse.jdt.ui.spelling.compactDictionaries"); //$NON-NLS-1$
+
+	/**
+	 * The location of the cached dictionary indexes in the plug-in state location.
+	 *
+	 * @since 3.27
+	 */
+	private static final String DICTIONARY_CACHE_LOCATION= "dictionaries"; //$NON-NLS-1$
+
 	/** The singleton engine instance */
 	private static ISpellCheckEngine fgEngine= null;
 
+	/**
+	 * Incremented whenever a spelling preference changes or an engine is
+	 * created or shut down.
+	 *
+	 * @since 3.27
+	 */
+	private static volatile long fgSettingsStamp= 0;
+
 	/**
 	 * Caches the locales of installed dictionaries.
 	 *
@@ -226,6 +251,24 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 		return null;
 	}
 
+	/**
+	 * Creates the dictionary for the given locale.
+	 *
+	 * @param locale the locale
+	 * @param location the location of the locale sensitive dictionaries
+	 * @return the dictionary
+	 * @throws MalformedURLException if the URL of the word list could not be created
+	 * @since 3.27
+	 */
+	private static ISpellDictionary createLocaleDictionary(Locale locale, URL location) throws MalformedURLException {
+		if (!COMPACT_DICTIONARIES)
+			return new LocaleSensitiveSpellDictionary(locale, location);
+
+		String fileName= locale.toString() + ".dictionary"; //$NON-NLS-1$
+		File cacheFile= JavaPlugin.getDefault().getStateLocation().append(DICTIONARY_CACHE_LOCATION).append(fileName + ".index").toFile(); //$NON-NLS-1$
+		return new CompactSpellDictionary(new URL(location, fileName), cacheFile);
+	}
+
 	/**
 	 * Returns the singleton instance of the spell check engine.
 	 *
@@ -239,6 +282,17 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 		return fgEngine;
 	}
 
+	/**
+	 * Returns a stamp which changes whenever a preference changes which may
+	 * affect the results of a spell check.
+	 *
+	 * @return the settings stamp
+	 * @since 3.27
+	 */
+	public static long getSettingsStamp() {
+		return fgSettingsStamp;
+	}
+
 	/**
 	 * Shuts down the singleton instance of the spell check engine.
 	 */
@@ -281,7 +335,7 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 				for (final Iterator<Locale> iterator= getLocalesWithInstalledDictionaries(location).iterator(); iterator.hasNext();) {
 
 					locale= iterator.next();
-					fLocaleDictionaries.put(locale, new LocaleSensitiveSpellDictionary(locale, location));
+					fLocaleDictionaries.put(locale, createLocaleDictionary(locale, location));
 				}
 			}
 
@@ -291,6 +345,7 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 
 		JavaPlugin.getDefault().getPreferenceStore().addPropertyChangeListener(this);
 		EditorsUI.getPreferenceStore().addPropertyChangeListener(this);
+		fgSettingsStamp++;
 	}
 
 	/*
@@ -369,6 +424,8 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	 */
 	@Override
 	public final void propertyChange(final PropertyChangeEvent event) {
+		fgSettingsStamp++;
+
 		if (PreferenceConstants.SPELLING_LOCALE.equals(event.getProperty())) {
 			resetSpellChecker();
 			return;
@@ -468,6 +525,7 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 
 		JavaPlugin.getDefault().getPreferenceStore().removePropertyChangeListener(this);
 		EditorsUI.getPreferenceStore().removePropertyChangeListener(this);
+		fgSettingsStamp++;
 
 		ISpellDictionary dictionary= null;
 		for (final Iterator<ISpellDictionary> iterator= fGlobalDictionaries.iterator(); iterator.hasNext();) {
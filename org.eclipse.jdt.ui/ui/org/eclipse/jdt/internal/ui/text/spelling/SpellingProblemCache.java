@@ -0,0 +1,429 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.DocumentPartitioningChangedEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IDocumentPartitioningListener;
+import org.eclipse.jface.text.IDocumentPartitioningListenerExtension2;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextUtilities;
+
+import org.eclipse.ui.texteditor.spelling.SpellingEngineDescriptor;
+
+import org.eclipse.ui.editors.text.EditorsUI;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+
+
+/**
+ * The spelling problems of a document found by the last spell check, together with
+ * the part of the document which changed since then. Allows to only check the changed
+ * partitions again and to reuse the problems of all other partitions.
+ * <p>
+ * The cached problems are only reused as long as the spelling preferences, the
+ * dictionaries and the ignored words of the spell checker did not change.
+ * </p>
+ *
+ * @since 3.27
+ */
+public final class SpellingProblemCache implements IDocumentListener, IDocumentPartitioningListener, IDocumentPartitioningListenerExtension2 {
+
+	/**
+	 * A spelling problem whose offset is updated on document changes.
+	 */
+	public static final class Problem {
+
+		private int fOffset;
+
+		private final int fLength;
+
+		private final String fMessage;
+
+		private final boolean fDictionaryMatch;
+
+		private final boolean fSentenceStart;
+
+		public Problem(int offset, int length, String message, boolean dictionaryMatch, boolean sentenceStart) {
+			fOffset= offset;
+			fLength= length;
+			fMessage= message;
+			fDictionaryMatch= dictionaryMatch;
+			fSentenceStart= sentenceStart;
+		}
+
+		private Problem(Problem problem) {
+			this(problem.fOffset, problem.fLength, problem.fMessage, problem.fDictionaryMatch, problem.fSentenceStart);
+		}
+
+		public int getOffset() {
+			return fOffset;
+		}
+
+		public int getLength() {
+			return fLength;
+		}
+
+		public String getMessage() {
+			return fMessage;
+		}
+
+		public boolean isDictionaryMatch() {
+			return fDictionaryMatch;
+		}
+
+		public boolean isSentenceStart() {
+			return fSentenceStart;
+		}
+	}
+
+	/**
+	 * A spell check of a document which is started with {@link SpellingProblemCache#beginCheck(IRegion)}.
+	 */
+	public static final class Check {
+
+		private final IRegion fRegion;
+
+		private final List<Problem> fReused;
+
+		private final boolean fComplete;
+
+		private final long fDocumentStamp;
+
+		private final long fSettingsStamp;
+
+		private final ISpellChecker fChecker;
+
+		private final long fCheckerStamp;
+
+		Check(IRegion region, List<Problem> reused, boolean complete, long documentStamp, long settingsStamp, ISpellChecker checker, long checkerStamp) {
+			fRegion= region;
+			fReused= reused;
+			fComplete= complete;
+			fDocumentStamp= documentStamp;
+			fSettingsStamp= settingsStamp;
+			fChecker= checker;
+			fCheckerStamp= checkerStamp;
+		}
+
+		/**
+		 * Returns the region which has to be spell checked.
+		 *
+		 * @return the region to check or <code>null</code> if nothing changed
+		 */
+		public IRegion getRegion() {
+			return fRegion;
+		}
+	}
+
+	private static final Comparator<Problem> BY_OFFSET= Comparator.comparingInt(Problem::getOffset);
+
+	/** The lock for all fields but the document */
+	private final Object fLock= new Object();
+
+	/** The document or <code>null</code> if not installed */
+	private volatile IDocument fDocument;
+
+	/** The problems of the last check in the whole document or <code>null</code> if unknown */
+	private List<Problem> fProblems;
+
+	/** The start of the region changed since the last check or <code>-1</code> if none */
+	private int fDirtyStart= -1;
+
+	/** The exclusive end of the region changed since the last check */
+	private int fDirtyEnd;
+
+	/** <code>true</code> between <code>documentAboutToBeChanged</code> and <code>documentChanged</code> */
+	private boolean fInChange;
+
+	/** The changed partitioning reported during the current document change or <code>null</code> */
+	private IRegion fPendingPartitioningChange;
+
+	private long fSettingsStamp;
+
+	private ISpellChecker fChecker;
+
+	private long fCheckerStamp;
+
+	/**
+	 * Starts tracking the changes of the given document and forgets all cached problems.
+	 *
+	 * @param document the document, can be <code>null</code>
+	 */
+	public void install(IDocument document) {
+		uninstall();
+		if (document != null) {
+			document.addDocumentListener(this);
+			document.addDocumentPartitioningListener(this);
+			fDocument= document;
+		}
+	}
+
+	/**
+	 * Stops tracking the document changes and forgets all cached problems.
+	 */
+	public void uninstall() {
+		IDocument document= fDocument;
+		if (document != null) {
+			document.removeDocumentListener(this);
+			document.removeDocumentPartitioningListener(this);
+			fDocument= null;
+		}
+		invalidate();
+	}
+
+	/**
+	 * Forgets all cached problems, the next check will check the whole document.
+	 */
+	public void invalidate() {
+		synchronized (fLock) {
+			fProblems= null;
+			fDirtyStart= -1;
+			fPendingPartitioningChange= null;
+		}
+	}
+
+	/**
+	 * Starts a spell check of the given region of the document.
+	 *
+	 * @param region the region which should be checked
+	 * @return the check, {@link Check#getRegion()} tells which region has to be checked
+	 */
+	public Check beginCheck(IRegion region) {
+		IDocument document= fDocument;
+		long documentStamp= getModificationStamp(document);
+		long settingsStamp= SpellCheckEngine.getSettingsStamp();
+		ISpellChecker checker= getSpellChecker();
+		long checkerStamp= checker instanceof DefaultSpellChecker ? ((DefaultSpellChecker) checker).getModificationStamp() : 0;
+
+		boolean complete= document != null && region.getOffset() == 0 && region.getLength() == document.getLength();
+		boolean reusable= complete && checker instanceof DefaultSpellChecker && documentStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+
+		List<Problem> problems;
+		int dirtyStart, dirtyEnd;
+		synchronized (fLock) {
+			reusable= reusable && fProblems != null && fSettingsStamp == settingsStamp && fChecker == checker && fCheckerStamp == checkerStamp;
+			problems= new ArrayList<>(reusable ? fProblems.size() : 0);
+			if (reusable) {
+				for (Problem problem : fProblems)
+					problems.add(new Problem(problem));
+			}
+			dirtyStart= fDirtyStart;
+			dirtyEnd= fDirtyEnd;
+			fDirtyStart= -1;
+		}
+
+		if (!reusable || !isDefaultEngineActive())
+			return new Check(region, Collections.emptyList(), complete, documentStamp, settingsStamp, checker, checkerStamp);
+
+		if (dirtyStart == -1)
+			return new Check(null, problems, true, documentStamp, settingsStamp, checker, checkerStamp);
+
+		IRegion dirty;
+		try {
+			dirty= getEnclosingPartitions(document, dirtyStart, dirtyEnd);
+		} catch (BadLocationException e) {
+			// the document has been changed in another thread, check all again
+			return new Check(region, Collections.emptyList(), complete, documentStamp, settingsStamp, checker, checkerStamp);
+		}
+
+		int start= dirty.getOffset();
+		int end= start + dirty.getLength();
+		for (int i= problems.size() - 1; i >= 0; i--) {
+			Problem problem= problems.get(i);
+			if (problem.fOffset < end && start < problem.fOffset + problem.fLength)
+				problems.remove(i);
+		}
+		return new Check(dirty, problems, true, documentStamp, settingsStamp, checker, checkerStamp);
+	}
+
+	/**
+	 * Finishes the given check and caches its problems for the next check.
+	 *
+	 * @param check the check
+	 * @param found the problems found in the checked region
+	 * @param threshold the maximal number of problems reported for a document
+	 * @return the problems of the whole checked region, ordered by offset, at most
+	 *         <code>threshold</code> many
+	 */
+	public List<Problem> endCheck(Check check, List<Problem> found, int threshold) {
+		List<Problem> problems= new ArrayList<>(check.fReused.size() + found.size());
+		problems.addAll(check.fReused);
+		problems.addAll(found);
+		if (!check.fReused.isEmpty())
+			problems.sort(BY_OFFSET);
+		if (problems.size() > threshold)
+			problems= new ArrayList<>(problems.subList(0, Math.max(0, threshold)));
+
+		synchronized (fLock) {
+			// the problems of an incomplete check cannot be reused
+			if (!check.fComplete || problems.size() >= threshold || getModificationStamp(fDocument) != check.fDocumentStamp) {
+				fProblems= null;
+			} else {
+				fProblems= new ArrayList<>(problems.size());
+				for (Problem problem : problems)
+					fProblems.add(new Problem(problem));
+				fSettingsStamp= check.fSettingsStamp;
+				fChecker= check.fChecker;
+				fCheckerStamp= check.fCheckerStamp;
+			}
+		}
+		return problems;
+	}
+
+	/**
+	 * Returns the region covering the partitions which contain the given range, or which
+	 * are adjacent to it.
+	 */
+	private static IRegion getEnclosingPartitions(IDocument document, int start, int end) throws BadLocationException {
+		int length= document.getLength();
+		if (length == 0)
+			return new Region(0, 0);
+		start= Math.max(0, Math.min(start - 1, length - 1));
+		end= Math.max(start, Math.min(end, length - 1));
+		ITypedRegion first= TextUtilities.getPartition(document, IJavaPartitions.JAVA_PARTITIONING, start, false);
+		ITypedRegion last= TextUtilities.getPartition(document, IJavaPartitions.JAVA_PARTITIONING, end, false);
+		int regionEnd= Math.max(first.getOffset() + first.getLength(), last.getOffset() + last.getLength());
+		return new Region(first.getOffset(), regionEnd - first.getOffset());
+	}
+
+	private static ISpellChecker getSpellChecker() {
+		try {
+			return SpellCheckEngine.getInstance().getSpellChecker();
+		} catch (IllegalStateException e) {
+			// the engine has been shut down
+			return null;
+		}
+	}
+
+	private static boolean isDefaultEngineActive() {
+		SpellingEngineDescriptor descriptor= EditorsUI.getSpellingService().getActiveSpellingEngineDescriptor(EditorsUI.getPreferenceStore());
+		return descriptor != null && DefaultSpellingEngine.ID.equals(descriptor.getId());
+	}
+
+	private static long getModificationStamp(IDocument document) {
+		if (document instanceof IDocumentExtension4)
+			return ((IDocumentExtension4) document).getModificationStamp();
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	/**
+	 * Adds the given range of the current document to the changed region.
+	 */
+	private void addDirtyRange(int start, int end) {
+		if (fDirtyStart == -1) {
+			fDirtyStart= start;
+			fDirtyEnd= end;
+		} else {
+			fDirtyStart= Math.min(fDirtyStart, start);
+			fDirtyEnd= Math.max(fDirtyEnd, end);
+		}
+	}
+
+	/*
+	 * @see org.eclipse.jface.text.IDocumentListener#documentAboutToBeChanged(org.eclipse.jface.text.DocumentEvent)
+	 */
+	@Override
+	public void documentAboutToBeChanged(DocumentEvent event) {
+		synchronized (fLock) {
+			fInChange= true;
+		}
+	}
+
+	/*
+	 * @see org.eclipse.jface.text.IDocumentListener#documentChanged(org.eclipse.jface.text.DocumentEvent)
+	 */
+	@Override
+	public void documentChanged(DocumentEvent event) {
+		int offset= event.getOffset();
+		int removedEnd= offset + event.getLength();
+		int delta= (event.getText() == null ? 0 : event.getText().length()) - event.getLength();
+
+		synchronized (fLock) {
+			fInChange= false;
+
+			if (fProblems != null) {
+				for (int i= fProblems.size() - 1; i >= 0; i--) {
+					Problem problem= fProblems.get(i);
+					if (problem.fOffset >= removedEnd)
+						problem.fOffset+= delta;
+					else if (problem.fOffset + problem.fLength > offset)
+						fProblems.remove(i);
+				}
+			}
+
+			if (fDirtyStart != -1) {
+				if (fDirtyStart >= removedEnd)
+					fDirtyStart+= delta;
+				else if (fDirtyStart > offset)
+					fDirtyStart= offset;
+				if (fDirtyEnd >= removedEnd)
+					fDirtyEnd+= delta;
+				else if (fDirtyEnd > offset)
+					fDirtyEnd= offset;
+			}
+			addDirtyRange(offset, removedEnd + delta);
+
+			if (fPendingPartitioningChange != null) {
+				addDirtyRange(fPendingPartitioningChange.getOffset(), fPendingPartitioningChange.getOffset() + fPendingPartitioningChange.getLength());
+				fPendingPartitioningChange= null;
+			}
+		}
+	}
+
+	/*
+	 * @see org.eclipse.jface.text.IDocumentPartitioningListenerExtension2#documentPartitioningChanged(org.eclipse.jface.text.DocumentPartitioningChangedEvent)
+	 */
+	@Override
+	public void documentPartitioningChanged(DocumentPartitioningChangedEvent event) {
+		IRegion changed= event.getChangedRegion(IJavaPartitions.JAVA_PARTITIONING);
+		if (changed == null)
+			return;
+
+		synchronized (fLock) {
+			// regions of the partitioning change are in the coordinates of the changed document
+			if (fInChange) {
+				if (fPendingPartitioningChange != null) {
+					int start= Math.min(changed.getOffset(), fPendingPartitioningChange.getOffset());
+					int end= Math.max(changed.getOffset() + changed.getLength(), fPendingPartitioningChange.getOffset() + fPendingPartitioningChange.getLength());
+					changed= new Region(start, end - start);
+				}
+				fPendingPartitioningChange= changed;
+			} else
+				addDirtyRange(changed.getOffset(), changed.getOffset() + changed.getLength());
+		}
+	}
+
+	/*
+	 * @see org.eclipse.jface.text.IDocumentPartitioningListener#documentPartitioningChanged(org.eclipse.jface.text.IDocument)
+	 */
+	@Override
+	public void documentPartitioningChanged(IDocument document) {
+		// not called, see IDocumentPartitioningListenerExtension2
+	}
+}
@@ -353,14 +353,40 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		}
 
 		final String hash= fHashProvider.getHash(word);
-		final char[] mutators= fHashProvider.getMutators();
-
-		final ArrayList<String> neighborhood= new ArrayList<>((word.length() + 1) * (mutators.length + 2));
+		final ArrayList<String> neighborhood= new ArrayList<>((word.length() + 1) * (fHashProvider.getMutators().length + 2));
 		neighborhood.add(hash);
 
 		final Set<RankedWordProposal> candidates= getCandidates(word, sentence, neighborhood);
 		neighborhood.clear();
 
+		addNeighborhood(fHashProvider, word, neighborhood);
+		neighborhood.remove(hash);
+		final Set<RankedWordProposal> matches= getCandidates(word, sentence, neighborhood);
+
+		if (matches.isEmpty() && candidates.isEmpty())
+			getCandidates(word, sentence, candidates);
+
+		candidates.addAll(matches);
+
+		return candidates;
+	}
+
+	/**
+	 * Adds the phonetic hashes of all words which differ from the specified word by
+	 * swapping two adjacent characters, inserting, replacing or deleting a character.
+	 *
+	 * @param provider
+	 *                   The phonetic hash provider
+	 * @param word
+	 *                   The word to compute the neighborhood of
+	 * @param neighborhood
+	 *                   The list to add the hashes to
+	 * @since 3.27
+	 */
+	static void addNeighborhood(final IPhoneticHashProvider provider, final String word, final ArrayList<String> neighborhood) {
+
+		final char[] mutators= provider.getMutators();
+
 		char previous= 0;
 		char next= 0;
 
@@ -373,7 +399,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			characters[index]= previous;
 			characters[index + 1]= next;
 
-			neighborhood.add(fHashProvider.getHash(new String(characters)));
+			neighborhood.add(provider.getHash(new String(characters)));
 
 			characters[index]= next;
 			characters[index + 1]= previous;
@@ -389,7 +415,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			for (char mutator : mutators) {
 
 				characters[offset]= mutator;
-				neighborhood.add(fHashProvider.getHash(new String(characters)));
+				neighborhood.add(provider.getHash(new String(characters)));
 			}
 
 			if (offset == 0)
@@ -408,7 +434,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			for (char mutator2 : mutators) {
 
 				characters[index]= mutator2;
-				neighborhood.add(fHashProvider.getHash(new String(characters)));
+				neighborhood.add(provider.getHash(new String(characters)));
 			}
 			characters[index]= mutated;
 		}
@@ -423,7 +449,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 		while (true) {
 
-			neighborhood.add(fHashProvider.getHash(new String(characters)));
+			neighborhood.add(provider.getHash(new String(characters)));
 			if (offset == 0)
 				break;
 
@@ -433,16 +459,6 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			deleted[offset - 1]= previous;
 			--offset;
 		}
-
-		neighborhood.remove(hash);
-		final Set<RankedWordProposal> matches= getCandidates(word, sentence, neighborhood);
-
-		if (matches.isEmpty() && candidates.isEmpty())
-			getCandidates(word, sentence, candidates);
-
-		candidates.addAll(matches);
-
-		return candidates;
 	}
 
 	/**
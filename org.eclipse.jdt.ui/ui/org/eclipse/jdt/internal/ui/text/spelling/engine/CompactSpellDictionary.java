@@ -0,0 +1,636 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
+
+
+/**
+ * Read-only word-list based dictionary with a compact in-memory layout.
+ * <p>
+ * Unlike {@link AbstractSpellDictionary}, which keeps one array per word, the word list is
+ * converted into a single index: an open addressing table of the phonetic hashes, the words
+ * grouped by phonetic hash and one pool with the UTF-8 encoded hashes and words. If a cache file
+ * is given, the index is written to it and memory-mapped, such that later sessions reuse it
+ * without reading the word list again as long as the word list did not change.
+ * </p>
+ * <p>
+ * The proposals and the correctness check are the same as the ones of
+ * {@link AbstractSpellDictionary}.
+ * </p>
+ *
+ * @since 3.27
+ */
+public class CompactSpellDictionary implements ISpellDictionary {
+
+	/**
+	 * The packed index. All sections are read with absolute accesses, such that the index can be
+	 * read by several threads.
+	 * <p>
+	 * Layout: header, table (int per slot, bucket number + 1 or 0 if empty), bucket hashes (pool
+	 * offset per bucket), bucket starts (first word number per bucket and the word count), words
+	 * (pool offset per word) and the pool (unsigned short length followed by the UTF-8 bytes per
+	 * entry).
+	 * </p>
+	 */
+	private static final class Index {
+
+		private static final int MAGIC= 0x4A445344;
+		private static final int VERSION= 1;
+
+		private static final int MODIFIED= 8;
+		private static final int LENGTH= 16;
+		private static final int ENCODING= 24;
+		private static final int TABLE_SIZE= 28;
+		private static final int BUCKET_COUNT= 32;
+		private static final int WORD_COUNT= 36;
+		private static final int POOL_SIZE= 40;
+		private static final int HEADER_SIZE= 48;
+
+		private final ByteBuffer fBuffer;
+		private final int fMask;
+		private final int fWordCount;
+		private final int fBucketHashes;
+		private final int fBucketStarts;
+		private final int fWords;
+		private final int fPool;
+
+		Index(ByteBuffer buffer) {
+			fBuffer= buffer;
+			int tableSize= buffer.getInt(TABLE_SIZE);
+			int bucketCount= buffer.getInt(BUCKET_COUNT);
+			fMask= tableSize - 1;
+			fWordCount= buffer.getInt(WORD_COUNT);
+			fBucketHashes= HEADER_SIZE + 4 * tableSize;
+			fBucketStarts= fBucketHashes + 4 * bucketCount;
+			fWords= fBucketStarts + 4 * (bucketCount + 1);
+			fPool= fWords + 4 * fWordCount;
+		}
+
+		static int getSize(int tableSize, int bucketCount, int wordCount, int poolSize) {
+			return HEADER_SIZE + 4 * (tableSize + bucketCount + bucketCount + 1 + wordCount) + poolSize;
+		}
+
+		/**
+		 * Tells whether the buffer contains a complete index for the given word list.
+		 */
+		static boolean isValid(ByteBuffer buffer, long modified, long length, int encoding) {
+			if (buffer.capacity() < HEADER_SIZE
+					|| buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+					|| buffer.getLong(MODIFIED) != modified || buffer.getLong(LENGTH) != length || buffer.getInt(ENCODING) != encoding)
+				return false;
+			int tableSize= buffer.getInt(TABLE_SIZE);
+			int bucketCount= buffer.getInt(BUCKET_COUNT);
+			int wordCount= buffer.getInt(WORD_COUNT);
+			int poolSize= buffer.getInt(POOL_SIZE);
+			return tableSize > 0 && (tableSize & (tableSize - 1)) == 0 && bucketCount >= 0 && wordCount >= 0 && poolSize >= 0
+					&& buffer.capacity() == getSize(tableSize, bucketCount, wordCount, poolSize);
+		}
+
+		static int hash(byte[] bytes) {
+			int hash= Arrays.hashCode(bytes);
+			return hash ^ (hash >>> 16);
+		}
+
+		boolean isEmpty() {
+			return fWordCount == 0;
+		}
+
+		/**
+		 * Returns the bucket of the given phonetic hash.
+		 *
+		 * @param hash the UTF-8 encoded phonetic hash
+		 * @return the bucket or <code>-1</code> if there are no words with this hash
+		 */
+		int findBucket(byte[] hash) {
+			int slot= hash(hash) & fMask;
+			while (true) {
+				int bucket= fBuffer.getInt(Index.HEADER_SIZE + 4 * slot) - 1;
+				if (bucket < 0)
+					return -1;
+				if (poolEquals(fBuffer.getInt(fBucketHashes + 4 * bucket), hash))
+					return bucket;
+				slot= (slot + 1) & fMask;
+			}
+		}
+
+		int getFirstWord(int bucket) {
+			return fBuffer.getInt(fBucketStarts + 4 * bucket);
+		}
+
+		int getEndWord(int bucket) {
+			return fBuffer.getInt(fBucketStarts + 4 * (bucket + 1));
+		}
+
+		boolean wordEquals(int word, byte[] bytes) {
+			return poolEquals(fBuffer.getInt(fWords + 4 * word), bytes);
+		}
+
+		String getWord(int word) {
+			int offset= fPool + fBuffer.getInt(fWords + 4 * word);
+			int length= fBuffer.getShort(offset) & 0xFFFF;
+			byte[] bytes= new byte[length];
+			ByteBuffer buffer= fBuffer.duplicate();
+			buffer.position(offset + 2);
+			buffer.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private boolean poolEquals(int poolOffset, byte[] bytes) {
+			int offset= fPool + poolOffset;
+			int length= fBuffer.getShort(offset) & 0xFFFF;
+			if (length != bytes.length)
+				return false;
+			offset+= 2;
+			for (int i= 0; i < length; i++) {
+				if (fBuffer.get(offset + i) != bytes[i])
+					return false;
+			}
+			return true;
+		}
+	}
+
+	/** The maximal length of an encoded word or hash in the pool */
+	private static final int MAX_ENTRY_LENGTH= 0xFFFF;
+
+	/** The location of the word list */
+	private final URL fLocation;
+
+	/** The file to store the index in, or <code>null</code> to keep it in the heap only */
+	private final File fCacheFile;
+
+	/** The phonetic distance algorithm */
+	private final IPhoneticDistanceAlgorithm fDistanceAlgorithm= new DefaultPhoneticDistanceAlgorithm();
+
+	/** The phonetic hash provider */
+	private final IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
+
+	/** The index, <code>null</code> if not loaded */
+	private volatile Index fIndex;
+
+	/** Must the dictionary be loaded? */
+	private boolean fMustLoad= true;
+
+	/** Tells whether to strip non-letters at word boundaries. */
+	private boolean fIsStrippingNonLetters= true;
+
+	/**
+	 * Creates a new compact spell dictionary.
+	 *
+	 * @param location the URL of the word list
+	 * @param cacheFile the file to store the index of the word list in, or <code>null</code> to
+	 *            build the index in each session
+	 */
+	public CompactSpellDictionary(URL location, File cacheFile) {
+		fLocation= location;
+		fCacheFile= cacheFile;
+	}
+
+	@Override
+	public boolean acceptsWords() {
+		return false;
+	}
+
+	@Override
+	public void addWord(String word) {
+		// Do nothing
+	}
+
+	@Override
+	public boolean isCorrect(String word) {
+		word= stripNonLetters(word);
+		final Index index= getIndex();
+		if (index == null)
+			return false;
+
+		final int bucket= index.findBucket(fHashProvider.getHash(word).getBytes(StandardCharsets.UTF_8));
+		if (bucket < 0)
+			return false;
+
+		final byte[] wordBytes= word.getBytes(StandardCharsets.UTF_8);
+		final byte[] lowercaseWordBytes= word.toLowerCase().getBytes(StandardCharsets.UTF_8);
+		for (int i= index.getFirstWord(bucket), end= index.getEndWord(bucket); i < end; i++) {
+			if (index.wordEquals(i, wordBytes) || index.wordEquals(i, lowercaseWordBytes))
+				return true;
+		}
+		return false;
+	}
+
+	@Override
+	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
+		final Index index= getIndex();
+		if (index == null)
+			return new HashSet<>();
+
+		final String hash= fHashProvider.getHash(word);
+		final ArrayList<String> neighborhood= new ArrayList<>((word.length() + 1) * (fHashProvider.getMutators().length + 2));
+		neighborhood.add(hash);
+
+		final Set<RankedWordProposal> candidates= getCandidates(index, word, sentence, neighborhood);
+		neighborhood.clear();
+
+		AbstractSpellDictionary.addNeighborhood(fHashProvider, word, neighborhood);
+		neighborhood.remove(hash);
+		final Set<RankedWordProposal> matches= getCandidates(index, word, sentence, neighborhood);
+
+		if (matches.isEmpty() && candidates.isEmpty())
+			getClosestCandidates(index, word, sentence, candidates);
+
+		candidates.addAll(matches);
+
+		return candidates;
+	}
+
+	/**
+	 * Returns all candidates that have one of the given phonetic hashes and are within a bounded
+	 * distance to the specified word.
+	 */
+	private Set<RankedWordProposal> getCandidates(Index index, String word, boolean sentence, List<String> hashs) {
+		final HashSet<RankedWordProposal> result= new HashSet<>(AbstractSpellDictionary.BUCKET_CAPACITY * hashs.size());
+		for (String hash : hashs) {
+			int bucket= index.findBucket(hash.getBytes(StandardCharsets.UTF_8));
+			if (bucket < 0)
+				continue;
+
+			int first= index.getFirstWord(bucket);
+			int end= index.getEndWord(bucket);
+			if (end - first > 1)
+				end= Math.min(end, first + 500); // see https://bugs.eclipse.org/bugs/show_bug.cgi?id=195357
+			for (int i= first; i < end; i++) {
+				String candidate= index.getWord(i);
+				int distance= fDistanceAlgorithm.getDistance(word, candidate);
+				if (distance < AbstractSpellDictionary.DISTANCE_THRESHOLD)
+					result.add(new RankedWordProposal(toProposal(candidate, sentence), -distance));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the candidates with the phonetic hash of the specified word which have the smallest
+	 * distance to it.
+	 */
+	private void getClosestCandidates(Index index, String word, boolean sentence, Set<RankedWordProposal> result) {
+		int bucket= index.findBucket(fHashProvider.getHash(word).getBytes(StandardCharsets.UTF_8));
+		if (bucket < 0)
+			return;
+
+		int minimum= Integer.MAX_VALUE;
+		final ArrayList<RankedWordProposal> matches= new ArrayList<>();
+		for (int i= index.getFirstWord(bucket), end= index.getEndWord(bucket); i < end; i++) {
+			String candidate= index.getWord(i);
+			int distance= fDistanceAlgorithm.getDistance(word, candidate);
+			if (distance <= minimum) {
+				if (distance < minimum)
+					matches.clear();
+				matches.add(new RankedWordProposal(toProposal(candidate, sentence), -distance));
+				minimum= distance;
+			}
+		}
+		result.addAll(matches);
+	}
+
+	private static String toProposal(String candidate, boolean sentence) {
+		if (!sentence || candidate.isEmpty())
+			return candidate;
+		return Character.toUpperCase(candidate.charAt(0)) + candidate.substring(1);
+	}
+
+	@Override
+	public boolean isLoaded() {
+		return fIndex != null;
+	}
+
+	@Override
+	public synchronized void unload() {
+		fIndex= null;
+		fMustLoad= true;
+	}
+
+	@Override
+	public void setStripNonLetters(boolean state) {
+		fIsStrippingNonLetters= state;
+	}
+
+	/**
+	 * Tells whether this dictionary is empty.
+	 *
+	 * @return <code>true</code> if this dictionary is empty
+	 */
+	protected boolean isEmpty() {
+		Index index= getIndex();
+		return index == null || index.isEmpty();
+	}
+
+	/**
+	 * Strips non-letter characters from the given word.
+	 *
+	 * @param word the word to strip
+	 * @return the stripped word
+	 * @see AbstractSpellDictionary#stripNonLetters(String)
+	 */
+	protected String stripNonLetters(String word) {
+		if (!fIsStrippingNonLetters)
+			return word;
+
+		int i= 0;
+		int j= word.length() - 1;
+		while (i <= j && !Character.isLetter(word.charAt(i)))
+			i++;
+		if (i > j)
+			return ""; //$NON-NLS-1$
+
+		while (j > i && !Character.isLetter(word.charAt(j)))
+			j--;
+
+		return word.substring(i, j + 1);
+	}
+
+	/**
+	 * Returns the encoding of the word list.
+	 *
+	 * @return the encoding of the word list
+	 */
+	protected String getEncoding() {
+		String encoding= JavaPlugin.getDefault().getPreferenceStore().getString(PreferenceConstants.SPELLING_USER_DICTIONARY_ENCODING);
+		if (encoding == null || encoding.length() == 0)
+			encoding= ResourcesPlugin.getEncoding();
+		return encoding;
+	}
+
+	private Index getIndex() {
+		Index index= fIndex;
+		if (index != null)
+			return index;
+
+		synchronized (this) {
+			if (fIndex == null && fMustLoad) {
+				fMustLoad= false;
+				fIndex= load(fLocation);
+			}
+			return fIndex;
+		}
+	}
+
+	/**
+	 * Loads the index of the given word list, from the cache file if it is up to date.
+	 *
+	 * @param url the URL of the word list
+	 * @return the index or <code>null</code> if the word list could not be read
+	 */
+	private Index load(URL url) {
+		if (url == null)
+			return null;
+
+		try {
+			URLConnection connection= url.openConnection();
+			try (InputStream stream= connection.getInputStream()) {
+				long modified= connection.getLastModified();
+				long length= connection.getContentLengthLong();
+				String encoding= getEncoding();
+				boolean useCache= fCacheFile != null && modified != 0;
+
+				if (useCache) {
+					Index cached= readCache(modified, length, encoding.hashCode());
+					if (cached != null)
+						return cached;
+				}
+
+				List<String> words= readWords(stream, encoding, url);
+				ByteBuffer buffer= createIndex(words, modified, length, encoding.hashCode());
+
+				if (useCache) {
+					writeCache(buffer);
+					Index cached= readCache(modified, length, encoding.hashCode());
+					if (cached != null)
+						return cached;
+				}
+				return new Index(buffer);
+			}
+		} catch (FileNotFoundException ex) {
+			String urlString= url.toString();
+			String lowercaseUrlString= urlString.toLowerCase();
+			if (urlString.equals(lowercaseUrlString))
+				JavaPlugin.log(ex);
+			else
+				try {
+					return load(new URL(lowercaseUrlString));
+				} catch (MalformedURLException e) {
+					JavaPlugin.log(e);
+				}
+		} catch (IOException exception) {
+			JavaPlugin.log(exception);
+		}
+		return null;
+	}
+
+	private static List<String> readWords(InputStream stream, String encoding, URL url) throws IOException {
+		List<String> words= new ArrayList<>();
+
+		// Setup a reader with a decoder in order to read over malformed input if needed.
+		CharsetDecoder decoder= Charset.forName(encoding).newDecoder();
+		decoder.onMalformedInput(CodingErrorAction.REPORT);
+		decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+		BufferedReader reader= new BufferedReader(new InputStreamReader(stream, decoder));
+		String word;
+		boolean doRead= true;
+		while (doRead) {
+			try {
+				word= reader.readLine();
+			} catch (MalformedInputException ex) {
+				// Tell the decoder to replace malformed input in order to read the line.
+				decoder.onMalformedInput(CodingErrorAction.REPLACE);
+				decoder.reset();
+				word= reader.readLine();
+				decoder.onMalformedInput(CodingErrorAction.REPORT);
+
+				String message= Messages.format(JavaUIMessages.AbstractSpellingDictionary_encodingError,
+						new String[] { word, decoder.replacement(), BasicElementLabels.getURLPart(url.toString()) });
+				IStatus status= new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, IStatus.OK, message, ex);
+				JavaPlugin.log(status);
+
+				doRead= word != null;
+				continue;
+			}
+			doRead= word != null;
+			if (doRead)
+				words.add(word);
+		}
+		return words;
+	}
+
+	/**
+	 * Builds the index of the given words. Words which share a phonetic hash keep their order in
+	 * the word list.
+	 */
+	private ByteBuffer createIndex(List<String> words, long modified, long length, int encoding) throws IOException {
+		int size= words.size();
+		byte[][] wordBytes= new byte[size][];
+		String[] hashes= new String[size];
+		Integer[] order= new Integer[size];
+		int count= 0;
+		for (int i= 0; i < size; i++) {
+			String word= words.get(i);
+			byte[] bytes= word.getBytes(StandardCharsets.UTF_8);
+			if (bytes.length > MAX_ENTRY_LENGTH)
+				continue;
+			wordBytes[count]= bytes;
+			hashes[count]= fHashProvider.getHash(word);
+			order[count]= Integer.valueOf(count);
+			count++;
+		}
+		final String[] sortHashes= hashes;
+		Arrays.sort(order, 0, count, (a, b) -> sortHashes[a.intValue()].compareTo(sortHashes[b.intValue()]));
+
+		ByteArrayOutputStream poolBytes= new ByteArrayOutputStream(count * 16);
+		DataOutputStream pool= new DataOutputStream(poolBytes);
+		int[] wordOffsets= new int[count];
+		int[] bucketHashes= new int[count];
+		byte[][] bucketHashBytes= new byte[count][];
+		int[] bucketStarts= new int[count + 1];
+		int bucketCount= 0;
+		String previous= null;
+		for (int i= 0; i < count; i++) {
+			int word= order[i].intValue();
+			String hash= hashes[word];
+			if (!hash.equals(previous)) {
+				byte[] bytes= hash.getBytes(StandardCharsets.UTF_8);
+				if (bytes.length > MAX_ENTRY_LENGTH)
+					bytes= Arrays.copyOf(bytes, MAX_ENTRY_LENGTH);
+				bucketHashes[bucketCount]= pool.size();
+				bucketHashBytes[bucketCount]= bytes;
+				bucketStarts[bucketCount]= i;
+				bucketCount++;
+				pool.writeShort(bytes.length);
+				pool.write(bytes);
+				previous= hash;
+			}
+			wordOffsets[i]= pool.size();
+			pool.writeShort(wordBytes[word].length);
+			pool.write(wordBytes[word]);
+		}
+		bucketStarts[bucketCount]= count;
+		pool.flush();
+
+		int tableSize= 2;
+		while (tableSize < 2 * bucketCount)
+			tableSize<<= 1;
+		int[] table= new int[tableSize];
+		for (int bucket= 0; bucket < bucketCount; bucket++) {
+			int slot= Index.hash(bucketHashBytes[bucket]) & (tableSize - 1);
+			while (table[slot] != 0)
+				slot= (slot + 1) & (tableSize - 1);
+			table[slot]= bucket + 1;
+		}
+
+		int poolSize= pool.size();
+		ByteBuffer buffer= ByteBuffer.allocate(Index.getSize(tableSize, bucketCount, count, poolSize));
+		buffer.putInt(Index.MAGIC);
+		buffer.putInt(Index.VERSION);
+		buffer.putLong(modified);
+		buffer.putLong(length);
+		buffer.putInt(encoding);
+		buffer.putInt(tableSize);
+		buffer.putInt(bucketCount);
+		buffer.putInt(count);
+		buffer.putInt(poolSize);
+		buffer.position(Index.HEADER_SIZE);
+		for (int slot : table)
+			buffer.putInt(slot);
+		for (int bucket= 0; bucket < bucketCount; bucket++)
+			buffer.putInt(bucketHashes[bucket]);
+		for (int bucket= 0; bucket <= bucketCount; bucket++)
+			buffer.putInt(bucketStarts[bucket]);
+		for (int offset : wordOffsets)
+			buffer.putInt(offset);
+		buffer.put(poolBytes.toByteArray());
+		buffer.flip();
+		return buffer;
+	}
+
+	private Index readCache(long modified, long length, int encoding) {
+		if (!fCacheFile.isFile())
+			return null;
+
+		try (FileChannel channel= FileChannel.open(fCacheFile.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer= channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (Index.isValid(buffer, modified, length, encoding))
+				return new Index(buffer);
+		} catch (IOException e) {
+			// rebuild the index
+		}
+		return null;
+	}
+
+	private void writeCache(ByteBuffer buffer) {
+		Path target= fCacheFile.toPath();
+		Path temp= target.resolveSibling(target.getFileName() + ".tmp"); //$NON-NLS-1$
+		try {
+			Files.createDirectories(target.getParent());
+			try (FileChannel channel= FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+				ByteBuffer content= buffer.duplicate();
+				while (content.hasRemaining())
+					channel.write(content);
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			try {
+				Files.deleteIfExists(temp);
+			} catch (IOException x) {
+				// ignore
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,8 @@ import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
 import org.eclipse.jdt.ui.PreferenceConstants;
 
 
@@ -36,6 +38,12 @@ public class DefaultSpellChecker implements ISpellChecker {
 	/** Array of URL prefixes */
 	public static final String[] URL_PREFIXES= new String[] { "http://", "https://", "www.", "ftp://", "ftps://", "news://", "mailto://" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
 
+	/**
+	 * The maximal number of cached verdicts of {@link #isCorrect(String)}.
+	 * @since 3.27
+	 */
+	private static final int VERDICT_CACHE_SIZE= 4096;
+
 	/**
 	 * Does this word contain digits?
 	 *
@@ -146,6 +154,26 @@ public class DefaultSpellChecker implements ISpellChecker {
 	 */
 	private Locale fLocale;
 
+	/**
+	 * The dictionary verdicts of recently checked words. All accesses are
+	 * synchronized on the map.
+	 * @since 3.27
+	 */
+	private final LRUMap<String, Boolean> fVerdicts= new LRUMap<>(VERDICT_CACHE_SIZE);
+
+	/**
+	 * Whether the dictionaries strip non-letters for the cached verdicts.
+	 * @since 3.27
+	 */
+	private boolean fVerdictsStripNonLetters;
+
+	/**
+	 * Incremented whenever the dictionaries or the ignored words change.
+	 * Only modified while holding the lock of {@link #fVerdicts}.
+	 * @since 3.27
+	 */
+	private volatile long fModificationStamp;
+
 	/**
 	 * Creates a new default spell checker.
 	 *
@@ -164,6 +192,7 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void addDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
 		fDictionaries.add(dictionary);
+		changed();
 	}
 
 	@Override
@@ -197,13 +226,14 @@ public class DefaultSpellChecker implements ISpellChecker {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
-
+		changed();
 	}
 
 	@Override
 	public final void checkWord(final String word) {
 		// synchronizing is necessary as this is a write access
 		fIgnored.remove(word.toLowerCase());
+		changed();
 	}
 
 	@Override
@@ -220,6 +250,13 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 		iterator.setIgnoreSingleLetters(ignoreSingleLetters);
 
+		synchronized (fVerdicts) {
+			if (fVerdictsStripNonLetters != ignoreNonLetters) {
+				fVerdicts.clear();
+				fVerdictsStripNonLetters= ignoreNonLetters;
+			}
+		}
+
 		Iterator<ISpellDictionary> iter= fDictionaries.iterator();
 		while (iter.hasNext())
 			iter.next().setStripNonLetters(ignoreNonLetters);
@@ -284,30 +321,72 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void ignoreWord(final String word) {
 		// synchronizing is necessary as this is a write access
 		fIgnored.add(word.toLowerCase());
+		changed();
 	}
 
 	@Override
 	public final boolean isCorrect(final String word) {
+		if (fIgnored.contains(word.toLowerCase()))
+			return true;
+
+		final long stamp;
+		synchronized (fVerdicts) {
+			Boolean verdict= fVerdicts.get(word);
+			if (verdict != null)
+				return verdict.booleanValue();
+			stamp= fModificationStamp;
+		}
+
 		// synchronizing is necessary as this is called from execute
 		Set<ISpellDictionary> copy;
 		synchronized (fDictionaries) {
 			copy= new HashSet<>(fDictionaries);
 		}
 
-		if (fIgnored.contains(word.toLowerCase()))
-			return true;
-
+		boolean correct= false;
 		for (ISpellDictionary dictionary : copy) {
-			if (dictionary.isCorrect(word))
-				return true;
+			if (dictionary.isCorrect(word)) {
+				correct= true;
+				break;
+			}
 		}
-		return false;
+
+		synchronized (fVerdicts) {
+			// do not cache a verdict computed with dictionaries that changed in the meantime
+			if (stamp == fModificationStamp)
+				fVerdicts.put(word, Boolean.valueOf(correct));
+		}
+		return correct;
 	}
 
 	@Override
 	public final void removeDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
 		fDictionaries.remove(dictionary);
+		changed();
+	}
+
+	/**
+	 * Returns a stamp which changes whenever the dictionaries or the ignored words
+	 * of this checker change, such that results of earlier checks may differ.
+	 *
+	 * @return the modification stamp
+	 * @since 3.27
+	 */
+	public long getModificationStamp() {
+		return fModificationStamp;
+	}
+
+	/**
+	 * Discards the cached verdicts after a change of the dictionaries or the ignored words.
+	 *
+	 * @since 3.27
+	 */
+	private void changed() {
+		synchronized (fVerdicts) {
+			fVerdicts.clear();
+			fModificationStamp++;
+		}
 	}
 
 	@Override
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+
+public class CompositeChangeValidationTests {
+
+	private static final int FILES= 100;
+
+	private static class FailingTextFileChange extends TextFileChange {
+		public FailingTextFileChange(IFile file) {
+			super("failing", file);
+		}
+		@Override
+		public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException {
+			return RefactoringStatus.createFatalErrorStatus("failing");
+		}
+	}
+
+	private SimpleTestProject fProject;
+
+	private IFile[] fFiles;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		IFolder folder= fProject.createFolder("test");
+		fFiles= new IFile[FILES];
+		for (int i= 0; i < FILES; i++) {
+			fFiles[i]= fProject.createFile(folder, "file" + i + ".txt", "hello " + i);
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	@Test
+	public void testPerformAndUndo() throws Exception {
+		CompositeChange change= createChange();
+		change.initializeValidationData(new NullProgressMonitor());
+		Change undo= perform(change);
+		for (int i= 0; i < FILES; i++) {
+			assertEquals("world " + i, fProject.getContent(fFiles[i]));
+		}
+
+		perform(undo);
+		for (int i= 0; i < FILES; i++) {
+			assertEquals("hello " + i, fProject.getContent(fFiles[i]));
+		}
+	}
+
+	@Test
+	public void testModifiedFile() throws Exception {
+		CompositeChange change= createChange();
+		change.initializeValidationData(new NullProgressMonitor());
+		assertTrue(change.isValid(new NullProgressMonitor()).isOK());
+
+		fFiles[FILES / 2].setContents(new ByteArrayInputStream("modified".getBytes()), true, true, null);
+		assertTrue(change.isValid(new NullProgressMonitor()).hasFatalError());
+
+		change.getChildren()[FILES / 2].setEnabled(false);
+		assertFalse(change.isValid(new NullProgressMonitor()).hasFatalError());
+		change.dispose();
+	}
+
+	@Test
+	public void testOverriddenValidation() throws Exception {
+		CompositeChange change= createChange();
+		change.add(new FailingTextFileChange(fFiles[0]));
+		change.initializeValidationData(new NullProgressMonitor());
+		assertTrue(change.isValid(new NullProgressMonitor()).hasFatalError());
+		change.dispose();
+	}
+
+	private CompositeChange createChange() {
+		CompositeChange result= new CompositeChange("files");
+		for (int i= 0; i < FILES; i++) {
+			TextFileChange change= new TextFileChange("file" + i, fFiles[i]);
+			change.setEdit(new ReplaceEdit(0, "hello".length(), "world"));
+			result.add(change);
+		}
+		return result;
+	}
+
+	private Change perform(Change change) throws CoreException {
+		PerformChangeOperation op= new PerformChangeOperation(change);
+		op.run(null);
+		assertFalse(op.getValidationStatus().hasFatalError());
+		assertTrue(op.changeExecuted());
+		return op.getUndoChange();
+	}
+}
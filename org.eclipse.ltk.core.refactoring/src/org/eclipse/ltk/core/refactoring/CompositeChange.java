@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -204,7 +204,9 @@ public class CompositeChange extends Change {
 	 * {@inheritDoc}
 	 * <p>
 	 * The composite change sends <code>initializeValidationData</code> to all its
-	 * children.
+	 * children. The validation states of {@link TextFileChange}s and
+	 * {@link UndoTextFileChange}s which do not override the validation methods may be
+	 * initialized concurrently.
 	 * </p>
 	 * <p>
 	 * Client are allowed to extend this method.
@@ -212,11 +214,7 @@ public class CompositeChange extends Change {
 	 */
 	@Override
 	public void initializeValidationData(IProgressMonitor pm) {
-		pm.beginTask("", fChanges.size()); //$NON-NLS-1$
-		for (Change change : fChanges) {
-			change.initializeValidationData(new SubProgressMonitor(pm, 1));
-			pm.worked(1);
-		}
+		FileChangeValidation.initializeValidationData(fChanges, pm);
 	}
 
 	/**
@@ -225,7 +223,10 @@ public class CompositeChange extends Change {
 	 * The composite change sends <code>isValid</code> to all its children
 	 * until the first one returns a status with a severity of <code>FATAL
 	 * </code>. If one of the children throws an exception the remaining children
-	 * will not receive the <code>isValid</code> call.
+	 * will not receive the <code>isValid</code> call. Consecutive {@link TextFileChange}s
+	 * and {@link UndoTextFileChange}s which do not override the validation methods are
+	 * checked together: their files are checked concurrently and validated for modification
+	 * in one call.
 	 * </p>
 	 * <p>
 	 * Client are allowed to extend this method.
@@ -233,19 +234,7 @@ public class CompositeChange extends Change {
 	 */
 	@Override
 	public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException {
-		RefactoringStatus result= new RefactoringStatus();
-		pm.beginTask("", fChanges.size()); //$NON-NLS-1$
-		for (Iterator<Change> iter= fChanges.iterator(); iter.hasNext() && !result.hasFatalError();) {
-			Change change= iter.next();
-			if (change.isEnabled())
-				result.merge(change.isValid(new SubProgressMonitor(pm, 1)));
-			else
-				pm.worked(1);
-			if (pm.isCanceled())
-				throw new OperationCanceledException();
-		}
-		pm.done();
-		return result;
+		return FileChangeValidation.isValid(fChanges, pm);
 	}
 
 	/**
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.ltk.internal.core.refactoring.Changes;
+
+/**
+ * Initializes and checks the validation state of the children of a {@link CompositeChange} in
+ * bulk.
+ * <p>
+ * Consecutive {@link TextFileChange}s and {@link UndoTextFileChange}s which do not override the
+ * validation methods are validated together: the states of their files are read concurrently and
+ * the files which are about to be modified are validated for modification in one call. Files
+ * with a connected file buffer are handled in the calling thread, as their validation state may
+ * register listeners with the buffer. All other children are sent
+ * {@link Change#initializeValidationData(IProgressMonitor)} and
+ * {@link Change#isValid(IProgressMonitor)} as before.
+ * </p>
+ */
+final class FileChangeValidation {
+
+	/**
+	 * Minimal number of file changes whose states are read concurrently.
+	 */
+	private static final int PARALLEL_THRESHOLD= 32;
+
+	/**
+	 * Tells whether a class of file changes uses the validation implemented by its base class.
+	 */
+	private static final ClassValue<Boolean> fgBulkValidation= new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			Class<?> base;
+			if (TextFileChange.class.isAssignableFrom(type))
+				base= TextFileChange.class;
+			else if (UndoTextFileChange.class.isAssignableFrom(type))
+				base= UndoTextFileChange.class;
+			else
+				return Boolean.FALSE;
+			for (Class<?> current= type; current != base; current= current.getSuperclass()) {
+				if (declaresMethod(current, "initializeValidationData") || declaresMethod(current, "isValid")) //$NON-NLS-1$ //$NON-NLS-2$
+					return Boolean.FALSE;
+			}
+			return Boolean.TRUE;
+		}
+
+		private boolean declaresMethod(Class<?> type, String name) {
+			try {
+				type.getDeclaredMethod(name, IProgressMonitor.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				return false;
+			} catch (SecurityException e) {
+				return true;
+			}
+		}
+	};
+
+	/**
+	 * Sends <code>initializeValidationData</code> to all changes.
+	 *
+	 * @param changes the changes
+	 * @param pm the progress monitor
+	 */
+	static void initializeValidationData(List<Change> changes, IProgressMonitor pm) {
+		pm.beginTask("", changes.size()); //$NON-NLS-1$
+		try {
+			List<Change> concurrent= new ArrayList<>();
+			for (Change change : changes) {
+				if (isBulkValidated(change) && !isBufferConnected(getFile(change))) {
+					concurrent.add(change);
+				} else {
+					change.initializeValidationData(new SubProgressMonitor(pm, 1));
+					pm.worked(1);
+				}
+			}
+			List<Callable<Void>> tasks= new ArrayList<>(concurrent.size());
+			for (Change change : concurrent) {
+				tasks.add(() -> {
+					initializeValidationState(change);
+					return null;
+				});
+			}
+			for (Future<Void> future : run(tasks)) {
+				try {
+					getResult(future);
+				} catch (CoreException e) {
+					// not thrown by initializeValidationState()
+				}
+				pm.worked(1);
+			}
+		} finally {
+			pm.done();
+		}
+	}
+
+	/**
+	 * Sends <code>isValid</code> to all enabled changes until the first one returns a status
+	 * with a severity of <code>FATAL</code>.
+	 *
+	 * @param changes the changes
+	 * @param pm the progress monitor
+	 * @return the merged status of the changes
+	 * @throws CoreException if a change throws an exception
+	 */
+	static RefactoringStatus isValid(List<Change> changes, IProgressMonitor pm) throws CoreException {
+		RefactoringStatus result= new RefactoringStatus();
+		pm.beginTask("", changes.size()); //$NON-NLS-1$
+		int index= 0;
+		while (index < changes.size() && !result.hasFatalError()) {
+			Change change= changes.get(index);
+			if (!change.isEnabled()) {
+				pm.worked(1);
+				index++;
+			} else if (!isBulkValidated(change)) {
+				result.merge(change.isValid(new SubProgressMonitor(pm, 1)));
+				index++;
+			} else {
+				List<Change> fileChanges= new ArrayList<>();
+				int end= index;
+				for (; end < changes.size(); end++) {
+					Change next= changes.get(end);
+					if (next.isEnabled()) {
+						if (!isBulkValidated(next))
+							break;
+						fileChanges.add(next);
+					}
+				}
+				result.merge(checkFileChanges(fileChanges, new SubProgressMonitor(pm, end - index)));
+				index= end;
+			}
+			if (pm.isCanceled())
+				throw new OperationCanceledException();
+		}
+		pm.done();
+		return result;
+	}
+
+	private static RefactoringStatus checkFileChanges(List<Change> changes, IProgressMonitor pm) throws CoreException {
+		RefactoringStatus result= new RefactoringStatus();
+		pm.beginTask("", changes.size() + 1); //$NON-NLS-1$
+		try {
+			// states after the first fatal one in the order of the changes are not needed
+			AtomicInteger firstFatal= new AtomicInteger(changes.size());
+			// the states of files with a connected buffer are read in the calling thread below
+			List<Integer> concurrent= new ArrayList<>();
+			List<Callable<RefactoringStatus>> tasks= new ArrayList<>();
+			for (int i= 0; i < changes.size(); i++) {
+				final int index= i;
+				final Change change= changes.get(i);
+				if (isBufferConnected(getFile(change)))
+					continue;
+				concurrent.add(Integer.valueOf(index));
+				tasks.add(() -> {
+					if (index > firstFatal.get())
+						return null;
+					RefactoringStatus status= checkValidationState(change);
+					if (status.hasFatalError())
+						firstFatal.accumulateAndGet(index, Math::min);
+					return status;
+				});
+			}
+			List<IFile> filesToModify= new ArrayList<>();
+			List<IFile> filesToRead= new ArrayList<>();
+			List<Future<RefactoringStatus>> futures= run(tasks);
+			int next= 0;
+			for (int i= 0; i < changes.size(); i++) {
+				Change change= changes.get(i);
+				RefactoringStatus status= null;
+				if (next < concurrent.size() && concurrent.get(next).intValue() == i)
+					status= getResult(futures.get(next++));
+				if (status == null)
+					status= checkValidationState(change);
+				result.merge(status);
+				pm.worked(1);
+				if (result.hasFatalError())
+					return result;
+				if (change instanceof TextFileChange) {
+					TextFileChange textFileChange= (TextFileChange) change;
+					if (textFileChange.needsSaving())
+						filesToModify.add(textFileChange.getFile());
+					else
+						filesToRead.add(textFileChange.getFile());
+				}
+			}
+			if (!filesToModify.isEmpty())
+				result.merge(Changes.validateModifiesFiles(filesToModify.toArray(new IFile[filesToModify.size()])));
+			if (!filesToRead.isEmpty())
+				// we are reading the files. So they should be at least in sync
+				result.merge(Changes.checkInSync(filesToRead.toArray(new IFile[filesToRead.size()])));
+			return result;
+		} finally {
+			pm.done();
+		}
+	}
+
+	private static boolean isBulkValidated(Change change) {
+		return fgBulkValidation.get(change.getClass()).booleanValue();
+	}
+
+	private static IFile getFile(Change change) {
+		if (change instanceof TextFileChange)
+			return ((TextFileChange) change).getFile();
+		return ((UndoTextFileChange) change).getFile();
+	}
+
+	private static boolean isBufferConnected(IFile file) {
+		return FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE) != null;
+	}
+
+	private static void initializeValidationState(Change change) {
+		if (change instanceof TextFileChange)
+			((TextFileChange) change).initializeValidationState();
+		else
+			((UndoTextFileChange) change).initializeValidationState();
+	}
+
+	private static RefactoringStatus checkValidationState(Change change) throws CoreException {
+		if (change instanceof TextFileChange)
+			return ((TextFileChange) change).checkValidationState();
+		return ((UndoTextFileChange) change).checkValidationState();
+	}
+
+	/**
+	 * Runs the given tasks. Small numbers of tasks are run in the calling thread.
+	 *
+	 * @param tasks the tasks
+	 * @return the futures of the tasks, in the order of the tasks
+	 */
+	private static <T> List<Future<T>> run(List<Callable<T>> tasks) {
+		int parallelism= Math.min(Runtime.getRuntime().availableProcessors(), tasks.size());
+		if (tasks.size() < PARALLEL_THRESHOLD || parallelism < 2) {
+			List<Future<T>> result= new ArrayList<>(tasks.size());
+			for (Callable<T> task : tasks) {
+				FutureTask<T> future= new FutureTask<>(task);
+				future.run();
+				result.add(future);
+			}
+			return result;
+		}
+		ExecutorService executor= Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread= new Thread(runnable, "Change Validation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			return executor.invokeAll(tasks);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static <T> T getResult(Future<T> future) throws CoreException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private FileChangeValidation() {
+	}
+}
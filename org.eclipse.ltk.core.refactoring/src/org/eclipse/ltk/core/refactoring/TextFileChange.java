@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -168,24 +168,29 @@ public class TextFileChange extends TextChange {
 			monitor= new NullProgressMonitor();
 		try {
 			monitor.beginTask("", 1); //$NON-NLS-1$
-			fValidationState= BufferValidationState.create(fFile);
+			initializeValidationState();
 		} finally {
 			monitor.done();
 		}
 	}
 
+	/**
+	 * Records the state of the file which is checked by {@link #checkValidationState()}.
+	 * Does not access the change otherwise, hence may be called for different changes
+	 * concurrently.
+	 */
+	void initializeValidationState() {
+		fValidationState= BufferValidationState.create(fFile);
+	}
+
 	@Override
 	public RefactoringStatus isValid(IProgressMonitor monitor) throws CoreException {
 		if (monitor == null)
 			monitor= new NullProgressMonitor();
 		try {
 			monitor.beginTask("", 1); //$NON-NLS-1$
-			if (fValidationState == null)
-				throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "TextFileChange has not been initialialized")); //$NON-NLS-1$
-
-			boolean needsSaving= needsSaving();
-			RefactoringStatus result= fValidationState.isValid(needsSaving);
-			if (needsSaving) {
+			RefactoringStatus result= checkValidationState();
+			if (needsSaving()) {
 				result.merge(Changes.validateModifiesFiles(new IFile[] { fFile}));
 			} else {
 				// we are reading the file. So it should be at least in sync
@@ -197,6 +202,21 @@ public class TextFileChange extends TextChange {
 		}
 	}
 
+	/**
+	 * Checks the file against the state recorded by {@link #initializeValidationState()}.
+	 * Does not validate the file for modification. Does not access the change otherwise, hence
+	 * may be called for different changes concurrently.
+	 *
+	 * @return the status of the file
+	 * @throws CoreException if the validation state has not been initialized or the
+	 *             file cannot be accessed
+	 */
+	RefactoringStatus checkValidationState() throws CoreException {
+		if (fValidationState == null)
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "TextFileChange has not been initialialized")); //$NON-NLS-1$
+		return fValidationState.isValid(needsSaving());
+	}
+
 	@Override
 	public void dispose() {
 		if (fValidationState != null) {
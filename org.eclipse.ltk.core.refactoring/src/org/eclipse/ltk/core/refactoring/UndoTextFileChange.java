@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -145,29 +145,56 @@ public class UndoTextFileChange extends Change {
 			pm= new NullProgressMonitor();
 		pm.beginTask("", 1); //$NON-NLS-1$
 		try {
-			fValidationState= BufferValidationState.create(fFile);
+			initializeValidationState();
 		} finally {
 			pm.done();
 		}
 	}
 
+	/**
+	 * Records the state of the file which is checked by {@link #checkValidationState()}.
+	 * May be called for different changes concurrently.
+	 */
+	void initializeValidationState() {
+		fValidationState= BufferValidationState.create(fFile);
+	}
+
 	@Override
 	public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException {
 		if (pm == null)
 			pm= new NullProgressMonitor();
 		pm.beginTask("", 1); //$NON-NLS-1$
 		try {
-			if (fValidationState == null)
-				throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "UndoTextFileChange has not been initialialized")); //$NON-NLS-1$
-
-			ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(fFile.getFullPath(), LocationKind.IFILE);
-			fDirty= buffer != null && buffer.isDirty();
-			return fValidationState.isValid(needsSaving(), true);
+			return checkValidationState();
 		} finally {
 			pm.done();
 		}
 	}
 
+	/**
+	 * Checks the file against the state recorded by {@link #initializeValidationState()}.
+	 * May be called for different changes concurrently.
+	 *
+	 * @return the status of the file
+	 * @throws CoreException if the validation state has not been initialized or the
+	 *             file cannot be accessed
+	 */
+	RefactoringStatus checkValidationState() throws CoreException {
+		if (fValidationState == null)
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "UndoTextFileChange has not been initialialized")); //$NON-NLS-1$
+
+		ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(fFile.getFullPath(), LocationKind.IFILE);
+		fDirty= buffer != null && buffer.isDirty();
+		return fValidationState.isValid(needsSaving(), true);
+	}
+
+	/**
+	 * @return the file changed by this change
+	 */
+	IFile getFile() {
+		return fFile;
+	}
+
 	@Override
 	public Change perform(IProgressMonitor pm) throws CoreException {
 		if (pm == null)